@@ -40,7 +40,8 @@ CREATE TABLE day_off
     day_off_id   BIGINT NOT NULL AUTO_INCREMENT,
     trainer_id   BIGINT,
     day_off_date DATETIME(6),
-    PRIMARY KEY (day_off_id)
+    PRIMARY KEY (day_off_id),
+    INDEX IDX_DAY_OFF_TRAINER_DATE (trainer_id, day_off_date)
 );
 
 -- 연동 정보 테이블
@@ -85,6 +86,20 @@ CREATE TABLE token
     PRIMARY KEY (token_id)
 );
 
+-- 기기별 push 토큰 테이블 (유저 한 명이 여러 기기를 등록할 수 있다.)
+CREATE TABLE push_token
+(
+    push_token_id      BIGINT       NOT NULL AUTO_INCREMENT,
+    personal_detail_id BIGINT       NOT NULL,
+    push_token         VARCHAR(255) NOT NULL,
+    registered_at      DATETIME(6)  NOT NULL,
+    created_at         DATETIME(6),
+    updated_at         DATETIME(6),
+    PRIMARY KEY (push_token_id),
+    UNIQUE KEY UK_PUSH_TOKEN (push_token),
+    INDEX IDX_PUSH_TOKEN_PERSONAL_DETAIL (personal_detail_id, registered_at)
+);
+
 -- 회원 운동 일정 테이블
 CREATE TABLE workout_schedule
 (
@@ -130,12 +145,17 @@ CREATE TABLE session
 (
     session_id     BIGINT NOT NULL AUTO_INCREMENT,
     reservation_id BIGINT,
+    member_id      BIGINT,
+    trainer_id     BIGINT,
     status         ENUM ('SESSION_CANCELLED', 'SESSION_WAITING', 'SESSION_NOT_ATTEND', 'SESSION_COMPLETED'),
     cancel_reason  VARCHAR(255),
     is_completed   BOOLEAN,
     created_at     DATETIME(6),
     updated_at     DATETIME(6),
-    PRIMARY KEY (session_id)
+    PRIMARY KEY (session_id),
+    INDEX IDX_SESSION_MEMBER_CREATED_AT (member_id, created_at, session_id),
+    INDEX IDX_SESSION_TRAINER_CREATED_AT (trainer_id, created_at, session_id),
+    INDEX IDX_SESSION_RESERVATION (reservation_id)
 );
 
 -- 예약 정보 테이블
@@ -146,8 +166,9 @@ CREATE TABLE reservation
     trainer_id        BIGINT,
     session_info_id   BIGINT,
     name              VARCHAR(255),
-    reservation_dates VARCHAR(255) NOT NULL,
+    reservation_date  DATETIME(6),
     confirm_date      DATETIME(6),
+    booked_slot       DATETIME(6),
     change_date       DATETIME(6),
     status            ENUM ('FIXED_RESERVATION','DISABLED_TIME_RESERVATION', 'RESERVATION_WAITING','RESERVATION_APPROVED',
         'RESERVATION_CANCELLED','RESERVATION_CANCEL_REQUEST','RESERVATION_CANCEL_REQUEST_REFUSED',
@@ -157,7 +178,23 @@ CREATE TABLE reservation
     is_day_off        BOOLEAN,
     created_at        DATETIME(6),
     updated_at        DATETIME(6),
-    PRIMARY KEY (reservation_id)
+    PRIMARY KEY (reservation_id),
+    UNIQUE KEY UK_RESERVATION_TRAINER_SLOT (trainer_id, booked_slot),
+    INDEX IDX_RESERVATION_TRAINER_DATE (trainer_id, reservation_date),
+    INDEX IDX_RESERVATION_MEMBER_DATE (member_id, reservation_date),
+    INDEX IDX_RESERVATION_CONFIRM_DATE (confirm_date, status),
+    INDEX IDX_RESERVATION_STATUS_DATE (status, reservation_date)
+);
+
+-- 예약 희망 날짜 테이블
+CREATE TABLE reservation_slot
+(
+    reservation_id   BIGINT  NOT NULL,
+    slot_order       INTEGER NOT NULL,
+    reservation_date DATETIME(6),
+    slot_date        DATETIME(6),
+    PRIMARY KEY (reservation_id, slot_order),
+    INDEX IDX_RESERVATION_SLOT_DATE (slot_date, reservation_id)
 );
 
 -- 캘린더 테이블
@@ -201,7 +238,49 @@ CREATE TABLE notification
     is_sent            BOOLEAN,
     is_processed       BOOLEAN,
     send_date          DATETIME(6),
-    PRIMARY KEY (notification_id)
+    PRIMARY KEY (notification_id),
+    INDEX IDX_NOTIFICATION_INBOX (personal_detail_id, target, ref_type, notification_id)
+);
+
+-- 알림 검색 역색인 테이블 (제목/내용 2-gram 토큰)
+CREATE TABLE notification_token
+(
+    notification_token_id BIGINT NOT NULL AUTO_INCREMENT,
+    personal_detail_id    BIGINT,
+    token                 VARCHAR(8),
+    notification_id       BIGINT,
+    PRIMARY KEY (notification_token_id),
+    INDEX IDX_NOTIFICATION_TOKEN_SEARCH (personal_detail_id, token, notification_id),
+    INDEX IDX_NOTIFICATION_TOKEN_NOTIFICATION (notification_id)
+);
+
+-- 저장/전송 전 알림 요청 테이블 (요청 트랜잭션에서 저장하고, 커밋 이후 알림으로 옮긴 뒤 삭제한다. 실패한 요청은 시도 횟수를 남긴다.)
+CREATE TABLE notification_intent
+(
+    intent_id          BIGINT NOT NULL AUTO_INCREMENT,
+    personal_detail_id BIGINT,
+    recipient_id       BIGINT,
+    ref_id             BIGINT,
+    ref_type           VARCHAR(50),
+    target             VARCHAR(20),
+    partner_id         BIGINT,
+    notification_type  VARCHAR(50),
+    name               VARCHAR(255),
+    content            VARCHAR(255),
+    send_date          DATETIME(6),
+    created_at         DATETIME(6),
+    attempts           INT NOT NULL DEFAULT 0,
+    last_error         VARCHAR(255),
+    PRIMARY KEY (intent_id),
+    INDEX IDX_NOTIFICATION_INTENT_CREATED_AT (created_at)
+);
+
+-- 유저별 읽지 않은(처리되지 않은) 알림 수 테이블
+CREATE TABLE notification_unread_count
+(
+    personal_detail_id BIGINT NOT NULL,
+    unread_count       INT    NOT NULL,
+    PRIMARY KEY (personal_detail_id)
 );
 
 -- 첨부파일 정보 테이블
@@ -231,8 +310,41 @@ CREATE TABLE IF NOT EXISTS outbox
     event_type     ENUM ('CREATE_FIXED_RESERVATION'),
     payload        TEXT,
     retry_count    INT    NOT NULL DEFAULT 0,
+    sent_at         DATETIME(6),
+    next_attempt_at DATETIME(6),
+    created_at      DATETIME(6),
+    updated_at      DATETIME(6),
+    PRIMARY KEY (outbox_id),
+    INDEX IDX_OUTBOX_MESSAGE_ID (message_id),
+    INDEX IDX_OUTBOX_STATUS_NEXT_ATTEMPT (event_status, next_attempt_at),
+    INDEX IDX_OUTBOX_STATUS_CREATED_AT (event_status, created_at)
+);
+
+-- 보관 기간이 지난 outbox 보관 테이블 (app.outbox.retention.archive=true 일 때 사용)
+CREATE TABLE IF NOT EXISTS outbox_archive
+(
+    outbox_id      BIGINT NOT NULL,
+    aggregate_type ENUM ('RESERVATION'),
+    aggregate_id   BIGINT,
+    message_id     VARCHAR(255),
+    event_status   ENUM ('INIT', 'SEND_SUCCESS', 'SEND_FAIL'),
+    event_type     ENUM ('CREATE_FIXED_RESERVATION'),
+    payload        TEXT,
+    retry_count    INT    NOT NULL DEFAULT 0,
     sent_at        DATETIME(6),
     created_at     DATETIME(6),
-    updated_at     DATETIME(6),
-    PRIMARY KEY (outbox_id)
+    archived_at    DATETIME(6),
+    PRIMARY KEY (outbox_id),
+    INDEX IDX_OUTBOX_ARCHIVE_CREATED_AT (created_at)
+);
+
+-- 컨슈머 메시지 처리 이력 테이블 (중복 메시지 처리 방지)
+CREATE TABLE IF NOT EXISTS processed_message
+(
+    processed_message_id BIGINT       NOT NULL AUTO_INCREMENT,
+    message_id           VARCHAR(255) NOT NULL,
+    processed_at         DATETIME(6),
+    PRIMARY KEY (processed_message_id),
+    UNIQUE KEY UK_PROCESSED_MESSAGE_ID (message_id),
+    INDEX IDX_PROCESSED_MESSAGE_PROCESSED_AT (processed_at)
 );
@@ -0,0 +1,19 @@
+-- 예약 목록 기간 조회용 reservation_date 컬럼 추가 및 기존 데이터 backfill
+ALTER TABLE reservation
+    ADD COLUMN reservation_date DATETIME(6) AFTER reservation_dates;
+
+-- reservation_dates 는 'yyyy-MM-ddTHH:mm,yyyy-MM-ddTHH:mm' 형식 (최대 2개) -> 가장 이른 날짜
+UPDATE reservation
+SET reservation_date = LEAST(
+        CAST(REPLACE(SUBSTRING_INDEX(reservation_dates, ',', 1), 'T', ' ') AS DATETIME(6)),
+        CAST(REPLACE(SUBSTRING_INDEX(reservation_dates, ',', -1), 'T', ' ') AS DATETIME(6)))
+WHERE reservation_date IS NULL
+  AND reservation_dates <> '[]';
+
+-- 희망 날짜가 없는 예약은 확정 날짜로 대체
+UPDATE reservation
+SET reservation_date = confirm_date
+WHERE reservation_date IS NULL;
+
+CREATE INDEX IDX_RESERVATION_TRAINER_DATE ON reservation (trainer_id, reservation_date);
+CREATE INDEX IDX_RESERVATION_MEMBER_DATE ON reservation (member_id, reservation_date);
@@ -0,0 +1,48 @@
+-- 예약 희망 날짜를 reservation.reservation_dates (CSV) 에서 reservation_slot 테이블로 분리
+-- 되돌릴 수 없는(forward-only) 마이그레이션이다. 새 버전은 reservation_dates 를 읽지도 쓰지도 않으므로
+-- 배포 이후 생성된 예약은 reservation_dates 가 NULL 이고, 이전 버전은 이 예약을 읽지 못한다.
+-- reservation_dates 컬럼은 백필 검증용으로만 남겨두고 016 에서 지운다.
+CREATE TABLE reservation_slot
+(
+    reservation_id   BIGINT  NOT NULL,
+    slot_order       INTEGER NOT NULL,
+    reservation_date DATETIME(6),
+    slot_date        DATETIME(6),
+    PRIMARY KEY (reservation_id, slot_order),
+    INDEX IDX_RESERVATION_SLOT_DATE (slot_date, reservation_id)
+);
+
+-- 첫 번째 희망 날짜
+INSERT INTO reservation_slot (reservation_id, slot_order, reservation_date, slot_date)
+SELECT reservation_id,
+       0,
+       CAST(REPLACE(SUBSTRING_INDEX(reservation_dates, ',', 1), 'T', ' ') AS DATETIME(6)),
+       DATE_FORMAT(CAST(REPLACE(SUBSTRING_INDEX(reservation_dates, ',', 1), 'T', ' ') AS DATETIME(6)),
+                   '%Y-%m-%d %H:00:00')
+FROM reservation
+WHERE reservation_dates <> '[]';
+
+-- 두 번째 희망 날짜 (최대 2개)
+INSERT INTO reservation_slot (reservation_id, slot_order, reservation_date, slot_date)
+SELECT reservation_id,
+       1,
+       CAST(REPLACE(SUBSTRING_INDEX(reservation_dates, ',', -1), 'T', ' ') AS DATETIME(6)),
+       DATE_FORMAT(CAST(REPLACE(SUBSTRING_INDEX(reservation_dates, ',', -1), 'T', ' ') AS DATETIME(6)),
+                   '%Y-%m-%d %H:00:00')
+FROM reservation
+WHERE reservation_dates LIKE '%,%';
+
+-- 새 버전은 reservation_dates 를 쓰지 않으므로 NULL 을 허용한다. (이후 생성되는 예약은 NULL)
+ALTER TABLE reservation
+    MODIFY COLUMN reservation_dates VARCHAR(255) NULL;
+
+-- 검증: 배포 전에 만들어진 예약(CSV 가 있는 예약) 중 CSV 의 희망 날짜 수와 reservation_slot 의 row 수가 다른 예약
+-- (0 건이어야 016 을 적용한다. 배포 이후 생성된 예약은 CSV 가 NULL 이므로 검증 대상이 아니다.)
+SELECT COUNT(*) AS mismatched_reservations
+FROM reservation r
+WHERE r.reservation_dates IS NOT NULL
+  AND (CASE
+           WHEN r.reservation_dates = '[]' THEN 0
+           WHEN r.reservation_dates LIKE '%,%' THEN 2
+           ELSE 1 END)
+    <> (SELECT COUNT(*) FROM reservation_slot s WHERE s.reservation_id = r.reservation_id);
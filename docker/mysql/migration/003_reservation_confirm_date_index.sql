@@ -0,0 +1,2 @@
+-- 오늘 확정된 예약 조회 (세션 리마인드) 용 인덱스
+CREATE INDEX IDX_RESERVATION_CONFIRM_DATE ON reservation (confirm_date, status);
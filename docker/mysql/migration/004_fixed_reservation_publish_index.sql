@@ -0,0 +1,5 @@
+-- 오늘 날짜 고정 예약 조회 (고정 예약 이벤트 일괄 발행) 용 인덱스
+CREATE INDEX IDX_RESERVATION_STATUS_DATE ON reservation (status, reservation_date);
+
+-- outbox 일괄 발행 완료 처리 (message_id IN 조건) 용 인덱스
+CREATE INDEX IDX_OUTBOX_MESSAGE_ID ON outbox (message_id);
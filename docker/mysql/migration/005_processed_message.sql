@@ -0,0 +1,10 @@
+-- 컨슈머 메시지 처리 이력 테이블 (중복 메시지 처리 방지)
+CREATE TABLE IF NOT EXISTS processed_message
+(
+    processed_message_id BIGINT       NOT NULL AUTO_INCREMENT,
+    message_id           VARCHAR(255) NOT NULL,
+    processed_at         DATETIME(6),
+    PRIMARY KEY (processed_message_id),
+    UNIQUE KEY UK_PROCESSED_MESSAGE_ID (message_id),
+    INDEX IDX_PROCESSED_MESSAGE_PROCESSED_AT (processed_at)
+);
@@ -0,0 +1,8 @@
+-- outbox relay 다음 발행 시도 시간
+ALTER TABLE outbox ADD COLUMN next_attempt_at DATETIME(6) AFTER sent_at;
+
+-- 기존 발행 대기 outbox 는 바로 relay 대상이 되도록 채운다.
+UPDATE outbox SET next_attempt_at = created_at WHERE event_status = 'INIT';
+
+-- relay 대상 선점 (event_status = INIT AND next_attempt_at <= now ORDER BY next_attempt_at) 용 인덱스
+CREATE INDEX IDX_OUTBOX_STATUS_NEXT_ATTEMPT ON outbox (event_status, next_attempt_at);
@@ -0,0 +1,20 @@
+-- 발행 대기 현황 (status = INIT 의 MIN(created_at)) 및 보관 기간 정리 (status = SEND_SUCCESS AND created_at < ?) 용 인덱스
+CREATE INDEX IDX_OUTBOX_STATUS_CREATED_AT ON outbox (event_status, created_at);
+
+-- 보관 기간이 지난 outbox 보관 테이블 (app.outbox.retention.archive=true 일 때 사용)
+CREATE TABLE IF NOT EXISTS outbox_archive
+(
+    outbox_id      BIGINT NOT NULL,
+    aggregate_type ENUM ('RESERVATION'),
+    aggregate_id   BIGINT,
+    message_id     VARCHAR(255),
+    event_status   ENUM ('INIT', 'SEND_SUCCESS', 'SEND_FAIL'),
+    event_type     ENUM ('CREATE_FIXED_RESERVATION'),
+    payload        TEXT,
+    retry_count    INT    NOT NULL DEFAULT 0,
+    sent_at        DATETIME(6),
+    created_at     DATETIME(6),
+    archived_at    DATETIME(6),
+    PRIMARY KEY (outbox_id),
+    INDEX IDX_OUTBOX_ARCHIVE_CREATED_AT (created_at)
+);
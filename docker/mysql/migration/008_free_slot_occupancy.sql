@@ -0,0 +1,2 @@
+-- 예약 가능 시간 조회 시 트레이너의 월별 휴무일 조회 (점유 비트맵 로딩) 용 인덱스
+CREATE INDEX IDX_DAY_OFF_TRAINER_DATE ON day_off (trainer_id, day_off_date);
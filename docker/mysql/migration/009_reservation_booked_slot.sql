@@ -0,0 +1,27 @@
+-- 같은 트레이너의 같은 시간에 확정/고정 예약, 예약 불가 설정이 하나만 존재하도록 unique key 로 보장
+-- booked_slot 은 해당 상태일 때만 채워지고 나머지 상태는 NULL (NULL 은 unique key 에 걸리지 않는다.)
+ALTER TABLE reservation
+    ADD COLUMN booked_slot DATETIME(6) AFTER confirm_date;
+
+-- 기존 데이터 backfill : 이미 중복된 슬롯이 있다면 가장 먼저 생성된 예약만 슬롯을 차지한다.
+UPDATE reservation r
+    JOIN (SELECT MIN(reservation_id) AS reservation_id
+          FROM reservation
+          WHERE status IN ('RESERVATION_APPROVED', 'FIXED_RESERVATION')
+            AND confirm_date IS NOT NULL
+          GROUP BY trainer_id, confirm_date) s ON s.reservation_id = r.reservation_id
+SET r.booked_slot = r.confirm_date;
+
+UPDATE reservation r
+    JOIN (SELECT MIN(reservation_id) AS reservation_id
+          FROM reservation
+          WHERE status = 'DISABLED_TIME_RESERVATION'
+            AND reservation_date IS NOT NULL
+          GROUP BY trainer_id, reservation_date) s ON s.reservation_id = r.reservation_id
+SET r.booked_slot = r.reservation_date
+WHERE NOT EXISTS (SELECT 1
+                  FROM (SELECT trainer_id, booked_slot FROM reservation WHERE booked_slot IS NOT NULL) b
+                  WHERE b.trainer_id = r.trainer_id
+                    AND b.booked_slot = r.reservation_date);
+
+CREATE UNIQUE INDEX UK_RESERVATION_TRAINER_SLOT ON reservation (trainer_id, booked_slot);
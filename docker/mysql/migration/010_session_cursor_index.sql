@@ -0,0 +1,5 @@
+-- PT 내역 커서 조회 (created_at, session_id 내림차순) 용 인덱스
+CREATE INDEX IDX_SESSION_CREATED_AT ON session (created_at, session_id);
+
+-- 예약 -> 세션 조인 및 예약 id 로 세션 조회 용 인덱스
+CREATE INDEX IDX_SESSION_RESERVATION ON session (reservation_id);
@@ -0,0 +1,2 @@
+-- 알림함 커서 조회 (personal_detail_id, target, ref_type 조건 + notification_id 내림차순) 용 인덱스
+CREATE INDEX IDX_NOTIFICATION_INBOX ON notification (personal_detail_id, target, ref_type, notification_id);
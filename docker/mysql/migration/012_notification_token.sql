@@ -0,0 +1,37 @@
+-- 알림 검색 역색인 테이블 (제목/내용 2-gram 토큰)
+-- LIKE '%검색어%' 는 인덱스를 타지 못하므로, 토큰 -> 알림 역색인으로 검색하고 일치 토큰 수로 순위를 매긴다.
+CREATE TABLE notification_token
+(
+    notification_token_id BIGINT NOT NULL AUTO_INCREMENT,
+    personal_detail_id    BIGINT,
+    token                 VARCHAR(8),
+    notification_id       BIGINT,
+    PRIMARY KEY (notification_token_id),
+    INDEX IDX_NOTIFICATION_TOKEN_SEARCH (personal_detail_id, token, notification_id),
+    INDEX IDX_NOTIFICATION_TOKEN_NOTIFICATION (notification_id)
+);
+
+-- 기존 알림 backfill : NotificationTokenizer 와 같은 규칙 (모든 공백 문자(\s+) 제거, 소문자, 두 글자씩)
+-- 시작 위치 수열은 가장 긴 텍스트 길이까지 만든다. (컬럼 길이에 묶어 두지 않는다.)
+SET SESSION cte_max_recursion_depth = 100000;
+
+INSERT INTO notification_token (personal_detail_id, token, notification_id)
+WITH RECURSIVE texts AS (SELECT notification_id, personal_detail_id,
+                                LOWER(REGEXP_REPLACE(name, '\\s+', '')) AS text
+                         FROM notification
+                         WHERE personal_detail_id IS NOT NULL
+                         UNION ALL
+                         SELECT notification_id, personal_detail_id,
+                                LOWER(REGEXP_REPLACE(content, '\\s+', '')) AS text
+                         FROM notification
+                         WHERE personal_detail_id IS NOT NULL),
+               max_length AS (SELECT COALESCE(MAX(CHAR_LENGTH(text)), 0) AS len
+                              FROM texts),
+               seq (n) AS (SELECT 1
+                           UNION ALL
+                           SELECT n + 1
+                           FROM seq
+                           WHERE n < (SELECT len FROM max_length))
+SELECT DISTINCT t.personal_detail_id, SUBSTRING(t.text, s.n, 2), t.notification_id
+FROM texts t
+         JOIN seq s ON s.n < CHAR_LENGTH(t.text);
@@ -0,0 +1,16 @@
+-- 유저별 읽지 않은(처리되지 않은) 알림 수 테이블
+-- 알림 저장/처리 시 같은 트랜잭션에서 증감하고, 뱃지 조회는 PK 한 건 조회로 처리한다.
+CREATE TABLE notification_unread_count
+(
+    personal_detail_id BIGINT NOT NULL,
+    unread_count       INT    NOT NULL,
+    PRIMARY KEY (personal_detail_id)
+);
+
+-- 기존 알림 backfill
+INSERT INTO notification_unread_count (personal_detail_id, unread_count)
+SELECT personal_detail_id, COUNT(*)
+FROM notification
+WHERE is_processed = FALSE
+  AND personal_detail_id IS NOT NULL
+GROUP BY personal_detail_id;
@@ -0,0 +1,28 @@
+-- 기기별 push 토큰 테이블
+-- token.push_token 은 유저당 하나라서 기기를 바꾸면 이전 기기로는 알림이 가지 않았다.
+-- 알림은 유저의 모든 기기 토큰으로 보내고, FCM 이 유효하지 않다고 응답한 토큰은 지운다.
+CREATE TABLE push_token
+(
+    push_token_id      BIGINT       NOT NULL AUTO_INCREMENT,
+    personal_detail_id BIGINT       NOT NULL,
+    push_token         VARCHAR(255) NOT NULL,
+    registered_at      DATETIME(6)  NOT NULL,
+    created_at         DATETIME(6),
+    updated_at         DATETIME(6),
+    PRIMARY KEY (push_token_id),
+    UNIQUE KEY UK_PUSH_TOKEN (push_token),
+    INDEX IDX_PUSH_TOKEN_PERSONAL_DETAIL (personal_detail_id, registered_at)
+);
+
+-- 기존 push 토큰 backfill (같은 토큰이 여러 유저에 남아 있으면 가장 최근에 갱신된 유저로)
+INSERT INTO push_token (personal_detail_id, push_token, registered_at, created_at, updated_at)
+SELECT t.personal_detail_id, t.push_token, COALESCE(t.updated_at, NOW(6)), NOW(6), NOW(6)
+FROM token t
+WHERE t.push_token IS NOT NULL
+  AND t.push_token <> ''
+  AND t.personal_detail_id IS NOT NULL
+  AND NOT EXISTS (SELECT 1
+                  FROM token newer
+                  WHERE newer.push_token = t.push_token
+                    AND (newer.updated_at > t.updated_at
+                      OR (newer.updated_at = t.updated_at AND newer.token_id > t.token_id)));
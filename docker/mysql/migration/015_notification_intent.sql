@@ -0,0 +1,20 @@
+-- 저장/전송 전 알림 요청 테이블
+-- 예약/연동 트랜잭션에서는 알림 내용만 만들어 이 테이블에 한 번에 batch insert 하고,
+-- 커밋 이후 dispatcher(및 relay)가 notification 으로 일괄 저장하고 push 를 보낸 뒤 삭제한다.
+CREATE TABLE notification_intent
+(
+    intent_id          BIGINT NOT NULL AUTO_INCREMENT,
+    personal_detail_id BIGINT,
+    ref_id             BIGINT,
+    ref_type           VARCHAR(50),
+    target             VARCHAR(20),
+    partner_id         BIGINT,
+    notification_type  VARCHAR(50),
+    name               VARCHAR(255),
+    content            VARCHAR(255),
+    send_date          DATETIME(6),
+    push_token         VARCHAR(255),
+    created_at         DATETIME(6),
+    PRIMARY KEY (intent_id),
+    INDEX IDX_NOTIFICATION_INTENT_CREATED_AT (created_at)
+);
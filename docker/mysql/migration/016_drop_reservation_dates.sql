@@ -0,0 +1,25 @@
+-- 002 에서 reservation_slot 으로 옮긴 reservation.reservation_dates (CSV) 컬럼 삭제
+-- 새 버전 배포가 안정화되고 002 의 검증 쿼리 결과가 0 건인 것을 확인한 뒤 적용한다.
+-- 옮겨지지 않은 예약이 남아 있으면 컬럼을 지우지 않고 실패한다.
+-- (002 배포 이후 생성된 예약은 reservation_dates 가 NULL 이고 reservation_slot 에만 저장되므로 검사하지 않는다.)
+DELIMITER //
+CREATE PROCEDURE drop_reservation_dates()
+BEGIN
+    IF EXISTS (SELECT 1
+               FROM reservation r
+               WHERE r.reservation_dates IS NOT NULL
+                 AND (CASE
+                          WHEN r.reservation_dates = '[]' THEN 0
+                          WHEN r.reservation_dates LIKE '%,%' THEN 2
+                          ELSE 1 END)
+                   <> (SELECT COUNT(*) FROM reservation_slot s WHERE s.reservation_id = r.reservation_id)) THEN
+        SIGNAL SQLSTATE '45000' SET MESSAGE_TEXT = 'reservation_slot backfill is incomplete';
+    END IF;
+
+    ALTER TABLE reservation
+        DROP COLUMN reservation_dates;
+END //
+DELIMITER ;
+
+CALL drop_reservation_dates();
+DROP PROCEDURE drop_reservation_dates;
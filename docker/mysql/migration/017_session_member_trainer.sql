@@ -0,0 +1,16 @@
+-- PT 내역 커서 조회가 회원(member_id)으로 걸러진 뒤 (created_at, session_id) 순서로 바로 읽히도록
+-- 예약의 회원/트레이너 id 를 session 에 비정규화하고, 필터 컬럼을 선두로 하는 인덱스로 교체한다.
+ALTER TABLE session
+    ADD COLUMN member_id  BIGINT NULL AFTER reservation_id,
+    ADD COLUMN trainer_id BIGINT NULL AFTER member_id;
+
+UPDATE session s
+    JOIN reservation r ON r.reservation_id = s.reservation_id
+SET s.member_id  = r.member_id,
+    s.trainer_id = r.trainer_id
+WHERE s.member_id IS NULL;
+
+CREATE INDEX IDX_SESSION_MEMBER_CREATED_AT ON session (member_id, created_at, session_id);
+CREATE INDEX IDX_SESSION_TRAINER_CREATED_AT ON session (trainer_id, created_at, session_id);
+
+DROP INDEX IDX_SESSION_CREATED_AT ON session;
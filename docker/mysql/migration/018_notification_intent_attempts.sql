@@ -0,0 +1,7 @@
+-- 알림 요청에 수신자 id(회원/트레이너)를 남기고, 처리 단계에서 수신자와 기기 push 토큰을 한 번에 조회한다.
+-- 처리에 실패한 요청은 시도 횟수와 마지막 오류를 남기고, 최대 시도 횟수를 넘기면 재처리 대상에서 제외한다.
+ALTER TABLE notification_intent
+    ADD COLUMN recipient_id BIGINT NULL AFTER personal_detail_id,
+    ADD COLUMN attempts     INT NOT NULL DEFAULT 0,
+    ADD COLUMN last_error   VARCHAR(255) NULL,
+    DROP COLUMN push_token;
@@ -0,0 +1,27 @@
+-- [선택] outbox 월별 RANGE 파티셔닝
+-- outbox 가 커서 청크 삭제로도 정리가 부담스러울 때 적용한다.
+-- 파티션 키(created_at)가 모든 unique key 에 포함돼야 하므로 PK 를 (outbox_id, created_at) 으로 바꾼다.
+-- 적용 후에는 오래된 파티션을 통째로 DROP 해서 정리할 수 있다. (app.outbox.retention.days 는 파티션 단위보다 길게 둔다.)
+
+ALTER TABLE outbox
+    MODIFY created_at DATETIME(6) NOT NULL,
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (outbox_id, created_at);
+
+ALTER TABLE outbox
+    PARTITION BY RANGE COLUMNS (created_at) (
+        PARTITION p202610 VALUES LESS THAN ('2026-11-01'),
+        PARTITION p202611 VALUES LESS THAN ('2026-12-01'),
+        PARTITION p202612 VALUES LESS THAN ('2027-01-01'),
+        PARTITION p_future VALUES LESS THAN (MAXVALUE)
+    );
+
+-- 매월 다음 달 파티션 추가 (p_future 를 나눈다.)
+-- ALTER TABLE outbox REORGANIZE PARTITION p_future INTO (
+--     PARTITION p202701 VALUES LESS THAN ('2027-02-01'),
+--     PARTITION p_future VALUES LESS THAN (MAXVALUE)
+-- );
+
+-- 보관 기간이 지난 파티션 삭제 (INIT/SEND_FAIL 이 남아있지 않은지 먼저 확인한다.)
+-- SELECT COUNT(*) FROM outbox PARTITION (p202610) WHERE event_status <> 'SEND_SUCCESS';
+-- ALTER TABLE outbox DROP PARTITION p202610;
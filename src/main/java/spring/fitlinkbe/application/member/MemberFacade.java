@@ -3,17 +3,16 @@ package spring.fitlinkbe.application.member;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 import spring.fitlinkbe.application.member.criteria.*;
-import spring.fitlinkbe.domain.auth.AuthService;
 import spring.fitlinkbe.domain.common.enums.UserRole;
 import spring.fitlinkbe.domain.common.exception.CustomException;
 import spring.fitlinkbe.domain.common.exception.ErrorCode;
 import spring.fitlinkbe.domain.common.model.ConnectingInfo;
 import spring.fitlinkbe.domain.common.model.PersonalDetail;
 import spring.fitlinkbe.domain.common.model.SessionInfo;
-import spring.fitlinkbe.domain.common.model.Token;
 import spring.fitlinkbe.domain.member.Member;
 import spring.fitlinkbe.domain.member.MemberService;
 import spring.fitlinkbe.domain.member.WorkoutSchedule;
@@ -26,6 +25,7 @@ import spring.fitlinkbe.domain.reservation.command.ReservationCommand;
 import spring.fitlinkbe.domain.trainer.Trainer;
 import spring.fitlinkbe.domain.trainer.TrainerService;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
@@ -40,7 +40,6 @@ public class MemberFacade {
     private final TrainerService trainerService;
     private final NotificationService notificationService;
     private final ReservationService reservationService;
-    private final AuthService authService;
 
     @Transactional
     public void connectTrainer(Long memberId, String trainerCode) {
@@ -50,11 +49,10 @@ public class MemberFacade {
         Member member = memberService.getMember(memberId);
 
         ConnectingInfo connectingInfo = memberService.requestConnectTrainer(trainer, member);
-        PersonalDetail trainerDetail = trainerService.getTrainerDetail(trainer.getTrainerId());
-        Token token = authService.getTokenByPersonalDetailId(trainerDetail.getPersonalDetailId());
 
-        notificationService.sendNotification(NotificationCommand.Connect.of(trainerDetail, member.getMemberId(),
-                member.getName(), connectingInfo.getConnectingInfoId(), token.getPushToken()));
+        notificationService.sendNotification(NotificationCommand.Connect.of(
+                PersonalDetail.ofTrainer(trainer.getTrainerId()), member.getMemberId(),
+                member.getName(), connectingInfo.getConnectingInfoId()));
     }
 
     @Transactional
@@ -62,11 +60,10 @@ public class MemberFacade {
         ConnectingInfo connectingInfo = memberService.getConnectingInfo(memberId);
 
         Member member = memberService.getMember(memberId);
-        PersonalDetail trainerDetail = trainerService.getTrainerDetail(connectingInfo.getTrainer().getTrainerId());
-        Token token = authService.getTokenByPersonalDetailId(trainerDetail.getPersonalDetailId());
         // -> 트레이너에게 알림 보내기
-        notificationService.sendNotification(NotificationCommand.Disconnect.of(trainerDetail, member.getMemberId(),
-                member.getName(), UserRole.TRAINER, token.getPushToken()));
+        notificationService.sendNotification(NotificationCommand.Disconnect.of(
+                PersonalDetail.ofTrainer(connectingInfo.getTrainer().getTrainerId()), member.getMemberId(),
+                member.getName(), UserRole.TRAINER));
 
         connectingInfo.disconnect();
         memberService.saveConnectingInfo(connectingInfo);
@@ -91,7 +88,7 @@ public class MemberFacade {
         Member me = memberService.getMember(memberId);
         me.update(name, phoneNumber);
 
-        PersonalDetail personalDetail = memberService.getMemberDetail(memberId);
+        PersonalDetail personalDetail = memberService.getMemberDetailUncached(memberId);
         personalDetail.update(name, phoneNumber);
 
         memberService.saveMember(me);
@@ -180,6 +177,42 @@ public class MemberFacade {
         return sessions.map(MemberSessionResult.SessionResponse::from);
     }
 
+    @Transactional(readOnly = true)
+    public Slice<MemberSessionResult.SessionResponse> getMySessionsByCursor(Long memberId, Session.Status status,
+                                                                           LocalDateTime cursorCreatedAt,
+                                                                           Long cursorId, int size) {
+        ReservationCommand.GetSessionsByCursor command = ReservationCommand.GetSessionsByCursor.builder()
+                .memberId(memberId)
+                .status(status)
+                .cursorCreatedAt(cursorCreatedAt)
+                .cursorId(cursorId)
+                .size(size)
+                .build();
+        Slice<Session> sessions = reservationService.getSessions(command);
+
+        return sessions.map(MemberSessionResult.SessionResponse::from);
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<MemberSessionResult.SessionResponse> getSessionsByCursor(Long trainerId, Long memberId,
+                                                                         Session.Status status,
+                                                                         LocalDateTime cursorCreatedAt,
+                                                                         Long cursorId, int size) {
+        memberService.checkConnected(trainerId, memberId);
+
+        ReservationCommand.GetSessionsByCursor command = ReservationCommand.GetSessionsByCursor.builder()
+                .memberId(memberId)
+                .trainerId(trainerId)
+                .status(status)
+                .cursorCreatedAt(cursorCreatedAt)
+                .cursorId(cursorId)
+                .size(size)
+                .build();
+        Slice<Session> sessions = reservationService.getSessions(command);
+
+        return sessions.map(MemberSessionResult.SessionResponse::from);
+    }
+
     @Transactional
     public SessionInfoCriteria.Response updateSessionInfo(Long trainerId, Long memberId,
                                                           Long sessionInfoId, SessionInfoCriteria.UpdateRequest request) {
@@ -194,11 +227,9 @@ public class MemberFacade {
         request.patch(sessionInfo);
         memberService.saveSessionInfo(sessionInfo);
 
-        PersonalDetail memberDetail = memberService.getMemberDetail(memberId);
-        Token token = authService.getTokenByPersonalDetailId(memberDetail.getPersonalDetailId());
         // 트레이너 -> 멤버에게 세션 직접 수정했다는 알림 전송
-        notificationService.sendNotification(NotificationCommand.EditSession.of(memberDetail, sessionInfoId, trainerId,
-                beforeTotalCnt, afterTotalCnt, beforeRemainingCnt, afterRemainingCnt, token.getPushToken()));
+        notificationService.sendNotification(NotificationCommand.EditSession.of(PersonalDetail.ofMember(memberId),
+                sessionInfoId, trainerId, beforeTotalCnt, afterTotalCnt, beforeRemainingCnt, afterRemainingCnt));
 
         return SessionInfoCriteria.Response.from(sessionInfo);
     }
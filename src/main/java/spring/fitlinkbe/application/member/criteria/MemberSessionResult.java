@@ -8,13 +8,15 @@ public class MemberSessionResult {
     public record SessionResponse(
             Long sessionId,
             Session.Status status,
-            LocalDateTime date
+            LocalDateTime date,
+            LocalDateTime createdAt
     ) {
         public static SessionResponse from(Session session) {
             return new SessionResponse(
                     session.getSessionId(),
                     session.getStatus(),
-                    session.getReservation().getReservationDate()
+                    session.getReservation().getReservationDate(),
+                    session.getCreatedAt()
             );
         }
     }
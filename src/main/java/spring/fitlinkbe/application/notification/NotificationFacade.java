@@ -1,8 +1,10 @@
 package spring.fitlinkbe.application.notification;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
 import spring.fitlinkbe.application.notification.criteria.NotificationCriteria;
 import spring.fitlinkbe.application.notification.criteria.NotificationResult;
@@ -16,8 +18,11 @@ import spring.fitlinkbe.domain.notification.command.NotificationCommand;
 import spring.fitlinkbe.domain.trainer.TrainerService;
 import spring.fitlinkbe.support.security.SecurityUser;
 
+import java.util.List;
+
 @Component
 @RequiredArgsConstructor
+@Slf4j
 public class NotificationFacade {
 
     private final NotificationService notificationService;
@@ -42,6 +47,29 @@ public class NotificationFacade {
         return notificationService.getNotifications(command, user);
     }
 
+    public Slice<Notification> getNotificationsByCursor(NotificationCriteria.CursorCondition criteria,
+                                                        SecurityUser user) {
+        NotificationCommand.CursorCondition command = NotificationCommand.CursorCondition.builder()
+                .type(criteria.type())
+                .keyword(criteria.q())
+                .memberId(criteria.memberId())
+                .cursorId(criteria.cursorId())
+                .size(criteria.size())
+                .build();
+
+        return notificationService.getNotifications(command, user);
+    }
+
+    public List<Notification> searchNotifications(NotificationCriteria.Search criteria, SecurityUser user) {
+        NotificationCommand.Search command = NotificationCommand.Search.builder()
+                .type(criteria.type())
+                .keyword(criteria.q())
+                .size(criteria.size())
+                .build();
+
+        return notificationService.searchNotifications(command, user);
+    }
+
     public NotificationResult.NotificationDetail getNotificationDetail(Long notificationId, SecurityUser user) {
         Notification notification = notificationService.getNotificationDetail(notificationId, user);
         if (user.getUserRole() == UserRole.TRAINER) {
@@ -55,7 +83,46 @@ public class NotificationFacade {
         return NotificationResult.NotificationDetail.from(notification, trainerDetail);
     }
 
+    public int getUnreadCount(SecurityUser user) {
+        return notificationService.getUnreadCount(user);
+    }
+
+    public int readAllNotifications(SecurityUser user) {
+        return notificationService.processAllNotifications(user);
+    }
+
     public void registerPushToken(NotificationCriteria.PushTokenRequest criteria, SecurityUser user) {
         authService.registerPushToken(criteria.toCommand(), user);
     }
+
+    /**
+     * dispatcher 가 처리하지 못한 알림 요청을 최대 limit 건 처리한다.
+     * 한 번에 처리하다 실패하면 한 건씩 다시 처리해서, 실패한 요청만 시도 횟수를 올리고 나머지는 보낸다.
+     *
+     * @return 처리한 알림 요청 수
+     */
+    public int relayNotificationIntents(int limit) {
+        List<Long> intentIds = notificationService.getRelayIntentIds(limit);
+        if (intentIds.isEmpty()) {
+            return 0;
+        }
+        try {
+            return notificationService.processIntents(intentIds);
+        } catch (Exception e) {
+            log.warn("알림 요청 일괄 처리에 실패해서 한 건씩 처리합니다. [count: {}, error: {}]",
+                    intentIds.size(), e.getMessage());
+        }
+
+        int processed = 0;
+        for (Long intentId : intentIds) {
+            try {
+                processed += notificationService.processIntents(List.of(intentId));
+            } catch (Exception e) {
+                log.error("알림 요청 처리에 실패했습니다. [intentId: {}]", intentId, e);
+                notificationService.recordIntentFailure(intentId, e.toString());
+            }
+        }
+
+        return processed;
+    }
 }
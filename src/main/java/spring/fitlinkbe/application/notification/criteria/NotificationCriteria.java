@@ -12,6 +12,15 @@ public class NotificationCriteria {
                                   String q, Long memberId) {
     }
 
+    @Builder(toBuilder = true)
+    public record Search(Notification.ReferenceType type, String q, int size) {
+    }
+
+    @Builder(toBuilder = true)
+    public record CursorCondition(Notification.ReferenceType type, String q, Long memberId,
+                                  Long cursorId, int size) {
+    }
+
     @Builder(toBuilder = true)
     public record PushTokenRequest(String pushToken) {
         public AuthCommand.PushTokenRequest toCommand() {
@@ -0,0 +1,32 @@
+package spring.fitlinkbe.application.outbox;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import spring.fitlinkbe.domain.outbox.OutboxBacklog;
+import spring.fitlinkbe.domain.outbox.OutboxService;
+import spring.fitlinkbe.domain.outbox.ProcessedMessageService;
+import spring.fitlinkbe.support.metrics.OutboxMetrics;
+
+@Component
+@RequiredArgsConstructor
+public class OutboxFacade {
+
+    private final OutboxService outboxService;
+    private final ProcessedMessageService processedMessageService;
+    private final OutboxMetrics outboxMetrics;
+
+    public OutboxBacklog relayOutboxes(int limit) {
+        OutboxBacklog backlog = outboxService.relayOutboxes(limit);
+        outboxMetrics.record(backlog);
+
+        return backlog;
+    }
+
+    public int pruneOutboxes(int retentionDays, boolean archive, int limit) {
+        return outboxService.pruneOutboxes(retentionDays, archive, limit);
+    }
+
+    public int pruneProcessedMessages(int limit) {
+        return processedMessageService.pruneProcessedMessages(limit);
+    }
+}
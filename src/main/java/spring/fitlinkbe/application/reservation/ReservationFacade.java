@@ -1,41 +1,49 @@
 package spring.fitlinkbe.application.reservation;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 import spring.fitlinkbe.application.reservation.criteria.ReservationCriteria;
 import spring.fitlinkbe.application.reservation.criteria.ReservationResult;
-import spring.fitlinkbe.domain.auth.AuthService;
+import spring.fitlinkbe.domain.common.exception.CustomException;
 import spring.fitlinkbe.domain.common.model.PersonalDetail;
 import spring.fitlinkbe.domain.common.model.SessionInfo;
-import spring.fitlinkbe.domain.common.model.Token;
 import spring.fitlinkbe.domain.member.MemberService;
 import spring.fitlinkbe.domain.notification.NotificationService;
 import spring.fitlinkbe.domain.notification.command.NotificationCommand;
+import spring.fitlinkbe.domain.outbox.ProcessedMessageService;
+import spring.fitlinkbe.domain.reservation.FixedReservationRelease;
 import spring.fitlinkbe.domain.reservation.Reservation;
 import spring.fitlinkbe.domain.reservation.ReservationService;
 import spring.fitlinkbe.domain.reservation.Session;
 import spring.fitlinkbe.domain.reservation.command.ReservationCommand;
-import spring.fitlinkbe.domain.trainer.TrainerService;
 import spring.fitlinkbe.support.security.SecurityUser;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static spring.fitlinkbe.domain.common.enums.UserRole.MEMBER;
 import static spring.fitlinkbe.domain.common.enums.UserRole.TRAINER;
+import static spring.fitlinkbe.domain.common.exception.ErrorCode.MEMBER_DETAIL_NOT_FOUND;
 import static spring.fitlinkbe.domain.notification.Notification.Reason.RESERVATION_CANCEL;
 
 @Component
 @RequiredArgsConstructor
+@Slf4j
 public class ReservationFacade {
 
     private final MemberService memberService;
     private final ReservationService reservationService;
-    private final TrainerService trainerService;
     private final NotificationService notificationService;
-    private final AuthService authService;
+    private final ProcessedMessageService processedMessageService;
 
 
     public List<Reservation> getReservations(LocalDate date, SecurityUser user) {
@@ -74,7 +82,8 @@ public class ReservationFacade {
         // 기존에 확정된 예약이 있는지 확인
         reservationService.checkConfirmedReservationExistOrThrow(user.getTrainerId(), criteria.date());
         // 대기중인 예약이 있으면 거절
-        List<Reservation> refusedReservations = reservationService.refuseWaitingReservations(List.of(criteria.date()));
+        List<Reservation> refusedReservations = reservationService.refuseWaitingReservations(user.getTrainerId(),
+                List.of(criteria.date()));
         // 거절을 했다면 -> 멤버에게 예약이 거절되었다는 알림 전송
         refuseReservations(refusedReservations);
 
@@ -86,10 +95,9 @@ public class ReservationFacade {
     public List<Reservation> createFixedReservation(ReservationCriteria.CreateFixed criteria, SecurityUser user) {
         // 세션이 충분한지 확인
         memberService.isSessionCountEnough(user.getTrainerId(), criteria.memberId());
-        // 기존에 확정된 예약이 있는지 확인
-        reservationService.checkConfirmedReservationsExistOrThrow(user.getTrainerId(), criteria.reservationDates());
         // 대기중인 예약이 있으면 거절
-        List<Reservation> refusedReservations = reservationService.refuseWaitingReservations(criteria.reservationDates());
+        List<Reservation> refusedReservations = reservationService.refuseWaitingReservations(user.getTrainerId(),
+                criteria.reservationDates());
         // 거절을 했다면 -> 멤버에게 예약이 거절되었다는 알림 전송
         refuseReservations(refusedReservations);
         // 고정 예약 진행
@@ -98,16 +106,11 @@ public class ReservationFacade {
         SessionInfo sessionInfo = memberService.getSessionInfo(user.getTrainerId(), criteria.memberId());
         // 세션 차감
         memberService.deductSession(user.getTrainerId(), criteria.memberId(), sessionInfo.getRemainingCount());
+        // 확정된 예약과 겹치면 저장 시 트레이너 슬롯 unique key 로 거부된다. (CONFIRMED_RESERVATION_EXISTS)
         List<Reservation> fixedReservations = reservationService.createFixedReservations(reservationDomains,
                 sessionInfo.getRemainingCount());
         // 트레이너 -> 멤버에게 예약 됐다는 알림 전송
-        reservationDomains.forEach(r -> {
-            PersonalDetail memberDetail = memberService.getMemberDetail(r.getMember().getMemberId());
-            Token token = authService.getTokenByPersonalDetailId(memberDetail.getPersonalDetailId());
-            notificationService.sendNotification(NotificationCommand.ApproveReservation.of(memberDetail,
-                    r.getReservationId(), r.getConfirmDate(), r.getTrainer().getTrainerId(), true,
-                    token.getPushToken()));
-        });
+        sendApproveNotifications(reservationDomains, true, Reservation::getConfirmDate);
         return fixedReservations;
     }
 
@@ -117,22 +120,101 @@ public class ReservationFacade {
         reservationService.publishFixedReservations();
     }
 
+    /**
+     * 같은 트레이너의 고정 예약 생성 이벤트들을 한 번에 처리한다.
+     * 이미 처리된 메시지는 도메인 처리 전에 걸러내고,
+     * 세션 횟수와 확정 예약 충돌은 그룹 단위로 한 번씩만 조회한다.
+     * 세션 부족, 확정 예약과 충돌, 그룹 안의 같은 시간 중복처럼 다시 받아도 결과가 같은 이벤트는
+     * 거절로 처리 완료 이력을 남긴다.
+     *
+     * @return 처리(생성/거절)했거나 이미 처리된 이벤트의 messageId 목록 (목록에 없는 이벤트는 재처리 대상)
+     */
     @Transactional
-    public void executeCreateFixedReservation(ReservationCriteria.EventCreateFixed criteria) {
-        Reservation nextFixedReservation = criteria.toDomain();
-        // 세션이 충분한지 확인
-        memberService.isSessionCountEnough(nextFixedReservation.getTrainer().getTrainerId(),
-                nextFixedReservation.getMember().getMemberId());
-        // 기존에 확정된 예약이 있는지 확인
-        reservationService.checkConfirmedReservationsExistOrThrow(nextFixedReservation.getTrainer().getTrainerId(),
-                nextFixedReservation.getReservationDates());
-        // 예약 대기중인 예약 확인
-        List<Reservation> refusedReservations =
-                reservationService.refuseWaitingReservations(nextFixedReservation.getReservationDates());
-        // 예약 거절된 예약은 -> 멤버에게 예약 거절됐다는 메세지 전송
+    public List<String> executeCreateFixedReservations(Long trainerId,
+                                                       List<ReservationCriteria.EventCreateFixed> events) {
+        //0. 이미 처리된 메시지(중복 수신) 제외
+        Set<String> unprocessedIds = new HashSet<>(processedMessageService.getUnprocessedMessageIds(events.stream()
+                .map(ReservationCriteria.EventCreateFixed::messageId)
+                .distinct()
+                .toList()));
+        List<String> duplicatedMessageIds = new ArrayList<>();
+        List<ReservationCriteria.EventCreateFixed> criteriaList = new ArrayList<>();
+        for (ReservationCriteria.EventCreateFixed event : events) {
+            if (unprocessedIds.remove(event.messageId())) {
+                criteriaList.add(event);
+            } else {
+                log.info("[FIXED RESERVATION] :: duplicated message dropped. messageId={}", event.messageId());
+                duplicatedMessageIds.add(event.messageId());
+            }
+        }
+
+        List<Reservation> nextFixedReservations = criteriaList.stream()
+                .map(ReservationCriteria.EventCreateFixed::toDomain)
+                .toList();
+        //1. 멤버별 세션 정보 한 번에 조회
+        List<Long> memberIds = nextFixedReservations.stream()
+                .map(r -> r.getMember().getMemberId())
+                .distinct()
+                .toList();
+        Map<Long, SessionInfo> sessionInfoMap = memberService.findAllSessionInfo(memberIds, trainerId).stream()
+                .collect(Collectors.toMap(s -> s.getMember().getMemberId(), Function.identity(), (a, b) -> a));
+        //2. 이미 확정된 예약 시간 한 번에 조회
+        Set<LocalDateTime> confirmedDates = new HashSet<>(reservationService.getConfirmedReservationDates(trainerId,
+                nextFixedReservations.stream()
+                        .map(Reservation::getReservationDate)
+                        .distinct()
+                        .toList()));
+        //3. 세션이 충분하고, 확정된 예약 및 그룹 안의 다른 이벤트와 겹치지 않는 예약만 진행
+        List<Reservation> acceptedReservations = new ArrayList<>();
+        List<String> acceptedMessageIds = new ArrayList<>();
+        List<String> rejectedMessageIds = new ArrayList<>();
+        Set<LocalDateTime> acceptedSlots = new HashSet<>();
+        for (int i = 0; i < criteriaList.size(); i++) {
+            ReservationCriteria.EventCreateFixed criteria = criteriaList.get(i);
+            Reservation nextFixedReservation = nextFixedReservations.get(i);
+            SessionInfo sessionInfo = sessionInfoMap.get(criteria.memberId());
+
+            if (sessionInfo == null || !sessionInfo.isSessionEnough()) {
+                log.warn("[FIXED RESERVATION] :: session not enough. messageId={}, trainerId={}, memberId={}",
+                        criteria.messageId(), trainerId, criteria.memberId());
+                rejectedMessageIds.add(criteria.messageId());
+                continue;
+            }
+            if (confirmedDates.contains(nextFixedReservation.getReservationDate())) {
+                log.warn("[FIXED RESERVATION] :: confirmed reservation exists. messageId={}, trainerId={}, date={}",
+                        criteria.messageId(), trainerId, nextFixedReservation.getReservationDate());
+                rejectedMessageIds.add(criteria.messageId());
+                continue;
+            }
+            if (!acceptedSlots.add(nextFixedReservation.getBookedSlot())) {
+                log.warn("[FIXED RESERVATION] :: duplicated slot in group. messageId={}, trainerId={}, date={}",
+                        criteria.messageId(), trainerId, nextFixedReservation.getBookedSlot());
+                rejectedMessageIds.add(criteria.messageId());
+                continue;
+            }
+            acceptedReservations.add(nextFixedReservation);
+            acceptedMessageIds.add(criteria.messageId());
+        }
+        if (acceptedReservations.isEmpty()) {
+            processedMessageService.saveProcessedMessageIds(rejectedMessageIds);
+            rejectedMessageIds.addAll(duplicatedMessageIds);
+
+            return rejectedMessageIds;
+        }
+        //4. 같은 시간대 대기 예약 일괄 거절 -> 멤버에게 예약 거절됐다는 메세지 전송
+        List<Reservation> refusedReservations = reservationService.refuseWaitingReservations(trainerId,
+                acceptedReservations.stream()
+                        .map(Reservation::getReservationDate)
+                        .toList());
         refuseReservations(refusedReservations);
-        // 고정 예약 진행
-        reservationService.createFixedReservations(List.of(nextFixedReservation), 1);
+        //5. 고정 예약 일괄 생성
+        reservationService.createFixedReservations(acceptedReservations, acceptedReservations.size());
+        //6. 처리 완료 이력 저장 (거절한 이벤트 포함, 같은 트랜잭션으로 커밋)
+        acceptedMessageIds.addAll(rejectedMessageIds);
+        processedMessageService.saveProcessedMessageIds(acceptedMessageIds);
+        acceptedMessageIds.addAll(duplicatedMessageIds);
+
+        return acceptedMessageIds;
     }
 
     @Transactional
@@ -147,22 +229,21 @@ public class ReservationFacade {
             //만약 트레이너가 예약을 했다면, 바로 세션 생성
             reservationService.saveSession(savedReservation);
             // 세션 1회 차감
-            memberService.deductSession(reservation.getTrainer().getTrainerId(), reservation.getMember().getMemberId(), 1);
+            memberService.deductSession(reservation.getTrainer().getTrainerId(),
+                    reservation.getMember().getMemberId(), 1);
             // 트레이너가 예약했다면 멤버에게 예약이 됐다는 알림 전송
             PersonalDetail memberDetail = memberService.getMemberDetail(reservation.getMember().getMemberId());
-            Token token = authService.getTokenByPersonalDetailId(memberDetail.getPersonalDetailId());
             notificationService.sendNotification(NotificationCommand.ApproveReservation.of(memberDetail,
                     savedReservation.getReservationId(), savedReservation.getConfirmDate(),
-                    savedReservation.getTrainer().getTrainerId(), true, token.getPushToken()));
+                    savedReservation.getTrainer().getTrainerId(), true));
         }
 
         if (user.getUserRole() == MEMBER) {
             // 멤버가 예약했다면 트레이너에게 예약 요청을 했다는 알림 전송
-            PersonalDetail trainerDetail = trainerService.getTrainerDetail(reservation.getTrainer().getTrainerId());
-            Token token = authService.getTokenByPersonalDetailId(trainerDetail.getPersonalDetailId());
-            notificationService.sendNotification(NotificationCommand.RequestReservation.of(trainerDetail,
+            notificationService.sendNotification(NotificationCommand.RequestReservation.of(
+                    PersonalDetail.ofTrainer(reservation.getTrainer().getTrainerId()),
                     savedReservation.getReservationId(), savedReservation.getReservationDate(),
-                    savedReservation.getMember().getMemberId(), savedReservation.getName(), token.getPushToken()));
+                    savedReservation.getMember().getMemberId(), savedReservation.getName()));
         }
         return savedReservation;
     }
@@ -173,10 +254,9 @@ public class ReservationFacade {
 
         //예약 완료 알림 발송 트레이너 -> 멤버에게 예약 완료되었다는 알림 발송
         PersonalDetail memberDetail = memberService.getMemberDetail(approveReservation.getMember().getMemberId());
-        Token token = authService.getTokenByPersonalDetailId(memberDetail.getPersonalDetailId());
         notificationService.sendNotification(NotificationCommand.ApproveReservation.of(memberDetail,
                 approveReservation.getReservationId(), approveReservation.getConfirmDate(),
-                approveReservation.getTrainer().getTrainerId(), true, token.getPushToken()));
+                approveReservation.getTrainer().getTrainerId(), true));
 
         List<Reservation> refuseReservations = reservationService.refuseReservations(
                 criteria.toRefuseReservationsCommand(), user);
@@ -198,20 +278,18 @@ public class ReservationFacade {
                     reservation.getMember().getMemberId(), 1);
             // 트레이너 -> 멤버 예약이 취소됐다는 알림 전송
             PersonalDetail memberDetail = memberService.getMemberDetail(reservation.getMember().getMemberId());
-            Token token = authService.getTokenByPersonalDetailId(memberDetail.getPersonalDetailId());
             notificationService.sendNotification(NotificationCommand.Cancel.of(
                     memberDetail, reservation.getReservationId(), reservation.getTrainer().getTrainerId(),
-                    RESERVATION_CANCEL, token.getPushToken()));
+                    RESERVATION_CANCEL));
 
             return reservation;
         }
         // 멤버의 경우
         // 멤버 -> 트레이너에게 예약 취소 요청 알림을 보낸다.
-        PersonalDetail trainerDetail = trainerService.getTrainerDetail(reservation.getTrainer().getTrainerId());
-        Token token = authService.getTokenByPersonalDetailId(trainerDetail.getPersonalDetailId());
-        notificationService.sendNotification(NotificationCommand.CancelRequestReservation.of(trainerDetail, reservation.getReservationId(),
+        notificationService.sendNotification(NotificationCommand.CancelRequestReservation.of(
+                PersonalDetail.ofTrainer(reservation.getTrainer().getTrainerId()), reservation.getReservationId(),
                 reservation.getMember().getMemberId(), reservation.getName(), criteria.cancelDate(),
-                criteria.cancelReason(), RESERVATION_CANCEL, token.getPushToken()));
+                criteria.cancelReason(), RESERVATION_CANCEL));
 
         return reservation;
     }
@@ -229,9 +307,8 @@ public class ReservationFacade {
 
         // 트레이너 -> 멤버에게 예약 취소 여부 결과 알림 발송
         PersonalDetail memberDetail = memberService.getMemberDetail(approvedReservation.getMember().getMemberId());
-        Token token = authService.getTokenByPersonalDetailId(memberDetail.getPersonalDetailId());
         notificationService.sendNotification(NotificationCommand.CancelApproveReservation.of(memberDetail, approvedReservation.getReservationId(),
-                approvedReservation.getTrainer().getTrainerId(), criteria.isApprove(), token.getPushToken()));
+                approvedReservation.getTrainer().getTrainerId(), criteria.isApprove()));
 
         return approvedReservation;
     }
@@ -242,11 +319,10 @@ public class ReservationFacade {
 
         Reservation changedFixedReservation = reservationService.changeFixedReservation(criteria.toCommand());
         PersonalDetail memberDetail = memberService.getMemberDetail(changedFixedReservation.getMember().getMemberId());
-        Token token = authService.getTokenByPersonalDetailId(memberDetail.getPersonalDetailId());
         // 알림 전송 트레이너 -> 멤버에게 예약 확정 됐다는 알림 발송
         notificationService.sendNotification(NotificationCommand.ApproveReservation.of(memberDetail,
                 changedFixedReservation.getReservationId(), criteria.changeRequestDate(),
-                user.getTrainerId(), true, token.getPushToken()));
+                user.getTrainerId(), true));
 
         return reservationService.getReservation(criteria.reservationId());
     }
@@ -256,13 +332,11 @@ public class ReservationFacade {
 
         // 알림 전송 멤버 -> 트레이너에게 예약 변경 요청했다는 알림 발송
         Reservation reservation = reservationService.changeRequestReservation(criteria.toCommand());
-        PersonalDetail trainerDetail = trainerService.getTrainerDetail(reservation.getTrainer().getTrainerId());
-        Token token = authService.getTokenByPersonalDetailId(trainerDetail.getPersonalDetailId());
 
-        notificationService.sendNotification(NotificationCommand.ChangeRequestReservation.of(trainerDetail,
+        notificationService.sendNotification(NotificationCommand.ChangeRequestReservation.of(
+                PersonalDetail.ofTrainer(reservation.getTrainer().getTrainerId()),
                 reservation.getReservationId(), reservation.getMember().getMemberId(),
-                reservation.getName(), criteria.reservationDate(), criteria.changeRequestDate(),
-                token.getPushToken()));
+                reservation.getName(), criteria.reservationDate(), criteria.changeRequestDate()));
 
 
         return reservation;
@@ -270,23 +344,22 @@ public class ReservationFacade {
 
     @Transactional
     public Reservation changeApproveReservation(ReservationCriteria.ChangeApproval criteria) {
+        // 예약 변경 요청 승인
+        Reservation approvedReservation = reservationService.changeApproveReservation(criteria.toCommand());
         // 예약 변경이 승인이면 다른 예약 대기들 거절
         if (criteria.isApprove()) {
             // 대기중인 예약이 있으면 거절
             List<Reservation> refusedReservations = reservationService.refuseWaitingReservations(
-                    List.of(criteria.approveDate()));
+                    approvedReservation.getTrainer().getTrainerId(), List.of(criteria.approveDate()));
             // 거절을 했다면 -> 멤버에게 예약이 거절되었다는 알림 전송
             refuseReservations(refusedReservations);
         }
-        // 예약 변경 요청 승인
-        Reservation approvedReservation = reservationService.changeApproveReservation(criteria.toCommand());
 
         // 트레이너 -> 멤버에게 예약 변경 승인 됐다는 알림 전송
         PersonalDetail memberDetail = memberService.getMemberDetail(approvedReservation.getMember().getMemberId());
-        Token token = authService.getTokenByPersonalDetailId(memberDetail.getPersonalDetailId());
         notificationService.sendNotification(NotificationCommand.ApproveRequestReservation.of(memberDetail,
                 approvedReservation.getReservationId(), approvedReservation.getTrainer().getTrainerId(),
-                criteria.isApprove(), token.getPushToken()));
+                criteria.isApprove()));
 
         return approvedReservation;
     }
@@ -297,62 +370,114 @@ public class ReservationFacade {
         Session completedSession = reservationService.completeSession(criteria.toCompleteCommand(),
                 user);
         SessionInfo sessionInfo = memberService.getSessionInfo(user.getTrainerId(), criteria.memberId());
-        PersonalDetail trainerDetail = trainerService.getTrainerDetail(user.getTrainerId());
         PersonalDetail memberDetail = memberService.getMemberDetail(criteria.memberId());
-        Token trainerToken = authService.getTokenByPersonalDetailId(trainerDetail.getPersonalDetailId());
-        Token memberToken = authService.getTokenByPersonalDetailId(memberDetail.getPersonalDetailId());
         // 알림 전송 멤버 -> 트레이너에게 멤버의 세션이 완료되었다는 알림 발송
-        notificationService.sendNotification(NotificationCommand.CompleteSession.of(trainerDetail,
-                completedSession.getSessionId(), user.getTrainerId(), memberDetail.getName(),
-                trainerToken.getPushToken()));
+        notificationService.sendNotification(NotificationCommand.CompleteSession.of(
+                PersonalDetail.ofTrainer(user.getTrainerId()), completedSession.getSessionId(),
+                user.getTrainerId(), memberDetail.getName()));
         // 알림 전송 트레이너 -> 멤버에게 세션이 완료되서 차감 되었다는 알림 발송
         notificationService.sendNotification(NotificationCommand.DeductSession.of(memberDetail,
-                completedSession.getSessionId(), user.getTrainerId(), memberToken.getPushToken()));
-        // 만약 남은 세션 횟수가 5회면 세션 5회 남았다는 알림 전송
-        if (sessionInfo.getRemainingCount() == 5) {
-            notificationService.sendNotification(NotificationCommand.SessionChargeReminder.of(memberDetail,
-                    sessionInfo.getSessionInfoId(), user.getTrainerId(), memberToken.getPushToken()));
-        }
+                completedSession.getSessionId(), user.getTrainerId()));
+        // 남은 세션 횟수가 5회면 세션 5회 남았다는 알림 전송
+        remindSessionCharge(memberDetail, sessionInfo.getSessionInfoId(), user.getTrainerId(),
+                sessionInfo.getRemainingCount());
 
         return completedSession;
     }
 
+    /**
+     * 남은 세션 횟수가 5회면 세션 5회 남았다는 알림 전송
+     */
+    private void remindSessionCharge(PersonalDetail memberDetail, Long sessionInfoId, Long trainerId,
+                                     int remainingCount) {
+        if (remainingCount != 5) {
+            return;
+        }
+        notificationService.sendNotification(NotificationCommand.SessionChargeReminder.of(memberDetail,
+                sessionInfoId, trainerId));
+    }
+
+    public List<Long> getTodaySessionReservationIds() {
+        return reservationService.getTodayReservationIds();
+    }
+
+    /**
+     * 오늘 세션 리마인드 알림 전송 (청크 단위)
+     * 세션은 한 번에 조회하고 알림은 일괄 저장 후 push 한다. (수신자와 기기 토큰은 알림 처리 단계에서 조회)
+     *
+     * @return 알림을 전송한 건수
+     */
     @Transactional
-    public void checkTodaySessionReminder() {
-        List<Reservation> todayReservations = reservationService.getTodayReservations();
-
-        // 알림 전송 트레이너 -> 멤버에게 오늘 세션있다고 알림 전송
-        todayReservations.forEach(r -> {
-            PersonalDetail memberDetail = memberService.getMemberDetail(r.getMember().getMemberId());
-            Session session = reservationService.getSession(r.getStatus(), r.getReservationId());
-            Token token = authService.getTokenByPersonalDetailId(memberDetail.getPersonalDetailId());
-            notificationService.sendNotification(NotificationCommand.SessionTodayReminder.of(memberDetail,
-                    session.getSessionId(), r.getTrainer().getTrainerId(), r.getConfirmDate(),
-                    token.getPushToken()));
-        });
+    public int sendTodaySessionReminders(List<Long> reservationIds) {
+        //1. 청크에 해당하는 예약 조회
+        List<Reservation> reservations = reservationService.getReservations(reservationIds);
+        //2. 세션 일괄 조회
+        Map<Long, Session> sessions = reservationService.getSessions(reservationIds)
+                .stream()
+                .collect(Collectors.toMap(s -> s.getReservation().getReservationId(), Function.identity(),
+                        // 한 예약에 세션이 여러 개면 가장 최근 세션으로 알린다.
+                        (a, b) -> a.getSessionId() >= b.getSessionId() ? a : b));
+        //3. 알림 전송 트레이너 -> 멤버에게 오늘 세션있다고 알림 전송
+        List<NotificationCommand.SessionTodayReminder> requests = new ArrayList<>();
+        for (Reservation r : reservations) {
+            Session session = sessions.get(r.getReservationId());
+
+            if (session == null) {
+                log.warn("세션 리마인드 대상 정보가 없어 건너뜁니다. [reservationId: {}]", r.getReservationId());
+                continue;
+            }
+
+            requests.add(NotificationCommand.SessionTodayReminder.of(
+                    PersonalDetail.ofMember(r.getMember().getMemberId()), session.getSessionId(),
+                    r.getTrainer().getTrainerId(), r.getConfirmDate()));
+        }
+        notificationService.sendNotifications(requests);
+
+        return requests.size();
     }
 
     @Transactional
     public void refuseReservations(List<Reservation> refusedReservations) {
-        refusedReservations.forEach((r) -> {
-            PersonalDetail memberDetail = memberService.getMemberDetail(r.getMember().getMemberId());
-            Token token = authService.getTokenByPersonalDetailId(memberDetail.getPersonalDetailId());
-            notificationService.sendNotification(NotificationCommand.ApproveReservation.of(memberDetail, r.getReservationId(),
-                    r.getReservationDate(), r.getTrainer().getTrainerId(), false, token.getPushToken()));
-        });
+        sendApproveNotifications(refusedReservations, false, Reservation::getReservationDate);
+    }
+
+    /**
+     * 예약 확정/거절 알림을 한 번에 요청한다. (회원 정보는 예약 수와 관계없이 한 번만 조회)
+     */
+    private void sendApproveNotifications(List<Reservation> reservations, boolean isApprove,
+                                          Function<Reservation, LocalDateTime> reservationDate) {
+        if (reservations.isEmpty()) {
+            return;
+        }
+        Map<Long, PersonalDetail> memberDetails = memberService.getMemberDetails(reservations.stream()
+                        .map(r -> r.getMember().getMemberId())
+                        .distinct()
+                        .toList())
+                .stream()
+                .collect(Collectors.toMap(PersonalDetail::getMemberId, Function.identity(), (a, b) -> a));
+
+        List<NotificationCommand.ApproveReservation> requests = new ArrayList<>();
+        for (Reservation r : reservations) {
+            Long memberId = r.getMember().getMemberId();
+            PersonalDetail memberDetail = memberDetails.get(memberId);
+            if (memberDetail == null) {
+                throw new CustomException(MEMBER_DETAIL_NOT_FOUND,
+                        "멤버 상세 정보를 찾을 수 없습니다. [memberId: %d]".formatted(memberId));
+            }
+            requests.add(NotificationCommand.ApproveReservation.of(memberDetail, r.getReservationId(),
+                    reservationDate.apply(r), r.getTrainer().getTrainerId(), isApprove));
+        }
+        notificationService.sendNotifications(requests);
     }
 
     @Transactional
     public List<Reservation> releaseFixedReservation(Long reservationId) {
         // 관련 고정 예약 모두 해지
-        List<Reservation> reservations = reservationService.releaseFixedReservation(reservationId);
-        Reservation reservation = reservations.get(0);
-        int restoreCount = reservations.size();
-        // 세션 복구
-        memberService.restoreSession(reservation.getTrainer().getTrainerId(), reservation.getMember().getMemberId(),
-                restoreCount);
-
-        return reservations;
+        FixedReservationRelease release = reservationService.releaseFixedReservation(reservationId);
+        // 해지된 예약 수만큼 세션 복구
+        memberService.restoreSession(release.trainerId(), release.memberId(), release.restoreCount());
+
+        return release.reservations();
     }
 
 }
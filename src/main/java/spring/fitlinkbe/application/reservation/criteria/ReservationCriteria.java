@@ -66,7 +66,8 @@ public class ReservationCriteria {
     }
 
     @Builder(toBuilder = true)
-    public record EventCreateFixed(Long trainerId,
+    public record EventCreateFixed(String messageId,
+                                   Long trainerId,
                                    Long memberId,
                                    Long sessionInfoId,
                                    String name,
@@ -4,14 +4,12 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 import spring.fitlinkbe.application.trainer.criteria.*;
-import spring.fitlinkbe.domain.auth.AuthService;
 import spring.fitlinkbe.domain.common.enums.UserRole;
 import spring.fitlinkbe.domain.common.exception.CustomException;
 import spring.fitlinkbe.domain.common.exception.ErrorCode;
 import spring.fitlinkbe.domain.common.model.ConnectingInfo;
 import spring.fitlinkbe.domain.common.model.PersonalDetail;
 import spring.fitlinkbe.domain.common.model.SessionInfo;
-import spring.fitlinkbe.domain.common.model.Token;
 import spring.fitlinkbe.domain.member.MemberService;
 import spring.fitlinkbe.domain.notification.Notification;
 import spring.fitlinkbe.domain.notification.NotificationService;
@@ -32,7 +30,6 @@ public class TrainerFacade {
     private final ReservationService reservationService;
     private final MemberService memberService;
     private final NotificationService notificationService;
-    private final AuthService authService;
 
 
     public TrainerInfoResult.Response getTrainerInfo(Long trainerId) {
@@ -48,7 +45,7 @@ public class TrainerFacade {
             TrainerInfoResult.TrainerUpdateRequest request
     ) {
         Trainer trainer = trainerService.getTrainerInfo(trainerId);
-        PersonalDetail personalDetail = trainerService.getTrainerDetail(trainerId);
+        PersonalDetail personalDetail = trainerService.getTrainerDetailUncached(trainerId);
 
         if (request.name() != null) {
             trainer.updateName(request.name());
@@ -84,6 +81,19 @@ public class TrainerFacade {
         return AvailableTimesResult.CurrentAvailableTimesResponse.of(currentSchedules);
     }
 
+    public List<FreeSlotResult.Response> getFreeSlots(Long memberId, Long trainerId, LocalDate startDate, LocalDate endDate) {
+        memberService.checkConnected(trainerId, memberId);
+
+        return getMyFreeSlots(trainerId, startDate, endDate);
+    }
+
+    public List<FreeSlotResult.Response> getMyFreeSlots(Long trainerId, LocalDate startDate, LocalDate endDate) {
+        return trainerService.getFreeSlots(trainerId, startDate, endDate)
+                .stream()
+                .map(FreeSlotResult.Response::from)
+                .toList();
+    }
+
     @Transactional
     public void saveAvailableTimes(Long trainerId, AvailableTimeCriteria.AddRequest criteria) {
         Trainer trainer = trainerService.getTrainerInfo(trainerId);
@@ -160,16 +170,13 @@ public class TrainerFacade {
 
     @Transactional
     public void disconnectTrainer(Long trainerId, Long memberId) {
-        PersonalDetail memberDetail = memberService.getMemberDetail(memberId);
         ConnectingInfo connectingInfo = trainerService.getConnectingInfo(trainerId, memberId);
         connectingInfo.disconnect();
 
         trainerService.saveConnectingInfo(connectingInfo);
         // -> 멤버에게 알림 보내기
-        Token token = authService.getTokenByPersonalDetailId(memberDetail.getPersonalDetailId());
-        notificationService.sendNotification(NotificationCommand.Disconnect.of(memberDetail,
-                connectingInfo.getTrainer().getTrainerId(), connectingInfo.getTrainer().getName(), UserRole.MEMBER,
-                token.getPushToken()));
+        notificationService.sendNotification(NotificationCommand.Disconnect.of(PersonalDetail.ofMember(memberId),
+                connectingInfo.getTrainer().getTrainerId(), connectingInfo.getTrainer().getName(), UserRole.MEMBER));
     }
 
     @Transactional
@@ -178,15 +185,12 @@ public class TrainerFacade {
         if (notification.getNotificationType() != Notification.NotificationType.CONNECT) {
             throw new CustomException(ErrorCode.NOTIFICATION_NOT_FOUND);
         }
-        notification.process();
-        notificationService.save(notification);
+        notificationService.processNotification(notification);
 
         ConnectingInfo connectingInfo = trainerService.getConnectingInfo(notification.getRefId());
         connectingInfo.decisionConnectRequest(approved);
         trainerService.saveConnectingInfo(connectingInfo);
 
-        PersonalDetail memberDetail = memberService.getMemberDetail(connectingInfo.getMember().getMemberId());
-        Token token = authService.getTokenByPersonalDetailId(memberDetail.getPersonalDetailId());
         Trainer trainer = trainerService.getTrainerInfo(trainerId);
 
         SessionInfo sessionInfo = null;
@@ -195,7 +199,8 @@ public class TrainerFacade {
         }
 
         notificationService.sendNotification(
-                NotificationCommand.ConnectDecision.of(memberDetail, trainer, approved, token.getPushToken())
+                NotificationCommand.ConnectDecision.of(PersonalDetail.ofMember(connectingInfo.getMember().getMemberId()),
+                        trainer, approved)
         );
 
         return ConnectRequestDecisionResult.of(
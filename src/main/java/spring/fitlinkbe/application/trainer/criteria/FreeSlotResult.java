@@ -0,0 +1,21 @@
+package spring.fitlinkbe.application.trainer.criteria;
+
+import lombok.Builder;
+import spring.fitlinkbe.domain.trainer.FreeSlot;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+public class FreeSlotResult {
+
+    @Builder
+    public record Response(LocalDate date, List<LocalTime> times) {
+        public static Response from(FreeSlot freeSlot) {
+            return Response.builder()
+                    .date(freeSlot.date())
+                    .times(freeSlot.times())
+                    .build();
+        }
+    }
+}
@@ -15,6 +15,7 @@ import spring.fitlinkbe.support.security.SecurityUser;
 
 import java.security.SecureRandom;
 import java.util.Base64;
+import java.util.List;
 
 import static spring.fitlinkbe.domain.common.exception.ErrorCode.PERSONAL_DETAIL_NOT_FOUND;
 
@@ -28,7 +29,7 @@ public class AuthService {
     private final PersonalDetailRepository personalDetailRepository;
 
     public Token getTokenByPersonalDetailId(Long personalDetailId) {
-        return tokenRepository.getByPersonalDetailId(personalDetailId)
+        return tokenRepository.getByPersonalDetailIdUncached(personalDetailId)
                 .orElseThrow(() -> new CustomException(ErrorCode.TOKEN_NOT_FOUND));
     }
 
@@ -75,11 +76,21 @@ public class AuthService {
                     .getPersonalDetailId();
         };
 
-        Token token = tokenRepository.getByPersonalDetailId(personalDetailId)
+        Token token = tokenRepository.getByPersonalDetailIdUncached(personalDetailId)
                 .orElseThrow(() -> new CustomException(ErrorCode.TOKEN_NOT_FOUND));
 
         token.updatePushToken(command.pushToken());
         tokenRepository.saveToken(token);
+        // 기기 목록에 추가 (다른 기기의 토큰은 그대로 둔다.)
+        tokenRepository.addPushToken(personalDetailId, command.pushToken());
+    }
+
+    /**
+     * FCM 이 더 이상 유효하지 않다고 응답한 push 토큰을 지운다.
+     */
+    @Transactional
+    public int removePushTokens(List<String> pushTokens) {
+        return tokenRepository.deletePushTokens(pushTokens);
     }
 
     private String generateToken() {
@@ -2,6 +2,7 @@ package spring.fitlinkbe.domain.common;
 
 import spring.fitlinkbe.domain.common.model.PersonalDetail;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface PersonalDetailRepository {
@@ -15,4 +16,18 @@ public interface PersonalDetailRepository {
     Optional<PersonalDetail> getTrainerDetail(Long trainerId);
 
     Optional<PersonalDetail> getMemberDetail(Long memberId);
+
+    /**
+     * 캐시를 거치지 않고 DB 에서 조회한다. (조회한 값을 수정해서 저장하는 경우)
+     */
+    Optional<PersonalDetail> getTrainerDetailUncached(Long trainerId);
+
+    /**
+     * 캐시를 거치지 않고 DB 에서 조회한다. (조회한 값을 수정해서 저장하는 경우)
+     */
+    Optional<PersonalDetail> getMemberDetailUncached(Long memberId);
+
+    List<PersonalDetail> getMemberDetails(List<Long> memberIds);
+
+    List<PersonalDetail> getTrainerDetails(List<Long> trainerIds);
 }
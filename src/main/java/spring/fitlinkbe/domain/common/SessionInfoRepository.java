@@ -18,4 +18,18 @@ public interface SessionInfoRepository {
     Optional<SessionInfo> findSessionInfo(Long memberId);
 
     List<SessionInfo> findAllSessionInfo(List<Long> memberIds, Long trainerId);
+
+    /**
+     * 남은 횟수가 충분할 때만 한 번의 update 로 차감한다.
+     *
+     * @return 차감 후 남은 횟수 (횟수가 부족하거나 세션 정보가 없으면 empty)
+     */
+    Optional<Integer> deductRemainingCount(Long trainerId, Long memberId, int count);
+
+    /**
+     * 한 번의 update 로 남은 횟수를 복구한다.
+     *
+     * @return 복구 후 남은 횟수 (세션 정보가 없으면 empty)
+     */
+    Optional<Integer> restoreRemainingCount(Long trainerId, Long memberId, int count);
 }
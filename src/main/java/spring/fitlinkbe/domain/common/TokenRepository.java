@@ -2,6 +2,8 @@ package spring.fitlinkbe.domain.common;
 
 import spring.fitlinkbe.domain.common.model.Token;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface TokenRepository {
@@ -18,5 +20,31 @@ public interface TokenRepository {
 
     Optional<Token> getByPersonalDetailId(Long personalDetailId);
 
+    /**
+     * 캐시를 거치지 않고 DB 에서 조회한다. (refresh token 검증, 토큰 수정용)
+     */
+    Optional<Token> getByPersonalDetailIdUncached(Long personalDetailId);
+
+    List<Token> getByPersonalDetailIds(List<Long> personalDetailIds);
+
     void saveToken(Token token);
+
+    /**
+     * 기기 push 토큰을 유저의 기기 목록에 등록한다. </br>
+     * 이미 등록된 토큰이면 등록 시각만 갱신하고(다른 유저의 토큰이었다면 이 유저로 옮긴다.),
+     * 기기 수가 최대치를 넘으면 가장 오래전에 등록한 토큰부터 지운다.
+     */
+    void addPushToken(Long personalDetailId, String pushToken);
+
+    /**
+     * 유저별 기기 push 토큰 목록 (기기가 없는 유저는 key 가 없다.)
+     */
+    Map<Long, List<String>> getPushTokens(List<Long> personalDetailIds);
+
+    /**
+     * 더 이상 유효하지 않은 push 토큰을 기기 목록에서 지운다.
+     *
+     * @return 지운 토큰 수
+     */
+    int deletePushTokens(List<String> pushTokens);
 }
@@ -16,6 +16,7 @@ public enum ErrorCode {
     DAY_OFF_DUPLICATED("해당 날짜에 이미 적용된 휴무일이 있습니다.", 409),
     DAY_OFF_NOT_FOUND("휴무일이 존재하지 않습니다.", 404),
     CONFIRMED_RESERVATION_EXISTS("해당 날짜에 확정된 예약이 존재합니다.", 409),
+    INVALID_FREE_SLOT_RANGE("예약 가능 시간 조회 기간이 올바르지 않습니다.", 400),
 
     // Member 관련 ErrorCode
     MEMBER_DETAIL_NOT_FOUND("멤버 상세 정보를 찾지 못하였습니다", 404),
@@ -64,6 +65,7 @@ public enum ErrorCode {
     // Notification 관련 ErrorCode
     NOTIFICATION_NOT_FOUND("알림 정보를 찾지 못하였습니다.", 404),
     NOTIFICATION_STRANGE_TYPE("알 수 없는 알림 타입입니다", 400),
+    NOTIFICATION_KEYWORD_TOO_SHORT("검색어는 공백을 제외하고 2글자 이상이어야 합니다.", 400),
 
     // Auth 관련 ErrorCode
     UNSUPPORTED_OAUTH_PROVIDER("지원하지 않는 OAuth 제공자입니다.", 400),
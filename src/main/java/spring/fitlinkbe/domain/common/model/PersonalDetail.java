@@ -82,6 +82,24 @@ public class PersonalDetail {
         }
     }
 
+    /**
+     * 알림 받는 회원 참조 (personalDetailId 는 알림 처리 단계에서 memberId 로 한 번에 채운다.)
+     */
+    public static PersonalDetail ofMember(Long memberId) {
+        return PersonalDetail.builder()
+                .memberId(memberId)
+                .build();
+    }
+
+    /**
+     * 알림 받는 트레이너 참조 (personalDetailId 는 알림 처리 단계에서 trainerId 로 한 번에 채운다.)
+     */
+    public static PersonalDetail ofTrainer(Long trainerId) {
+        return PersonalDetail.builder()
+                .trainerId(trainerId)
+                .build();
+    }
+
     public UserRole getUserRole() {
         return trainerId == null ? MEMBER : TRAINER;
     }
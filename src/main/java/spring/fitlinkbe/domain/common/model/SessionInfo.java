@@ -52,22 +52,14 @@ public class SessionInfo {
         return member.getMemberId();
     }
 
-    public void restoreSession(int count) {
-        remainingCount += count;
-    }
-
-    public void deductSession(int count) {
-        if (remainingCount - count < 0) {
-            throw new CustomException(ErrorCode.SESSION_REMAINING_COUNT_NOT_VALID,
-                    "남은 PT 횟수가 0보다 작습니다. [count: %d]".formatted(remainingCount));
-        }
-        remainingCount -= count;
-    }
-
     public void checkEnoughSession() {
-        if (remainingCount < 1) {
+        if (!isSessionEnough()) {
             throw new CustomException(ErrorCode.SESSION_REMAINING_COUNT_NOT_VALID,
                     "남은 세션을 다 사용하셨습니다.");
         }
     }
+
+    public boolean isSessionEnough() {
+        return remainingCount >= 1;
+    }
 }
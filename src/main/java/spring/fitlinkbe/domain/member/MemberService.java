@@ -51,6 +51,19 @@ public class MemberService {
                         "멤버 상세 정보를 찾을 수 없습니다. [memberId: %d]".formatted(memberId)));
     }
 
+    /**
+     * 정보 수정용 조회 (캐시를 거치지 않고 DB 에서 읽는다.)
+     */
+    public PersonalDetail getMemberDetailUncached(Long memberId) {
+        return personalDetailRepository.getMemberDetailUncached(memberId)
+                .orElseThrow(() -> new CustomException(MEMBER_DETAIL_NOT_FOUND,
+                        "멤버 상세 정보를 찾을 수 없습니다. [memberId: %d]".formatted(memberId)));
+    }
+
+    public List<PersonalDetail> getMemberDetails(List<Long> memberIds) {
+        return personalDetailRepository.getMemberDetails(memberIds);
+    }
+
     public Member saveMember(Member member) {
         return memberRepository.saveMember(member).orElseThrow();
     }
@@ -187,20 +200,28 @@ public class MemberService {
 
     /**
      * 세션 차감
+     *
+     * @return 차감 후 남은 횟수
      */
-    public SessionInfo deductSession(Long trainerId, Long memberId, int count) {
-        SessionInfo getSessionInfo = this.getSessionInfo(trainerId, memberId);
-        getSessionInfo.deductSession(count);
-        return this.saveSessionInfo(getSessionInfo);
+    public int deductSession(Long trainerId, Long memberId, int count) {
+        // 세션 정보를 읽지 않고 남은 횟수가 충분할 때만 원자적으로 차감
+        return sessionInfoRepository.deductRemainingCount(trainerId, memberId, count)
+                .orElseThrow(() -> {
+                    SessionInfo sessionInfo = sessionInfoRepository.getSessionInfoWithNoLock(trainerId, memberId)
+                            .orElseThrow(() -> new CustomException(ErrorCode.SESSION_NOT_FOUND));
+                    return new CustomException(ErrorCode.SESSION_REMAINING_COUNT_NOT_VALID,
+                            "남은 PT 횟수가 부족합니다. [count: %d]".formatted(sessionInfo.getRemainingCount()));
+                });
     }
 
     /**
      * 세션 복구
+     *
+     * @return 복구 후 남은 횟수
      */
-    public void restoreSession(Long trainerId, Long memberId, int count) {
-        SessionInfo getSessionInfo = this.getSessionInfo(trainerId, memberId);
-        getSessionInfo.restoreSession(count);
-        this.saveSessionInfo(getSessionInfo);
+    public int restoreSession(Long trainerId, Long memberId, int count) {
+        return sessionInfoRepository.restoreRemainingCount(trainerId, memberId, count)
+                .orElseThrow(() -> new CustomException(ErrorCode.SESSION_NOT_FOUND));
     }
 
     public PersonalDetail getPersonalDetail(Long personalDetailId) {
@@ -6,6 +6,7 @@ import spring.fitlinkbe.domain.common.model.PersonalDetail;
 import spring.fitlinkbe.domain.trainer.Trainer;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import static spring.fitlinkbe.support.utils.DateUtils.formatDateTime;
 
@@ -14,6 +15,9 @@ import static spring.fitlinkbe.support.utils.DateUtils.formatDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 public class Notification {
+    // notification.content 컬럼 길이
+    private static final int MAX_CONTENT_LENGTH = 255;
+
     private Long notificationId;
     private Long refId;
     private ReferenceType refType;
@@ -142,6 +146,47 @@ public class Notification {
                 .build();
     }
 
+    /**
+     * 같은 유저에게 같은 상대방이 보낸 같은 종류의 알림을 하나로 묶는다.
+     * 첫 줄은 "{알림 설명} (N건)" 이고, 이어서 알림마다 상세 내용(첫 줄 이후)을 한 줄씩 붙인다.
+     * 내용이 MAX_CONTENT_LENGTH 를 넘지 않도록 들어가는 만큼만 붙이고 나머지는 "외 M건" 으로 줄인다.
+     * 참조(refId/refType)는 첫 번째 알림의 것을 그대로 쓴다.
+     */
+    public static Notification digest(List<Notification> notifications) {
+        Notification first = notifications.get(0);
+        List<String> details = notifications.stream()
+                .map(Notification::getContent)
+                .map(content -> content.substring(content.indexOf('\n') + 1).strip())
+                .toList();
+        StringBuilder content = new StringBuilder("%s (%d건)".formatted(
+                first.getNotificationType().getDescription(), notifications.size()));
+
+        int shown = 0;
+        while (shown < details.size()) {
+            String line = "\n " + details.get(shown);
+            int rest = details.size() - shown - 1;
+            int omittedLength = rest == 0 ? 0 : omitted(rest).length();
+            if (content.length() + line.length() + omittedLength > MAX_CONTENT_LENGTH) {
+                break;
+            }
+            content.append(line);
+            shown++;
+        }
+        if (shown < details.size()) {
+            content.append(omitted(details.size() - shown));
+        }
+
+        return first.toBuilder()
+                .notificationId(null)
+                .content(content.toString())
+                .sendDate(LocalDateTime.now())
+                .build();
+    }
+
+    private static String omitted(int count) {
+        return "\n 외 %d건".formatted(count);
+    }
+
     public static Notification approveRequestReservation(PersonalDetail memberDetail, Long reservationId,
                                                          Long trainerId, boolean isApprove) {
 
@@ -361,6 +406,14 @@ public class Notification {
 
         private final String name;
         private final String description;
+
+        /**
+         * 같은 유저에게 짧은 시간 안에 여러 건이 몰리는 알림이면 하나의 묶음 알림으로 보낸다.
+         * (예: 트레이너가 고정 예약 생성/예약 확정 시 겹치는 예약을 한 번에 거절)
+         */
+        public boolean isCoalescible() {
+            return this == RESERVATION_REFUSE;
+        }
     }
 
     @RequiredArgsConstructor
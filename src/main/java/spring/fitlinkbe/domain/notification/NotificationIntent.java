@@ -0,0 +1,104 @@
+package spring.fitlinkbe.domain.notification;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import spring.fitlinkbe.domain.common.enums.UserRole;
+import spring.fitlinkbe.domain.common.model.PersonalDetail;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 저장/전송 전의 알림 (알림 요청이 들어온 트랜잭션에서 같이 커밋된다.)
+ * <p>
+ * 알림 내용은 요청 시점에 이미 만들어 두고, 수신자는 회원/트레이너 id 로만 남긴다.
+ * 처리 단계에서 수신자 정보와 기기 push 토큰을 한 번에 조회해서 알림을 일괄 저장하고 push 를 보낸다.
+ */
+@Getter
+@Builder(toBuilder = true)
+@AllArgsConstructor
+public class NotificationIntent {
+
+    private Long intentId;
+
+    private Notification notification;
+
+    private LocalDateTime createdAt;
+
+    public static NotificationIntent of(Notification notification) {
+        return NotificationIntent.builder()
+                .notification(notification)
+                .build();
+    }
+
+    public Long getPersonalDetailId() {
+        return notification.getPersonalDetail() == null ? null
+                : notification.getPersonalDetail().getPersonalDetailId();
+    }
+
+    /**
+     * 알림 받는 유저의 회원/트레이너 id (알림 target 기준)
+     */
+    public Long getRecipientId() {
+        PersonalDetail recipient = notification.getPersonalDetail();
+        if (recipient == null) {
+            return null;
+        }
+
+        return getRecipientRole() == UserRole.TRAINER ? recipient.getTrainerId() : recipient.getMemberId();
+    }
+
+    public UserRole getRecipientRole() {
+        return notification.getTarget() == UserRole.TRAINER ? UserRole.TRAINER : UserRole.MEMBER;
+    }
+
+    public boolean hasRecipient() {
+        return getPersonalDetailId() != null;
+    }
+
+    public NotificationIntent withRecipient(PersonalDetail recipient) {
+        return toBuilder()
+                .notification(notification.toBuilder()
+                        .personalDetail(recipient)
+                        .build())
+                .build();
+    }
+
+    public boolean isCoalescible() {
+        return getPersonalDetailId() != null && notification.getNotificationType() != null
+                && notification.getNotificationType().isCoalescible();
+    }
+
+    /**
+     * 묶음 대상 알림 요청을 유저/상대방/알림 종류별로 하나의 묶음 알림으로 합친다. (그 밖의 알림 요청은 그대로 둔다.)
+     * 묶음 알림은 첫 번째 알림의 상대방(partnerId)과 참조를 쓰므로 상대방이 다른 알림은 합치지 않는다.
+     * 순서는 처음 나온 알림 요청 기준으로 유지한다.
+     */
+    public static List<NotificationIntent> coalesce(List<NotificationIntent> intents) {
+        Map<Object, List<NotificationIntent>> groups = new LinkedHashMap<>();
+        for (NotificationIntent intent : intents) {
+            Object key = intent.isCoalescible()
+                    ? new DigestKey(intent.getPersonalDetailId(), intent.getNotification().getPartnerId(),
+                    intent.getNotification().getNotificationType())
+                    : intent;
+            groups.computeIfAbsent(key, k -> new ArrayList<>()).add(intent);
+        }
+
+        return groups.values().stream()
+                .map(group -> group.size() == 1 ? group.get(0) : digest(group))
+                .toList();
+    }
+
+    private static NotificationIntent digest(List<NotificationIntent> group) {
+        return NotificationIntent.of(Notification.digest(group.stream()
+                .map(NotificationIntent::getNotification)
+                .toList()));
+    }
+
+    private record DigestKey(Long personalDetailId, Long partnerId, Notification.NotificationType notificationType) {
+    }
+}
@@ -0,0 +1,107 @@
+package spring.fitlinkbe.domain.notification;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 커밋된 알림 요청을 요청 스레드와 분리된 전용 스레드에서 처리한다.
+ * <p>
+ * 여러 트랜잭션에서 넘어온 알림 요청 id 를 큐에 모아 최대 DISPATCH_BATCH_SIZE 건씩 알림으로 일괄 저장하고 push 를 보낸다.
+ * 큐가 가득 차거나 처리에 실패한 알림 요청은 테이블에 남아있으므로 relay 가 다시 처리한다.
+ */
+@Slf4j
+@Component
+public class NotificationIntentDispatcher {
+
+    public static final int DISPATCH_BATCH_SIZE = 100;
+
+    private final NotificationService notificationService;
+    private final BlockingQueue<Long> queue;
+    private final ExecutorService executor;
+    private final AtomicBoolean draining = new AtomicBoolean(false);
+
+    public NotificationIntentDispatcher(NotificationService notificationService,
+                                        @Value("${app.notification.dispatcher.queue-capacity:10000}") int queueCapacity,
+                                        @Value("${app.notification.dispatcher.async:true}") boolean async) {
+        this.notificationService = notificationService;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        // async 가 꺼져 있으면 호출한 스레드에서 바로 처리한다. (테스트용)
+        this.executor = async ? Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "notification-dispatcher");
+            thread.setDaemon(true);
+            return thread;
+        }) : null;
+    }
+
+    /**
+     * 커밋이 끝난 알림 요청을 처리 큐에 넣는다.
+     */
+    public void dispatch(List<Long> intentIds) {
+        int dropped = 0;
+        for (Long intentId : intentIds) {
+            if (!queue.offer(intentId)) {
+                dropped++;
+            }
+        }
+        if (dropped > 0) {
+            log.warn("[NOTIFICATION DISPATCH] :: QUEUE FULL :: dropped={} (relay 가 처리)", dropped);
+        }
+        if (executor == null) {
+            drain();
+            return;
+        }
+        scheduleDrain();
+    }
+
+    private void scheduleDrain() {
+        if (!draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    drain();
+                } finally {
+                    draining.set(false);
+                }
+                // 처리를 마치는 사이에 들어온 요청이 있으면 이어서 처리
+                if (!queue.isEmpty()) {
+                    scheduleDrain();
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            draining.set(false);
+            log.warn("[NOTIFICATION DISPATCH] :: REJECTED :: pending={}", queue.size());
+        }
+    }
+
+    private void drain() {
+        List<Long> batch = new ArrayList<>(DISPATCH_BATCH_SIZE);
+        while (queue.drainTo(batch, DISPATCH_BATCH_SIZE) > 0) {
+            try {
+                notificationService.processIntents(List.copyOf(batch));
+            } catch (Exception ex) {
+                log.error("[NOTIFICATION DISPATCH] :: FAILED :: size={}, error={}", batch.size(), ex.getMessage(), ex);
+            }
+            batch.clear();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+}
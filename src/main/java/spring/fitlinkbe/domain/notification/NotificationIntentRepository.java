@@ -0,0 +1,37 @@
+package spring.fitlinkbe.domain.notification;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface NotificationIntentRepository {
+
+    /**
+     * 알림 요청을 batch insert 하고, 생성된 id 를 저장 순서대로 반환한다.
+     */
+    List<Long> saveIntents(List<NotificationIntent> intents);
+
+    /**
+     * 처리할 알림 요청을 선점한다. (다른 인스턴스가 선점한 요청은 건너뛴다.)
+     */
+    List<NotificationIntent> claimIntents(List<Long> intentIds);
+
+    /**
+     * createdBefore 이전에 저장되었는데 아직 처리되지 않은 알림 요청 중 시도 횟수가 maxAttempts 미만인 요청 id 를
+     * 최대 limit 건 조회한다.
+     */
+    List<Long> getStaleIntentIds(LocalDateTime createdBefore, int maxAttempts, int limit);
+
+    /**
+     * 아직 처리되지 않은 유저들의 알림 요청 중 createdAfter 이후에 저장된, 주어진 상대방/알림 종류의 요청을 선점한다. (묶음 알림용)
+     */
+    List<NotificationIntent> claimPendingIntents(List<Long> personalDetailIds, List<Long> partnerIds,
+                                                 List<Notification.NotificationType> notificationTypes,
+                                                 LocalDateTime createdAfter);
+
+    int deleteIntents(List<Long> intentIds);
+
+    /**
+     * 처리에 실패한 알림 요청의 시도 횟수를 올리고 마지막 오류를 남긴다.
+     */
+    void recordFailure(Long intentId, String lastError);
+}
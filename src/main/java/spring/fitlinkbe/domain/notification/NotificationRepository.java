@@ -2,6 +2,7 @@ package spring.fitlinkbe.domain.notification;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import spring.fitlinkbe.domain.common.enums.UserRole;
 
 import java.util.List;
@@ -20,8 +21,34 @@ public interface NotificationRepository {
 
     Notification save(Notification notification);
 
+    void saveAll(List<Notification> notifications);
+
     Page<Notification> getNotifications(Notification.ReferenceType type, Pageable pageRequest, UserRole userRole,
                                         Long partnerId, Long personalDetailId, String keyword);
 
+    /**
+     * 알림 id 커서 이전의 알림을 최신순으로 size 건 조회 (전체 건수 없이 다음 페이지 여부만 반환)
+     */
+    Slice<Notification> getNotifications(Notification.ReferenceType type, UserRole userRole, Long partnerId,
+                                         Long personalDetailId, String keyword, Long cursorId, int size);
+
+    /**
+     * 검색어와 일치하는 알림을 관련도 순으로 size 건 조회
+     */
+    List<Notification> searchNotifications(Long personalDetailId, Notification.ReferenceType type,
+                                           String keyword, int size);
+
     Optional<Notification> findById(Long notificationId);
+
+    /**
+     * 처리 전 알림을 처리 완료로 바꾸고 읽지 않은 알림 수를 줄인다. (이미 처리된 알림이면 false)
+     */
+    boolean processNotification(Notification notification);
+
+    /**
+     * 유저의 처리 전 알림을 모두 처리 완료로 바꾸고, 바뀐 알림 수를 반환한다.
+     */
+    int processAllNotifications(Long personalDetailId);
+
+    int getUnreadCount(Long personalDetailId);
 }
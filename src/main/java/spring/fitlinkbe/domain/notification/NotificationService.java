@@ -1,27 +1,53 @@
 package spring.fitlinkbe.domain.notification;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import spring.fitlinkbe.domain.common.PersonalDetailRepository;
+import spring.fitlinkbe.domain.common.TokenRepository;
 import spring.fitlinkbe.domain.common.enums.UserRole;
 import spring.fitlinkbe.domain.common.exception.CustomException;
 import spring.fitlinkbe.domain.common.exception.ErrorCode;
-import spring.fitlinkbe.domain.notification.client.PushNotificationClient;
+import spring.fitlinkbe.domain.common.model.PersonalDetail;
+import spring.fitlinkbe.domain.common.model.Token;
 import spring.fitlinkbe.domain.notification.command.NotificationCommand;
 import spring.fitlinkbe.domain.notification.command.NotificationRequest;
+import spring.fitlinkbe.domain.notification.event.NotificationIntentEvent;
+import spring.fitlinkbe.domain.notification.event.PushBatchEvent;
 import spring.fitlinkbe.domain.notification.event.PushEvent;
 import spring.fitlinkbe.support.security.SecurityUser;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
 @Service
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class NotificationService {
+    private static final int MIN_KEYWORD_LENGTH = 2;
+    private static final int INTENT_RELAY_DELAY_SECONDS = 10;
+    private static final int DIGEST_WINDOW_SECONDS = 30;
+    private static final int MAX_INTENT_ATTEMPTS = 5;
+
     private final NotificationRepository notificationRepository;
+    private final NotificationIntentRepository notificationIntentRepository;
     private final NotificationStrategyHandler strategyHandler;
-    private final PushNotificationClient pushNotificationClient;
+    private final TokenRepository tokenRepository;
+    private final PersonalDetailRepository personalDetailRepository;
     private final ApplicationEventPublisher publisher;
 
     public Page<Notification> getNotifications(NotificationCommand.SearchCondition command, SecurityUser user) {
@@ -36,6 +62,24 @@ public class NotificationService {
         return notificationRepository.getNotifications(type, pageRequest, userRole, partnerId, personalDetailId, keyword);
     }
 
+    public Slice<Notification> getNotifications(NotificationCommand.CursorCondition command, SecurityUser user) {
+        return notificationRepository.getNotifications(command.type(), user.getUserRole(), command.memberId(),
+                user.getPersonalDetailId(), command.keyword(), command.cursorId(), command.size());
+    }
+
+    /**
+     * 검색어로 알림을 관련도 순으로 조회한다. (검색어는 공백을 제외하고 2글자 이상)
+     */
+    public List<Notification> searchNotifications(NotificationCommand.Search command, SecurityUser user) {
+        String keyword = command.keyword();
+        if (keyword == null || keyword.replaceAll("\\s+", "").length() < MIN_KEYWORD_LENGTH) {
+            throw new CustomException(ErrorCode.NOTIFICATION_KEYWORD_TOO_SHORT);
+        }
+
+        return notificationRepository.searchNotifications(user.getPersonalDetailId(), command.type(),
+                keyword, command.size());
+    }
+
     public Notification getNotificationDetail(Long notificationId, SecurityUser user) {
         return notificationRepository.getNotification(notificationId, user.getPersonalDetailId());
     }
@@ -46,24 +90,253 @@ public class NotificationService {
                         "알림을 찾을 수 없습니다. [notificationId: %d]".formatted(notificationId)));
     }
 
+    /**
+     * 알림 내용만 만들어 알림 요청으로 남긴다. (조회 없음)
+     * 요청은 트랜잭션 커밋 직전에 한 번에 저장되고, 수신자/기기 토큰 조회와 알림 저장, push 전송은
+     * 커밋 이후 dispatcher 가 처리한다.
+     */
     @Transactional
     public <T extends NotificationRequest> void sendNotification(T request) {
-        // 1. DB 저장
-        Notification notification = strategyHandler.handle(request);
-        notificationRepository.save(notification);
-        // 2. push 알림 전송 이벤트로 전달
-        publisher.publishEvent(PushEvent.builder()
-                .pushToken(request.getPushToken())
-                .name(notification.getName())
-                .content(notification.getContent())
-                .build());
+        publisher.publishEvent(new NotificationIntentEvent(
+                List.of(NotificationIntent.of(strategyHandler.handle(request)))));
+    }
+
+    /**
+     * 여러 알림을 한 번에 알림 요청으로 남긴다.
+     */
+    @Transactional
+    public <T extends NotificationRequest> void sendNotifications(List<T> requests) {
+        if (requests.isEmpty()) {
+            return;
+        }
+        List<NotificationIntent> intents = requests.stream()
+                .map(request -> NotificationIntent.of(strategyHandler.handle(request)))
+                .toList();
+        publisher.publishEvent(new NotificationIntentEvent(intents));
+    }
+
+    @Transactional
+    public List<Long> saveIntents(List<NotificationIntent> intents) {
+        return notificationIntentRepository.saveIntents(intents);
+    }
+
+    /**
+     * 커밋된 알림 요청을 알림으로 일괄 저장하고 push 를 보낸다.
+     * 커밋 이후(dispatcher)에 호출되므로 항상 새 트랜잭션에서 처리한다.
+     *
+     * @return 처리한 알림 수 (다른 인스턴스가 먼저 처리한 요청은 제외)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int processIntents(List<Long> intentIds) {
+        if (intentIds.isEmpty()) {
+            return 0;
+        }
+
+        return deliver(notificationIntentRepository.claimIntents(intentIds));
+    }
+
+    /**
+     * dispatcher 가 처리하지 못한 알림 요청(큐 초과, 처리 실패, 재기동) id 를 최대 limit 건 조회한다.
+     * 방금 커밋된 요청은 dispatcher 가 처리하도록 INTENT_RELAY_DELAY_SECONDS 가 지난 요청만 가져오고,
+     * MAX_INTENT_ATTEMPTS 번 실패한 요청은 더 이상 가져오지 않는다. (last_error 를 보고 확인할 수 있게 남겨 둔다.)
+     */
+    public List<Long> getRelayIntentIds(int limit) {
+        LocalDateTime createdBefore = LocalDateTime.now().minusSeconds(INTENT_RELAY_DELAY_SECONDS);
+
+        return notificationIntentRepository.getStaleIntentIds(createdBefore, MAX_INTENT_ATTEMPTS, limit);
+    }
+
+    /**
+     * 처리에 실패한 알림 요청의 시도 횟수를 올린다. (처리 트랜잭션은 롤백되었으므로 새 트랜잭션에서 남긴다.)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void recordIntentFailure(Long intentId, String error) {
+        notificationIntentRepository.recordFailure(intentId, error);
+    }
+
+    private int deliver(List<NotificationIntent> claimedIntents) {
+        if (claimedIntents.isEmpty()) {
+            return 0;
+        }
+        List<NotificationIntent> intents = withPendingDigestIntents(withRecipients(claimedIntents));
+        // 1. 같은 유저에게 가는 묶음 대상 알림은 하나로 합쳐서 일괄 저장 후 처리한 요청 삭제
+        //    (탈퇴 등으로 수신자를 찾을 수 없는 요청은 알림 없이 삭제한다.)
+        List<Notification> notifications = NotificationIntent.coalesce(intents.stream()
+                        .filter(NotificationIntent::hasRecipient)
+                        .toList())
+                .stream()
+                .map(NotificationIntent::getNotification)
+                .toList();
+        notificationRepository.saveAll(notifications);
+        notificationIntentRepository.deleteIntents(intents.stream()
+                .map(NotificationIntent::getIntentId)
+                .toList());
+        // 2. push 알림 일괄 전송 이벤트로 전달 (유저의 모든 기기로 전송)
+        publisher.publishEvent(new PushBatchEvent(toPushEvents(notifications)));
+
+        return intents.size();
+    }
+
+    /**
+     * 수신자(회원/트레이너 id)만 남긴 알림 요청의 유저 정보를 종류별로 한 번에 조회해서 채운다.
+     */
+    private List<NotificationIntent> withRecipients(List<NotificationIntent> intents) {
+        List<NotificationIntent> unresolved = intents.stream()
+                .filter(intent -> !intent.hasRecipient() && intent.getRecipientId() != null)
+                .toList();
+        if (unresolved.isEmpty()) {
+            return intents;
+        }
+        Map<Long, PersonalDetail> memberDetails = personalDetailRepository.getMemberDetails(
+                        recipientIds(unresolved, UserRole.MEMBER))
+                .stream()
+                .collect(Collectors.toMap(PersonalDetail::getMemberId, Function.identity(), (a, b) -> a));
+        Map<Long, PersonalDetail> trainerDetails = personalDetailRepository.getTrainerDetails(
+                        recipientIds(unresolved, UserRole.TRAINER))
+                .stream()
+                .collect(Collectors.toMap(PersonalDetail::getTrainerId, Function.identity(), (a, b) -> a));
+
+        return intents.stream()
+                .map(intent -> {
+                    if (intent.hasRecipient()) {
+                        return intent;
+                    }
+                    PersonalDetail recipient = (intent.getRecipientRole() == UserRole.TRAINER
+                            ? trainerDetails : memberDetails).get(intent.getRecipientId());
+                    if (recipient == null) {
+                        log.warn("알림 받는 유저를 찾을 수 없어 건너뜁니다. [intentId: {}, target: {}, recipientId: {}]",
+                                intent.getIntentId(), intent.getRecipientRole(), intent.getRecipientId());
+                        return intent;
+                    }
+                    return intent.withRecipient(recipient);
+                })
+                .toList();
+    }
+
+    private List<Long> recipientIds(List<NotificationIntent> intents, UserRole target) {
+        return intents.stream()
+                .filter(intent -> intent.getRecipientRole() == target)
+                .map(NotificationIntent::getRecipientId)
+                .distinct()
+                .toList();
+    }
+
+    /**
+     * 묶음 대상 알림이 있으면 같은 유저/상대방/종류로 DIGEST_WINDOW_SECONDS 안에 들어온, 아직 처리되지 않은 알림 요청도 같이 선점한다.
+     * (처리 batch 로 나뉘었거나 다른 트랜잭션에서 들어온 요청도 하나의 묶음 알림으로 보낸다.)
+     */
+    private List<NotificationIntent> withPendingDigestIntents(List<NotificationIntent> intents) {
+        List<NotificationIntent> coalescible = intents.stream()
+                .filter(NotificationIntent::isCoalescible)
+                .toList();
+        if (coalescible.isEmpty()) {
+            return intents;
+        }
+        List<NotificationIntent> pendingIntents = notificationIntentRepository.claimPendingIntents(
+                coalescible.stream()
+                        .map(NotificationIntent::getPersonalDetailId)
+                        .distinct()
+                        .toList(),
+                coalescible.stream()
+                        .map(intent -> intent.getNotification().getPartnerId())
+                        .filter(Objects::nonNull)
+                        .distinct()
+                        .toList(),
+                coalescible.stream()
+                        .map(intent -> intent.getNotification().getNotificationType())
+                        .distinct()
+                        .toList(),
+                LocalDateTime.now().minusSeconds(DIGEST_WINDOW_SECONDS));
+
+        Set<Long> claimedIds = intents.stream()
+                .map(NotificationIntent::getIntentId)
+                .collect(Collectors.toCollection(HashSet::new));
+        List<NotificationIntent> result = new ArrayList<>(intents);
+        pendingIntents.stream()
+                .filter(intent -> claimedIds.add(intent.getIntentId()))
+                .forEach(result::add);
+
+        return result;
+    }
+
+    /**
+     * 알림 받는 유저의 기기 push 토큰을 한 번에 조회해서 유저별 push 알림을 만든다.
+     * (기기 목록이 비어 있으면 로그인 토큰에 등록된 push 토큰으로 보내고, 보낼 토큰이 없는 알림은 제외한다.)
+     */
+    private List<PushEvent> toPushEvents(List<Notification> notifications) {
+        List<Long> personalDetailIds = notifications.stream()
+                .map(Notification::getPersonalDetail)
+                .filter(Objects::nonNull)
+                .map(PersonalDetail::getPersonalDetailId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        Map<Long, List<String>> pushTokens = tokenRepository.getPushTokens(personalDetailIds);
+        Map<Long, String> fallbackPushTokens = getFallbackPushTokens(personalDetailIds.stream()
+                .filter(personalDetailId -> pushTokens.getOrDefault(personalDetailId, List.of()).isEmpty())
+                .toList());
+
+        List<PushEvent> pushEvents = new ArrayList<>();
+        for (Notification notification : notifications) {
+            Long personalDetailId = notification.getPersonalDetail() == null ? null
+                    : notification.getPersonalDetail().getPersonalDetailId();
+            List<String> deviceTokens = personalDetailId == null ? null : pushTokens.get(personalDetailId);
+            if (deviceTokens == null || deviceTokens.isEmpty()) {
+                String pushToken = personalDetailId == null ? null : fallbackPushTokens.get(personalDetailId);
+                deviceTokens = pushToken == null ? List.of() : List.of(pushToken);
+            }
+            if (deviceTokens.isEmpty()) {
+                continue;
+            }
+            pushEvents.add(PushEvent.builder()
+                    .pushTokens(deviceTokens)
+                    .name(notification.getName())
+                    .content(notification.getContent())
+                    .build());
+        }
+
+        return pushEvents;
     }
 
-    public void pushNotification(String token, String title, String content) {
-        pushNotificationClient.pushNotification(token, title, content);
+    /**
+     * 기기 목록이 없는 유저의 로그인 토큰에 등록된 push 토큰 (기기 목록 도입 전 유저용)
+     */
+    private Map<Long, String> getFallbackPushTokens(List<Long> personalDetailIds) {
+        if (personalDetailIds.isEmpty()) {
+            return Map.of();
+        }
+
+        return tokenRepository.getByPersonalDetailIds(personalDetailIds)
+                .stream()
+                .filter(token -> token.getPushToken() != null)
+                .collect(Collectors.toMap(Token::getPersonalDetailId, Token::getPushToken, (a, b) -> a));
     }
 
     public void save(Notification notification) {
         notificationRepository.save(notification);
     }
+
+    /**
+     * 알림을 처리 완료로 바꾼다. (처리 전 알림일 때만 읽지 않은 알림 수가 줄어든다.)
+     */
+    @Transactional
+    public void processNotification(Notification notification) {
+        if (notificationRepository.processNotification(notification)) {
+            notification.process();
+        }
+    }
+
+    /**
+     * 유저의 처리 전 알림을 모두 처리 완료로 바꾼다.
+     *
+     * @return 처리 완료로 바뀐 알림 수
+     */
+    @Transactional
+    public int processAllNotifications(SecurityUser user) {
+        return notificationRepository.processAllNotifications(user.getPersonalDetailId());
+    }
+
+    public int getUnreadCount(SecurityUser user) {
+        return notificationRepository.getUnreadCount(user.getPersonalDetailId());
+    }
 }
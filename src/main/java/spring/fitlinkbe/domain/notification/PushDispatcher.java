@@ -0,0 +1,306 @@
+package spring.fitlinkbe.domain.notification;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import spring.fitlinkbe.domain.auth.AuthService;
+import spring.fitlinkbe.domain.notification.client.PushMessage;
+import spring.fitlinkbe.domain.notification.client.PushNotificationClient;
+import spring.fitlinkbe.domain.notification.client.PushResult;
+import spring.fitlinkbe.domain.notification.event.PushEvent;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 커밋된 push 알림을 전용 worker 스레드에서 일괄 전송한다.
+ * <p>
+ * 유저별 push 알림은 유저가 등록한 기기 수만큼 메세지로 펼쳐서 큐에 넣는다. (multicast)
+ * 요청 스레드는 크기가 정해진 큐에 넣기만 하고, worker 는 큐에서 최대 batchSize 건씩 꺼내 한 번에 전송한다.
+ * 일시적인 오류로 실패한 메세지는 backoff 후 다시 큐에 넣어 maxAttempts 번까지 재시도한다.
+ * 큐가 가득 차면 요청 스레드는 한 번의 dispatch 호출 전체에 대해 offerTimeoutMillis 까지만 기다리고(backpressure),
+ * 그 시간이 지나면 남은 메세지는 기다리지 않고 버린다.
+ * (알림 자체는 DB 에 저장되어 있으므로 알림 목록에서 확인할 수 있다.)
+ * FCM 이 유효하지 않다고 응답한 토큰은 기기 목록에서 지워서 다음부터 보내지 않는다.
+ */
+@Slf4j
+@Component
+public class PushDispatcher {
+
+    private static final long POLL_TIMEOUT_MILLIS = 500;
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 5;
+
+    private final PushNotificationClient pushNotificationClient;
+    private final AuthService authService;
+    private final BlockingQueue<PushTask> queue;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long backoffMillis;
+    private final long offerTimeoutMillis;
+    private final ExecutorService workers;
+    private final ScheduledExecutorService retryScheduler;
+    private volatile boolean running = true;
+
+    private final AtomicLong sentCount = new AtomicLong();
+    private final AtomicLong retriedCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicLong prunedCount = new AtomicLong();
+
+    public PushDispatcher(PushNotificationClient pushNotificationClient,
+                          AuthService authService,
+                          @Value("${app.push.dispatcher.queue-capacity:10000}") int queueCapacity,
+                          @Value("${app.push.dispatcher.workers:2}") int workerCount,
+                          @Value("${app.push.dispatcher.batch-size:500}") int batchSize,
+                          @Value("${app.push.dispatcher.max-attempts:3}") int maxAttempts,
+                          @Value("${app.push.dispatcher.backoff-ms:200}") long backoffMillis,
+                          @Value("${app.push.dispatcher.offer-timeout-ms:1000}") long offerTimeoutMillis,
+                          @Value("${app.push.dispatcher.async:true}") boolean async) {
+        this.pushNotificationClient = pushNotificationClient;
+        this.authService = authService;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = Math.min(batchSize, PushNotificationClient.MAX_BATCH_SIZE);
+        this.maxAttempts = maxAttempts;
+        this.backoffMillis = backoffMillis;
+        this.offerTimeoutMillis = offerTimeoutMillis;
+        // async 가 꺼져 있으면 호출한 스레드에서 바로 전송하고, 재시도도 기다리지 않고 바로 한다. (테스트용)
+        if (async) {
+            this.workers = Executors.newFixedThreadPool(workerCount, daemonThreadFactory("push-dispatcher"));
+            this.retryScheduler = Executors.newSingleThreadScheduledExecutor(daemonThreadFactory("push-retry"));
+            for (int i = 0; i < workerCount; i++) {
+                workers.execute(this::work);
+            }
+        } else {
+            this.workers = null;
+            this.retryScheduler = null;
+        }
+    }
+
+    /**
+     * push 알림을 기기별 메세지로 펼쳐서 전송 큐에 넣는다.
+     * 큐가 가득 차 있으면 호출 전체 기준으로 offerTimeoutMillis 까지만 자리가 나길 기다린다.
+     *
+     * @return 큐에 넣은 메세지 수 (기다려도 자리가 없어서 버린 메세지는 제외)
+     */
+    public int dispatch(List<PushEvent> pushEvents) {
+        List<PushTask> tasks = pushEvents.stream()
+                .flatMap(event -> event.pushTokens().stream()
+                        .distinct()
+                        .map(pushToken -> PushTask.first(PushMessage.builder()
+                                .pushToken(pushToken)
+                                .name(event.name())
+                                .content(event.content())
+                                .build())))
+                .toList();
+        if (workers == null) {
+            sendNow(tasks);
+            return tasks.size();
+        }
+        int accepted = 0;
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(offerTimeoutMillis);
+        try {
+            for (PushTask task : tasks) {
+                // 남은 시간만큼만 기다리고, 그래도 못 넣었으면 deadline 이 지난 것이므로 나머지는 버린다.
+                long remaining = Math.max(deadline - System.nanoTime(), 0);
+                if (!queue.offer(task, remaining, TimeUnit.NANOSECONDS)) {
+                    break;
+                }
+                accepted++;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        int dropped = tasks.size() - accepted;
+        if (dropped > 0) {
+            droppedCount.addAndGet(dropped);
+            log.warn("[PUSH DISPATCH] :: QUEUE FULL :: dropped={}, pending={}", dropped, queue.size());
+        }
+
+        return accepted;
+    }
+
+    private void work() {
+        List<PushTask> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PushTask first = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                send(batch).forEach(this::scheduleRetry);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("[PUSH DISPATCH] :: FAILED :: size={}, error={}", batch.size(), e.getMessage(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void sendNow(List<PushTask> tasks) {
+        Deque<PushTask> pending = new ArrayDeque<>(tasks);
+        while (!pending.isEmpty()) {
+            List<PushTask> batch = new ArrayList<>(Math.min(batchSize, pending.size()));
+            while (!pending.isEmpty() && batch.size() < batchSize) {
+                batch.add(pending.poll());
+            }
+            pending.addAll(send(batch));
+        }
+    }
+
+    /**
+     * 한 번에 전송하고, 재시도할 메세지를 다음 시도로 만들어 반환한다. (재시도 횟수를 넘긴 메세지는 버린다.)
+     * 유효하지 않은 토큰은 기기 목록에서 지운다.
+     */
+    private List<PushTask> send(List<PushTask> batch) {
+        List<PushMessage> pushMessages = batch.stream()
+                .map(PushTask::pushMessage)
+                .toList();
+        PushResult result;
+        try {
+            result = pushNotificationClient.sendBatch(pushMessages);
+        } catch (Exception e) {
+            log.warn("[PUSH DISPATCH] :: SEND ERROR :: size={}, error={}", batch.size(), e.getMessage());
+            result = PushResult.retryAll(pushMessages);
+        }
+        List<PushMessage> failed = result.retryable();
+        sentCount.addAndGet(batch.size() - failed.size() - result.deadTokens().size() - result.failedCount());
+        failedCount.addAndGet(result.failedCount());
+        prune(result.deadTokens());
+        if (failed.isEmpty()) {
+            return List.of();
+        }
+
+        Set<PushMessage> failedMessages = Collections.newSetFromMap(new IdentityHashMap<>());
+        failedMessages.addAll(failed);
+        List<PushTask> retries = new ArrayList<>();
+        for (PushTask task : batch) {
+            if (!failedMessages.contains(task.pushMessage())) {
+                continue;
+            }
+            if (task.attempt() >= maxAttempts) {
+                droppedCount.incrementAndGet();
+                log.error("[PUSH DISPATCH] :: GIVE UP :: attempts={}", task.attempt());
+                continue;
+            }
+            retries.add(task.next());
+        }
+        retriedCount.addAndGet(retries.size());
+
+        return retries;
+    }
+
+    private void prune(List<String> deadTokens) {
+        if (deadTokens.isEmpty()) {
+            return;
+        }
+        try {
+            prunedCount.addAndGet(authService.removePushTokens(deadTokens));
+        } catch (Exception e) {
+            log.warn("[PUSH DISPATCH] :: PRUNE FAILED :: size={}, error={}", deadTokens.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 시도 횟수에 따라 backoff(backoffMillis * 2^(시도-2)) 후 다시 큐에 넣는다.
+     */
+    private void scheduleRetry(PushTask task) {
+        long delay = backoffMillis << (task.attempt() - 2);
+        try {
+            retryScheduler.schedule(() -> {
+                if (!queue.offer(task)) {
+                    droppedCount.incrementAndGet();
+                    log.warn("[PUSH DISPATCH] :: RETRY DROPPED (QUEUE FULL) :: attempt={}", task.attempt());
+                }
+            }, delay, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            droppedCount.incrementAndGet();
+            log.warn("[PUSH DISPATCH] :: RETRY REJECTED :: attempt={}", task.attempt());
+        }
+    }
+
+    public int getPendingCount() {
+        return queue.size();
+    }
+
+    public long getSentCount() {
+        return sentCount.get();
+    }
+
+    public long getRetriedCount() {
+        return retriedCount.get();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    public long getPrunedCount() {
+        return prunedCount.get();
+    }
+
+    /**
+     * 큐에 남은 알림을 전송한 뒤 종료한다. (재시도 대기 중인 알림은 버린다.)
+     */
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        if (workers == null) {
+            return;
+        }
+        retryScheduler.shutdownNow();
+        workers.shutdown();
+        try {
+            if (!workers.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                workers.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            workers.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static ThreadFactory daemonThreadFactory(String name) {
+        AtomicInteger sequence = new AtomicInteger();
+
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private record PushTask(PushMessage pushMessage, int attempt) {
+        static PushTask first(PushMessage pushMessage) {
+            return new PushTask(pushMessage, 1);
+        }
+
+        PushTask next() {
+            return new PushTask(pushMessage, attempt + 1);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package spring.fitlinkbe.domain.notification.client;
+
+import lombok.Builder;
+
+/**
+ * 기기 하나(push 토큰 하나)로 보내는 push 메세지
+ */
+@Builder
+public record PushMessage(String pushToken, String name, String content) {
+}
@@ -1,6 +1,16 @@
 package spring.fitlinkbe.domain.notification.client;
 
+import java.util.List;
+
 public interface PushNotificationClient {
 
-    void pushNotification(String token, String title, String content);
+    // 한 번에 전송할 수 있는 최대 메세지 수 (FCM sendEach 제한)
+    int MAX_BATCH_SIZE = 500;
+
+    /**
+     * 최대 MAX_BATCH_SIZE 건을 한 번에 전송한다.
+     *
+     * @return 재시도할 메세지와 삭제할 push 토큰
+     */
+    PushResult sendBatch(List<PushMessage> pushMessages);
 }
@@ -0,0 +1,29 @@
+package spring.fitlinkbe.domain.notification.client;
+
+import java.util.List;
+
+/**
+ * 일괄 전송 결과
+ *
+ * @param retryable   일시적인 오류로 실패해서 다시 보낼 메세지 (전달받은 인스턴스 그대로)
+ * @param deadTokens  FCM 이 더 이상 유효하지 않다고 응답한 push 토큰 (삭제 대상)
+ * @param failedCount 재시도해도 소용없는 오류로 실패한 메세지 수 (버린다.)
+ */
+public record PushResult(List<PushMessage> retryable, List<String> deadTokens, int failedCount) {
+
+    public PushResult(List<PushMessage> retryable, List<String> deadTokens) {
+        this(retryable, deadTokens, 0);
+    }
+
+    public static PushResult success() {
+        return new PushResult(List.of(), List.of());
+    }
+
+    public static PushResult retryAll(List<PushMessage> pushMessages) {
+        return new PushResult(pushMessages, List.of());
+    }
+
+    public static PushResult failAll(List<PushMessage> pushMessages) {
+        return new PushResult(List.of(), List.of(), pushMessages.size());
+    }
+}
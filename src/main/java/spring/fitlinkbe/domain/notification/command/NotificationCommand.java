@@ -16,8 +16,7 @@ public class NotificationCommand {
     public record ConnectDecision(
             PersonalDetail memberDetail,
             Trainer trainer,
-            Boolean isApproved,
-            String pushToken
+            Boolean isApproved
     ) implements NotificationRequest {
 
         @Override
@@ -25,18 +24,11 @@ public class NotificationCommand {
             return Notification.NotificationType.CONNECT_RESPONSE;
         }
 
-        @Override
-        public String getPushToken() {
-            return this.pushToken;
-        }
-
-        public static ConnectDecision of(PersonalDetail memberDetail, Trainer trainer, Boolean isApproved,
-                                         String pushToken) {
+        public static ConnectDecision of(PersonalDetail memberDetail, Trainer trainer, Boolean isApproved) {
             return ConnectDecision.builder()
                     .memberDetail(memberDetail)
                     .trainer(trainer)
                     .isApproved(isApproved)
-                    .pushToken(pushToken)
                     .build();
         }
     }
@@ -44,27 +36,21 @@ public class NotificationCommand {
     @Builder
     public record Connect(
             PersonalDetail trainerDetail, Long memberId, String memberName,
-            Long connectingInfoId, String pushToken
+            Long connectingInfoId
     ) implements NotificationRequest {
         @Override
         public Notification.NotificationType getType() {
             return Notification.NotificationType.CONNECT;
         }
 
-        @Override
-        public String getPushToken() {
-            return this.pushToken;
-        }
-
 
         public static Connect of(PersonalDetail trainerDetail, Long memberId, String memberName,
-                                 Long connectingInfoId, String pushToken) {
+                                 Long connectingInfoId) {
             return Connect.builder()
                     .trainerDetail(trainerDetail)
                     .memberId(memberId)
                     .memberName(memberName)
                     .connectingInfoId(connectingInfoId)
-                    .pushToken(pushToken)
                     .build();
         }
     }
@@ -74,27 +60,19 @@ public class NotificationCommand {
             PersonalDetail trainerDetail,
             Long memberId,
             String memberName,
-            UserRole target,
-            String pushToken
+            UserRole target
     ) implements NotificationRequest {
         @Override
         public Notification.NotificationType getType() {
             return Notification.NotificationType.DISCONNECT;
         }
 
-        @Override
-        public String getPushToken() {
-            return this.pushToken;
-        }
-
-        public static Disconnect of(PersonalDetail trainerDetail, Long memberId, String memberName, UserRole target,
-                                    String pushToken) {
+        public static Disconnect of(PersonalDetail trainerDetail, Long memberId, String memberName, UserRole target) {
             return Disconnect.builder()
                     .trainerDetail(trainerDetail)
                     .memberId(memberId)
                     .memberName(memberName)
                     .target(target)
-                    .pushToken(pushToken)
                     .build();
         }
     }
@@ -104,30 +82,22 @@ public class NotificationCommand {
             PersonalDetail memberDetail,
             Long reservationId,
             Long trainerId,
-            Notification.Reason reason,
-            String pushToken
+            Notification.Reason reason
     ) implements NotificationRequest {
         @Override
         public Notification.NotificationType getType() {
             return Notification.NotificationType.RESERVATION_CANCEL;
         }
 
-        @Override
-        public String getPushToken() {
-            return this.pushToken;
-        }
-
         public static Cancel of(PersonalDetail memberDetail,
                                 Long reservationId,
                                 Long trainerId,
-                                Notification.Reason reason,
-                                String pushToken) {
+                                Notification.Reason reason) {
             return Cancel.builder()
                     .memberDetail(memberDetail)
                     .reservationId(reservationId)
                     .trainerId(trainerId)
                     .reason(reason)
-                    .pushToken(pushToken)
                     .build();
         }
     }
@@ -137,23 +107,16 @@ public class NotificationCommand {
             PersonalDetail trainerDetail,
             Long reservationId, Long memberId, String name,
             LocalDateTime cancelDate, String cancelReason,
-            Notification.Reason reason,
-            String pushToken) implements NotificationRequest {
+            Notification.Reason reason) implements NotificationRequest {
         @Override
         public Notification.NotificationType getType() {
             return Notification.NotificationType.RESERVATION_CANCEL_REQUEST;
         }
 
-        @Override
-        public String getPushToken() {
-            return this.pushToken;
-        }
-
         public static CancelRequestReservation of(PersonalDetail trainerDetail,
                                                   Long reservationId, Long memberId, String name,
                                                   LocalDateTime cancelDate, String cancelReason,
-                                                  Notification.Reason reason,
-                                                  String pushToken) {
+                                                  Notification.Reason reason) {
             return CancelRequestReservation.builder()
                     .trainerDetail(trainerDetail)
                     .reservationId(reservationId)
@@ -162,14 +125,13 @@ public class NotificationCommand {
                     .cancelDate(cancelDate)
                     .cancelReason(cancelReason)
                     .reason(reason)
-                    .pushToken(pushToken)
                     .build();
         }
     }
 
     @Builder
     public record ApproveReservation(PersonalDetail memberDetail, Long reservationId, LocalDateTime reservationDate,
-                                     Long trainerId, boolean isApprove, String pushToken)
+                                     Long trainerId, boolean isApprove)
             implements NotificationRequest {
         @Override
         public Notification.NotificationType getType() {
@@ -177,27 +139,21 @@ public class NotificationCommand {
                     Notification.NotificationType.RESERVATION_REFUSE;
         }
 
-        @Override
-        public String getPushToken() {
-            return this.pushToken;
-        }
-
         public static ApproveReservation of(PersonalDetail memberDetail, Long reservationId, LocalDateTime reservationDate,
-                                            Long trainerId, boolean isApprove, String pushToken) {
+                                            Long trainerId, boolean isApprove) {
             return ApproveReservation.builder()
                     .memberDetail(memberDetail)
                     .reservationId(reservationId)
                     .reservationDate(reservationDate)
                     .trainerId(trainerId)
                     .isApprove(isApprove)
-                    .pushToken(pushToken)
                     .build();
         }
     }
 
     @Builder
     public record ApproveRequestReservation(PersonalDetail memberDetail, Long reservationId, Long trainerId,
-                                            boolean isApprove, String pushToken)
+                                            boolean isApprove)
             implements NotificationRequest {
         @Override
         public Notification.NotificationType getType() {
@@ -205,19 +161,13 @@ public class NotificationCommand {
                     Notification.NotificationType.RESERVATION_CHANGE_REQUEST_REFUSED;
         }
 
-        @Override
-        public String getPushToken() {
-            return this.pushToken;
-        }
-
         public static ApproveRequestReservation of(PersonalDetail memberDetail, Long reservationId, Long trainerId,
-                                                   boolean isApprove, String pushToken) {
+                                                   boolean isApprove) {
             return ApproveRequestReservation.builder()
                     .memberDetail(memberDetail)
                     .reservationId(reservationId)
                     .trainerId(trainerId)
                     .isApprove(isApprove)
-                    .pushToken(pushToken)
                     .build();
         }
 
@@ -225,100 +175,71 @@ public class NotificationCommand {
 
     @Builder
     public record RequestReservation(PersonalDetail trainerDetail, Long reservationId, LocalDateTime reservationDate,
-                                     Long memberId, String name, String pushToken)
+                                     Long memberId, String name)
             implements NotificationRequest {
         @Override
         public Notification.NotificationType getType() {
             return Notification.NotificationType.RESERVATION_REQUESTED;
         }
 
-        @Override
-        public String getPushToken() {
-            return this.pushToken;
-        }
-
         public static RequestReservation of(PersonalDetail trainerDetail, Long reservationId, LocalDateTime reservationDate,
-                                            Long memberId, String name, String pushToken) {
+                                            Long memberId, String name) {
             return RequestReservation.builder()
                     .trainerDetail(trainerDetail)
                     .reservationId(reservationId)
                     .reservationDate(reservationDate)
                     .memberId(memberId)
                     .name(name)
-                    .pushToken(pushToken)
                     .build();
         }
     }
 
     @Builder
-    public record CompleteSession(PersonalDetail trainerDetail, Long sessionId, Long memberId, String name,
-                                  String pushToken)
+    public record CompleteSession(PersonalDetail trainerDetail, Long sessionId, Long memberId, String name)
             implements NotificationRequest {
         @Override
         public Notification.NotificationType getType() {
             return Notification.NotificationType.SESSION_COMPLETED;
         }
 
-        @Override
-        public String getPushToken() {
-            return this.pushToken;
-        }
-
-        public static CompleteSession of(PersonalDetail trainerDetail, Long sessionId, Long memberId, String name,
-                                         String pushToken) {
+        public static CompleteSession of(PersonalDetail trainerDetail, Long sessionId, Long memberId, String name) {
             return CompleteSession.builder()
                     .trainerDetail(trainerDetail)
                     .sessionId(sessionId)
                     .memberId(memberId)
                     .name(name)
-                    .pushToken(pushToken)
                     .build();
         }
     }
 
     @Builder
-    public record DeductSession(PersonalDetail memberDetail, Long sessionId, Long trainerId,
-                                String pushToken)
+    public record DeductSession(PersonalDetail memberDetail, Long sessionId, Long trainerId)
             implements NotificationRequest {
         @Override
         public Notification.NotificationType getType() {
             return Notification.NotificationType.SESSION_DEDUCTED;
         }
 
-        @Override
-        public String getPushToken() {
-            return this.pushToken;
-        }
-
-        public static DeductSession of(PersonalDetail memberDetail, Long sessionId, Long trainerId,
-                                       String pushToken) {
+        public static DeductSession of(PersonalDetail memberDetail, Long sessionId, Long trainerId) {
             return DeductSession.builder()
                     .memberDetail(memberDetail)
                     .sessionId(sessionId)
                     .trainerId(trainerId)
-                    .pushToken(pushToken)
                     .build();
         }
     }
 
     @Builder
     public record ChangeRequestReservation(PersonalDetail trainerDetail, Long reservationId, Long memberId,
-                                           String name, LocalDateTime reservationDate, LocalDateTime changeDate,
-                                           String pushToken)
+                                           String name, LocalDateTime reservationDate, LocalDateTime changeDate)
             implements NotificationRequest {
         @Override
         public Notification.NotificationType getType() {
             return Notification.NotificationType.RESERVATION_CHANGE_REQUEST;
         }
 
-        @Override
-        public String getPushToken() {
-            return this.pushToken;
-        }
-
         public static ChangeRequestReservation of(PersonalDetail trainerDetail, Long reservationId, Long memberId,
-                                                  String name, LocalDateTime reservationDate, LocalDateTime changeDate,
-                                                  String pushToken) {
+                                                  String name, LocalDateTime reservationDate, LocalDateTime changeDate) {
             return ChangeRequestReservation.builder()
                     .trainerDetail(trainerDetail)
                     .reservationId(reservationId)
@@ -326,14 +247,13 @@ public class NotificationCommand {
                     .name(name)
                     .reservationDate(reservationDate)
                     .changeDate(changeDate)
-                    .pushToken(pushToken)
                     .build();
         }
     }
 
     @Builder
     public record CancelApproveReservation(PersonalDetail memberDetail, Long reservationId, Long trainerId,
-                                           boolean isApprove, String pushToken)
+                                           boolean isApprove)
             implements NotificationRequest {
         @Override
         public Notification.NotificationType getType() {
@@ -341,19 +261,13 @@ public class NotificationCommand {
                     Notification.NotificationType.RESERVATION_CANCEL_REQUEST_REFUSED;
         }
 
-        @Override
-        public String getPushToken() {
-            return this.pushToken;
-        }
-
         public static CancelApproveReservation of(PersonalDetail memberDetail, Long reservationId, Long trainerId,
-                                                  boolean isApprove, String pushToken) {
+                                                  boolean isApprove) {
             return CancelApproveReservation.builder()
                     .memberDetail(memberDetail)
                     .reservationId(reservationId)
                     .trainerId(trainerId)
                     .isApprove(isApprove)
-                    .pushToken(pushToken)
                     .build();
         }
     }
@@ -363,52 +277,46 @@ public class NotificationCommand {
                                   Long memberId) {
     }
 
+    @Builder
+    public record Search(Notification.ReferenceType type, String keyword, int size) {
+    }
+
+    @Builder
+    public record CursorCondition(Notification.ReferenceType type, String keyword, Long memberId,
+                                  Long cursorId, int size) {
+    }
+
     @Builder
     public record SessionTodayReminder(PersonalDetail memberDetail, Long sessionId,
-                                       Long trainerId, LocalDateTime confirmDate,
-                                       String pushToken)
+                                       Long trainerId, LocalDateTime confirmDate)
             implements NotificationRequest {
         @Override
         public Notification.NotificationType getType() {
             return Notification.NotificationType.SESSION_REMINDER;
         }
 
-        @Override
-        public String getPushToken() {
-            return this.pushToken;
-        }
-
         public static SessionTodayReminder of(PersonalDetail memberDetail, Long sessionId,
-                                              Long trainerId, LocalDateTime confirmDate,
-                                              String pushToken) {
+                                              Long trainerId, LocalDateTime confirmDate) {
             return SessionTodayReminder.builder()
                     .memberDetail(memberDetail)
                     .sessionId(sessionId)
                     .trainerId(trainerId)
                     .confirmDate(confirmDate)
-                    .pushToken(pushToken)
                     .build();
         }
     }
 
     @Builder
     public record EditSession(PersonalDetail memberDetail, Long sessionInfoId, Long trainerId, int beforeTotalCnt,
-                              int afterTotalCnt, int beforeRemainingCnt, int afterRemainingCnt,
-                              String pushToken)
+                              int afterTotalCnt, int beforeRemainingCnt, int afterRemainingCnt)
             implements NotificationRequest {
         @Override
         public Notification.NotificationType getType() {
             return Notification.NotificationType.SESSION_EDITED;
         }
 
-        @Override
-        public String getPushToken() {
-            return this.pushToken;
-        }
-
         public static EditSession of(PersonalDetail memberDetail, Long sessionInfoId, Long trainerId, int beforeTotalCnt,
-                                     int afterTotalCnt, int beforeRemainingCnt, int afterRemainingCnt,
-                                     String pushToken) {
+                                     int afterTotalCnt, int beforeRemainingCnt, int afterRemainingCnt) {
             return EditSession.builder()
                     .memberDetail(memberDetail)
                     .sessionInfoId(sessionInfoId)
@@ -417,33 +325,24 @@ public class NotificationCommand {
                     .afterTotalCnt(afterTotalCnt)
                     .beforeRemainingCnt(beforeRemainingCnt)
                     .afterRemainingCnt(afterRemainingCnt)
-                    .pushToken(pushToken)
                     .build();
         }
 
     }
 
     @Builder
-    public record SessionChargeReminder(PersonalDetail memberDetail, Long sessionInfoId, Long trainerId,
-                                        String pushToken)
+    public record SessionChargeReminder(PersonalDetail memberDetail, Long sessionInfoId, Long trainerId)
             implements NotificationRequest {
         @Override
         public Notification.NotificationType getType() {
             return Notification.NotificationType.SESSION_REMAIN_5;
         }
 
-        @Override
-        public String getPushToken() {
-            return this.pushToken;
-        }
-
-        public static SessionChargeReminder of(PersonalDetail memberDetail, Long sessionInfoId, Long trainerId,
-                                               String pushToken) {
+        public static SessionChargeReminder of(PersonalDetail memberDetail, Long sessionInfoId, Long trainerId) {
             return SessionChargeReminder.builder()
                     .memberDetail(memberDetail)
                     .sessionInfoId(sessionInfoId)
                     .trainerId(trainerId)
-                    .pushToken(pushToken)
                     .build();
         }
 
@@ -4,6 +4,4 @@ import spring.fitlinkbe.domain.notification.Notification;
 
 public interface NotificationRequest {
     Notification.NotificationType getType();
-
-    String getPushToken();
 }
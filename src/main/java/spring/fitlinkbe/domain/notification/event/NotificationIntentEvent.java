@@ -0,0 +1,8 @@
+package spring.fitlinkbe.domain.notification.event;
+
+import spring.fitlinkbe.domain.notification.NotificationIntent;
+
+import java.util.List;
+
+public record NotificationIntentEvent(List<NotificationIntent> intents) {
+}
@@ -0,0 +1,6 @@
+package spring.fitlinkbe.domain.notification.event;
+
+import java.util.List;
+
+public record PushBatchEvent(List<PushEvent> pushEvents) {
+}
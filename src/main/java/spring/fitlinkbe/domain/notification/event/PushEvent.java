@@ -2,6 +2,11 @@ package spring.fitlinkbe.domain.notification.event;
 
 import lombok.Builder;
 
+import java.util.List;
+
+/**
+ * 한 유저에게 보내는 push 알림 (유저가 등록한 모든 기기의 push 토큰으로 전송한다.)
+ */
 @Builder(toBuilder = true)
-public record PushEvent(String pushToken, String name, String content) {
+public record PushEvent(List<String> pushTokens, String name, String content) {
 }
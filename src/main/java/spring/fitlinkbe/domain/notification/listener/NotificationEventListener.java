@@ -1,22 +1,31 @@
 package spring.fitlinkbe.domain.notification.listener;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
-import spring.fitlinkbe.domain.notification.NotificationService;
+import spring.fitlinkbe.domain.notification.PushDispatcher;
+import spring.fitlinkbe.domain.notification.event.PushBatchEvent;
 import spring.fitlinkbe.domain.notification.event.PushEvent;
 
+import java.util.List;
+
+/**
+ * 커밋된 push 알림을 PushDispatcher 큐에 넣는다. (전송은 dispatcher worker 가 일괄로 한다.)
+ */
 @Component
 @RequiredArgsConstructor
 public class NotificationEventListener {
 
-    private final NotificationService notificationService;
+    private final PushDispatcher pushDispatcher;
 
-    @Async
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void onPushEvent(PushEvent event) {
-        notificationService.pushNotification(event.pushToken(), event.name(), event.content());
+        pushDispatcher.dispatch(List.of(event));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPushBatchEvent(PushBatchEvent event) {
+        pushDispatcher.dispatch(event.pushEvents());
     }
 }
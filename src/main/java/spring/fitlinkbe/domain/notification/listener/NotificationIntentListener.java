@@ -0,0 +1,113 @@
+package spring.fitlinkbe.domain.notification.listener;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import spring.fitlinkbe.domain.notification.NotificationIntent;
+import spring.fitlinkbe.domain.notification.NotificationIntentDispatcher;
+import spring.fitlinkbe.domain.notification.NotificationService;
+import spring.fitlinkbe.domain.notification.event.NotificationIntentEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 한 트랜잭션에서 요청된 알림을 모아서 커밋 직전에 한 번에 저장하고,
+ * 커밋이 끝나면 dispatcher 로 넘겨 비동기로 알림 저장/push 전송을 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationIntentListener {
+
+    private final NotificationService notificationService;
+    private final NotificationIntentDispatcher notificationIntentDispatcher;
+
+    @EventListener
+    public void collectIntents(NotificationIntentEvent event) {
+        if (event.intents().isEmpty()) {
+            return;
+        }
+        // 트랜잭션 밖에서 요청된 알림은 바로 저장 후 처리
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            notificationIntentDispatcher.dispatch(notificationService.saveIntents(event.intents()));
+            return;
+        }
+        // 트랜잭션 완료 콜백(afterCompletion) 안에서는 저장해도 커밋되지 않으므로 버리지 않고 실패시킨다.
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("트랜잭션이 끝난 뒤에 요청된 알림은 저장할 수 없습니다.");
+        }
+        currentBuffer().add(event.intents());
+    }
+
+    /**
+     * 현재 트랜잭션에 등록된 버퍼 (없으면 만들어서 등록한다. REQUIRES_NEW 로 시작한 트랜잭션은 버퍼가 따로 생긴다.)
+     */
+    private IntentBuffer currentBuffer() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof IntentBuffer buffer && buffer.isOwnedBy(this)) {
+                return buffer;
+            }
+        }
+        IntentBuffer buffer = new IntentBuffer();
+        TransactionSynchronizationManager.registerSynchronization(buffer);
+
+        return buffer;
+    }
+
+    /**
+     * 트랜잭션 단위 알림 요청 버퍼
+     * <p>
+     * 커밋 직전(beforeCommit)에 모아둔 요청을 저장하고, 그 뒤 커밋 전까지 들어온 요청은 바로 저장한다.
+     * 커밋이 시작된(beforeCompletion) 뒤에 들어온 요청은 저장할 수 없으므로 예외를 던진다.
+     */
+    private class IntentBuffer implements TransactionSynchronization {
+
+        private final List<NotificationIntent> pending = new ArrayList<>();
+        private final List<Long> savedIds = new ArrayList<>();
+        private boolean flushed;
+        private boolean completing;
+
+        boolean isOwnedBy(NotificationIntentListener listener) {
+            return NotificationIntentListener.this == listener;
+        }
+
+        void add(List<NotificationIntent> intents) {
+            if (completing) {
+                throw new IllegalStateException("트랜잭션 커밋이 시작된 뒤에 요청된 알림은 저장할 수 없습니다.");
+            }
+            pending.addAll(intents);
+            if (flushed) {
+                flush();
+            }
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            // 알림 요청 일괄 저장 (트랜잭션당 한 번의 batch insert)
+            flush();
+            flushed = true;
+        }
+
+        @Override
+        public void beforeCompletion() {
+            completing = true;
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            if (status == STATUS_COMMITTED && !savedIds.isEmpty()) {
+                notificationIntentDispatcher.dispatch(savedIds);
+            }
+        }
+
+        private void flush() {
+            if (pending.isEmpty()) {
+                return;
+            }
+            savedIds.addAll(notificationService.saveIntents(pending));
+            pending.clear();
+        }
+    }
+}
@@ -2,7 +2,9 @@ package spring.fitlinkbe.domain.outbox;
 
 import lombok.*;
 import spring.fitlinkbe.domain.common.exception.CustomException;
+import spring.fitlinkbe.domain.producer.EventTopic;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 
 import static spring.fitlinkbe.domain.common.exception.ErrorCode.OUTBOX_IS_ALREADY_DONE;
@@ -14,6 +16,14 @@ import static spring.fitlinkbe.domain.common.exception.ErrorCode.OUTBOX_IS_ALREA
 @AllArgsConstructor
 public class Outbox {
 
+    /**
+     * 커밋 직후 발행(AFTER_COMMIT)이 끝날 때까지 relay 가 가져가지 않도록 두는 유예 시간
+     */
+    public static final Duration RELAY_GRACE = Duration.ofSeconds(30);
+    public static final int MAX_RETRY_COUNT = 5;
+    private static final Duration BASE_BACKOFF = Duration.ofSeconds(30);
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(30);
+
     private Long outboxId;
 
     private AggregateType aggregateType;
@@ -34,6 +44,8 @@ public class Outbox {
 
     private LocalDateTime sentAt;
 
+    private LocalDateTime nextAttemptAt;
+
     public void publish() {
         if (eventStatus == EventStatus.SEND_SUCCESS) {
             throw new CustomException(OUTBOX_IS_ALREADY_DONE,
@@ -65,6 +77,25 @@ public class Outbox {
         eventStatus = EventStatus.INIT;
     }
 
+    /**
+     * 발행 실패 시 재시도 횟수에 따라 지수적으로 다음 시도 시간을 늦춘다.
+     * 최대 재시도 횟수를 넘기면 실패 처리한다.
+     */
+    public void retryLater(LocalDateTime now) {
+        plusRetryCount();
+        if (retryCount >= MAX_RETRY_COUNT) {
+            fail();
+            return;
+        }
+        nextAttemptAt = now.plus(getBackoff(retryCount));
+    }
+
+    public static Duration getBackoff(int retryCount) {
+        Duration backoff = BASE_BACKOFF.multipliedBy(1L << Math.min(retryCount - 1, 10));
+
+        return backoff.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : backoff;
+    }
+
     public enum AggregateType {
         RESERVATION
     }
@@ -78,8 +109,9 @@ public class Outbox {
     @RequiredArgsConstructor
     @Getter
     public enum EventType {
-        CREATE_FIXED_RESERVATION("고정 예약 생성");
+        CREATE_FIXED_RESERVATION("고정 예약 생성", EventTopic.RESERVATION_QUEUE);
         private final String msg;
+        private final String topic;
     }
 
 }
@@ -0,0 +1,18 @@
+package spring.fitlinkbe.domain.outbox;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 발행 대기(INIT) 중인 outbox 현황
+ */
+public record OutboxBacklog(long pendingCount, LocalDateTime oldestCreatedAt) {
+
+    public Duration getOldestPendingAge(LocalDateTime now) {
+        if (oldestCreatedAt == null || oldestCreatedAt.isAfter(now)) {
+            return Duration.ZERO;
+        }
+
+        return Duration.between(oldestCreatedAt, now);
+    }
+}
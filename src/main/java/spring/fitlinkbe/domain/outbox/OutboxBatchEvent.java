@@ -0,0 +1,16 @@
+package spring.fitlinkbe.domain.outbox;
+
+import java.util.List;
+
+/**
+ * 여러 outbox 이벤트를 한 번에 발행하기 위한 묶음 이벤트
+ * (outbox 일괄 저장 후, 커밋이 끝나면 토픽별로 배치 전송한다.)
+ */
+public record OutboxBatchEvent(List<? extends OutboxEvent> events) {
+
+    public List<String> getMessageIds() {
+        return events.stream()
+                .map(OutboxEvent::getMessageId)
+                .toList();
+    }
+}
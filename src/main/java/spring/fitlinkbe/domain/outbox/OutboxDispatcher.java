@@ -0,0 +1,130 @@
+package spring.fitlinkbe.domain.outbox;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import spring.fitlinkbe.domain.producer.EventProducer;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toMap;
+
+/**
+ * 커밋된 outbox 이벤트를 요청 스레드와 분리된 전용 스레드에서 배치로 발행한다.
+ * <p>
+ * 여러 트랜잭션에서 넘어온 이벤트를 큐에 모아 최대 DISPATCH_BATCH_SIZE 건씩 토픽별로 전송하고,
+ * 전송에 성공한 outbox 는 한 번의 update 로 발행 완료 처리한다.
+ * 큐가 가득 차거나 전송에 실패한 이벤트는 outbox 에 남아있으므로 relay 가 재발행한다.
+ */
+@Slf4j
+@Component
+public class OutboxDispatcher {
+
+    public static final int DISPATCH_BATCH_SIZE = 100;
+
+    private final OutboxService outboxService;
+    private final EventProducer eventProducer;
+    private final BlockingQueue<OutboxEvent> queue;
+    private final ExecutorService executor;
+    private final AtomicBoolean draining = new AtomicBoolean(false);
+
+    public OutboxDispatcher(OutboxService outboxService,
+                            EventProducer eventProducer,
+                            @Value("${app.outbox.dispatcher.queue-capacity:10000}") int queueCapacity,
+                            @Value("${app.outbox.dispatcher.async:true}") boolean async) {
+        this.outboxService = outboxService;
+        this.eventProducer = eventProducer;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        // async 가 꺼져 있으면 호출한 스레드에서 바로 발행한다. (테스트용)
+        this.executor = async ? Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "outbox-dispatcher");
+            thread.setDaemon(true);
+            return thread;
+        }) : null;
+    }
+
+    /**
+     * 커밋이 끝난 outbox 이벤트를 발행 큐에 넣는다.
+     */
+    public void dispatch(List<? extends OutboxEvent> events) {
+        int dropped = 0;
+        for (OutboxEvent event : events) {
+            if (!queue.offer(event)) {
+                dropped++;
+            }
+        }
+        if (dropped > 0) {
+            log.warn("[OUTBOX DISPATCH] :: QUEUE FULL :: dropped={} (relay 가 재발행)", dropped);
+        }
+        if (executor == null) {
+            drain();
+            return;
+        }
+        scheduleDrain();
+    }
+
+    private void scheduleDrain() {
+        if (!draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    drain();
+                } finally {
+                    draining.set(false);
+                }
+                // 발행을 마치는 사이에 들어온 이벤트가 있으면 이어서 발행
+                if (!queue.isEmpty()) {
+                    scheduleDrain();
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            draining.set(false);
+            log.warn("[OUTBOX DISPATCH] :: REJECTED :: pending={}", queue.size());
+        }
+    }
+
+    private void drain() {
+        List<OutboxEvent> batch = new ArrayList<>(DISPATCH_BATCH_SIZE);
+        while (queue.drainTo(batch, DISPATCH_BATCH_SIZE) > 0) {
+            try {
+                send(batch);
+            } catch (Exception ex) {
+                log.error("[OUTBOX DISPATCH] :: FAILED :: size={}, error={}", batch.size(), ex.getMessage(), ex);
+            }
+            batch.clear();
+        }
+    }
+
+    private void send(List<OutboxEvent> batch) {
+        //1. 토픽별 배치 발행
+        Map<String, Map<String, String>> payloadsByTopic = batch.stream()
+                .collect(groupingBy(OutboxEvent::getTopic, LinkedHashMap::new,
+                        toMap(OutboxEvent::getMessageId, OutboxEvent::toPayload, (a, b) -> a, LinkedHashMap::new)));
+        Set<String> sentMessageIds = new HashSet<>();
+        payloadsByTopic.forEach((topic, payloads) -> sentMessageIds.addAll(eventProducer.publishAll(topic, payloads)));
+        //2. 발행에 성공한 outbox 만 한 번에 발행 완료 처리 (실패한 outbox 는 relay 가 재발행)
+        outboxService.publishOutboxes(List.copyOf(sentMessageIds));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+}
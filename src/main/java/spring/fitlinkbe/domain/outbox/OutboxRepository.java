@@ -1,5 +1,6 @@
 package spring.fitlinkbe.domain.outbox;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -9,7 +10,19 @@ public interface OutboxRepository {
 
     Optional<Outbox> saveOutbox(Outbox outbox);
 
-    List<Outbox> getRetryOutboxes();
+    void saveOutboxes(List<Outbox> outboxes);
+
+    int publishOutboxes(List<String> messageIds);
+
+    List<Outbox> claimRelayOutboxes(LocalDateTime now, int limit);
+
+    OutboxBacklog getBacklog();
+
+    List<Long> getSentOutboxIds(LocalDateTime createdBefore, int limit);
+
+    void archiveOutboxes(List<Long> outboxIds);
+
+    int deleteOutboxes(List<Long> outboxIds);
 
     List<Outbox> getOutboxes();
 }
\ No newline at end of file
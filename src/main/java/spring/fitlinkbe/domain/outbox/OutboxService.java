@@ -3,15 +3,21 @@ package spring.fitlinkbe.domain.outbox;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import spring.fitlinkbe.domain.common.exception.CustomException;
 import spring.fitlinkbe.domain.outbox.command.OutboxCommand;
 import spring.fitlinkbe.domain.producer.EventProducer;
-import spring.fitlinkbe.domain.reservation.event.GenerateFixedReservationEvent;
-import spring.fitlinkbe.support.utils.JsonUtils;
 
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toMap;
 import static spring.fitlinkbe.domain.common.exception.ErrorCode.OUTBOX_IS_FAILED;
 import static spring.fitlinkbe.domain.common.exception.ErrorCode.OUTBOX_IS_NOT_FOUND;
 
@@ -29,6 +35,40 @@ public class OutboxService {
                 new CustomException(OUTBOX_IS_FAILED, OUTBOX_IS_FAILED.getMsg()));
     }
 
+    public void createOutboxes(List<OutboxCommand.Create> commands) {
+        List<Outbox> outboxes = commands.stream()
+                .map(OutboxCommand.Create::toDomain)
+                .toList();
+
+        outboxRepository.saveOutboxes(outboxes);
+    }
+
+    /**
+     * 커밋 이후(dispatcher)에도 호출되므로 항상 새 트랜잭션에서 발행 완료 처리한다.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int publishOutboxes(List<String> messageIds) {
+        return markPublished(messageIds);
+    }
+
+    /**
+     * 호출한 쪽의 트랜잭션에서 발행 완료 처리한다.
+     * (relay 는 선점한 outbox 의 잠금을 쥔 채로 처리해야 하므로 새 트랜잭션을 열지 않는다.)
+     */
+    private int markPublished(List<String> messageIds) {
+        if (messageIds.isEmpty()) {
+            return 0;
+        }
+        // 발행 대기(INIT) 상태인 outbox 만 일괄 발행 완료 처리
+        int publishedCount = outboxRepository.publishOutboxes(messageIds);
+        if (publishedCount != messageIds.size()) {
+            log.warn("outbox publish count mismatch -> expected: {}, published: {}",
+                    messageIds.size(), publishedCount);
+        }
+
+        return publishedCount;
+    }
+
     public Outbox publishOutbox(String messageId) {
         Outbox outbox = outboxRepository.getOutbox(messageId).orElseThrow(() ->
                 new CustomException(OUTBOX_IS_NOT_FOUND, OUTBOX_IS_NOT_FOUND.getMsg()));
@@ -39,38 +79,54 @@ public class OutboxService {
         return outbox;
     }
 
-    public void retryFailMessage() {
-        // Outbox 테이블에서 재시도가 필요한 메시지 조회
-        List<Outbox> retryOutboxes = outboxRepository.getRetryOutboxes();
-        if (retryOutboxes.isEmpty()) {
-            return;
+    /**
+     * 발행 시도 시간이 지난 outbox 를 최대 limit 건 선점해서 토픽별로 배치 발행한다.
+     * 다른 인스턴스가 선점한 outbox 는 건너뛰므로 여러 인스턴스에서 동시에 실행해도 된다.
+     *
+     * @return 발행 후 남은 발행 대기 현황
+     */
+    public OutboxBacklog relayOutboxes(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        //1. 발행 대상 outbox 선점 (트랜잭션이 끝날 때까지 잠금 유지)
+        List<Outbox> outboxes = outboxRepository.claimRelayOutboxes(now, limit);
+        if (!outboxes.isEmpty()) {
+            //2. 토픽별 배치 발행
+            Map<String, Map<String, String>> payloadsByTopic = outboxes.stream()
+                    .collect(groupingBy(outbox -> outbox.getEventType().getTopic(), LinkedHashMap::new,
+                            toMap(Outbox::getMessageId, Outbox::getPayload, (a, b) -> a, LinkedHashMap::new)));
+            Set<String> sentMessageIds = new HashSet<>();
+            payloadsByTopic.forEach((topic, payloads) ->
+                    sentMessageIds.addAll(eventProducer.publishAll(topic, payloads)));
+            //3. 실패한 outbox 는 다음 시도 시간을 늦춘다. (최대 재시도 초과 시 실패 처리)
+            outboxes.stream()
+                    .filter(outbox -> !sentMessageIds.contains(outbox.getMessageId()))
+                    .forEach(outbox -> {
+                        outbox.retryLater(now);
+                        outboxRepository.saveOutbox(outbox);
+                    });
+            //4. 성공한 outbox 일괄 발행 완료 처리 (선점한 relay 트랜잭션 안에서)
+            markPublished(List.copyOf(sentMessageIds));
+            log.info("[OUTBOX RELAY] :: claimed={}, sent={}", outboxes.size(), sentMessageIds.size());
         }
 
-        for (Outbox outbox : retryOutboxes) {
-
-            if (outbox.getRetryCount() >= 3) {
-                // 이미 3회 이상 재시도한 메시지 실패 처리
-                outbox.fail();
-                outboxRepository.saveOutbox(outbox);
-                continue;
-            }
-            try {
-                // 재시도 로직, outbox message 발행 완료 변경, KafkaProducer 를 통해 메시지 재발행
-                outbox.publish();
-                outboxRepository.saveOutbox(outbox);
-                GenerateFixedReservationEvent payload = JsonUtils.toObject(outbox.getPayload(),
-                        GenerateFixedReservationEvent.class);
-                assert payload != null;
-                eventProducer.publish(outbox.getEventType().toString(), payload.getKey(), outbox.getPayload());
-
-            } catch (Exception e) {
-                log.error("send retry exception -> outboxId: {}, error: {}", outbox.getOutboxId(), e.getMessage());
-                outbox.restore();
-                outboxRepository.saveOutbox(outbox);
-            }
-            // 재시도 횟수 추가
-            outbox.plusRetryCount();
-            outboxRepository.saveOutbox(outbox);
+        return outboxRepository.getBacklog();
+    }
+
+    /**
+     * 보관 기간이 지난 발행 완료 outbox 를 최대 limit 건 삭제한다. (청크마다 별도 트랜잭션)
+     * archive 가 켜져 있으면 삭제 전에 outbox_archive 로 옮긴다.
+     *
+     * @return 삭제된 outbox 수
+     */
+    public int pruneOutboxes(int retentionDays, boolean archive, int limit) {
+        List<Long> outboxIds = outboxRepository.getSentOutboxIds(LocalDateTime.now().minusDays(retentionDays), limit);
+        if (outboxIds.isEmpty()) {
+            return 0;
+        }
+        if (archive) {
+            outboxRepository.archiveOutboxes(outboxIds);
         }
+
+        return outboxRepository.deleteOutboxes(outboxIds);
     }
 }
@@ -0,0 +1,13 @@
+package spring.fitlinkbe.domain.outbox;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ProcessedMessageRepository {
+
+    List<String> getProcessedMessageIds(List<String> messageIds);
+
+    void saveProcessedMessageIds(List<String> messageIds);
+
+    int deleteProcessedMessages(LocalDateTime processedBefore, int limit);
+}
@@ -0,0 +1,64 @@
+package spring.fitlinkbe.domain.outbox;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 컨슈머가 이미 처리한 outbox 메시지(messageId) 이력 관리
+ * (SQS 재전달, outbox 재발행으로 같은 메시지가 두 번 처리되는 것을 막는다.)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class ProcessedMessageService {
+
+    /**
+     * 처리 이력 보관 기간 (SQS 메시지 최대 보관 기간 14일보다 길게 유지)
+     */
+    public static final int RETENTION_DAYS = 15;
+
+    private final ProcessedMessageRepository processedMessageRepository;
+
+    /**
+     * 아직 처리되지 않은 messageId 만 반환한다.
+     */
+    @Transactional(readOnly = true)
+    public List<String> getUnprocessedMessageIds(List<String> messageIds) {
+        if (messageIds.isEmpty()) {
+            return List.of();
+        }
+        Set<String> processedIds = new HashSet<>(processedMessageRepository.getProcessedMessageIds(messageIds));
+
+        return messageIds.stream()
+                .filter(messageId -> !processedIds.contains(messageId))
+                .toList();
+    }
+
+    /**
+     * 처리 완료 기록 (도메인 처리와 같은 트랜잭션에서 호출해야 한다.)
+     */
+    public void saveProcessedMessageIds(List<String> messageIds) {
+        if (messageIds.isEmpty()) {
+            return;
+        }
+        processedMessageRepository.saveProcessedMessageIds(messageIds);
+    }
+
+    /**
+     * 보관 기간이 지난 처리 이력을 최대 limit 건 삭제한다. (청크마다 별도 트랜잭션)
+     *
+     * @return 삭제된 이력 수
+     */
+    public int pruneProcessedMessages(int limit) {
+        return processedMessageRepository.deleteProcessedMessages(
+                LocalDateTime.now().minusDays(RETENTION_DAYS), limit);
+    }
+}
@@ -3,6 +3,8 @@ package spring.fitlinkbe.domain.outbox.command;
 import lombok.Builder;
 import spring.fitlinkbe.domain.outbox.Outbox;
 
+import java.time.LocalDateTime;
+
 
 public class OutboxCommand {
 
@@ -23,6 +25,7 @@ public class OutboxCommand {
                     .eventStatus(eventStatus)
                     .eventType(eventType)
                     .payload(payload)
+                    .nextAttemptAt(LocalDateTime.now().plus(Outbox.RELAY_GRACE))
                     .build();
         }
     }
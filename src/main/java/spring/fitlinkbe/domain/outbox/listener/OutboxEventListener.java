@@ -1,34 +1,131 @@
 package spring.fitlinkbe.domain.outbox.listener;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.event.TransactionPhase;
-import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import spring.fitlinkbe.domain.outbox.OutboxBatchEvent;
+import spring.fitlinkbe.domain.outbox.OutboxDispatcher;
 import spring.fitlinkbe.domain.outbox.OutboxEvent;
 import spring.fitlinkbe.domain.outbox.OutboxService;
-import spring.fitlinkbe.domain.producer.EventProducer;
 
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 한 트랜잭션에서 발행된 outbox 이벤트를 모아서 커밋 직전에 한 번에 저장하고,
+ * 커밋이 끝나면 dispatcher 로 넘겨 비동기로 발행한다.
+ */
 @Component
 @RequiredArgsConstructor
 public class OutboxEventListener {
 
     private final OutboxService outboxService;
-    private final EventProducer eventProducer;
+    private final OutboxDispatcher outboxDispatcher;
+
+    @EventListener
+    public void collectOutbox(OutboxEvent event) {
+        collect(List.of(event));
+    }
+
+    @EventListener
+    public void collectOutboxes(OutboxBatchEvent event) {
+        collect(event.events());
+    }
 
-    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
-    public void saveOutbox(OutboxEvent event) {
-        // Outbox data 생성
-        outboxService.createOutbox(event.toOutboxCommand());
+    private void collect(List<? extends OutboxEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        // 트랜잭션 밖에서 발행된 이벤트는 바로 저장 후 발행
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            save(events);
+            outboxDispatcher.dispatch(events);
+            return;
+        }
+        // 트랜잭션 완료 콜백(afterCompletion) 안에서는 저장해도 커밋되지 않으므로 버리지 않고 실패시킨다.
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("트랜잭션이 끝난 뒤에 발행된 outbox 이벤트는 저장할 수 없습니다.");
+        }
+        currentBuffer().add(events);
     }
 
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void publishOutbox(OutboxEvent event) {
-        // outbox 메시지 발행 완료 채크
-        outboxService.publishOutbox(event.getMessageId());
-        // 이벤트 메시지 발행
-        eventProducer.publish(event.getTopic(), event.getKey(), event.toPayload());
+    /**
+     * 현재 트랜잭션에 등록된 버퍼 (없으면 만들어서 등록한다.)
+     * synchronization 목록은 트랜잭션마다 따로 관리되므로(REQUIRES_NEW 는 바깥 목록을 보류한다.) 버퍼도 트랜잭션마다 따로 생긴다.
+     */
+    private OutboxBuffer currentBuffer() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof OutboxBuffer buffer && buffer.isOwnedBy(this)) {
+                return buffer;
+            }
+        }
+        OutboxBuffer buffer = new OutboxBuffer();
+        TransactionSynchronizationManager.registerSynchronization(buffer);
+
+        return buffer;
+    }
+
+    private void save(List<? extends OutboxEvent> events) {
+        outboxService.createOutboxes(events.stream()
+                .map(OutboxEvent::toOutboxCommand)
+                .toList());
+    }
+
+    /**
+     * 트랜잭션 단위 outbox 이벤트 버퍼
+     * <p>
+     * 커밋 직전(beforeCommit)에 모아둔 이벤트를 저장하고, 그 뒤 커밋 전까지 들어온 이벤트는 바로 저장한다.
+     * 커밋이 시작된(beforeCompletion) 뒤에 들어온 이벤트는 저장할 수 없으므로 예외를 던진다.
+     */
+    private class OutboxBuffer implements TransactionSynchronization {
+
+        private final List<OutboxEvent> pending = new ArrayList<>();
+        private final List<OutboxEvent> saved = new ArrayList<>();
+        private boolean flushed;
+        private boolean completing;
+
+        boolean isOwnedBy(OutboxEventListener listener) {
+            return OutboxEventListener.this == listener;
+        }
+
+        void add(List<? extends OutboxEvent> events) {
+            if (completing) {
+                throw new IllegalStateException("트랜잭션 커밋이 시작된 뒤에 발행된 outbox 이벤트는 저장할 수 없습니다.");
+            }
+            pending.addAll(events);
+            if (flushed) {
+                flush();
+            }
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            // Outbox data 일괄 생성 (트랜잭션당 한 번의 batch insert)
+            flush();
+            flushed = true;
+        }
+
+        @Override
+        public void beforeCompletion() {
+            completing = true;
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            if (status == STATUS_COMMITTED && !saved.isEmpty()) {
+                outboxDispatcher.dispatch(saved);
+            }
+        }
+
+        private void flush() {
+            if (pending.isEmpty()) {
+                return;
+            }
+            save(pending);
+            saved.addAll(pending);
+            pending.clear();
+        }
     }
 }
@@ -1,6 +1,17 @@
 package spring.fitlinkbe.domain.producer;
 
+import java.util.Map;
+import java.util.Set;
+
 public interface EventProducer {
 
     void publish(String topic, String key, String payload);
+
+    /**
+     * 여러 메시지를 배치로 발행한다.
+     *
+     * @param payloadsByKey 메시지 key (outbox messageId) 별 payload
+     * @return 발행에 성공한 메시지 key
+     */
+    Set<String> publishAll(String topic, Map<String, String> payloadsByKey);
 }
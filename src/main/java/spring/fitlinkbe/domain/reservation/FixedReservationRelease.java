@@ -0,0 +1,15 @@
+package spring.fitlinkbe.domain.reservation;
+
+import java.util.List;
+
+/**
+ * 고정 예약 해지 결과 (해지된 예약과 멤버에게 복구할 세션 횟수)
+ */
+public record FixedReservationRelease(List<Reservation> reservations, Long trainerId, Long memberId,
+                                      int restoreCount) {
+
+    public static FixedReservationRelease of(Reservation baseReservation, List<Reservation> reservations) {
+        return new FixedReservationRelease(reservations, baseReservation.getTrainer().getTrainerId(),
+                baseReservation.getMember().getMemberId(), reservations.size());
+    }
+}
@@ -11,7 +11,6 @@ import spring.fitlinkbe.support.utils.DateUtils;
 
 import java.time.DayOfWeek;
 import java.time.Duration;
-import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
@@ -41,6 +40,14 @@ public class Reservation {
     private boolean isDayOff;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    // 마지막으로 DB 에서 읽거나 저장한 시점에 차지하고 있던 트레이너 시간 (점유 캐시 갱신용, 저장하지 않는다.)
+    private Occupancy persistedOccupancy;
+
+    /**
+     * 예약이 차지하는 트레이너의 시간
+     */
+    public record Occupancy(Long trainerId, LocalDateTime date) {
+    }
 
     @RequiredArgsConstructor
     @Getter
@@ -58,6 +65,20 @@ public class Reservation {
         RESERVATION_COMPLETED("예약 종료"); // 세션까지 완전 완료 되었을 때
 
         private final String name;
+
+        /**
+         * 트레이너의 시간을 차지하는 상태인지 (대기, 취소, 거절 상태는 시간을 차지하지 않는다.)
+         */
+        public boolean isOccupying() {
+            return this != RESERVATION_WAITING && this != RESERVATION_CANCELLED && this != RESERVATION_REFUSED;
+        }
+
+        /**
+         * 트레이너의 같은 시간에 하나만 존재할 수 있는 상태인지 (확정, 고정 예약, 예약 불가 설정)
+         */
+        public boolean isSlotExclusive() {
+            return this == RESERVATION_APPROVED || this == FIXED_RESERVATION || this == DISABLED_TIME_RESERVATION;
+        }
     }
 
     public static List<Reservation> createFixedReservations(List<Reservation> baseReservations, int remainingCount) {
@@ -200,15 +221,6 @@ public class Reservation {
                 });
     }
 
-    public boolean isTodayReservation() {
-        LocalDate today = LocalDate.now();
-
-        return reservationDates
-                .stream()
-                .map(LocalDateTime::toLocalDate)
-                .anyMatch(today::isEqual);
-    }
-
     public boolean isReservationInRange(LocalDateTime startDate, LocalDateTime endDate) {
         LocalDateTime reservationDate = getReservationDate();
 
@@ -216,6 +228,54 @@ public class Reservation {
                 && reservationDate.isBefore(endDate);
     }
 
+    /**
+     * 이 예약이 차지하고 있는 트레이너의 시간 (시간을 차지하지 않는 상태면 null)
+     */
+    public LocalDateTime getOccupiedDate() {
+        if (status == null || !status.isOccupying()) {
+            return null;
+        }
+        if (confirmDate != null) {
+            return confirmDate;
+        }
+
+        return (reservationDates == null || reservationDates.isEmpty()) ? null : getReservationDate();
+    }
+
+    /**
+     * 이 예약이 현재 상태로 차지하는 트레이너의 시간 (시간을 차지하지 않거나 트레이너를 모르면 null)
+     */
+    public Occupancy getOccupancy() {
+        LocalDateTime occupiedDate = getOccupiedDate();
+        if (occupiedDate == null || trainer == null) {
+            return null;
+        }
+
+        return new Occupancy(trainer.getTrainerId(), occupiedDate);
+    }
+
+    /**
+     * DB 에서 읽거나 저장한 직후 호출해서 현재 점유 시간을 저장된 점유 시간으로 기록한다.
+     */
+    public void markPersisted() {
+        this.persistedOccupancy = getOccupancy();
+    }
+
+    /**
+     * 트레이너 시간 중복 방지용 슬롯 (같은 트레이너의 슬롯은 유일해야 한다. 중복을 막지 않는 상태면 null)
+     * 예약 불가 설정은 확정 날짜가 없으므로 희망 날짜를 슬롯으로 사용한다.
+     */
+    public LocalDateTime getBookedSlot() {
+        if (status == null || !status.isSlotExclusive()) {
+            return null;
+        }
+        if (status == DISABLED_TIME_RESERVATION) {
+            return (reservationDates == null || reservationDates.isEmpty()) ? null : getReservationDate();
+        }
+
+        return confirmDate;
+    }
+
     public LocalDateTime getReservationDate() {
 
         if (this.reservationDates == null) {
@@ -2,6 +2,7 @@ package spring.fitlinkbe.domain.reservation;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import spring.fitlinkbe.domain.common.enums.UserRole;
 
 import java.time.LocalDate;
@@ -13,37 +14,78 @@ public interface ReservationRepository {
 
     List<Reservation> getReservations();
 
-    List<Reservation> getFixedReservations();
+    List<Reservation> getFixedReservations(LocalDateTime startDate, LocalDateTime endDate);
 
     List<Reservation> getFixedReservations(Long memberId);
 
     List<Reservation> getFixedReservations(Long trainerId, LocalDateTime fixedReservationDate);
 
-    List<Reservation> getReservationsWithWaitingStatus(Long trainerId);
+    List<Reservation> getWaitingReservations(Long trainerId, List<LocalDateTime> reservationDates);
+
+    /**
+     * 아직 대기 상태인 예약만 거절하고, 실제로 거절한 예약 id 를 반환한다.
+     */
+    List<Long> refuseWaitingReservations(List<Long> reservationIds);
+
+    /**
+     * 고정 예약 일괄 취소 (상태가 고정 예약인 건만 취소하고, 취소한 건수를 반환한다.)
+     */
+    int cancelFixedReservations(List<Reservation> reservations, String cancelReason);
+
+    int cancelSessions(List<Long> sessionIds, String cancelReason);
 
     List<Reservation> getReservations(UserRole role, Long userId);
 
+    List<Reservation> getReservations(UserRole role, Long userId, LocalDateTime startDate, LocalDateTime endDate);
+
+    List<Reservation> getReservations(List<Long> reservationIds);
+
+    List<Long> getConfirmedReservationIds(LocalDateTime startDate, LocalDateTime endDate);
+
     List<Reservation> saveReservations(List<Reservation> canceledReservations);
 
     List<Session> saveSessions(List<Session> sessions);
 
+    List<Reservation> insertReservations(List<Reservation> reservations);
+
+    void insertSessions(List<Session> sessions);
+
     Optional<Reservation> getReservation(Long reservationId);
 
     Optional<Reservation> getReservation(Long reservationId, Long trainerId);
 
     Optional<Reservation> saveReservation(Reservation reservation);
 
+    /**
+     * 상태 전이 저장 (상태, 확정/변경 날짜, 취소 사유만 update 하고 저장 전 엔티티를 조회하지 않는다.)
+     * 희망 날짜가 바뀌는 경우에는 saveReservation 을 사용한다.
+     */
+    Optional<Reservation> updateReservationStatus(Reservation reservation);
+
     void deleteReservation(Reservation reservation);
 
     Optional<Session> getSession(Long reservationId);
 
+    List<Session> getSessions(List<Long> reservationIds);
+
     Page<Session> getSessions(Long memberId, Long trainerId, Session.Status status, Pageable pageRequest);
 
+    /**
+     * (생성일, 세션 id) 커서 이후의 세션을 최신순으로 size 건 조회 (전체 건수 없이 다음 페이지 여부만 반환)
+     */
+    Slice<Session> getSessions(Long memberId, Long trainerId, Session.Status status,
+                               LocalDateTime cursorCreatedAt, Long cursorSessionId, int size);
+
     Optional<Session> saveSession(Session session);
 
+    /**
+     * 세션 상태 전이 저장 (상태, 취소 사유, 완료 여부만 update)
+     */
+    Optional<Session> updateSessionStatus(Session session);
+
     boolean isConfirmedReservationExists(Long trainerId, List<LocalDate> dates);
 
-    boolean isConfirmedReservationsExists(Long trainerId, List<LocalDateTime> dates);
+    List<LocalDateTime> getConfirmedReservationDates(Long trainerId, List<LocalDateTime> checkDates);
 
     boolean isConfirmedReservationExists(Long trainerId, LocalDateTime checkDate);
 }
@@ -5,10 +5,12 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import spring.fitlinkbe.domain.common.exception.CustomException;
 import spring.fitlinkbe.domain.common.exception.ErrorCode;
+import spring.fitlinkbe.domain.outbox.OutboxBatchEvent;
 import spring.fitlinkbe.domain.producer.EventTopic;
 import spring.fitlinkbe.domain.reservation.command.ReservationCommand;
 import spring.fitlinkbe.domain.reservation.event.GenerateFixedReservationEvent;
@@ -18,10 +20,14 @@ import spring.fitlinkbe.support.security.SecurityUser;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static spring.fitlinkbe.domain.common.exception.ErrorCode.RESERVATION_WAITING_MEMBERS_EMPTY;
 import static spring.fitlinkbe.domain.common.exception.ErrorCode.SESSION_CREATE_FAILED;
@@ -37,6 +43,9 @@ import static spring.fitlinkbe.domain.reservation.Session.Status.SESSION_WAITING
 @Transactional(readOnly = true)
 public class ReservationService {
 
+    private static final String RELEASE_CANCEL_REASON = "예약 해지로 취소되었습니다.";
+    private static final String RELEASE_SESSION_CANCEL_REASON = "트레이너의 요청으로 세션이 최소되었습니다";
+
     private final ReservationRepository reservationRepository;
     private final List<ReservationCancelStrategy> cancelStrategies;
     private final ApplicationEventPublisher publisher;
@@ -47,11 +56,8 @@ public class ReservationService {
     public List<Reservation> getReservations(ReservationCommand.GetReservations command) {
         LocalDateTime startDate = command.date().atStartOfDay();
         LocalDateTime endDate = getEndDate(startDate, command.role());
-        List<Reservation> reservations = reservationRepository.getReservations(command.role(), command.userId());
-
-        return reservations.stream()
-                .filter(reservation -> reservation.isReservationInRange(startDate, endDate))
-                .toList();
+        // 조회 기간 필터링은 DB 에서 처리 (reservation_date 인덱스 사용)
+        return reservationRepository.getReservations(command.role(), command.userId(), startDate, endDate);
     }
 
     public Reservation getReservation(Long reservationId) {
@@ -65,15 +71,14 @@ public class ReservationService {
     }
 
     public List<Reservation> getWaitingMembers(LocalDateTime reservationDate, SecurityUser user) {
-        List<Reservation> waitingMembers = reservationRepository.getReservationsWithWaitingStatus(user.getTrainerId());
+        List<Reservation> waitingMembers = reservationRepository.getWaitingReservations(user.getTrainerId(),
+                List.of(reservationDate));
 
         if (waitingMembers.isEmpty()) {
             throw new CustomException(RESERVATION_WAITING_MEMBERS_EMPTY);
         }
 
-        return waitingMembers.stream()
-                .filter((r) -> r.isReservationDateSame(List.of(reservationDate)))
-                .toList();
+        return waitingMembers;
     }
 
     @Transactional
@@ -104,7 +109,8 @@ public class ReservationService {
     @Transactional
     public List<Reservation> createFixedReservations(List<Reservation> baseReservations, int remainingCount) {
         List<Reservation> newFixedReservations = Reservation.createFixedReservations(baseReservations, remainingCount);
-        List<Reservation> savedReservations = reservationRepository.saveReservations(newFixedReservations);
+        // 최대 remainingCount 건이라 JPA 단건 insert 대신 JDBC batch insert 로 저장
+        List<Reservation> savedReservations = reservationRepository.insertReservations(newFixedReservations);
         // 세션 생성
         List<Session> sessions = savedReservations.stream()
                 .map(reservation -> Session.builder()
@@ -113,21 +119,22 @@ public class ReservationService {
                         .build())
                 .toList();
 
-        reservationRepository.saveSessions(sessions);
+        reservationRepository.insertSessions(sessions);
 
         return savedReservations;
     }
 
     public void publishFixedReservations() {
-        // 고정 예약 상태의 예약 조회
-        List<Reservation> fixedReservations = reservationRepository.getFixedReservations();
-        // 오늘 날짜 고정 예약들 필터하기
-        List<Reservation> todayFixedReservations = fixedReservations.stream()
-                .filter(Reservation::isTodayReservation)
-                .toList();
-        // 고정 예약건 개별 이벤트 발행
-        todayFixedReservations.forEach(reservation ->
-                publisher.publishEvent(GenerateFixedReservationEvent.builder()
+        // 오늘 날짜 고정 예약 조회
+        LocalDateTime startDate = LocalDate.now().atStartOfDay();
+        List<Reservation> todayFixedReservations = reservationRepository
+                .getFixedReservations(startDate, startDate.plusDays(1));
+        if (todayFixedReservations.isEmpty()) {
+            return;
+        }
+        // 고정 예약건 묶음 이벤트 발행
+        List<GenerateFixedReservationEvent> events = todayFixedReservations.stream()
+                .map(reservation -> GenerateFixedReservationEvent.builder()
                         .reservationId(reservation.getReservationId())
                         .trainerId(reservation.getTrainer().getTrainerId())
                         .memberId(reservation.getMember().getMemberId())
@@ -136,7 +143,10 @@ public class ReservationService {
                         .confirmDate(reservation.getConfirmDate())
                         .topic(EventTopic.RESERVATION_QUEUE)
                         .messageId(UUID.randomUUID().toString())
-                        .build()));
+                        .build())
+                .toList();
+
+        publisher.publishEvent(new OutboxBatchEvent(events));
     }
 
     @Transactional
@@ -150,9 +160,12 @@ public class ReservationService {
     @Transactional
     public Reservation approveReservation(ReservationCommand.Approve command) {
         Reservation reservation = this.getReservation(command.reservationId());
+        // 희망 날짜가 여러 개면 승인한 날짜 하나로 바뀌므로 희망 날짜까지 저장한다.
+        boolean isDatesChanged = reservation.getReservationDates().size() > 1;
 
         reservation.approve(command.reservationDate());
-        Reservation savedReservation = reservationRepository.saveReservation(reservation)
+        Reservation savedReservation = (isDatesChanged ? reservationRepository.saveReservation(reservation)
+                : reservationRepository.updateReservationStatus(reservation))
                 .orElseThrow(() -> new CustomException(ErrorCode.RESERVATION_IS_FAILED,
                         "예약 승인에 실패하였습니다."));
 
@@ -167,15 +180,8 @@ public class ReservationService {
 
     @Transactional
     public List<Reservation> refuseReservations(ReservationCommand.RefuseReservations command, SecurityUser user) {
-        List<Reservation> reservations = reservationRepository.getReservations(user.getUserRole(), user.getUserId());
-        List<Reservation> refuseReservations = reservations.stream()
-                .filter(r -> r.getStatus() == RESERVATION_WAITING)
-                .filter(r -> r.isReservationDateSame(List.of(command.reservationDate())))
-                .toList();
 
-        refuseReservations.forEach(Reservation::refuse);
-
-        return reservationRepository.saveReservations(refuseReservations);
+        return refuseWaitingReservations(user.getTrainerId(), List.of(command.reservationDate()));
     }
 
     /**
@@ -197,23 +203,33 @@ public class ReservationService {
         return strategy.cancel(reservation, command);
     }
 
+    /**
+     * 트레이너의 해당 시간대 대기 예약 일괄 거절
+     * 거절된 예약은 알림 발송을 위해 반환한다.
+     */
     @Transactional
-    public List<Reservation> refuseWaitingReservations(List<LocalDateTime> dates) {
-        //1. 일치하는 날짜의 대기 예약 조회
-        List<Reservation> reservations = reservationRepository.getReservations()
-                .stream()
-                .filter(r -> r.getStatus() == RESERVATION_WAITING)
-                .filter(r -> r.isReservationDateSame(dates))
+    public List<Reservation> refuseWaitingReservations(Long trainerId, List<LocalDateTime> dates) {
+        //1. 트레이너의 일치하는 날짜의 대기 예약 조회
+        List<Reservation> reservations = reservationRepository.getWaitingReservations(trainerId, dates);
+
+        if (reservations.isEmpty()) return List.of();
+
+        //2. 대기 중인 예약 일괄 거절
+        List<Long> reservationIds = reservations.stream()
+                .map(Reservation::getReservationId)
                 .toList();
-        //2. 대기 중인 예약 거절
-        reservations.forEach((r) -> {
-            r.refuse();
-            reservationRepository.saveReservation(r);
-        });
+        Set<Long> refusedIds = new HashSet<>(reservationRepository.refuseWaitingReservations(reservationIds));
 
-        if (!reservations.isEmpty()) return reservations;
+        if (refusedIds.size() != reservationIds.size()) {
+            log.warn("대기 예약 일괄 거절 중 상태가 변경된 예약이 있습니다. [trainerId: {}, expected: {}, refused: {}]",
+                    trainerId, reservationIds.size(), refusedIds.size());
+        }
 
-        return List.of();
+        // 3. 실제로 거절된 예약만 반환 (그 사이 승인/취소된 예약에는 거절 알림을 보내지 않는다.)
+        return reservations.stream()
+                .filter(reservation -> refusedIds.contains(reservation.getReservationId()))
+                .map(Reservation::refuse)
+                .toList();
     }
 
     @Transactional
@@ -225,10 +241,10 @@ public class ReservationService {
         //만약 세션이 있다면 세션도 취소
         if (command.isApprove() && session.isPresent()) {
             session.get().cancel("예약 취소 요청으로 인한 취소");
-            reservationRepository.saveSession(session.get());
+            reservationRepository.updateSessionStatus(session.get());
         }
 
-        return reservationRepository.saveReservation(reservation)
+        return reservationRepository.updateReservationStatus(reservation)
                 .orElseThrow(() -> new CustomException(ErrorCode.RESERVATION_IS_FAILED,
                         "예약 취소 승인에 실패하였습니다."));
     }
@@ -236,8 +252,7 @@ public class ReservationService {
     @Transactional
     public Reservation changeFixedReservation(ReservationCommand.ChangeReqeust command) {
         Reservation reservation = this.getReservation(command.reservationId());
-        // 변경하고자 하는 날짜에 확정된 예약이 있는지 확인
-        this.checkConfirmedReservationExistOrThrow(reservation.getTrainer().getTrainerId(), command.changeRequestDate());
+        // 변경하고자 하는 날짜에 확정된 예약이 있으면 저장 시 트레이너 슬롯 unique key 로 거부된다.
         reservation.changeFixedDate(command.reservationDate(), command.changeRequestDate());
 
         return reservationRepository.saveReservation(reservation)
@@ -252,7 +267,7 @@ public class ReservationService {
         // 멤버의 경우 예약 변경 요청
         reservation.changeRequestDate(command.reservationDate(), command.changeRequestDate());
 
-        return reservationRepository.saveReservation(reservation)
+        return reservationRepository.updateReservationStatus(reservation)
                 .orElseThrow(() -> new CustomException(ErrorCode.RESERVATION_IS_FAILED, "예약 요청 변경에 실패하였습니다."));
     }
 
@@ -268,7 +283,7 @@ public class ReservationService {
             reservationRepository.saveSession(sessionDomain);
         }
 
-        return reservationRepository.saveReservation(reservation)
+        return reservationRepository.updateReservationStatus(reservation)
                 .orElseThrow(() -> new CustomException(ErrorCode.RESERVATION_IS_FAILED,
                         "예약 변경 승인에 실패하였습니다."));
     }
@@ -286,35 +301,64 @@ public class ReservationService {
                         "예약 정보를 찾지 못하였습니다. [reservationId: %d].".formatted(command.reservationId())));
         // 예약 종료 처리
         reservation.complete(user.getTrainerId(), command.memberId());
-        reservationRepository.saveReservation(reservation).orElseThrow(() ->
+        reservationRepository.updateReservationStatus(reservation).orElseThrow(() ->
                 new CustomException(ErrorCode.RESERVATION_IS_FAILED));
 
-        return reservationRepository.saveSession(session).orElseThrow(() ->
+        return reservationRepository.updateSessionStatus(session).orElseThrow(() ->
                 new CustomException(ErrorCode.SESSION_CREATE_FAILED));
     }
 
+    /**
+     * 고정 예약 해지
+     * 해지할 예약들의 세션은 한 번에 조회하고, 예약과 세션 상태는 일괄 update 로 변경한다.
+     * 복구할 세션 횟수는 해지 결과에 담아 반환한다.
+     */
     @Transactional
-    public List<Reservation> releaseFixedReservation(Long reservationId) {
+    public FixedReservationRelease releaseFixedReservation(Long reservationId) {
         Reservation reservation = this.getReservation(reservationId);
+        //1. 기준 예약 이후 같은 주기의 고정 예약 취소
         List<Reservation> fixedReservations = reservationRepository.getFixedReservations(reservation.getMember().getMemberId());
         List<Reservation> releaseFixedReservations = fixedReservations.stream()
                 .filter(r -> r.isFixedWithBaseDate(reservation.getConfirmDate()))
-                .map(r -> r.cancel("예약 해지로 취소되었습니다."))
+                .map(r -> r.cancel(RELEASE_CANCEL_REASON))
                 .toList();
-        // 세션이 있는 경우, 세션도 취소한다.
-        List<Session> sessions = new ArrayList<>();
 
-        releaseFixedReservations.forEach(r -> {
-            Session session = reservationRepository.getSession(r.getReservationId())
-                    .orElseThrow(() -> new CustomException(ErrorCode.SESSION_NOT_FOUND,
-                            "세션 정보를 찾을 수 없습니다. [reservationId: %d]".formatted(r.getReservationId())));
-            session.cancel("트레이너의 요청으로 세션이 최소되었습니다");
-            sessions.add(session);
-        });
+        if (releaseFixedReservations.isEmpty()) {
+            throw new CustomException(ErrorCode.RESERVATION_RELEASE_NOT_ALLOWED,
+                    "해지할 고정 예약이 없습니다. [reservationId: %d]".formatted(reservationId));
+        }
 
-        reservationRepository.saveSessions(sessions);
+        //2. 해지할 예약들의 세션을 한 번에 조회 후 취소
+        List<Long> reservationIds = releaseFixedReservations.stream()
+                .map(Reservation::getReservationId)
+                .toList();
+        // 한 예약에 세션이 여러 개면 취소되지 않은 가장 최근 세션을 해지한다.
+        Map<Long, Session> sessions = reservationRepository.getSessions(reservationIds).stream()
+                .filter(s -> s.getStatus() != Session.Status.SESSION_CANCELLED)
+                .collect(Collectors.toMap(s -> s.getReservation().getReservationId(), Function.identity(),
+                        (a, b) -> a.getSessionId() >= b.getSessionId() ? a : b));
+
+        List<Long> sessionIds = reservationIds.stream()
+                .map(id -> {
+                    Session session = Optional.ofNullable(sessions.get(id))
+                            .orElseThrow(() -> new CustomException(ErrorCode.SESSION_NOT_FOUND,
+                                    "세션 정보를 찾을 수 없습니다. [reservationId: %d]".formatted(id)));
+                    session.cancel(RELEASE_SESSION_CANCEL_REASON);
+                    return session.getSessionId();
+                })
+                .toList();
+
+        //3. 예약과 세션 상태 일괄 변경 (도중에 상태가 바뀐 건이 있으면 롤백)
+        int canceledCount = reservationRepository.cancelFixedReservations(releaseFixedReservations, RELEASE_CANCEL_REASON);
+        int canceledSessionCount = reservationRepository.cancelSessions(sessionIds, RELEASE_SESSION_CANCEL_REASON);
 
-        return reservationRepository.saveReservations(releaseFixedReservations);
+        if (canceledCount != reservationIds.size() || canceledSessionCount != sessionIds.size()) {
+            throw new CustomException(ErrorCode.RESERVATION_RELEASE_NOT_ALLOWED,
+                    "해지 중 상태가 변경된 예약이 있습니다. [expected: %d, reservations: %d, sessions: %d]"
+                            .formatted(reservationIds.size(), canceledCount, canceledSessionCount));
+        }
+
+        return FixedReservationRelease.of(reservation, releaseFixedReservations);
     }
 
     /**
@@ -325,6 +369,11 @@ public class ReservationService {
                 command.status(), command.pageRequest());
     }
 
+    public Slice<Session> getSessions(ReservationCommand.GetSessionsByCursor command) {
+        return reservationRepository.getSessions(command.memberId(), command.trainerId(), command.status(),
+                command.cursorCreatedAt(), command.cursorId(), command.size());
+    }
+
     public Session getSession(Status status, Long reservationId) {
         Optional<Session> session = reservationRepository.getSession(reservationId);
         // 예약 승낙 전에는 세션 정보는 없다.
@@ -347,12 +396,21 @@ public class ReservationService {
                 .orElseThrow(() -> new CustomException(SESSION_CREATE_FAILED));
     }
 
-    public List<Reservation> getTodayReservations() {
-        LocalDate today = LocalDateTime.now().toLocalDate();
-        List<Reservation> reservations = reservationRepository.getReservations();
+    /**
+     * 오늘 확정된 예약 ID 목록 (세션 리마인드 대상)
+     */
+    public List<Long> getTodayReservationIds() {
+        LocalDateTime startDate = LocalDate.now().atStartOfDay();
+
+        return reservationRepository.getConfirmedReservationIds(startDate, startDate.plusDays(1));
+    }
 
-        return reservations.stream().filter(r -> r.getConfirmDate().toLocalDate().isEqual(today))
-                .toList();
+    public List<Reservation> getReservations(List<Long> reservationIds) {
+        return reservationRepository.getReservations(reservationIds);
+    }
+
+    public List<Session> getSessions(List<Long> reservationIds) {
+        return reservationRepository.getSessions(reservationIds);
     }
 
     /**
@@ -365,12 +423,10 @@ public class ReservationService {
     }
 
     /**
-     * 해당 날짜와 시간에 확정된 예약이 있는지 검사
+     * 해당 날짜들 중 이미 슬롯이 차지된(확정/고정 예약, 예약 불가 설정) 날짜 조회
      */
-    public void checkConfirmedReservationsExistOrThrow(Long trainerId, List<LocalDateTime> checkDates) {
-        if (reservationRepository.isConfirmedReservationsExists(trainerId, checkDates)) {
-            throw new CustomException(ErrorCode.CONFIRMED_RESERVATION_EXISTS);
-        }
+    public List<LocalDateTime> getConfirmedReservationDates(Long trainerId, List<LocalDateTime> checkDates) {
+        return reservationRepository.getConfirmedReservationDates(trainerId, checkDates);
     }
 
     /**
@@ -40,6 +40,12 @@ public class ReservationCommand {
         }
     }
 
+    @Builder(toBuilder = true)
+    public record GetSessionsByCursor(Long memberId, Long trainerId, Session.Status status,
+                                      LocalDateTime cursorCreatedAt, Long cursorId, int size) {
+
+    }
+
     @Builder(toBuilder = true)
     public record Approve(Long reservationId, LocalDateTime reservationDate) {
 
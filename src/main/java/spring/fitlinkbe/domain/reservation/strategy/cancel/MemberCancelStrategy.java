@@ -28,7 +28,7 @@ public class MemberCancelStrategy implements ReservationCancelStrategy {
 
         reservation.cancelRequest(cancelReason, cancelDate);
 
-        return reservationRepository.saveReservation(reservation)
+        return reservationRepository.updateReservationStatus(reservation)
                 .orElseThrow(() -> new CustomException(ErrorCode.RESERVATION_CANCEL_FAILED,
                         "예약 취소를 실패하였습니다. [reservationId: %d]".formatted(command.reservationId())));
     }
@@ -28,7 +28,7 @@ public class TrainerCancelStrategy implements ReservationCancelStrategy {
         String cancelReason = command.cancelReason();
 
         reservation.cancel(cancelReason, cancelDate);
-        Reservation cancelledReservation = reservationRepository.saveReservation(reservation)
+        Reservation cancelledReservation = reservationRepository.updateReservationStatus(reservation)
                 .orElseThrow(() -> new CustomException(ErrorCode.RESERVATION_CANCEL_FAILED,
                         "예약 취소를 실패하였습니다. [reservationId: %d]".formatted(command.reservationId())));
 
@@ -37,7 +37,7 @@ public class TrainerCancelStrategy implements ReservationCancelStrategy {
                         "세션 정보를 찾을 수 없습니다. [reservationId: %d]".formatted(reservation.getReservationId())));
 
         session.cancel("트레이너의 요청으로 세션이 최소되었습니다");
-        reservationRepository.saveSession(session);
+        reservationRepository.updateSessionStatus(session);
 
         return cancelledReservation;
     }
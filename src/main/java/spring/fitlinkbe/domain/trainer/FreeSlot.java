@@ -0,0 +1,11 @@
+package spring.fitlinkbe.domain.trainer;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+/**
+ * 하루 동안 예약 가능한 시간(1시간 단위 시작 시각) 목록
+ */
+public record FreeSlot(LocalDate date, List<LocalTime> times) {
+}
@@ -0,0 +1,86 @@
+package spring.fitlinkbe.domain.trainer;
+
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * 트레이너의 한 달치 예약 점유 현황
+ * <p>
+ * 일자별 0~23시마다 점유 중인 예약 수를, 휴무일은 일자(1~31) 비트맵으로 관리한다.
+ * 대기 예약은 시간을 점유하지 않지만, 변경/취소 요청 중이거나 종료된 예약은 슬롯을 잡지 않은 채 시간을 점유하므로
+ * 같은 시간에 새로 확정된 예약과 함께 점유할 수 있다. 그래서 마지막 예약이 해제될 때만 빈 시간이 된다.
+ * 캐시에 올라간 객체를 쓰기 시점마다 제자리에서 갱신하므로 카운트/비트 연산은 atomic 하게 처리한다.
+ */
+@Getter
+public class MonthlyOccupancy {
+
+    private final Long trainerId;
+    private final YearMonth yearMonth;
+    private static final int HOURS_OF_DAY = 24;
+
+    private final AtomicIntegerArray hourCounts;
+    private final AtomicInteger dayOffMask = new AtomicInteger();
+
+    private MonthlyOccupancy(Long trainerId, YearMonth yearMonth) {
+        this.trainerId = trainerId;
+        this.yearMonth = yearMonth;
+        this.hourCounts = new AtomicIntegerArray(yearMonth.lengthOfMonth() * HOURS_OF_DAY);
+    }
+
+    public static MonthlyOccupancy of(Long trainerId, YearMonth yearMonth,
+                                      List<LocalDateTime> occupiedDates, List<LocalDate> dayOffDates) {
+        MonthlyOccupancy occupancy = new MonthlyOccupancy(trainerId, yearMonth);
+        occupiedDates.forEach(occupancy::occupy);
+        dayOffDates.forEach(occupancy::markDayOff);
+
+        return occupancy;
+    }
+
+    public void occupy(LocalDateTime date) {
+        if (isInMonth(date.toLocalDate())) {
+            hourCounts.incrementAndGet(toHourIndex(date));
+        }
+    }
+
+    public void release(LocalDateTime date) {
+        if (isInMonth(date.toLocalDate())) {
+            hourCounts.getAndUpdate(toHourIndex(date), count -> Math.max(count - 1, 0));
+        }
+    }
+
+    public void markDayOff(LocalDate date) {
+        if (isInMonth(date)) {
+            int dayBit = 1 << (date.getDayOfMonth() - 1);
+            dayOffMask.getAndUpdate(mask -> mask | dayBit);
+        }
+    }
+
+    public void unmarkDayOff(LocalDate date) {
+        if (isInMonth(date)) {
+            int dayBit = 1 << (date.getDayOfMonth() - 1);
+            dayOffMask.getAndUpdate(mask -> mask & ~dayBit);
+        }
+    }
+
+    public boolean isOccupied(LocalDateTime date) {
+        return isInMonth(date.toLocalDate()) && hourCounts.get(toHourIndex(date)) > 0;
+    }
+
+    public boolean isDayOff(LocalDate date) {
+        return isInMonth(date) && (dayOffMask.get() & (1 << (date.getDayOfMonth() - 1))) != 0;
+    }
+
+    private int toHourIndex(LocalDateTime date) {
+        return (date.getDayOfMonth() - 1) * HOURS_OF_DAY + date.getHour();
+    }
+
+    private boolean isInMonth(LocalDate date) {
+        return YearMonth.from(date).equals(yearMonth);
+    }
+}
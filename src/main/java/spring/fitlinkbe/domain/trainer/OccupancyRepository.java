@@ -0,0 +1,29 @@
+package spring.fitlinkbe.domain.trainer;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+public interface OccupancyRepository {
+
+    MonthlyOccupancy getMonthlyOccupancy(Long trainerId, YearMonth yearMonth);
+
+    /**
+     * 적용 예정 버전까지 포함한 트레이너의 모든 수업 가능 시간
+     */
+    List<AvailableTime> getAvailableTimeVersions(Long trainerId);
+
+    /**
+     * 아래 쓰기 메서드는 DB 가 아니라 캐시에 올라가 있는 점유 현황만 갱신한다. (트랜잭션 커밋 이후 반영)
+     */
+    void occupy(Long trainerId, LocalDateTime date);
+
+    void release(Long trainerId, LocalDateTime date);
+
+    void markDayOff(Long trainerId, LocalDate date);
+
+    void unmarkDayOff(Long trainerId, LocalDate date);
+
+    void evictAvailableTimes(Long trainerId);
+}
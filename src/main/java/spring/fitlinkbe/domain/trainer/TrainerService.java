@@ -14,8 +14,15 @@ import spring.fitlinkbe.domain.common.model.SessionInfo;
 import spring.fitlinkbe.domain.member.Member;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static spring.fitlinkbe.domain.common.exception.ErrorCode.TRAINER_IS_NOT_FOUND;
 
@@ -24,11 +31,17 @@ import static spring.fitlinkbe.domain.common.exception.ErrorCode.TRAINER_IS_NOT_
 @Transactional
 public class TrainerService {
 
+    /**
+     * 예약 가능 시간 한 번에 조회할 수 있는 최대 일수
+     */
+    public static final int MAX_FREE_SLOT_DAYS = 62;
+
     private final TrainerRepository trainerRepository;
     private final PersonalDetailRepository personalDetailRepository;
     private final AvailableTimeRepository availableTimeRepository;
     private final ConnectingInfoRepository connectingInfoRepository;
     private final SessionInfoRepository sessionInfoRepository;
+    private final OccupancyRepository occupancyRepository;
 
     @Transactional(readOnly = true)
     public Trainer getTrainerInfo(Long trainerId) {
@@ -56,6 +69,15 @@ public class TrainerService {
                         "트레이너 상세 정보를 찾을 수 없습니다. [trainerId: %d]".formatted(trainerId)));
     }
 
+    /**
+     * 정보 수정용 조회 (캐시를 거치지 않고 DB 에서 읽는다.)
+     */
+    public PersonalDetail getTrainerDetailUncached(Long trainerId) {
+        return personalDetailRepository.getTrainerDetailUncached(trainerId)
+                .orElseThrow(() -> new CustomException(TRAINER_IS_NOT_FOUND,
+                        "트레이너 상세 정보를 찾을 수 없습니다. [trainerId: %d]".formatted(trainerId)));
+    }
+
     public void savePersonalDetail(PersonalDetail personalDetail) {
         personalDetailRepository.savePersonalDetail(personalDetail);
     }
@@ -116,6 +138,66 @@ public class TrainerService {
         return trainerRepository.findScheduledDayOff(trainerId);
     }
 
+    /**
+     * 기간 안의 예약 가능한 시간을 일자별로 계산한다.
+     * 날짜별로 적용 중인 수업 가능 시간에서 휴무일, 지나간 시간, 점유된 시간(확정/고정 예약, 예약 불가 설정)을 뺀다.
+     */
+    @Transactional(readOnly = true)
+    public List<FreeSlot> getFreeSlots(Long trainerId, LocalDate startDate, LocalDate endDate) {
+        if (endDate.isBefore(startDate) || ChronoUnit.DAYS.between(startDate, endDate) >= MAX_FREE_SLOT_DAYS) {
+            throw new CustomException(ErrorCode.INVALID_FREE_SLOT_RANGE,
+                    "조회 기간은 최대 %d일입니다.".formatted(MAX_FREE_SLOT_DAYS));
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<AvailableTime> availableTimeVersions = occupancyRepository.getAvailableTimeVersions(trainerId);
+        Map<YearMonth, MonthlyOccupancy> occupancies = new HashMap<>();
+
+        List<FreeSlot> freeSlots = new ArrayList<>();
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            MonthlyOccupancy occupancy = occupancies.computeIfAbsent(YearMonth.from(date),
+                    yearMonth -> occupancyRepository.getMonthlyOccupancy(trainerId, yearMonth));
+            AvailableTime availableTime = findAppliedAvailableTime(availableTimeVersions, date);
+            if (availableTime == null || occupancy.isDayOff(date)) {
+                freeSlots.add(new FreeSlot(date, List.of()));
+                continue;
+            }
+            //1시간 단위 슬롯 중 지나지 않았고 점유되지 않은 시간만 남긴다.
+            List<LocalTime> times = new ArrayList<>();
+            LocalDateTime endTime = date.atTime(availableTime.getEndTime());
+            for (LocalDateTime slot = date.atTime(availableTime.getStartTime());
+                 !slot.plusHours(1).isAfter(endTime); slot = slot.plusHours(1)) {
+                if (slot.isAfter(now) && !occupancy.isOccupied(slot)) {
+                    times.add(slot.toLocalTime());
+                }
+            }
+            freeSlots.add(new FreeSlot(date, times));
+        }
+
+        return freeSlots;
+    }
+
+    /**
+     * 해당 날짜에 적용 중인(적용일이 가장 최근인) 요일별 수업 가능 시간, 휴무 요일이면 null
+     */
+    private AvailableTime findAppliedAvailableTime(List<AvailableTime> availableTimeVersions, LocalDate date) {
+        LocalDate appliedDate = availableTimeVersions.stream()
+                .map(AvailableTime::getApplyAt)
+                .filter(applyAt -> !applyAt.isAfter(date))
+                .max(LocalDate::compareTo)
+                .orElse(null);
+        if (appliedDate == null) {
+            return null;
+        }
+
+        return availableTimeVersions.stream()
+                .filter(availableTime -> availableTime.getApplyAt().equals(appliedDate))
+                .filter(availableTime -> availableTime.getDayOfWeek() == date.getDayOfWeek())
+                .filter(availableTime -> !Boolean.TRUE.equals(availableTime.getIsHoliday()))
+                .filter(availableTime -> availableTime.getStartTime() != null && availableTime.getEndTime() != null)
+                .findFirst()
+                .orElse(null);
+    }
+
     public ConnectingInfo getConnectingInfo(Long trainerId, Long memberId) {
         return connectingInfoRepository.getConnectingInfo(memberId, trainerId);
     }
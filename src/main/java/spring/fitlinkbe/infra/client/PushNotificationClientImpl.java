@@ -2,9 +2,13 @@ package spring.fitlinkbe.infra.client;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
+import spring.fitlinkbe.domain.notification.client.PushMessage;
 import spring.fitlinkbe.domain.notification.client.PushNotificationClient;
+import spring.fitlinkbe.domain.notification.client.PushResult;
 import spring.fitlinkbe.infra.notification.PushManager;
 
+import java.util.List;
+
 @Component
 @RequiredArgsConstructor
 public class PushNotificationClientImpl implements PushNotificationClient {
@@ -12,7 +16,7 @@ public class PushNotificationClientImpl implements PushNotificationClient {
     private final PushManager pushManager;
 
     @Override
-    public void pushNotification(String token, String title, String content) {
-        pushManager.pushNotification(token, title, content);
+    public PushResult sendBatch(List<PushMessage> pushMessages) {
+        return pushManager.sendBatch(pushMessages);
     }
 }
@@ -4,6 +4,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import spring.fitlinkbe.domain.common.model.PersonalDetail.OauthProvider;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface PersonalDetailJpaRepository extends JpaRepository<PersonalDetailEntity, Long> {
@@ -22,4 +23,10 @@ public interface PersonalDetailJpaRepository extends JpaRepository<PersonalDetai
 
     @Query("SELECT pd FROM PersonalDetailEntity pd JOIN FETCH pd.member t WHERE t.memberId = :memberId")
     Optional<PersonalDetailEntity> findByMemberId(Long memberId);
+
+    @Query("SELECT pd FROM PersonalDetailEntity pd JOIN FETCH pd.member t WHERE t.memberId IN :memberIds")
+    List<PersonalDetailEntity> findByMemberIds(List<Long> memberIds);
+
+    @Query("SELECT pd FROM PersonalDetailEntity pd JOIN FETCH pd.trainer t WHERE t.trainerId IN :trainerIds")
+    List<PersonalDetailEntity> findByTrainerIds(List<Long> trainerIds);
 }
@@ -2,26 +2,48 @@ package spring.fitlinkbe.infra.common.personaldetail;
 
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import spring.fitlinkbe.domain.common.PersonalDetailRepository;
 import spring.fitlinkbe.domain.common.exception.CustomException;
 import spring.fitlinkbe.domain.common.exception.ErrorCode;
 import spring.fitlinkbe.domain.common.model.PersonalDetail;
+import spring.fitlinkbe.support.config.CacheConfig;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
+/**
+ * 알림/예약 흐름마다 조회하는 member/trainer 상세 정보는 캐시에서 먼저 조회하고, 없으면 DB 에서 읽어 올린다.
+ * <p>
+ * 상세 정보를 저장하면 해당 member/trainer 캐시를 바로 비우고, 커밋 이후에 한 번 더 비운다.
+ * (커밋 전에 다른 요청이 이전 값을 다시 올려둔 경우 대비)
+ * 캐시에는 복사본을 넣고 꺼낼 때도 복사본을 돌려준다. (호출한 쪽에서 값을 바꿔도 캐시는 그대로)
+ * 조회한 값을 수정해서 저장하는 흐름은 캐시를 거치지 않는 조회를 사용한다. (다른 인스턴스의 수정을 덮어쓰지 않도록)
+ */
 @Repository
 @RequiredArgsConstructor
 public class PersonalDetailRepositoryImpl implements PersonalDetailRepository {
 
     private final PersonalDetailJpaRepository personalDetailJpaRepository;
     private final EntityManager em;
+    private final CacheManager cacheManager;
 
     @Override
     public Optional<PersonalDetail> savePersonalDetail(PersonalDetail personalDetail) {
         PersonalDetailEntity personalDetailEntity = PersonalDetailEntity.of(personalDetail, em);
+        PersonalDetail saved = personalDetailJpaRepository.save(personalDetailEntity).toDomain();
+        evict(personalDetail);
+        evict(saved);
 
-        return Optional.of(personalDetailJpaRepository.save(personalDetailEntity).toDomain());
+        return Optional.of(saved);
 
     }
 
@@ -47,22 +69,120 @@ public class PersonalDetailRepositoryImpl implements PersonalDetailRepository {
 
     @Override
     public Optional<PersonalDetail> getTrainerDetail(Long trainerId) {
-        Optional<PersonalDetailEntity> findEntity = personalDetailJpaRepository.findByTrainerId(trainerId);
-        if (findEntity.isPresent()) {
-            return findEntity.map(PersonalDetailEntity::toDomain);
-        }
-
-        return Optional.empty();
+        return getCached(trainerKey(trainerId), () -> personalDetailJpaRepository.findByTrainerId(trainerId));
     }
 
     @Override
     public Optional<PersonalDetail> getMemberDetail(Long memberId) {
-        Optional<PersonalDetailEntity> findEntity = personalDetailJpaRepository.findByMemberId(memberId);
-        if (findEntity.isPresent()) {
-            return findEntity.map(PersonalDetailEntity::toDomain);
+        return getCached(memberKey(memberId), () -> personalDetailJpaRepository.findByMemberId(memberId));
+    }
+
+    @Override
+    public Optional<PersonalDetail> getTrainerDetailUncached(Long trainerId) {
+        return personalDetailJpaRepository.findByTrainerId(trainerId).map(PersonalDetailEntity::toDomain);
+    }
+
+    @Override
+    public Optional<PersonalDetail> getMemberDetailUncached(Long memberId) {
+        return personalDetailJpaRepository.findByMemberId(memberId).map(PersonalDetailEntity::toDomain);
+    }
+
+    @Override
+    public List<PersonalDetail> getMemberDetails(List<Long> memberIds) {
+        return getCachedAll(memberIds, this::memberKey, personalDetailJpaRepository::findByMemberIds,
+                PersonalDetail::getMemberId);
+    }
+
+    @Override
+    public List<PersonalDetail> getTrainerDetails(List<Long> trainerIds) {
+        return getCachedAll(trainerIds, this::trainerKey, personalDetailJpaRepository::findByTrainerIds,
+                PersonalDetail::getTrainerId);
+    }
+
+    /**
+     * 캐시에 없는 id 만 모아서 한 번에 조회하고 캐시에 올린다.
+     */
+    private List<PersonalDetail> getCachedAll(List<Long> ids, Function<Long, String> keyOf,
+                                              Function<List<Long>, List<PersonalDetailEntity>> loader,
+                                              Function<PersonalDetail, Long> idOf) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Cache cache = getCache();
+        List<PersonalDetail> result = new ArrayList<>();
+        List<Long> missedIds = new ArrayList<>();
+
+        for (Long id : ids) {
+            PersonalDetail cached = cache.get(keyOf.apply(id), PersonalDetail.class);
+            if (cached != null) {
+                result.add(cached.toBuilder().build());
+            } else {
+                missedIds.add(id);
+            }
         }
 
-        return Optional.empty();
+        if (!missedIds.isEmpty()) {
+            loader.apply(missedIds)
+                    .stream()
+                    .map(PersonalDetailEntity::toDomain)
+                    .forEach(personalDetail -> {
+                        cache.put(keyOf.apply(idOf.apply(personalDetail)), personalDetail.toBuilder().build());
+                        result.add(personalDetail);
+                    });
+        }
+
+        return result;
+    }
+
+    /**
+     * 없는 유저는 캐시에 올리지 않는다. (가입 직후 조회 대비)
+     */
+    private Optional<PersonalDetail> getCached(String key, Supplier<Optional<PersonalDetailEntity>> loader) {
+        Cache cache = getCache();
+        PersonalDetail cached = cache.get(key, PersonalDetail.class);
+        if (cached != null) {
+            return Optional.of(cached.toBuilder().build());
+        }
+
+        Optional<PersonalDetail> loaded = loader.get().map(PersonalDetailEntity::toDomain);
+        loaded.ifPresent(personalDetail -> cache.put(key, personalDetail.toBuilder().build()));
+
+        return loaded;
+    }
+
+    private void evict(PersonalDetail personalDetail) {
+        List<String> keys = new ArrayList<>();
+        if (personalDetail.getMemberId() != null) {
+            keys.add(memberKey(personalDetail.getMemberId()));
+        }
+        if (personalDetail.getTrainerId() != null) {
+            keys.add(trainerKey(personalDetail.getTrainerId()));
+        }
+        if (keys.isEmpty()) {
+            return;
+        }
+
+        Cache cache = getCache();
+        keys.forEach(cache::evict);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    keys.forEach(cache::evict);
+                }
+            });
+        }
     }
 
+    private String memberKey(Long memberId) {
+        return "MEMBER:" + memberId;
+    }
+
+    private String trainerKey(Long trainerId) {
+        return "TRAINER:" + trainerId;
+    }
+
+    private Cache getCache() {
+        return Objects.requireNonNull(cacheManager.getCache(CacheConfig.PERSONAL_DETAIL_CACHE));
+    }
 }
@@ -4,8 +4,10 @@ import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -37,4 +39,26 @@ public interface SessionInfoJpaRepository extends JpaRepository<SessionInfoEntit
 
     @EntityGraph(attributePaths = {"member", "trainer"})
     List<SessionInfoEntity> findByMember_memberIdInAndTrainer_TrainerId(List<Long> memberIds, Long trainerId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE SessionInfoEntity si " +
+            "SET si.remainingCount = si.remainingCount - :count, " +
+            "si.updatedAt = :updatedAt " +
+            "WHERE si.member.memberId = :memberId " +
+            "AND si.trainer.trainerId = :trainerId " +
+            "AND si.remainingCount >= :count")
+    int deductRemainingCount(Long memberId, Long trainerId, int count, LocalDateTime updatedAt);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE SessionInfoEntity si " +
+            "SET si.remainingCount = si.remainingCount + :count, " +
+            "si.updatedAt = :updatedAt " +
+            "WHERE si.member.memberId = :memberId " +
+            "AND si.trainer.trainerId = :trainerId")
+    int restoreRemainingCount(Long memberId, Long trainerId, int count, LocalDateTime updatedAt);
+
+    @Query("SELECT si.remainingCount FROM SessionInfoEntity si " +
+            "WHERE si.member.memberId = :memberId " +
+            "AND si.trainer.trainerId = :trainerId")
+    Optional<Integer> findRemainingCount(Long memberId, Long trainerId);
 }
@@ -5,6 +5,7 @@ import org.springframework.stereotype.Repository;
 import spring.fitlinkbe.domain.common.SessionInfoRepository;
 import spring.fitlinkbe.domain.common.model.SessionInfo;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -76,4 +77,24 @@ public class SessionInfoRepositoryImpl implements SessionInfoRepository {
                 .map(SessionInfoEntity::toDomain)
                 .toList();
     }
+
+    @Override
+    public Optional<Integer> deductRemainingCount(Long trainerId, Long memberId, int count) {
+        int updated = sessionInfoJpaRepository.deductRemainingCount(memberId, trainerId, count, LocalDateTime.now());
+        if (updated == 0) {
+            return Optional.empty();
+        }
+        // update 가 잡은 row lock 이 커밋까지 유지되므로 같은 트랜잭션에서 읽은 값이 곧 차감 결과다.
+        return sessionInfoJpaRepository.findRemainingCount(memberId, trainerId);
+    }
+
+    @Override
+    public Optional<Integer> restoreRemainingCount(Long trainerId, Long memberId, int count) {
+        int updated = sessionInfoJpaRepository.restoreRemainingCount(memberId, trainerId, count, LocalDateTime.now());
+        if (updated == 0) {
+            return Optional.empty();
+        }
+
+        return sessionInfoJpaRepository.findRemainingCount(memberId, trainerId);
+    }
 }
@@ -0,0 +1,50 @@
+package spring.fitlinkbe.infra.common.token;
+
+import jakarta.persistence.*;
+import lombok.*;
+import spring.fitlinkbe.infra.common.model.BaseTimeEntity;
+
+import java.time.LocalDateTime;
+
+/**
+ * 유저가 등록한 기기별 push 토큰 (유저 한 명이 여러 기기를 가질 수 있다.)
+ * <p>
+ * 같은 기기에서 다른 계정으로 로그인하면 토큰이 새 유저에게 옮겨간다. (push_token unique)
+ */
+@Entity
+@Getter
+@Builder(toBuilder = true)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Table(name = "push_token",
+        uniqueConstraints = @UniqueConstraint(name = "UK_PUSH_TOKEN", columnNames = "push_token"),
+        indexes = @Index(name = "IDX_PUSH_TOKEN_PERSONAL_DETAIL", columnList = "personal_detail_id, registered_at"))
+public class PushTokenEntity extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long pushTokenId;
+
+    @Column(nullable = false)
+    private Long personalDetailId;
+
+    @Column(nullable = false)
+    private String pushToken;
+
+    // 마지막으로 등록(갱신)한 시각 : 기기 수가 넘치면 오래된 기기부터 지운다.
+    @Column(nullable = false)
+    private LocalDateTime registeredAt;
+
+    public static PushTokenEntity of(Long personalDetailId, String pushToken, LocalDateTime registeredAt) {
+        return PushTokenEntity.builder()
+                .personalDetailId(personalDetailId)
+                .pushToken(pushToken)
+                .registeredAt(registeredAt)
+                .build();
+    }
+
+    public void register(Long personalDetailId, LocalDateTime registeredAt) {
+        this.personalDetailId = personalDetailId;
+        this.registeredAt = registeredAt;
+    }
+}
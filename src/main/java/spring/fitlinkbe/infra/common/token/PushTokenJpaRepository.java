@@ -0,0 +1,21 @@
+package spring.fitlinkbe.infra.common.token;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface PushTokenJpaRepository extends JpaRepository<PushTokenEntity, Long> {
+
+    Optional<PushTokenEntity> findByPushToken(String pushToken);
+
+    List<PushTokenEntity> findByPersonalDetailIdIn(List<Long> personalDetailIds);
+
+    List<PushTokenEntity> findByPersonalDetailIdOrderByRegisteredAtDesc(Long personalDetailId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM PushTokenEntity p WHERE p.pushToken IN :pushTokens")
+    int deleteByPushTokens(List<String> pushTokens);
+}
@@ -49,4 +49,8 @@ public class TokenEntity extends BaseTimeEntity {
     public void updateRefreshToken(String refreshToken) {
         this.refreshToken = refreshToken;
     }
+
+    public void clearPushToken() {
+        this.pushToken = null;
+    }
 }
@@ -1,10 +1,21 @@
 package spring.fitlinkbe.infra.common.token;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface TokenJpaRepository extends JpaRepository<TokenEntity, Long> {
 
     Optional<TokenEntity> findByPersonalDetail_PersonalDetailId(Long personalDetailId);
+
+    List<TokenEntity> findByPersonalDetail_PersonalDetailIdIn(List<Long> personalDetailIds);
+
+    List<TokenEntity> findByPushTokenAndPersonalDetail_PersonalDetailIdNot(String pushToken, Long personalDetailId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE TokenEntity t SET t.pushToken = null WHERE t.pushToken IN :pushTokens")
+    int clearPushTokens(List<String> pushTokens);
 }
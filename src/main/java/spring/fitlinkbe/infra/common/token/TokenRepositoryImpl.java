@@ -2,21 +2,45 @@ package spring.fitlinkbe.infra.common.token;
 
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import spring.fitlinkbe.domain.common.TokenRepository;
 import spring.fitlinkbe.domain.common.model.Token;
 import spring.fitlinkbe.infra.common.personaldetail.PersonalDetailEntity;
 import spring.fitlinkbe.infra.common.personaldetail.PersonalDetailJpaRepository;
+import spring.fitlinkbe.support.config.CacheConfig;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
+/**
+ * 알림마다 조회하는 유저 토큰(personalDetailId 기준)은 캐시에서 먼저 조회하고, 없으면 DB 에서 읽어 올린다.
+ * <p>
+ * 토큰을 저장(로그인, push 토큰 등록)하면 해당 유저 캐시를 바로 비우고, 커밋 이후에 한 번 더 비운다.
+ * 캐시에는 복사본을 넣고 꺼낼 때도 복사본을 돌려준다.
+ * refresh token 검증이나 토큰 수정처럼 최신 값이 필요한 곳은 캐시를 거치지 않는 조회를 사용한다.
+ * (다른 인스턴스에서 바뀐 토큰은 이 인스턴스 캐시에 만료 전까지 남아 있을 수 있다.)
+ */
 @Repository
 @RequiredArgsConstructor
 public class TokenRepositoryImpl implements TokenRepository {
 
+    // 유저 한 명이 등록할 수 있는 최대 기기 수
+    private static final int MAX_PUSH_TOKENS = 10;
+
     private final TokenJpaRepository tokenJpaRepository;
+    private final PushTokenJpaRepository pushTokenJpaRepository;
     private final PersonalDetailJpaRepository personalDetailJpaRepository;
     private final EntityManager em;
+    private final CacheManager cacheManager;
 
 
     @Override
@@ -35,20 +59,132 @@ public class TokenRepositoryImpl implements TokenRepository {
                     .build();
             result = tokenJpaRepository.save(newTokenEntity).toDomain();
         }
+        evict(List.of(token.getPersonalDetailId()));
 
         return result;
     }
 
     @Override
     public Optional<Token> getByPersonalDetailId(Long personalDetailId) {
-        Optional<TokenEntity> tokenEntity = tokenJpaRepository.findByPersonalDetail_PersonalDetailId(personalDetailId);
+        Cache cache = getCache();
+        Token cached = cache.get(personalDetailId, Token.class);
+        if (cached != null) {
+            return Optional.of(cached.toBuilder().build());
+        }
+
+        Optional<Token> loaded = tokenJpaRepository.findByPersonalDetail_PersonalDetailId(personalDetailId)
+                .map(TokenEntity::toDomain);
+        loaded.ifPresent(token -> cache.put(personalDetailId, token.toBuilder().build()));
+
+        return loaded;
+    }
 
-        return tokenEntity.map(TokenEntity::toDomain);
+    @Override
+    public Optional<Token> getByPersonalDetailIdUncached(Long personalDetailId) {
+        return tokenJpaRepository.findByPersonalDetail_PersonalDetailId(personalDetailId)
+                .map(TokenEntity::toDomain);
+    }
+
+    @Override
+    public List<Token> getByPersonalDetailIds(List<Long> personalDetailIds) {
+        if (personalDetailIds.isEmpty()) {
+            return List.of();
+        }
+
+        Cache cache = getCache();
+        List<Token> result = new ArrayList<>();
+        List<Long> missedIds = new ArrayList<>();
+
+        for (Long personalDetailId : personalDetailIds) {
+            Token cached = cache.get(personalDetailId, Token.class);
+            if (cached != null) {
+                result.add(cached.toBuilder().build());
+            } else {
+                missedIds.add(personalDetailId);
+            }
+        }
+
+        if (!missedIds.isEmpty()) {
+            tokenJpaRepository.findByPersonalDetail_PersonalDetailIdIn(missedIds)
+                    .stream()
+                    .map(TokenEntity::toDomain)
+                    .forEach(token -> {
+                        cache.put(token.getPersonalDetailId(), token.toBuilder().build());
+                        result.add(token);
+                    });
+        }
+
+        return result;
     }
 
     @Override
     public void saveToken(Token token) {
         tokenJpaRepository.save(TokenEntity.from(token, em));
+        evict(List.of(token.getPersonalDetailId()));
+    }
+
+    @Override
+    public void addPushToken(Long personalDetailId, String pushToken) {
+        LocalDateTime now = LocalDateTime.now();
+        pushTokenJpaRepository.findByPushToken(pushToken)
+                .ifPresentOrElse(entity -> entity.register(personalDetailId, now),
+                        () -> pushTokenJpaRepository.save(PushTokenEntity.of(personalDetailId, pushToken, now)));
+        // 기기가 다른 계정으로 옮겨졌으면 이전 계정의 단일 push 토큰 컬럼에서도 지운다. (이전 계정으로 알림이 가지 않도록)
+        List<TokenEntity> previousOwners = tokenJpaRepository
+                .findByPushTokenAndPersonalDetail_PersonalDetailIdNot(pushToken, personalDetailId);
+        if (!previousOwners.isEmpty()) {
+            previousOwners.forEach(TokenEntity::clearPushToken);
+            evict(previousOwners.stream()
+                    .map(entity -> entity.getPersonalDetail().getPersonalDetailId())
+                    .toList());
+        }
+
+        List<PushTokenEntity> pushTokens = pushTokenJpaRepository
+                .findByPersonalDetailIdOrderByRegisteredAtDesc(personalDetailId);
+        if (pushTokens.size() > MAX_PUSH_TOKENS) {
+            pushTokenJpaRepository.deleteAllInBatch(pushTokens.subList(MAX_PUSH_TOKENS, pushTokens.size()));
+        }
+    }
+
+    @Override
+    public Map<Long, List<String>> getPushTokens(List<Long> personalDetailIds) {
+        if (personalDetailIds.isEmpty()) {
+            return Map.of();
+        }
+
+        return pushTokenJpaRepository.findByPersonalDetailIdIn(personalDetailIds)
+                .stream()
+                .collect(Collectors.groupingBy(PushTokenEntity::getPersonalDetailId,
+                        Collectors.mapping(PushTokenEntity::getPushToken, Collectors.toList())));
     }
 
+    @Override
+    public int deletePushTokens(List<String> pushTokens) {
+        if (pushTokens.isEmpty()) {
+            return 0;
+        }
+        // 기존 단일 push 토큰 컬럼에 남아 있는 값도 같이 지운다. (어느 유저의 토큰인지 모르므로 토큰 캐시는 전부 비운다.)
+        if (tokenJpaRepository.clearPushTokens(pushTokens) > 0) {
+            getCache().clear();
+        }
+
+        return pushTokenJpaRepository.deleteByPushTokens(pushTokens);
+    }
+
+    private void evict(List<Long> personalDetailIds) {
+        Cache cache = getCache();
+        personalDetailIds.forEach(cache::evict);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    personalDetailIds.forEach(cache::evict);
+                }
+            });
+        }
+    }
+
+    private Cache getCache() {
+        return Objects.requireNonNull(cacheManager.getCache(CacheConfig.USER_TOKEN_CACHE));
+    }
 }
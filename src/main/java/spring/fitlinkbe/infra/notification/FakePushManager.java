@@ -0,0 +1,65 @@
+package spring.fitlinkbe.infra.notification;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import spring.fitlinkbe.domain.notification.client.PushMessage;
+import spring.fitlinkbe.domain.notification.client.PushResult;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * FCM 없이 push 파이프라인을 부하 테스트하기 위한 가짜 PushManager (app.push.fake=true)
+ * <p>
+ * 한 번의 일괄 전송마다 latencyMillis 만큼 기다리고, 메세지마다 transientFailureRate 확률로 일시적 실패를 돌려준다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.push.fake", havingValue = "true")
+public class FakePushManager implements PushManager {
+
+    private final long latencyMillis;
+    private final double transientFailureRate;
+    private final AtomicLong batchCount = new AtomicLong();
+    private final AtomicLong sentCount = new AtomicLong();
+
+    public FakePushManager(@Value("${app.push.fake-latency-ms:50}") long latencyMillis,
+                           @Value("${app.push.fake-failure-rate:0.0}") double transientFailureRate) {
+        this.latencyMillis = latencyMillis;
+        this.transientFailureRate = transientFailureRate;
+    }
+
+    @Override
+    public PushResult sendBatch(List<PushMessage> pushMessages) {
+        sleep();
+        List<PushMessage> failed = pushMessages.stream()
+                .filter(message -> ThreadLocalRandom.current().nextDouble() < transientFailureRate)
+                .toList();
+        batchCount.incrementAndGet();
+        sentCount.addAndGet(pushMessages.size() - failed.size());
+
+        return PushResult.retryAll(failed);
+    }
+
+    public long getBatchCount() {
+        return batchCount.get();
+    }
+
+    public long getSentCount() {
+        return sentCount.get();
+    }
+
+    private void sleep() {
+        if (latencyMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(latencyMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,29 +1,117 @@
 package spring.fitlinkbe.infra.notification;
 
+import com.google.firebase.ErrorCode;
+import com.google.firebase.messaging.BatchResponse;
 import com.google.firebase.messaging.FirebaseMessaging;
 import com.google.firebase.messaging.FirebaseMessagingException;
 import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.google.firebase.messaging.SendResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
+import spring.fitlinkbe.domain.notification.client.PushMessage;
+import spring.fitlinkbe.domain.notification.client.PushNotificationClient;
+import spring.fitlinkbe.domain.notification.client.PushResult;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
 
 @Component
 @Slf4j
+@ConditionalOnProperty(name = "app.push.fake", havingValue = "false", matchIfMissing = true)
 public class FcmPushManager implements PushManager {
 
+    // 재시도하면 성공할 수 있는 오류 (FCM 서버 장애, 요청 한도 초과)
+    private static final Set<MessagingErrorCode> TRANSIENT_MESSAGING_ERRORS = Set.of(
+            MessagingErrorCode.UNAVAILABLE, MessagingErrorCode.INTERNAL, MessagingErrorCode.QUOTA_EXCEEDED);
+    private static final Set<ErrorCode> TRANSIENT_ERRORS = Set.of(
+            ErrorCode.UNAVAILABLE, ErrorCode.INTERNAL, ErrorCode.DEADLINE_EXCEEDED, ErrorCode.RESOURCE_EXHAUSTED);
+    // 토큰이 더 이상 유효하지 않은 오류 (앱 삭제/토큰 만료, 다른 프로젝트의 토큰)
+    private static final Set<MessagingErrorCode> DEAD_TOKEN_ERRORS = Set.of(
+            MessagingErrorCode.UNREGISTERED, MessagingErrorCode.SENDER_ID_MISMATCH);
+    // INVALID_ARGUMENT 는 메세지 내용이 잘못된 경우에도 오므로, 토큰 형식 오류일 때만 유효하지 않은 토큰으로 본다.
+    private static final String INVALID_REGISTRATION_TOKEN_MESSAGE = "registration token";
+
     @Override
-    public void pushNotification(String token, String title, String content) {
-        Message message = Message.builder()
+    public PushResult sendBatch(List<PushMessage> pushMessages) {
+        if (pushMessages.size() > PushNotificationClient.MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("FCM 일괄 전송은 최대 %d건까지 가능합니다. [size: %d]"
+                    .formatted(PushNotificationClient.MAX_BATCH_SIZE, pushMessages.size()));
+        }
+        List<Message> messages = pushMessages.stream()
+                .map(m -> toMessage(m.pushToken(), m.name(), m.content()))
+                .toList();
+
+        try {
+            BatchResponse response = FirebaseMessaging.getInstance().sendEach(messages);
+            log.info("FCM 일괄 전송 완료: 성공 {}건, 실패 {}건", response.getSuccessCount(),
+                    response.getFailureCount());
+
+            return collectFailures(pushMessages, response.getResponses());
+        } catch (FirebaseMessagingException e) {
+            // 요청 자체가 실패한 경우 : 일시적인 오류면 전부 재시도
+            if (isTransient(e)) {
+                log.warn("FCM 일괄 전송 실패 (재시도): {}", e.getMessage());
+                return PushResult.retryAll(pushMessages);
+            }
+            log.error("FCM 일괄 전송 실패: {}", e.getMessage());
+            return PushResult.failAll(pushMessages);
+        }
+    }
+
+    private PushResult collectFailures(List<PushMessage> pushMessages, List<SendResponse> responses) {
+        List<PushMessage> retryable = new ArrayList<>();
+        List<String> deadTokens = new ArrayList<>();
+        int failedCount = 0;
+        for (int i = 0; i < responses.size(); i++) {
+            SendResponse response = responses.get(i);
+            if (response.isSuccessful()) {
+                continue;
+            }
+            FirebaseMessagingException e = response.getException();
+            if (isTransient(e)) {
+                retryable.add(pushMessages.get(i));
+            } else if (isDeadToken(e)) {
+                deadTokens.add(pushMessages.get(i).pushToken());
+            } else {
+                failedCount++;
+                log.warn("FCM 전송 실패: {}", e.getMessage());
+            }
+        }
+        if (!deadTokens.isEmpty()) {
+            log.info("FCM 유효하지 않은 토큰: {}건", deadTokens.size());
+        }
+
+        return new PushResult(retryable, deadTokens, failedCount);
+    }
+
+    private boolean isTransient(FirebaseMessagingException e) {
+        if (e.getMessagingErrorCode() != null) {
+            return TRANSIENT_MESSAGING_ERRORS.contains(e.getMessagingErrorCode());
+        }
+
+        return TRANSIENT_ERRORS.contains(e.getErrorCode());
+    }
+
+    private boolean isDeadToken(FirebaseMessagingException e) {
+        if (e.getMessagingErrorCode() == MessagingErrorCode.INVALID_ARGUMENT) {
+            return e.getMessage() != null
+                    && e.getMessage().toLowerCase(Locale.ROOT).contains(INVALID_REGISTRATION_TOKEN_MESSAGE);
+        }
+
+        return e.getMessagingErrorCode() != null && DEAD_TOKEN_ERRORS.contains(e.getMessagingErrorCode());
+    }
+
+    private Message toMessage(String token, String title, String content) {
+        return Message.builder()
                 .setToken(token)
                 .setNotification(com.google.firebase.messaging.Notification.builder()
                         .setTitle(title)
                         .setBody(content)
                         .build())
                 .build();
-        try {
-            String response = FirebaseMessaging.getInstance().send(message);
-            log.info("FCM 전송 성공: {}", response);
-        } catch (FirebaseMessagingException e) {
-            log.error(e.getMessage());
-        }
     }
 }
@@ -13,7 +13,8 @@ import java.time.LocalDateTime;
 @Builder(toBuilder = true)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
-@Table(name = "notification")
+@Table(name = "notification", indexes = {
+        @Index(name = "IDX_NOTIFICATION_INBOX", columnList = "personal_detail_id, target, ref_type, notification_id")})
 public class NotificationEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
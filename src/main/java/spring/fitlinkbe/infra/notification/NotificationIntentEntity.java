@@ -0,0 +1,85 @@
+package spring.fitlinkbe.infra.notification;
+
+import jakarta.persistence.*;
+import lombok.*;
+import spring.fitlinkbe.domain.common.enums.UserRole;
+import spring.fitlinkbe.domain.common.model.PersonalDetail;
+import spring.fitlinkbe.domain.notification.Notification;
+import spring.fitlinkbe.domain.notification.NotificationIntent;
+
+import java.time.LocalDateTime;
+
+/**
+ * 저장/전송 전의 알림 요청
+ * <p>
+ * 저장은 NotificationIntentJdbcRepository 가 batch insert 로 하고, 처리가 끝난 요청은 바로 삭제한다.
+ * 처리에 실패한 요청은 attempts/last_error 를 남기고, 최대 시도 횟수를 넘기면 재처리하지 않고 남겨 둔다.
+ */
+@Entity
+@Getter
+@Builder(toBuilder = true)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Table(name = "notification_intent", indexes = {
+        @Index(name = "IDX_NOTIFICATION_INTENT_CREATED_AT", columnList = "created_at")})
+public class NotificationIntentEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long intentId;
+
+    private Long personalDetailId;
+
+    // 알림 받는 회원/트레이너 id (target 기준, personalDetailId 는 처리 단계에서 채운다.)
+    private Long recipientId;
+
+    private Long refId;
+
+    @Enumerated(EnumType.STRING)
+    private Notification.ReferenceType refType;
+
+    @Enumerated(EnumType.STRING)
+    private UserRole target;
+
+    private Long partnerId;
+
+    @Enumerated(EnumType.STRING)
+    private Notification.NotificationType notificationType;
+
+    private String name;
+
+    private String content;
+
+    private LocalDateTime sendDate;
+
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    private String lastError;
+
+    public NotificationIntent toDomain() {
+        Notification notification = Notification.builder()
+                .refId(refId)
+                .refType(refType)
+                .target(target)
+                .partnerId(partnerId)
+                .notificationType(notificationType)
+                .personalDetail(PersonalDetail.builder()
+                        .personalDetailId(personalDetailId)
+                        .memberId(target == UserRole.TRAINER ? null : recipientId)
+                        .trainerId(target == UserRole.TRAINER ? recipientId : null)
+                        .build())
+                .name(name)
+                .content(content)
+                .sendDate(sendDate)
+                .build();
+
+        return NotificationIntent.builder()
+                .intentId(intentId)
+                .notification(notification)
+                .createdAt(createdAt)
+                .build();
+    }
+}
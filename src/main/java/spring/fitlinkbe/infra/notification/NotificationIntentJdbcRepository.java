@@ -0,0 +1,84 @@
+package spring.fitlinkbe.infra.notification;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import spring.fitlinkbe.domain.notification.Notification;
+import spring.fitlinkbe.domain.notification.NotificationIntent;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 알림 요청 일괄 저장용 JDBC batch insert (트랜잭션당 한 번)
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationIntentJdbcRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO notification_intent " +
+            "(personal_detail_id, recipient_id, ref_id, ref_type, target, partner_id, notification_type, name, " +
+            "content, send_date, created_at, attempts) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 알림 요청을 batch insert 하고, 생성된 id 를 저장 순서대로 반환한다.
+     */
+    public List<Long> batchInsert(List<NotificationIntent> intents) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        return jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+                for (NotificationIntent intent : intents) {
+                    setIntent(ps, intent, now);
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+
+                return readGeneratedKeys(ps, intents.size());
+            }
+        });
+    }
+
+    private void setIntent(PreparedStatement ps, NotificationIntent intent, Timestamp now) throws SQLException {
+        Notification notification = intent.getNotification();
+
+        ps.setObject(1, intent.getPersonalDetailId(), Types.BIGINT);
+        ps.setObject(2, intent.getRecipientId(), Types.BIGINT);
+        ps.setObject(3, notification.getRefId(), Types.BIGINT);
+        ps.setString(4, notification.getRefType() == null ? null : notification.getRefType().name());
+        ps.setString(5, notification.getTarget() == null ? null : notification.getTarget().name());
+        ps.setObject(6, notification.getPartnerId(), Types.BIGINT);
+        ps.setString(7, notification.getNotificationType().name());
+        ps.setString(8, notification.getName());
+        ps.setString(9, notification.getContent());
+        ps.setTimestamp(10, notification.getSendDate() == null ? null
+                : Timestamp.valueOf(notification.getSendDate()));
+        ps.setTimestamp(11, now);
+    }
+
+    private List<Long> readGeneratedKeys(PreparedStatement ps, int expectedSize) throws SQLException {
+        List<Long> keys = new ArrayList<>(expectedSize);
+        try (ResultSet rs = ps.getGeneratedKeys()) {
+            while (rs.next()) {
+                keys.add(rs.getLong(1));
+            }
+        }
+        if (keys.size() != expectedSize) {
+            throw new IllegalStateException("생성된 알림 요청 id 수가 일치하지 않습니다. [expected: %d, actual: %d]"
+                    .formatted(expectedSize, keys.size()));
+        }
+
+        return keys;
+    }
+}
@@ -0,0 +1,50 @@
+package spring.fitlinkbe.infra.notification;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import spring.fitlinkbe.domain.notification.Notification;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface NotificationIntentJpaRepository extends JpaRepository<NotificationIntentEntity, Long> {
+
+    /**
+     * 알림 요청을 선점한다. 다른 인스턴스가 잠근 row 는 기다리지 않고 건너뛴다. (lock timeout -2 = SKIP LOCKED)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT i FROM NotificationIntentEntity i WHERE i.intentId IN :intentIds ORDER BY i.intentId")
+    List<NotificationIntentEntity> findByIdsForUpdate(List<Long> intentIds);
+
+    /**
+     * createdBefore 이전에 저장되었고 시도 횟수가 maxAttempts 미만인 알림 요청 id (잠그지 않는다. 선점은 처리 단계에서 한다.)
+     */
+    @Query("SELECT i.intentId FROM NotificationIntentEntity i " +
+            "WHERE i.createdAt < :createdBefore AND i.attempts < :maxAttempts ORDER BY i.createdAt")
+    List<Long> findStaleIds(LocalDateTime createdBefore, int maxAttempts, Pageable pageable);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT i FROM NotificationIntentEntity i WHERE i.personalDetailId IN :personalDetailIds " +
+            "AND i.partnerId IN :partnerIds AND i.notificationType IN :notificationTypes " +
+            "AND i.createdAt >= :createdAfter ORDER BY i.intentId")
+    List<NotificationIntentEntity> findPendingForUpdate(List<Long> personalDetailIds, List<Long> partnerIds,
+                                                        List<Notification.NotificationType> notificationTypes,
+                                                        LocalDateTime createdAfter);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM NotificationIntentEntity i WHERE i.intentId IN :intentIds")
+    int deleteByIds(List<Long> intentIds);
+
+    @Modifying
+    @Query("UPDATE NotificationIntentEntity i SET i.attempts = i.attempts + 1, i.lastError = :lastError " +
+            "WHERE i.intentId = :intentId")
+    int increaseAttempts(Long intentId, String lastError);
+}
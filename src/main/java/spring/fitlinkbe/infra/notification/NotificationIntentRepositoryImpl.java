@@ -0,0 +1,75 @@
+package spring.fitlinkbe.infra.notification;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+import spring.fitlinkbe.domain.notification.Notification;
+import spring.fitlinkbe.domain.notification.NotificationIntent;
+import spring.fitlinkbe.domain.notification.NotificationIntentRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class NotificationIntentRepositoryImpl implements NotificationIntentRepository {
+
+    // notification_intent.last_error 컬럼 길이
+    private static final int MAX_ERROR_LENGTH = 255;
+
+    private final NotificationIntentJpaRepository notificationIntentJpaRepository;
+    private final NotificationIntentJdbcRepository notificationIntentJdbcRepository;
+
+    @Override
+    public List<Long> saveIntents(List<NotificationIntent> intents) {
+        if (intents.isEmpty()) {
+            return List.of();
+        }
+
+        return notificationIntentJdbcRepository.batchInsert(intents);
+    }
+
+    @Override
+    public List<NotificationIntent> claimIntents(List<Long> intentIds) {
+        return notificationIntentJpaRepository.findByIdsForUpdate(intentIds)
+                .stream()
+                .map(NotificationIntentEntity::toDomain)
+                .toList();
+    }
+
+    @Override
+    public List<Long> getStaleIntentIds(LocalDateTime createdBefore, int maxAttempts, int limit) {
+        return notificationIntentJpaRepository.findStaleIds(createdBefore, maxAttempts, PageRequest.of(0, limit));
+    }
+
+    @Override
+    public List<NotificationIntent> claimPendingIntents(List<Long> personalDetailIds, List<Long> partnerIds,
+                                                        List<Notification.NotificationType> notificationTypes,
+                                                        LocalDateTime createdAfter) {
+        if (personalDetailIds.isEmpty() || partnerIds.isEmpty() || notificationTypes.isEmpty()) {
+            return List.of();
+        }
+
+        return notificationIntentJpaRepository.findPendingForUpdate(personalDetailIds, partnerIds, notificationTypes,
+                        createdAfter)
+                .stream()
+                .map(NotificationIntentEntity::toDomain)
+                .toList();
+    }
+
+    @Override
+    public int deleteIntents(List<Long> intentIds) {
+        if (intentIds.isEmpty()) {
+            return 0;
+        }
+
+        return notificationIntentJpaRepository.deleteByIds(intentIds);
+    }
+
+    @Override
+    public void recordFailure(Long intentId, String lastError) {
+        String error = lastError == null || lastError.length() <= MAX_ERROR_LENGTH ? lastError
+                : lastError.substring(0, MAX_ERROR_LENGTH);
+        notificationIntentJpaRepository.increaseAttempts(intentId, error);
+    }
+}
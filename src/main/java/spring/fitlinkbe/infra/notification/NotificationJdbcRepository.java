@@ -0,0 +1,78 @@
+package spring.fitlinkbe.infra.notification;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import spring.fitlinkbe.domain.notification.Notification;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 알림 일괄 저장용 JDBC batch insert
+ * (IDENTITY 전략에서는 JPA saveAll 이 batch insert 되지 않는다.)
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationJdbcRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO notification " +
+            "(ref_id, ref_type, target, personal_detail_id, partner_id, name, content, notification_type, " +
+            "is_sent, is_processed, send_date) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 알림을 batch insert 하고, 생성된 알림 id 를 저장 순서대로 반환한다. (검색 역색인 저장에 사용)
+     */
+    public List<Long> batchInsert(List<Notification> notifications) {
+        return jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+                for (Notification notification : notifications) {
+                    setNotification(ps, notification);
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+
+                return readGeneratedKeys(ps, notifications.size());
+            }
+        });
+    }
+
+    private void setNotification(PreparedStatement ps, Notification notification) throws SQLException {
+        ps.setObject(1, notification.getRefId());
+        ps.setString(2, notification.getRefType() == null ? null : notification.getRefType().name());
+        ps.setString(3, notification.getTarget() == null ? null : notification.getTarget().name());
+        ps.setObject(4, notification.getPersonalDetail().getPersonalDetailId());
+        ps.setObject(5, notification.getPartnerId());
+        ps.setString(6, notification.getName());
+        ps.setString(7, notification.getContent());
+        ps.setString(8, notification.getNotificationType().name());
+        ps.setBoolean(9, notification.isSent());
+        ps.setBoolean(10, notification.isProcessed());
+        ps.setTimestamp(11, notification.getSendDate() == null ? null
+                : Timestamp.valueOf(notification.getSendDate()));
+    }
+
+    private List<Long> readGeneratedKeys(PreparedStatement ps, int expectedSize) throws SQLException {
+        List<Long> keys = new ArrayList<>(expectedSize);
+        try (ResultSet rs = ps.getGeneratedKeys()) {
+            while (rs.next()) {
+                keys.add(rs.getLong(1));
+            }
+        }
+        if (keys.size() != expectedSize) {
+            throw new IllegalStateException("생성된 알림 id 수가 일치하지 않습니다. [expected: %d, actual: %d]"
+                    .formatted(expectedSize, keys.size()));
+        }
+
+        return keys;
+    }
+}
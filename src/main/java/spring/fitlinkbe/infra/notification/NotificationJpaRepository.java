@@ -3,6 +3,8 @@ package spring.fitlinkbe.infra.notification;
 
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import spring.fitlinkbe.domain.common.enums.UserRole;
 import spring.fitlinkbe.domain.notification.Notification;
 
@@ -27,4 +29,17 @@ public interface NotificationJpaRepository extends JpaRepository<NotificationEnt
     @EntityGraph(attributePaths = {"personalDetail"})
     Optional<NotificationEntity> findByNotificationIdAndPersonalDetail_PersonalDetailId(Long notificationId,
                                                                                         Long personalDetailId);
+
+    @EntityGraph(attributePaths = {"personalDetail"})
+    List<NotificationEntity> findByNotificationIdIn(List<Long> notificationIds);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE NotificationEntity n SET n.isProcessed = true " +
+            "WHERE n.notificationId = :notificationId AND n.isProcessed = false")
+    int processNotification(Long notificationId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE NotificationEntity n SET n.isProcessed = true " +
+            "WHERE n.personalDetail.personalDetailId = :personalDetailId AND n.isProcessed = false")
+    int processAllNotifications(Long personalDetailId);
 }
@@ -5,8 +5,14 @@ import org.springframework.data.domain.Pageable;
 import spring.fitlinkbe.domain.common.enums.UserRole;
 import spring.fitlinkbe.domain.notification.Notification;
 
+import java.util.List;
+
 public interface NotificationRepositoryCustom {
 
     Page<NotificationEntity> findNotifications(Notification.ReferenceType type, Pageable pageRequest,
                                                UserRole userRole, Long partnerId, Long personalDetailId, String keyword);
+
+    List<NotificationEntity> findNotificationsByCursor(Notification.ReferenceType type, UserRole userRole,
+                                                       Long partnerId, Long personalDetailId, String keyword,
+                                                       Long cursorId, int limit);
 }
@@ -24,8 +24,6 @@ public class NotificationRepositoryCustomImpl implements NotificationRepositoryC
                                                       Long partnerId, Long personalDetailId, String keyword) {
 
         List<NotificationEntity> notifications = queryFactory.selectFrom(notificationEntity)
-                .leftJoin(personalDetailEntity)
-                .on(personalDetailEntity.personalDetailId.eq(personalDetailId))
                 .where(
                         eqRefType(type),
                         eqUserRole(userRole),
@@ -33,6 +31,7 @@ public class NotificationRepositoryCustomImpl implements NotificationRepositoryC
                         eqPartnerId(partnerId),
                         likeKeyword(keyword)
                 )
+                .orderBy(notificationEntity.notificationId.asc())
                 .offset(pageRequest.getOffset())
                 .limit(pageRequest.getPageSize())
                 .fetch();
@@ -55,6 +54,35 @@ public class NotificationRepositoryCustomImpl implements NotificationRepositoryC
         return new PageImpl<>(notifications, pageRequest, totalCount);
     }
 
+    /**
+     * 알림 id 커서 이전의 알림을 최신순으로 limit 건 조회한다. (전체 건수는 세지 않는다.)
+     * <p>
+     * IDX_NOTIFICATION_INBOX (personal_detail_id, target, ref_type, notification_id) 로 읽고,
+     * 알림 주인 정보는 toDomain 에서 쓰이므로 같이 가져온다.
+     */
+    @Override
+    public List<NotificationEntity> findNotificationsByCursor(Notification.ReferenceType type, UserRole userRole,
+                                                              Long partnerId, Long personalDetailId, String keyword,
+                                                              Long cursorId, int limit) {
+        return queryFactory.selectFrom(notificationEntity)
+                .join(notificationEntity.personalDetail, personalDetailEntity).fetchJoin()
+                .where(
+                        eqRefType(type),
+                        eqUserRole(userRole),
+                        eqPersonalDetailId(personalDetailId),
+                        eqPartnerId(partnerId),
+                        likeKeyword(keyword),
+                        ltNotificationId(cursorId)
+                )
+                .orderBy(notificationEntity.notificationId.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    private BooleanExpression ltNotificationId(Long cursorId) {
+        return cursorId != null ? notificationEntity.notificationId.lt(cursorId) : null;
+    }
+
     private BooleanExpression likeKeyword(String keyword) {
         return keyword != null ? notificationEntity.content.containsIgnoreCase(keyword)
                 .or(notificationEntity.name.containsIgnoreCase(keyword)) : null;
@@ -4,6 +4,8 @@ import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Repository;
 import spring.fitlinkbe.domain.common.enums.UserRole;
 import spring.fitlinkbe.domain.common.exception.CustomException;
@@ -12,13 +14,21 @@ import spring.fitlinkbe.domain.notification.Notification;
 import spring.fitlinkbe.domain.notification.NotificationRepository;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Repository
 @RequiredArgsConstructor
 public class NotificationRepositoryImpl implements NotificationRepository {
 
     private final NotificationJpaRepository notificationJpaRepository;
+    private final NotificationJdbcRepository notificationJdbcRepository;
+    private final NotificationTokenJdbcRepository notificationTokenJdbcRepository;
+    private final NotificationUnreadCountJdbcRepository notificationUnreadCountJdbcRepository;
     private final EntityManager em;
 
     @Override
@@ -58,8 +68,50 @@ public class NotificationRepositoryImpl implements NotificationRepository {
 
     @Override
     public Notification save(Notification notification) {
-        return notificationJpaRepository.save(NotificationEntity.of(notification, em))
+        boolean isNew = notification.getNotificationId() == null;
+        Notification saved = notificationJpaRepository.save(NotificationEntity.of(notification, em))
                 .toDomain();
+        // 제목/내용은 생성 이후 바뀌지 않으므로 새 알림일 때만 검색 토큰을 저장한다.
+        if (isNew) {
+            notificationTokenJdbcRepository.batchInsert(List.of(notification), List.of(saved.getNotificationId()));
+            incrementUnreadCount(List.of(notification));
+        }
+
+        return saved;
+    }
+
+    @Override
+    public void saveAll(List<Notification> notifications) {
+        if (notifications.isEmpty()) {
+            return;
+        }
+
+        List<Long> notificationIds = notificationJdbcRepository.batchInsert(notifications);
+        notificationTokenJdbcRepository.batchInsert(notifications, notificationIds);
+        incrementUnreadCount(notifications);
+    }
+
+    @Override
+    public boolean processNotification(Notification notification) {
+        // 처리되지 않은 알림일 때만 바뀌므로, 동시에 처리해도 읽지 않은 알림 수는 한 번만 줄어든다.
+        int updated = notificationJpaRepository.processNotification(notification.getNotificationId());
+        notificationUnreadCountJdbcRepository.decrement(notification.getPersonalDetail().getPersonalDetailId(),
+                updated);
+
+        return updated > 0;
+    }
+
+    @Override
+    public int processAllNotifications(Long personalDetailId) {
+        int updated = notificationJpaRepository.processAllNotifications(personalDetailId);
+        notificationUnreadCountJdbcRepository.decrement(personalDetailId, updated);
+
+        return updated;
+    }
+
+    @Override
+    public int getUnreadCount(Long personalDetailId) {
+        return notificationUnreadCountJdbcRepository.getUnreadCount(personalDetailId);
     }
 
     @Override
@@ -71,9 +123,58 @@ public class NotificationRepositoryImpl implements NotificationRepository {
         return notifications.map(NotificationEntity::toDomain);
     }
 
+    @Override
+    public Slice<Notification> getNotifications(Notification.ReferenceType type, UserRole userRole, Long partnerId,
+                                                Long personalDetailId, String keyword, Long cursorId, int size) {
+        // 다음 페이지 여부는 한 건 더 읽어서 판단
+        List<Notification> notifications = notificationJpaRepository
+                .findNotificationsByCursor(type, userRole, partnerId, personalDetailId, keyword, cursorId, size + 1)
+                .stream()
+                .map(NotificationEntity::toDomain)
+                .toList();
+        boolean hasNext = notifications.size() > size;
+
+        return new SliceImpl<>(hasNext ? notifications.subList(0, size) : notifications, Pageable.ofSize(size),
+                hasNext);
+    }
+
+    @Override
+    public List<Notification> searchNotifications(Long personalDetailId, Notification.ReferenceType type,
+                                                  String keyword, int size) {
+        Set<String> tokens = NotificationTokenizer.tokenize(keyword);
+        // 검색어 토큰의 절반 이상이 일치해야 결과에 포함한다. (부분 일치는 순위로 뒤에 둔다.)
+        int minMatch = Math.max(1, (tokens.size() + 1) / 2);
+        List<Long> rankedIds = notificationTokenJdbcRepository.searchNotificationIds(personalDetailId, type,
+                tokens, minMatch, size);
+        if (rankedIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Notification> notifications = notificationJpaRepository.findByNotificationIdIn(rankedIds)
+                .stream()
+                .map(NotificationEntity::toDomain)
+                .collect(Collectors.toMap(Notification::getNotificationId, Function.identity()));
+
+        return rankedIds.stream()
+                .map(notifications::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
     @Override
     public Optional<Notification> findById(Long notificationId) {
         return notificationJpaRepository.findById(notificationId)
                 .map(NotificationEntity::toDomain);
     }
+
+    /**
+     * 새로 저장된 처리 전 알림 수만큼 받는 사람별 읽지 않은 알림 수를 늘린다.
+     */
+    private void incrementUnreadCount(List<Notification> notifications) {
+        Map<Long, Integer> counts = notifications.stream()
+                .filter(notification -> !notification.isProcessed() && notification.getPersonalDetail() != null)
+                .collect(Collectors.groupingBy(notification -> notification.getPersonalDetail().getPersonalDetailId(),
+                        Collectors.summingInt(notification -> 1)));
+
+        notificationUnreadCountJdbcRepository.increment(counts);
+    }
 }
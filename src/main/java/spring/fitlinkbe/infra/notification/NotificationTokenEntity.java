@@ -0,0 +1,31 @@
+package spring.fitlinkbe.infra.notification;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 알림 검색용 역색인 (2-gram 토큰 -> 알림)
+ * <p>
+ * 저장/검색은 NotificationTokenJdbcRepository 가 담당하고, 엔티티는 테이블 정의용이다.
+ */
+@Entity
+@Getter
+@Builder(toBuilder = true)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Table(name = "notification_token", indexes = {
+        @Index(name = "IDX_NOTIFICATION_TOKEN_SEARCH", columnList = "personal_detail_id, token, notification_id"),
+        @Index(name = "IDX_NOTIFICATION_TOKEN_NOTIFICATION", columnList = "notification_id")})
+public class NotificationTokenEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long notificationTokenId;
+
+    private Long personalDetailId;
+
+    @Column(length = 8)
+    private String token;
+
+    private Long notificationId;
+}
@@ -0,0 +1,87 @@
+package spring.fitlinkbe.infra.notification;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import spring.fitlinkbe.domain.notification.Notification;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 알림 검색 역색인(notification_token) 저장 및 검색
+ * <p>
+ * 검색은 (personal_detail_id, token, notification_id) 인덱스만 읽어서 알림별로 일치한 토큰 수를 세고,
+ * 일치한 토큰이 많은 순 -> 최신순으로 순위를 매긴다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationTokenJdbcRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO notification_token " +
+            "(personal_detail_id, token, notification_id) VALUES (?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 알림 제목/내용의 토큰을 batch insert 한다. (notificationIds 는 notifications 와 같은 순서)
+     */
+    public void batchInsert(List<Notification> notifications, List<Long> notificationIds) {
+        List<TokenRow> rows = new ArrayList<>();
+        for (int i = 0; i < notifications.size(); i++) {
+            Notification notification = notifications.get(i);
+            if (notification.getPersonalDetail() == null) {
+                continue;
+            }
+            Long personalDetailId = notification.getPersonalDetail().getPersonalDetailId();
+            for (String token : NotificationTokenizer.tokenize(notification.getName(), notification.getContent())) {
+                rows.add(new TokenRow(personalDetailId, token, notificationIds.get(i)));
+            }
+        }
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows, rows.size(), (ps, row) -> {
+            ps.setLong(1, row.personalDetailId());
+            ps.setString(2, row.token());
+            ps.setLong(3, row.notificationId());
+        });
+    }
+
+    /**
+     * 검색어 토큰 중 minMatch 개 이상 일치하는 알림 id 를 순위대로 limit 건 반환한다.
+     */
+    public List<Long> searchNotificationIds(Long personalDetailId, Notification.ReferenceType type,
+                                            Set<String> tokens, int minMatch, int limit) {
+        if (tokens.isEmpty()) {
+            return List.of();
+        }
+        List<Object> params = new ArrayList<>();
+        params.add(personalDetailId);
+        params.addAll(tokens);
+
+        StringBuilder sql = new StringBuilder("SELECT t.notification_id, COUNT(*) AS score FROM notification_token t ");
+        if (type != null) {
+            sql.append("JOIN notification n ON n.notification_id = t.notification_id ");
+        }
+        sql.append("WHERE t.personal_detail_id = ? AND t.token IN (")
+                .append(String.join(", ", Collections.nCopies(tokens.size(), "?")))
+                .append(") ");
+        if (type != null) {
+            sql.append("AND n.ref_type = ? ");
+            params.add(type.name());
+        }
+        sql.append("GROUP BY t.notification_id HAVING COUNT(*) >= ? ")
+                .append("ORDER BY score DESC, t.notification_id DESC LIMIT ?");
+        params.add(minMatch);
+        params.add(limit);
+
+        return jdbcTemplate.query(sql.toString(), (rs, rowNum) -> rs.getLong("notification_id"), params.toArray());
+    }
+
+    private record TokenRow(Long personalDetailId, String token, Long notificationId) {
+    }
+}
@@ -0,0 +1,37 @@
+package spring.fitlinkbe.infra.notification;
+
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 알림 검색용 2-gram 토크나이저
+ * <p>
+ * 공백을 지우고 소문자로 바꾼 뒤 두 글자씩 잘라 토큰을 만든다. (한글은 형태소 분석 없이도 부분 일치 검색이 된다.)
+ * 마이그레이션(012) 의 backfill 도 같은 규칙으로 토큰을 만든다.
+ */
+final class NotificationTokenizer {
+
+    static final int TOKEN_SIZE = 2;
+
+    private NotificationTokenizer() {
+    }
+
+    static Set<String> tokenize(String... texts) {
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String text : texts) {
+            if (text == null) {
+                continue;
+            }
+            int[] codePoints = text.replaceAll("\\s+", "")
+                    .toLowerCase(Locale.ROOT)
+                    .codePoints()
+                    .toArray();
+            for (int i = 0; i + TOKEN_SIZE <= codePoints.length; i++) {
+                tokens.add(new String(codePoints, i, TOKEN_SIZE));
+            }
+        }
+
+        return tokens;
+    }
+}
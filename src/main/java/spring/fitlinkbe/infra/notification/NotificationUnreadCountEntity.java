@@ -0,0 +1,24 @@
+package spring.fitlinkbe.infra.notification;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 유저별 읽지 않은(처리되지 않은) 알림 수
+ * <p>
+ * 증감은 NotificationUnreadCountJdbcRepository 가 원자적으로 처리하고, 엔티티는 테이블 정의용이다.
+ */
+@Entity
+@Getter
+@Builder(toBuilder = true)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Table(name = "notification_unread_count")
+public class NotificationUnreadCountEntity {
+
+    @Id
+    private Long personalDetailId;
+
+    @Column(nullable = false)
+    private int unreadCount;
+}
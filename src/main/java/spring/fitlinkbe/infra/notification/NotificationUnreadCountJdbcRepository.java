@@ -0,0 +1,59 @@
+package spring.fitlinkbe.infra.notification;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 유저별 읽지 않은 알림 수 (notification_unread_count) 원자적 증감
+ * <p>
+ * 알림 저장/처리와 같은 트랜잭션에서 한 행만 갱신하므로, 뱃지 조회는 PK 한 건 조회로 끝난다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationUnreadCountJdbcRepository {
+
+    private static final String INCREMENT_SQL = "INSERT INTO notification_unread_count " +
+            "(personal_detail_id, unread_count) VALUES (?, ?) " +
+            "ON DUPLICATE KEY UPDATE unread_count = unread_count + VALUES(unread_count)";
+
+    private static final String DECREMENT_SQL = "UPDATE notification_unread_count " +
+            "SET unread_count = GREATEST(unread_count - ?, 0) WHERE personal_detail_id = ?";
+
+    private static final String SELECT_SQL = "SELECT unread_count FROM notification_unread_count " +
+            "WHERE personal_detail_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * personalDetailId 별 증가량을 한 번에 반영한다. (없으면 행을 만든다.)
+     */
+    public void increment(Map<Long, Integer> countsByPersonalDetailId) {
+        if (countsByPersonalDetailId.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<Long, Integer>> counts = new ArrayList<>(countsByPersonalDetailId.entrySet());
+
+        jdbcTemplate.batchUpdate(INCREMENT_SQL, counts, counts.size(), (ps, count) -> {
+            ps.setLong(1, count.getKey());
+            ps.setInt(2, count.getValue());
+        });
+    }
+
+    public void decrement(Long personalDetailId, int count) {
+        if (count <= 0) {
+            return;
+        }
+        jdbcTemplate.update(DECREMENT_SQL, count, personalDetailId);
+    }
+
+    public int getUnreadCount(Long personalDetailId) {
+        List<Integer> result = jdbcTemplate.queryForList(SELECT_SQL, Integer.class, personalDetailId);
+
+        return result.isEmpty() ? 0 : result.get(0);
+    }
+}
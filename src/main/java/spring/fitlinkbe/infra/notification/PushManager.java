@@ -1,5 +1,15 @@
 package spring.fitlinkbe.infra.notification;
 
+import spring.fitlinkbe.domain.notification.client.PushMessage;
+import spring.fitlinkbe.domain.notification.client.PushResult;
+
+import java.util.List;
+
 public interface PushManager {
-    void pushNotification(String token, String title, String content);
+
+    /**
+     * 최대 PushNotificationClient.MAX_BATCH_SIZE 건을 한 번에 전송하고,
+     * 일시적인 오류로 실패해 재시도할 메세지와 더 이상 유효하지 않은 push 토큰을 반환한다.
+     */
+    PushResult sendBatch(List<PushMessage> pushMessages);
 }
@@ -13,7 +13,10 @@ import java.time.LocalDateTime;
 @Builder(toBuilder = true)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
-@Table(name = "outbox")
+@Table(name = "outbox", indexes = {
+        @Index(name = "IDX_OUTBOX_MESSAGE_ID", columnList = "message_id"),
+        @Index(name = "IDX_OUTBOX_STATUS_NEXT_ATTEMPT", columnList = "event_status, next_attempt_at"),
+        @Index(name = "IDX_OUTBOX_STATUS_CREATED_AT", columnList = "event_status, created_at")})
 public class OutboxEntity extends BaseTimeEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -42,6 +45,8 @@ public class OutboxEntity extends BaseTimeEntity {
 
     private LocalDateTime sentAt;
 
+    private LocalDateTime nextAttemptAt;
+
     public static OutboxEntity toEntity(Outbox outbox) {
         return OutboxEntity.builder()
                 .outboxId(outbox.getOutboxId())
@@ -54,6 +59,7 @@ public class OutboxEntity extends BaseTimeEntity {
                 .retryCount(outbox.getRetryCount())
                 .createdAt(outbox.getCreatedAt())
                 .sentAt(outbox.getSentAt())
+                .nextAttemptAt(outbox.getNextAttemptAt())
                 .build();
     }
 
@@ -69,6 +75,7 @@ public class OutboxEntity extends BaseTimeEntity {
                 .retryCount(retryCount)
                 .createdAt(createdAt)
                 .sentAt(sentAt)
+                .nextAttemptAt(nextAttemptAt)
                 .build();
     }
 }
@@ -0,0 +1,63 @@
+package spring.fitlinkbe.infra.outbox;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import spring.fitlinkbe.domain.outbox.Outbox;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * outbox 일괄 저장용 JDBC batch insert
+ * (IDENTITY 전략에서는 JPA saveAll 이 batch insert 되지 않는다.)
+ * <p>
+ * 보관 기간이 지난 outbox 를 outbox_archive 로 옮기는 INSERT ... SELECT 도 함께 둔다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OutboxJdbcRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO outbox " +
+            "(aggregate_type, aggregate_id, message_id, event_status, event_type, payload, retry_count, " +
+            "next_attempt_at, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String ARCHIVE_SQL = "INSERT INTO outbox_archive " +
+            "(outbox_id, aggregate_type, aggregate_id, message_id, event_status, event_type, payload, retry_count, " +
+            "sent_at, created_at, archived_at) " +
+            "SELECT outbox_id, aggregate_type, aggregate_id, message_id, event_status, event_type, payload, " +
+            "retry_count, sent_at, created_at, ? FROM outbox WHERE outbox_id IN (%s)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void batchInsert(List<Outbox> outboxes) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, outboxes, outboxes.size(), (ps, outbox) -> {
+            ps.setString(1, outbox.getAggregateType().name());
+            ps.setObject(2, outbox.getAggregateId());
+            ps.setString(3, outbox.getMessageId());
+            ps.setString(4, outbox.getEventStatus().name());
+            ps.setString(5, outbox.getEventType().name());
+            ps.setString(6, outbox.getPayload());
+            ps.setInt(7, outbox.getRetryCount());
+            ps.setTimestamp(8, outbox.getNextAttemptAt() == null ? now
+                    : Timestamp.valueOf(outbox.getNextAttemptAt()));
+            ps.setTimestamp(9, now);
+            ps.setTimestamp(10, now);
+        });
+    }
+
+    public int archive(List<Long> outboxIds) {
+        String placeholders = String.join(", ", Collections.nCopies(outboxIds.size(), "?"));
+        List<Object> params = new ArrayList<>(outboxIds.size() + 1);
+        params.add(Timestamp.valueOf(LocalDateTime.now()));
+        params.addAll(outboxIds);
+
+        return jdbcTemplate.update(ARCHIVE_SQL.formatted(placeholders), params.toArray());
+    }
+}
@@ -1,13 +1,55 @@
 package spring.fitlinkbe.infra.outbox;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-import spring.fitlinkbe.domain.outbox.Outbox;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import spring.fitlinkbe.domain.outbox.OutboxBacklog;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 public interface OutboxJpaRepository extends JpaRepository<OutboxEntity, Long> {
-    List<OutboxEntity> findByEventStatusIs(Outbox.EventStatus status);
 
     Optional<OutboxEntity> findByMessageId(String messageId);
+
+    /**
+     * 발행 시도 시간이 지난 INIT 상태 outbox 를 선점한다.
+     * 다른 인스턴스가 잠근 row 는 기다리지 않고 건너뛴다. (lock timeout -2 = SKIP LOCKED)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT o FROM OutboxEntity o " +
+            "WHERE o.eventStatus = spring.fitlinkbe.domain.outbox.Outbox.EventStatus.INIT " +
+            "AND o.nextAttemptAt <= :now " +
+            "ORDER BY o.nextAttemptAt")
+    List<OutboxEntity> findRelayTargetsForUpdate(LocalDateTime now, Pageable pageable);
+
+    @Query("SELECT new spring.fitlinkbe.domain.outbox.OutboxBacklog(COUNT(o), MIN(o.createdAt)) " +
+            "FROM OutboxEntity o " +
+            "WHERE o.eventStatus = spring.fitlinkbe.domain.outbox.Outbox.EventStatus.INIT")
+    OutboxBacklog findBacklog();
+
+    @Query("SELECT o.outboxId FROM OutboxEntity o " +
+            "WHERE o.eventStatus = spring.fitlinkbe.domain.outbox.Outbox.EventStatus.SEND_SUCCESS " +
+            "AND o.createdAt < :createdBefore " +
+            "ORDER BY o.createdAt")
+    List<Long> findSentIdsCreatedBefore(LocalDateTime createdBefore, Pageable pageable);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM OutboxEntity o WHERE o.outboxId IN :ids")
+    int deleteByIds(List<Long> ids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE OutboxEntity o " +
+            "SET o.eventStatus = spring.fitlinkbe.domain.outbox.Outbox.EventStatus.SEND_SUCCESS, " +
+            "o.sentAt = :sentAt, o.updatedAt = :sentAt " +
+            "WHERE o.messageId IN :messageIds " +
+            "AND o.eventStatus = spring.fitlinkbe.domain.outbox.Outbox.EventStatus.INIT")
+    int publishByMessageIds(List<String> messageIds, LocalDateTime sentAt);
 }
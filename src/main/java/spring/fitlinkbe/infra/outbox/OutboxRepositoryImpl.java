@@ -1,10 +1,13 @@
 package spring.fitlinkbe.infra.outbox;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 import spring.fitlinkbe.domain.outbox.Outbox;
+import spring.fitlinkbe.domain.outbox.OutboxBacklog;
 import spring.fitlinkbe.domain.outbox.OutboxRepository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,6 +16,7 @@ import java.util.Optional;
 public class OutboxRepositoryImpl implements OutboxRepository {
 
     private final OutboxJpaRepository outboxJpaRepository;
+    private final OutboxJdbcRepository outboxJdbcRepository;
 
     @Override
     public Optional<Outbox> getOutbox(String messageId) {
@@ -39,11 +43,57 @@ public class OutboxRepositoryImpl implements OutboxRepository {
     }
 
     @Override
-    public List<Outbox> getRetryOutboxes() {
+    public void saveOutboxes(List<Outbox> outboxes) {
+        if (outboxes.isEmpty()) {
+            return;
+        }
+
+        outboxJdbcRepository.batchInsert(outboxes);
+    }
 
-        return outboxJpaRepository.findByEventStatusIs(Outbox.EventStatus.INIT).stream()
+    @Override
+    public int publishOutboxes(List<String> messageIds) {
+        if (messageIds.isEmpty()) {
+            return 0;
+        }
+
+        return outboxJpaRepository.publishByMessageIds(messageIds, LocalDateTime.now());
+    }
+
+    @Override
+    public List<Outbox> claimRelayOutboxes(LocalDateTime now, int limit) {
+
+        return outboxJpaRepository.findRelayTargetsForUpdate(now, PageRequest.of(0, limit))
+                .stream()
                 .map(OutboxEntity::toDomain)
                 .toList();
+    }
+
+    @Override
+    public OutboxBacklog getBacklog() {
+        return outboxJpaRepository.findBacklog();
+    }
+
+    @Override
+    public List<Long> getSentOutboxIds(LocalDateTime createdBefore, int limit) {
+        return outboxJpaRepository.findSentIdsCreatedBefore(createdBefore, PageRequest.of(0, limit));
+    }
+
+    @Override
+    public void archiveOutboxes(List<Long> outboxIds) {
+        if (outboxIds.isEmpty()) {
+            return;
+        }
+
+        outboxJdbcRepository.archive(outboxIds);
+    }
+
+    @Override
+    public int deleteOutboxes(List<Long> outboxIds) {
+        if (outboxIds.isEmpty()) {
+            return 0;
+        }
 
+        return outboxJpaRepository.deleteByIds(outboxIds);
     }
 }
@@ -0,0 +1,26 @@
+package spring.fitlinkbe.infra.outbox;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Getter
+@Builder(toBuilder = true)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Table(name = "processed_message",
+        uniqueConstraints = @UniqueConstraint(name = "UK_PROCESSED_MESSAGE_ID", columnNames = "message_id"),
+        indexes = @Index(name = "IDX_PROCESSED_MESSAGE_PROCESSED_AT", columnList = "processed_at"))
+public class ProcessedMessageEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long processedMessageId;
+
+    @Column(nullable = false)
+    private String messageId;
+
+    private LocalDateTime processedAt;
+}
@@ -0,0 +1,31 @@
+package spring.fitlinkbe.infra.outbox;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 메시지 처리 이력 일괄 저장용 JDBC batch insert
+ * (message_id 유니크 키 위반 시 예외가 발생해 도메인 처리 트랜잭션이 함께 롤백된다.)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProcessedMessageJdbcRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO processed_message (message_id, processed_at) VALUES (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void batchInsert(List<String> messageIds) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, messageIds, messageIds.size(), (ps, messageId) -> {
+            ps.setString(1, messageId);
+            ps.setTimestamp(2, now);
+        });
+    }
+}
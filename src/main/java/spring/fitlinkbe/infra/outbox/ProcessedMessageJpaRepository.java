@@ -0,0 +1,24 @@
+package spring.fitlinkbe.infra.outbox;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ProcessedMessageJpaRepository extends JpaRepository<ProcessedMessageEntity, Long> {
+
+    @Query("SELECT pm.messageId FROM ProcessedMessageEntity pm WHERE pm.messageId IN :messageIds")
+    List<String> findMessageIds(List<String> messageIds);
+
+    @Query("SELECT pm.processedMessageId FROM ProcessedMessageEntity pm " +
+            "WHERE pm.processedAt < :processedBefore " +
+            "ORDER BY pm.processedMessageId")
+    List<Long> findIdsProcessedBefore(LocalDateTime processedBefore, Pageable pageable);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM ProcessedMessageEntity pm WHERE pm.processedMessageId IN :ids")
+    int deleteByIds(List<Long> ids);
+}
@@ -0,0 +1,88 @@
+package spring.fitlinkbe.infra.outbox;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import spring.fitlinkbe.domain.outbox.ProcessedMessageRepository;
+import spring.fitlinkbe.support.config.CacheConfig;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 최근 처리한 messageId 는 캐시에서 먼저 확인하고, 캐시에 없는 것만 DB 에서 조회한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProcessedMessageRepositoryImpl implements ProcessedMessageRepository {
+
+    private final ProcessedMessageJpaRepository processedMessageJpaRepository;
+    private final ProcessedMessageJdbcRepository processedMessageJdbcRepository;
+    private final CacheManager cacheManager;
+
+    @Override
+    public List<String> getProcessedMessageIds(List<String> messageIds) {
+        Cache cache = getCache();
+        List<String> processedIds = new ArrayList<>();
+        List<String> missedIds = new ArrayList<>();
+
+        for (String messageId : messageIds) {
+            if (cache.get(messageId) != null) {
+                processedIds.add(messageId);
+            } else {
+                missedIds.add(messageId);
+            }
+        }
+
+        if (!missedIds.isEmpty()) {
+            List<String> foundIds = processedMessageJpaRepository.findMessageIds(missedIds);
+            foundIds.forEach(messageId -> cache.put(messageId, Boolean.TRUE));
+            processedIds.addAll(foundIds);
+        }
+
+        return processedIds;
+    }
+
+    @Override
+    public void saveProcessedMessageIds(List<String> messageIds) {
+        processedMessageJdbcRepository.batchInsert(messageIds);
+
+        // 커밋된 이력만 캐시에 올린다. (롤백된 메시지는 재처리되어야 함)
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    putAll(messageIds);
+                }
+            });
+            return;
+        }
+        putAll(messageIds);
+    }
+
+    @Override
+    public int deleteProcessedMessages(LocalDateTime processedBefore, int limit) {
+        List<Long> ids = processedMessageJpaRepository.findIdsProcessedBefore(processedBefore,
+                PageRequest.of(0, limit));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        return processedMessageJpaRepository.deleteByIds(ids);
+    }
+
+    private void putAll(List<String> messageIds) {
+        Cache cache = getCache();
+        messageIds.forEach(messageId -> cache.put(messageId, Boolean.TRUE));
+    }
+
+    private Cache getCache() {
+        return Objects.requireNonNull(cacheManager.getCache(CacheConfig.PROCESSED_MESSAGE_CACHE));
+    }
+}
@@ -4,6 +4,9 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import spring.fitlinkbe.domain.producer.EventProducer;
 
+import java.util.Map;
+import java.util.Set;
+
 @Component
 @RequiredArgsConstructor
 public class EventProducerImpl implements EventProducer {
@@ -14,4 +17,9 @@ public class EventProducerImpl implements EventProducer {
     public void publish(String topic, String key, String payload) {
         sqsProducer.publish(topic, payload);
     }
+
+    @Override
+    public Set<String> publishAll(String topic, Map<String, String> payloadsByKey) {
+        return sqsProducer.publishBatch(topic, payloadsByKey);
+    }
 }
@@ -1,15 +1,31 @@
 package spring.fitlinkbe.infra.producer;
 
+import io.awspring.cloud.sqs.operations.SendBatchOperationFailedException;
+import io.awspring.cloud.sqs.operations.SendResult;
 import io.awspring.cloud.sqs.operations.SqsTemplate;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class SqsProducer {
 
+    /**
+     * SQS SendMessageBatch 한 번에 보낼 수 있는 최대 메시지 수
+     */
+    public static final int MAX_BATCH_SIZE = 10;
+    public static final String MESSAGE_KEY_HEADER = "message-key";
+
     private final SqsTemplate sqsTemplate;
 
     public void publish(String topic, String payload) {
@@ -22,4 +38,53 @@ public class SqsProducer {
             log.error("[SQS] :: FAILED :: queue={}, payload={}, error={}", topic, payload, ex.getMessage(), ex);
         }
     }
+
+    /**
+     * 최대 10건씩 나누어 배치 발행한다.
+     *
+     * @return 발행에 성공한 메시지 key
+     */
+    public Set<String> publishBatch(String topic, Map<String, String> payloadsByKey) {
+        log.info("[SQS] :: PUBLISH BATCH :: sending to queue={}, size={}", topic, payloadsByKey.size());
+
+        List<Message<String>> messages = payloadsByKey.entrySet().stream()
+                .map(entry -> MessageBuilder.withPayload(entry.getValue())
+                        .setHeader(MESSAGE_KEY_HEADER, entry.getKey())
+                        .build())
+                .toList();
+
+        Set<String> sentKeys = new HashSet<>();
+        for (int from = 0; from < messages.size(); from += MAX_BATCH_SIZE) {
+            List<Message<String>> chunk = messages.subList(from, Math.min(from + MAX_BATCH_SIZE, messages.size()));
+            SendResult.Batch<String> result = sendMany(topic, chunk);
+            if (result == null) {
+                continue;
+            }
+            result.successful().forEach(success -> sentKeys.add(getKey(success.message())));
+            result.failed().forEach(failed ->
+                    log.error("[SQS] :: FAILED :: queue={}, key={}, error={}", topic,
+                            getKey(failed.message()), failed.errorMessage()));
+        }
+        log.info("[SQS] :: SUCCESS BATCH :: queue={}, success={}, failed={}", topic,
+                sentKeys.size(), messages.size() - sentKeys.size());
+
+        return sentKeys;
+    }
+
+    private SendResult.Batch<String> sendMany(String topic, List<Message<String>> chunk) {
+        try {
+            return sqsTemplate.sendMany(topic, new ArrayList<>(chunk));
+        } catch (SendBatchOperationFailedException ex) {
+            // 일부 실패 시에도 성공한 메시지는 발행 완료로 처리한다.
+            return ex.getSendBatchResult(String.class);
+        } catch (Exception ex) {
+            log.error("[SQS] :: FAILED BATCH :: queue={}, size={}, error={}", topic, chunk.size(),
+                    ex.getMessage(), ex);
+            return null;
+        }
+    }
+
+    private String getKey(Message<String> message) {
+        return message.getHeaders().get(MESSAGE_KEY_HEADER, String.class);
+    }
 }
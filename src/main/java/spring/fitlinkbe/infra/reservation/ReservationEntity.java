@@ -3,6 +3,7 @@ package spring.fitlinkbe.infra.reservation;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.Hibernate;
+import org.hibernate.annotations.BatchSize;
 import org.springframework.data.annotation.CreatedDate;
 import spring.fitlinkbe.domain.reservation.Reservation;
 import spring.fitlinkbe.infra.common.model.BaseTimeEntity;
@@ -12,16 +13,31 @@ import spring.fitlinkbe.infra.trainer.TrainerEntity;
 
 import java.time.DayOfWeek;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 
 @Entity
 @Getter
 @Builder(toBuilder = true)
 @NoArgsConstructor(access = AccessLevel.PROTECTED) // proxy 객체 생성을 위해
 @AllArgsConstructor // 빌더 패턴 사용을 위해
-@Table(name = "reservation")
+@Table(name = "reservation",
+        uniqueConstraints = @UniqueConstraint(name = ReservationEntity.UK_TRAINER_SLOT,
+                columnNames = {"trainer_id", "booked_slot"}),
+        indexes = {
+                @Index(name = "IDX_RESERVATION_TRAINER_DATE", columnList = "trainer_id, reservation_date"),
+                @Index(name = "IDX_RESERVATION_MEMBER_DATE", columnList = "member_id, reservation_date"),
+                @Index(name = "IDX_RESERVATION_CONFIRM_DATE", columnList = "confirm_date, status"),
+                @Index(name = "IDX_RESERVATION_STATUS_DATE", columnList = "status, reservation_date")})
 public class ReservationEntity extends BaseTimeEntity {
 
+    /**
+     * 같은 트레이너의 같은 시간에 확정/고정 예약, 예약 불가 설정이 하나만 존재하도록 보장하는 unique key
+     */
+    public static final String UK_TRAINER_SLOT = "UK_RESERVATION_TRAINER_SLOT";
+    private static final int SLOT_BATCH_FETCH_SIZE = 100;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long reservationId;
@@ -40,14 +56,30 @@ public class ReservationEntity extends BaseTimeEntity {
 
     private String name;
 
-    @Column(columnDefinition = "varchar(255)")
-    @Convert(converter = LocalDateTimeListConverter.class)
-    private List<LocalDateTime> reservationDates;
+    // 예약 목록 조회 시 예약마다 select 하지 않고 SLOT_BATCH_FETCH_SIZE 건씩 한 번에 가져온다.
+    @ElementCollection(fetch = FetchType.EAGER)
+    @BatchSize(size = SLOT_BATCH_FETCH_SIZE)
+    @CollectionTable(name = "reservation_slot",
+            joinColumns = @JoinColumn(name = "reservation_id", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT)),
+            indexes = @Index(name = "IDX_RESERVATION_SLOT_DATE", columnList = "slot_date, reservation_id"))
+    @OrderColumn(name = "slot_order")
+    @Builder.Default
+    private List<ReservationSlot> reservationSlots = new ArrayList<>();
+
+    /**
+     * 예약 목록 기간 조회용 대표 날짜 (희망 날짜 중 가장 이른 날짜)
+     */
+    private LocalDateTime reservationDate;
 
     private LocalDateTime changeDate;
 
     private LocalDateTime confirmDate;
 
+    /**
+     * 트레이너 시간을 독점하는 상태일 때만 채워지는 슬롯 (그 외 상태는 null 이라 unique key 에 걸리지 않는다.)
+     */
+    private LocalDateTime bookedSlot;
+
     @Enumerated(EnumType.STRING)
     private DayOfWeek dayOfWeek;
 
@@ -73,9 +105,11 @@ public class ReservationEntity extends BaseTimeEntity {
                 .sessionInfo((reservation.isReservationNotAllowed() || reservation.getSessionInfo() == null) ? null
                         : em.getReference(SessionInfoEntity.class, reservation.getSessionInfo().getSessionInfoId()))
                 .name(reservation.getName())
-                .reservationDates(reservation.getReservationDates())
+                .reservationSlots(toReservationSlots(reservation.getReservationDates()))
+                .reservationDate(resolveReservationDate(reservation))
                 .changeDate(reservation.getChangeDate())
                 .confirmDate(reservation.getConfirmDate())
+                .bookedSlot(reservation.getBookedSlot())
                 .dayOfWeek(reservation.getDayOfWeek())
                 .status(reservation.getStatus())
                 .cancelReason(reservation.getCancelReason())
@@ -85,14 +119,16 @@ public class ReservationEntity extends BaseTimeEntity {
     }
 
     public Reservation toDomain() {
-        return Reservation.builder()
+        Reservation reservation = Reservation.builder()
                 .reservationId(reservationId)
                 .member(isReservationNotAllowed() ? null : Hibernate.isInitialized(member) ? member.toDomain() : null)
                 .trainer(Hibernate.isInitialized(trainer) ? trainer.toDomain() : null)
                 .sessionInfo((sessionInfo == null || isReservationNotAllowed()) ? null :
                         Hibernate.isInitialized(sessionInfo) ? sessionInfo.toDomain() : null)
                 .name(name)
-                .reservationDates(reservationDates)
+                .reservationDates(reservationSlots.stream()
+                        .map(ReservationSlot::getReservationDate)
+                        .toList())
                 .changeDate(changeDate)
                 .confirmDate(confirmDate)
                 .dayOfWeek(dayOfWeek)
@@ -102,6 +138,27 @@ public class ReservationEntity extends BaseTimeEntity {
                 .createdAt(getCreatedAt())
                 .updatedAt(getUpdatedAt())
                 .build();
+        reservation.markPersisted();
+
+        return reservation;
+    }
+
+    private static List<ReservationSlot> toReservationSlots(List<LocalDateTime> reservationDates) {
+        if (reservationDates == null) {
+            return new ArrayList<>();
+        }
+
+        return reservationDates.stream()
+                .map(ReservationSlot::of)
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    private static LocalDateTime resolveReservationDate(Reservation reservation) {
+        if (reservation.getReservationDates() == null || reservation.getReservationDates().isEmpty()) {
+            return reservation.getConfirmDate();
+        }
+
+        return reservation.getReservationDate();
     }
 
     private boolean isReservationNotAllowed() {
@@ -0,0 +1,154 @@
+package spring.fitlinkbe.infra.reservation;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import spring.fitlinkbe.domain.reservation.Reservation;
+import spring.fitlinkbe.domain.reservation.Session;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 고정 예약/세션 일괄 저장용 JDBC batch insert
+ * (IDENTITY 전략에서는 JPA saveAll 이 batch insert 되지 않는다.)
+ * <p>
+ * 예약은 생성된 id 가 필요하므로 batch 실행 후 generated keys 를 순서대로 읽는다.
+ * (MySQL 은 rewriteBatchedStatements 로 multi-row insert 가 되고, 연속된 id 를 돌려준다.)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReservationJdbcRepository {
+
+    private static final String INSERT_RESERVATION_SQL = "INSERT INTO reservation " +
+            "(member_id, trainer_id, session_info_id, name, reservation_date, change_date, confirm_date, " +
+            "booked_slot, day_of_week, status, cancel_reason, is_day_off, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_SLOT_SQL = "INSERT INTO reservation_slot " +
+            "(reservation_id, slot_order, reservation_date, slot_date) " +
+            "VALUES (?, ?, ?, ?)";
+
+    // 회원/트레이너 id 는 예약에서 그대로 옮겨 적는다. (session 비정규화 컬럼)
+    private static final String INSERT_SESSION_SQL = "INSERT INTO session " +
+            "(reservation_id, member_id, trainer_id, status, cancel_reason, is_completed, created_at, updated_at) " +
+            "SELECT r.reservation_id, r.member_id, r.trainer_id, ?, ?, ?, ?, ? " +
+            "FROM reservation r WHERE r.reservation_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 예약과 희망 날짜(reservation_slot)를 batch insert 하고, 생성된 예약 id 를 저장 순서대로 반환한다.
+     */
+    public List<Long> batchInsertReservations(List<Reservation> reservations) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        List<Long> reservationIds = jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(INSERT_RESERVATION_SQL,
+                    Statement.RETURN_GENERATED_KEYS)) {
+                for (Reservation reservation : reservations) {
+                    setReservation(ps, reservation, now);
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+
+                return readGeneratedKeys(ps, reservations.size());
+            }
+        });
+
+        List<SlotRow> slotRows = new ArrayList<>();
+        for (int i = 0; i < reservations.size(); i++) {
+            List<LocalDateTime> reservationDates = reservations.get(i).getReservationDates();
+            if (reservationDates == null) {
+                continue;
+            }
+            for (int order = 0; order < reservationDates.size(); order++) {
+                slotRows.add(new SlotRow(reservationIds.get(i), order, reservationDates.get(order)));
+            }
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_SLOT_SQL, slotRows, slotRows.size(), (ps, row) -> {
+            ps.setLong(1, row.reservationId());
+            ps.setInt(2, row.order());
+            ps.setTimestamp(3, Timestamp.valueOf(row.reservationDate()));
+            ps.setTimestamp(4, Timestamp.valueOf(ReservationSlot.toSlotDate(row.reservationDate())));
+        });
+
+        return reservationIds;
+    }
+
+    public void batchInsertSessions(List<Session> sessions) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(INSERT_SESSION_SQL, sessions, sessions.size(), (ps, session) -> {
+            ps.setString(1, session.getStatus().name());
+            ps.setString(2, session.getCancelReason());
+            ps.setBoolean(3, session.isCompleted());
+            ps.setTimestamp(4, now);
+            ps.setTimestamp(5, now);
+            ps.setLong(6, session.getReservation().getReservationId());
+        });
+    }
+
+    private void setReservation(PreparedStatement ps, Reservation reservation, Timestamp now) throws SQLException {
+        boolean notAllowed = reservation.isReservationNotAllowed();
+
+        ps.setObject(1, notAllowed ? null : reservation.getMember().getMemberId(), Types.BIGINT);
+        ps.setObject(2, reservation.getTrainer() == null ? null : reservation.getTrainer().getTrainerId(),
+                Types.BIGINT);
+        ps.setObject(3, (notAllowed || reservation.getSessionInfo() == null) ? null
+                : reservation.getSessionInfo().getSessionInfoId(), Types.BIGINT);
+        ps.setString(4, reservation.getName());
+        ps.setTimestamp(5, toTimestamp(resolveReservationDate(reservation)));
+        ps.setTimestamp(6, toTimestamp(reservation.getChangeDate()));
+        ps.setTimestamp(7, toTimestamp(reservation.getConfirmDate()));
+        ps.setTimestamp(8, toTimestamp(reservation.getBookedSlot()));
+        ps.setString(9, reservation.getDayOfWeek() == null ? null : reservation.getDayOfWeek().name());
+        ps.setString(10, reservation.getStatus().name());
+        ps.setString(11, reservation.getCancelReason());
+        ps.setBoolean(12, reservation.isDayOff());
+        ps.setTimestamp(13, reservation.getCreatedAt() == null ? now : Timestamp.valueOf(reservation.getCreatedAt()));
+        ps.setTimestamp(14, now);
+    }
+
+    private List<Long> readGeneratedKeys(PreparedStatement ps, int expectedSize) throws SQLException {
+        List<Long> keys = new ArrayList<>(expectedSize);
+        try (ResultSet rs = ps.getGeneratedKeys()) {
+            while (rs.next()) {
+                keys.add(rs.getLong(1));
+            }
+        }
+        if (keys.size() != expectedSize) {
+            throw new IllegalStateException("생성된 예약 id 수가 일치하지 않습니다. [expected: %d, actual: %d]"
+                    .formatted(expectedSize, keys.size()));
+        }
+
+        return keys;
+    }
+
+    /**
+     * ReservationEntity 와 같은 규칙으로 대표 날짜를 정한다. (희망 날짜가 없으면 확정 날짜)
+     */
+    private LocalDateTime resolveReservationDate(Reservation reservation) {
+        if (reservation.getReservationDates() == null || reservation.getReservationDates().isEmpty()) {
+            return reservation.getConfirmDate();
+        }
+
+        return reservation.getReservationDate();
+    }
+
+    private Timestamp toTimestamp(LocalDateTime dateTime) {
+        return dateTime == null ? null : Timestamp.valueOf(dateTime);
+    }
+
+    private record SlotRow(Long reservationId, int order, LocalDateTime reservationDate) {
+    }
+}
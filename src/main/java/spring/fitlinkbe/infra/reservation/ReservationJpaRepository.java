@@ -1,7 +1,11 @@
 package spring.fitlinkbe.infra.reservation;
 
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import spring.fitlinkbe.domain.reservation.Reservation;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -36,13 +40,77 @@ public interface ReservationJpaRepository extends JpaRepository<ReservationEntit
             "WHERE r.trainer.trainerId = :trainerId")
     List<ReservationEntity> findByTrainerId(Long trainerId);
 
+    @Query("SELECT r FROM ReservationEntity r " +
+            "LEFT JOIN FETCH r.member " +
+            "LEFT JOIN FETCH r.trainer " +
+            "LEFT JOIN FETCH r.sessionInfo " +
+            "WHERE r.member.memberId = :memberId " +
+            "AND r.reservationDate > :startDate AND r.reservationDate < :endDate")
+    List<ReservationEntity> findByMemberIdInRange(Long memberId, LocalDateTime startDate, LocalDateTime endDate);
+
     @Query("SELECT r FROM ReservationEntity r " +
             "LEFT JOIN FETCH r.member " +
             "LEFT JOIN FETCH r.trainer " +
             "LEFT JOIN FETCH r.sessionInfo " +
             "WHERE r.trainer.trainerId = :trainerId " +
+            "AND r.reservationDate > :startDate AND r.reservationDate < :endDate")
+    List<ReservationEntity> findByTrainerIdInRange(Long trainerId, LocalDateTime startDate, LocalDateTime endDate);
+
+    @Query("SELECT DISTINCT r FROM ReservationEntity r " +
+            "JOIN r.reservationSlots s " +
+            "LEFT JOIN FETCH r.member " +
+            "LEFT JOIN FETCH r.trainer " +
+            "LEFT JOIN FETCH r.sessionInfo " +
+            "WHERE s.slotDate IN :slotDates " +
+            "AND r.trainer.trainerId = :trainerId " +
+            "AND r.status = spring.fitlinkbe.domain.reservation.Reservation.Status.RESERVATION_WAITING " +
+            "ORDER BY r.reservationId")
+    List<ReservationEntity> findWaitingStatusBySlotDates(Long trainerId, List<LocalDateTime> slotDates);
+
+    /**
+     * 아직 대기 상태인 예약만 잠근다. (같은 트랜잭션에서 거절하기 전에 다른 요청이 승인/취소하지 못하도록)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM ReservationEntity r " +
+            "WHERE r.reservationId IN :reservationIds " +
+            "AND r.status = spring.fitlinkbe.domain.reservation.Reservation.Status.RESERVATION_WAITING " +
+            "ORDER BY r.reservationId")
+    List<ReservationEntity> findWaitingByIdsForUpdate(List<Long> reservationIds);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ReservationEntity r " +
+            "SET r.status = spring.fitlinkbe.domain.reservation.Reservation.Status.RESERVATION_REFUSED, " +
+            "r.updatedAt = :updatedAt " +
+            "WHERE r.reservationId IN :reservationIds " +
             "AND r.status = spring.fitlinkbe.domain.reservation.Reservation.Status.RESERVATION_WAITING")
-    List<ReservationEntity> findWaitingStatus(Long trainerId);
+    int refuseWaitingStatus(List<Long> reservationIds, LocalDateTime updatedAt);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ReservationEntity r " +
+            "SET r.status = spring.fitlinkbe.domain.reservation.Reservation.Status.RESERVATION_CANCELLED, " +
+            "r.cancelReason = :cancelReason, " +
+            "r.confirmDate = null, " +
+            "r.bookedSlot = null, " +
+            "r.updatedAt = :updatedAt " +
+            "WHERE r.reservationId IN :reservationIds " +
+            "AND r.status = spring.fitlinkbe.domain.reservation.Reservation.Status.FIXED_RESERVATION")
+    int cancelFixedStatus(List<Long> reservationIds, String cancelReason, LocalDateTime updatedAt);
+
+    /**
+     * 상태 전이로 바뀌는 컬럼만 update (merge 처럼 연관관계까지 select 하지 않는다.)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ReservationEntity r " +
+            "SET r.status = :status, " +
+            "r.confirmDate = :confirmDate, " +
+            "r.changeDate = :changeDate, " +
+            "r.cancelReason = :cancelReason, " +
+            "r.bookedSlot = :bookedSlot, " +
+            "r.updatedAt = :updatedAt " +
+            "WHERE r.reservationId = :reservationId")
+    int updateStatus(Long reservationId, Reservation.Status status, LocalDateTime confirmDate,
+                     LocalDateTime changeDate, String cancelReason, LocalDateTime bookedSlot,
+                     LocalDateTime updatedAt);
 
     @Query("SELECT r FROM ReservationEntity r " +
             "LEFT JOIN FETCH r.member " +
@@ -54,8 +122,27 @@ public interface ReservationJpaRepository extends JpaRepository<ReservationEntit
             "LEFT JOIN FETCH r.member " +
             "LEFT JOIN FETCH r.trainer " +
             "LEFT JOIN FETCH r.sessionInfo " +
-            "WHERE r.status = spring.fitlinkbe.domain.reservation.Reservation.Status.FIXED_RESERVATION")
-    List<ReservationEntity> findFixedStatus();
+            "WHERE r.reservationId IN :reservationIds")
+    List<ReservationEntity> findAllByIdJoinFetch(List<Long> reservationIds);
+
+    @Query("SELECT r.reservationId FROM ReservationEntity r " +
+            "WHERE r.confirmDate >= :startDate AND r.confirmDate < :endDate " +
+            "AND r.status NOT IN (spring.fitlinkbe.domain.reservation.Reservation.Status.RESERVATION_WAITING, " +
+            "spring.fitlinkbe.domain.reservation.Reservation.Status.RESERVATION_CANCELLED, " +
+            "spring.fitlinkbe.domain.reservation.Reservation.Status.RESERVATION_REFUSED, " +
+            "spring.fitlinkbe.domain.reservation.Reservation.Status.RESERVATION_COMPLETED, " +
+            "spring.fitlinkbe.domain.reservation.Reservation.Status.DISABLED_TIME_RESERVATION) " +
+            "ORDER BY r.reservationId")
+    List<Long> findConfirmedIds(LocalDateTime startDate, LocalDateTime endDate);
+
+    @Query("SELECT r FROM ReservationEntity r " +
+            "LEFT JOIN FETCH r.member " +
+            "LEFT JOIN FETCH r.trainer " +
+            "LEFT JOIN FETCH r.sessionInfo " +
+            "WHERE r.status = spring.fitlinkbe.domain.reservation.Reservation.Status.FIXED_RESERVATION " +
+            "AND r.reservationDate >= :startDate AND r.reservationDate < :endDate " +
+            "ORDER BY r.reservationId")
+    List<ReservationEntity> findFixedStatusInRange(LocalDateTime startDate, LocalDateTime endDate);
 
     @Query("SELECT r FROM ReservationEntity r " +
             "LEFT JOIN FETCH r.member " +
@@ -82,4 +169,15 @@ public interface ReservationJpaRepository extends JpaRepository<ReservationEntit
             "WHERE r.member.memberId = :memberId " +
             "AND r.status = spring.fitlinkbe.domain.reservation.Reservation.Status.FIXED_RESERVATION")
     List<ReservationEntity> findAllFixedReservation(Long memberId);
+
+    /**
+     * 기간 안에서 트레이너의 시간을 차지하는 예약 날짜 (확정 날짜가 없으면 대표 예약 날짜)
+     */
+    @Query("SELECT COALESCE(r.confirmDate, r.reservationDate) FROM ReservationEntity r " +
+            "WHERE r.trainer.trainerId = :trainerId " +
+            "AND r.status IN :statuses " +
+            "AND COALESCE(r.confirmDate, r.reservationDate) >= :startDate " +
+            "AND COALESCE(r.confirmDate, r.reservationDate) < :endDate")
+    List<LocalDateTime> findOccupiedDates(Long trainerId, List<Reservation.Status> statuses,
+                                          LocalDateTime startDate, LocalDateTime endDate);
 }
@@ -7,5 +7,5 @@ import java.util.List;
 public interface ReservationRepositoryCustom {
     boolean isConfirmedReservationExists(Long trainerId, List<LocalDate> dates);
 
-    boolean isConfirmedReservationsExists(Long trainerId, List<LocalDateTime> checkDates);
+    List<LocalDateTime> findConfirmedDates(Long trainerId, List<LocalDateTime> checkDates);
 }
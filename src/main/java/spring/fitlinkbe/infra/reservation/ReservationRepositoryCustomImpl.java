@@ -36,17 +36,17 @@ public class ReservationRepositoryCustomImpl implements ReservationRepositoryCus
     }
 
     @Override
-    public boolean isConfirmedReservationsExists(Long trainerId, List<LocalDateTime> checkDates) {
+    public List<LocalDateTime> findConfirmedDates(Long trainerId, List<LocalDateTime> checkDates) {
 
+        // 슬롯을 이미 차지한 시간 (확정/고정 예약, 예약 불가 설정)
         return queryFactory
-                .selectOne()
+                .select(reservationEntity.bookedSlot)
                 .from(reservationEntity)
                 .where(
                         reservationEntity.trainer.trainerId.eq(trainerId),
-                        reservationEntity.confirmDate.in(checkDates),
-                        reservationEntity.status.eq(Reservation.Status.RESERVATION_APPROVED)
+                        reservationEntity.bookedSlot.in(checkDates)
                 )
-                .fetchFirst() != null;
+                .fetch();
     }
 
 }
@@ -2,18 +2,27 @@ package spring.fitlinkbe.infra.reservation;
 
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Repository;
 import spring.fitlinkbe.domain.common.enums.UserRole;
+import spring.fitlinkbe.domain.common.exception.CustomException;
+import spring.fitlinkbe.domain.common.exception.ErrorCode;
 import spring.fitlinkbe.domain.reservation.Reservation;
 import spring.fitlinkbe.domain.reservation.ReservationRepository;
 import spring.fitlinkbe.domain.reservation.Session;
+import spring.fitlinkbe.domain.trainer.OccupancyRepository;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
 
 import static spring.fitlinkbe.domain.common.enums.UserRole.MEMBER;
 
@@ -23,6 +32,8 @@ public class ReservationRepositoryImpl implements ReservationRepository {
 
     private final ReservationJpaRepository reservationJpaRepository;
     private final SessionJpaRepository sessionJpaRepository;
+    private final ReservationJdbcRepository reservationJdbcRepository;
+    private final OccupancyRepository occupancyRepository;
     private final EntityManager em;
 
     @Override
@@ -35,9 +46,9 @@ public class ReservationRepositoryImpl implements ReservationRepository {
     }
 
     @Override
-    public List<Reservation> getFixedReservations() {
+    public List<Reservation> getFixedReservations(LocalDateTime startDate, LocalDateTime endDate) {
 
-        return reservationJpaRepository.findFixedStatus()
+        return reservationJpaRepository.findFixedStatusInRange(startDate, endDate)
                 .stream()
                 .map(ReservationEntity::toDomain)
                 .toList();
@@ -63,14 +74,81 @@ public class ReservationRepositoryImpl implements ReservationRepository {
     }
 
     @Override
-    public List<Reservation> getReservationsWithWaitingStatus(Long trainerId) {
+    public List<Reservation> getWaitingReservations(Long trainerId, List<LocalDateTime> reservationDates) {
+        if (reservationDates.isEmpty()) {
+            return List.of();
+        }
 
-        return reservationJpaRepository.findWaitingStatus(trainerId)
+        return reservationJpaRepository.findWaitingStatusBySlotDates(trainerId, toSlotDates(reservationDates))
                 .stream()
                 .map(ReservationEntity::toDomain)
                 .toList();
     }
 
+    @Override
+    public List<Reservation> getReservations(List<Long> reservationIds) {
+        if (reservationIds.isEmpty()) {
+            return List.of();
+        }
+
+        return reservationJpaRepository.findAllByIdJoinFetch(reservationIds)
+                .stream()
+                .map(ReservationEntity::toDomain)
+                .toList();
+    }
+
+    @Override
+    public List<Long> getConfirmedReservationIds(LocalDateTime startDate, LocalDateTime endDate) {
+
+        return reservationJpaRepository.findConfirmedIds(startDate, endDate);
+    }
+
+    @Override
+    public List<Long> refuseWaitingReservations(List<Long> reservationIds) {
+        if (reservationIds.isEmpty()) {
+            return List.of();
+        }
+        List<Long> waitingIds = reservationJpaRepository.findWaitingByIdsForUpdate(reservationIds)
+                .stream()
+                .map(ReservationEntity::getReservationId)
+                .toList();
+        if (waitingIds.isEmpty()) {
+            return List.of();
+        }
+        reservationJpaRepository.refuseWaitingStatus(waitingIds, LocalDateTime.now());
+
+        return waitingIds;
+    }
+
+    @Override
+    public int cancelFixedReservations(List<Reservation> reservations, String cancelReason) {
+        if (reservations.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> reservationIds = reservations.stream()
+                .map(Reservation::getReservationId)
+                .toList();
+        int canceledCount = reservationJpaRepository.cancelFixedStatus(reservationIds, cancelReason,
+                LocalDateTime.now());
+        // 취소된 예약이 차지하던 트레이너 시간은 점유 캐시에서 해제한다. (커밋 이후, 일부만 취소되면 롤백되므로 반영되지 않는다.)
+        reservations.forEach(reservation -> {
+            release(reservation.getPersistedOccupancy());
+            reservation.markPersisted();
+        });
+
+        return canceledCount;
+    }
+
+    @Override
+    public int cancelSessions(List<Long> sessionIds, String cancelReason) {
+        if (sessionIds.isEmpty()) {
+            return 0;
+        }
+
+        return sessionJpaRepository.cancelWaitingStatus(sessionIds, cancelReason, LocalDateTime.now());
+    }
+
     @Override
     public List<Reservation> getReservations(UserRole role, Long userId) {
 
@@ -87,19 +165,60 @@ public class ReservationRepositoryImpl implements ReservationRepository {
                 .toList();
     }
 
+    @Override
+    public List<Reservation> getReservations(UserRole role, Long userId, LocalDateTime startDate,
+                                             LocalDateTime endDate) {
+
+        if (role == MEMBER) { //멤버의 경우
+            return reservationJpaRepository.findByMemberIdInRange(userId, startDate, endDate)
+                    .stream()
+                    .map(ReservationEntity::toDomain)
+                    .toList();
+        }
+
+        return reservationJpaRepository.findByTrainerIdInRange(userId, startDate, endDate)
+                .stream()
+                .map(ReservationEntity::toDomain)
+                .toList();
+    }
+
     @Override
     public List<Reservation> saveReservations(List<Reservation> reservations) {
         List<ReservationEntity> entities = reservations.stream()
                 .map(r -> ReservationEntity.from(r, em))
                 .toList();
 
-        List<ReservationEntity> savedEntities = reservationJpaRepository.saveAll(entities);
+        List<ReservationEntity> savedEntities = saveWithSlotCheck(() -> reservationJpaRepository.saveAllAndFlush(entities));
+        reservations.forEach(this::applyOccupancy);
 
         return savedEntities.stream()
                 .map(ReservationEntity::toDomain)
                 .toList();
     }
 
+    /**
+     * 신규 예약 일괄 저장 (JDBC batch insert)
+     */
+    @Override
+    public List<Reservation> insertReservations(List<Reservation> reservations) {
+        if (reservations.isEmpty()) {
+            return List.of();
+        }
+
+        // 쓰기 지연된 JPA 변경을 먼저 반영해서 JDBC insert 와 같은 순서로 DB 에 적용되게 한다.
+        em.flush();
+        List<Long> reservationIds = saveWithSlotCheck(() ->
+                reservationJdbcRepository.batchInsertReservations(reservations));
+        List<Reservation> savedReservations = IntStream.range(0, reservations.size())
+                .mapToObj(i -> reservations.get(i).toBuilder()
+                        .reservationId(reservationIds.get(i))
+                        .build())
+                .toList();
+        savedReservations.forEach(this::applyOccupancy);
+
+        return savedReservations;
+    }
+
     @Override
     public Optional<Reservation> getReservation(Long reservationId) {
         Optional<ReservationEntity> findEntity = reservationJpaRepository.findByIdJoinFetch(reservationId);
@@ -121,14 +240,30 @@ public class ReservationRepositoryImpl implements ReservationRepository {
 
     @Override
     public Optional<Reservation> saveReservation(Reservation reservation) {
-        ReservationEntity reservationEntity = reservationJpaRepository.save(ReservationEntity.from(reservation, em));
+        ReservationEntity reservationEntity = saveWithSlotCheck(() ->
+                reservationJpaRepository.saveAndFlush(ReservationEntity.from(reservation, em)));
+        applyOccupancy(reservation);
 
         return Optional.of(reservationEntity.toDomain());
     }
 
+    @Override
+    public Optional<Reservation> updateReservationStatus(Reservation reservation) {
+        int updated = saveWithSlotCheck(() -> reservationJpaRepository.updateStatus(reservation.getReservationId(),
+                reservation.getStatus(), reservation.getConfirmDate(), reservation.getChangeDate(),
+                reservation.getCancelReason(), reservation.getBookedSlot(), LocalDateTime.now()));
+        if (updated == 0) {
+            return Optional.empty();
+        }
+        applyOccupancy(reservation);
+
+        return Optional.of(reservation);
+    }
+
     @Override
     public void deleteReservation(Reservation reservation) {
         reservationJpaRepository.delete(ReservationEntity.from(reservation, em));
+        release(reservation.getPersistedOccupancy());
     }
 
     @Override
@@ -140,6 +275,18 @@ public class ReservationRepositoryImpl implements ReservationRepository {
         return Optional.empty();
     }
 
+    @Override
+    public List<Session> getSessions(List<Long> reservationIds) {
+        if (reservationIds.isEmpty()) {
+            return List.of();
+        }
+
+        return sessionJpaRepository.findByReservation_ReservationIdIn(reservationIds)
+                .stream()
+                .map(SessionEntity::toDomain)
+                .toList();
+    }
+
     @Override
     public Page<Session> getSessions(Long memberId, Long trainerId, Session.Status status, Pageable pageRequest) {
         Page<SessionEntity> result = sessionJpaRepository.findSessions(memberId, trainerId, status, pageRequest);
@@ -147,6 +294,20 @@ public class ReservationRepositoryImpl implements ReservationRepository {
         return result.map(SessionEntity::toDomain);
     }
 
+    @Override
+    public Slice<Session> getSessions(Long memberId, Long trainerId, Session.Status status,
+                                      LocalDateTime cursorCreatedAt, Long cursorSessionId, int size) {
+        // 다음 페이지 여부는 한 건 더 읽어서 판단
+        List<Session> sessions = sessionJpaRepository.findSessionsByCursor(memberId, trainerId, status,
+                        cursorCreatedAt, cursorSessionId, size + 1)
+                .stream()
+                .map(SessionEntity::toDomain)
+                .toList();
+        boolean hasNext = sessions.size() > size;
+
+        return new SliceImpl<>(hasNext ? sessions.subList(0, size) : sessions, Pageable.ofSize(size), hasNext);
+    }
+
     @Override
     public Optional<Session> saveSession(Session session) {
         SessionEntity savedEntity = sessionJpaRepository.save(SessionEntity.from(session, em));
@@ -154,6 +315,17 @@ public class ReservationRepositoryImpl implements ReservationRepository {
         return Optional.of(savedEntity.toDomain());
     }
 
+    @Override
+    public Optional<Session> updateSessionStatus(Session session) {
+        int updated = sessionJpaRepository.updateStatus(session.getSessionId(), session.getStatus(),
+                session.getCancelReason(), session.isCompleted(), LocalDateTime.now());
+        if (updated == 0) {
+            return Optional.empty();
+        }
+
+        return Optional.of(session);
+    }
+
     @Override
     public List<Session> saveSessions(List<Session> sessions) {
         List<SessionEntity> entities = sessions.stream()
@@ -167,19 +339,80 @@ public class ReservationRepositoryImpl implements ReservationRepository {
                 .toList();
     }
 
+    /**
+     * 신규 세션 일괄 저장 (JDBC batch insert)
+     */
+    @Override
+    public void insertSessions(List<Session> sessions) {
+        if (sessions.isEmpty()) {
+            return;
+        }
+
+        reservationJdbcRepository.batchInsertSessions(sessions);
+    }
+
     @Override
     public boolean isConfirmedReservationExists(Long trainerId, List<LocalDate> dates) {
         return reservationJpaRepository.isConfirmedReservationExists(trainerId, dates);
     }
 
     @Override
-    public boolean isConfirmedReservationsExists(Long trainerId, List<LocalDateTime> checkDates) {
-        return reservationJpaRepository.isConfirmedReservationsExists(trainerId, checkDates);
+    public List<LocalDateTime> getConfirmedReservationDates(Long trainerId, List<LocalDateTime> checkDates) {
+        if (checkDates.isEmpty()) {
+            return List.of();
+        }
+
+        return reservationJpaRepository.findConfirmedDates(trainerId, checkDates);
     }
 
     @Override
     public boolean isConfirmedReservationExists(Long trainerId, LocalDateTime checkDate) {
         return reservationJpaRepository.existsByTrainerIdAndConfirmDateTime(trainerId, checkDate);
     }
-}
 
+    /**
+     * 트레이너 슬롯 unique key 위반(동시에 같은 시간 확정)은 확정된 예약이 존재하는 것으로 변환한다.
+     * 바로 flush 해서 위반을 저장 시점에 확인한다.
+     */
+    private <T> T saveWithSlotCheck(Supplier<T> save) {
+        try {
+            return save.get();
+        } catch (DataIntegrityViolationException ex) {
+            String message = ex.getMostSpecificCause().getMessage();
+            if (message != null && message.toUpperCase().contains(ReservationEntity.UK_TRAINER_SLOT)) {
+                throw new CustomException(ErrorCode.CONFIRMED_RESERVATION_EXISTS);
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * 예약이 차지하는 트레이너 시간이 바뀌었으면 점유 캐시에 반영한다. (커밋 이후)
+     * 이전 점유 시간은 DB 를 다시 읽지 않고 예약을 읽거나 저장할 때 기록해 둔 값을 사용한다.
+     */
+    private void applyOccupancy(Reservation reservation) {
+        Reservation.Occupancy before = reservation.getPersistedOccupancy();
+        Reservation.Occupancy after = reservation.getOccupancy();
+        reservation.markPersisted();
+        if (Objects.equals(before, after)) {
+            return;
+        }
+        release(before);
+        if (after != null) {
+            occupancyRepository.occupy(after.trainerId(), after.date());
+        }
+    }
+
+    private void release(Reservation.Occupancy occupancy) {
+        if (occupancy != null) {
+            occupancyRepository.release(occupancy.trainerId(), occupancy.date());
+        }
+    }
+
+    private List<LocalDateTime> toSlotDates(List<LocalDateTime> reservationDates) {
+        return reservationDates.stream()
+                .map(ReservationSlot::toSlotDate)
+                .distinct()
+                .toList();
+    }
+}
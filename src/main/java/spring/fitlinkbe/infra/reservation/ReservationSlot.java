@@ -0,0 +1,33 @@
+package spring.fitlinkbe.infra.reservation;
+
+import jakarta.persistence.Embeddable;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 예약 희망 날짜 (reservation_slot 테이블)
+ * slotDate 는 시간 단위로 절삭한 값으로, 날짜 일치 조회 시 인덱스로 사용한다.
+ */
+@Embeddable
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ReservationSlot {
+
+    private LocalDateTime reservationDate;
+
+    private LocalDateTime slotDate;
+
+    public static ReservationSlot of(LocalDateTime reservationDate) {
+        return new ReservationSlot(reservationDate, toSlotDate(reservationDate));
+    }
+
+    public static LocalDateTime toSlotDate(LocalDateTime date) {
+        return date.truncatedTo(ChronoUnit.HOURS);
+    }
+}
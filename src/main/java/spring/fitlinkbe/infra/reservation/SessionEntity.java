@@ -13,7 +13,10 @@ import static spring.fitlinkbe.domain.reservation.Session.Status;
 @Builder(toBuilder = true)
 @NoArgsConstructor(access = AccessLevel.PROTECTED) // proxy 객체 생성을 위해
 @AllArgsConstructor // 빌더 패턴 사용을 위해
-@Table(name = "session")
+@Table(name = "session", indexes = {
+        @Index(name = "IDX_SESSION_MEMBER_CREATED_AT", columnList = "member_id, created_at, session_id"),
+        @Index(name = "IDX_SESSION_TRAINER_CREATED_AT", columnList = "trainer_id, created_at, session_id"),
+        @Index(name = "IDX_SESSION_RESERVATION", columnList = "reservation_id")})
 public class SessionEntity extends BaseTimeEntity {
 
     @Id
@@ -24,6 +27,11 @@ public class SessionEntity extends BaseTimeEntity {
     @JoinColumn(name = "reservation_id", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private ReservationEntity reservation;
 
+    // PT 내역 조회 필터용으로 예약의 회원/트레이너 id 를 비정규화해 둔다. (예약 조인 없이 인덱스로 조회)
+    private Long memberId;
+
+    private Long trainerId;
+
     @Enumerated(EnumType.STRING)
     private Status status;
 
@@ -32,11 +40,15 @@ public class SessionEntity extends BaseTimeEntity {
     private boolean isCompleted;
 
     public static SessionEntity from(Session session, EntityManager em) {
+        ReservationEntity reservation = em.getReference(ReservationEntity.class,
+                session.getReservation().getReservationId());
 
         return SessionEntity.builder()
                 .sessionId(session.getSessionId() != null
                         ? session.getSessionId() : null)
-                .reservation(em.getReference(ReservationEntity.class, session.getReservation().getReservationId()))
+                .reservation(reservation)
+                .memberId(reservation.getMember() != null ? reservation.getMember().getMemberId() : null)
+                .trainerId(reservation.getTrainer() != null ? reservation.getTrainer().getTrainerId() : null)
                 .status(session.getStatus())
                 .cancelReason(session.getCancelReason())
                 .isCompleted(session.isCompleted())
@@ -50,6 +62,7 @@ public class SessionEntity extends BaseTimeEntity {
                 .status(status)
                 .cancelReason(cancelReason)
                 .isCompleted(isCompleted)
+                .createdAt(getCreatedAt())
                 .build();
     }
 }
@@ -2,11 +2,38 @@ package spring.fitlinkbe.infra.reservation;
 
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import spring.fitlinkbe.domain.reservation.Session;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface SessionJpaRepository extends JpaRepository<SessionEntity, Long>, SessionRepositoryCustom {
 
     @EntityGraph(attributePaths = {"reservation"})
     Optional<SessionEntity> findByReservation_ReservationId(Long reservationId);
+
+    @EntityGraph(attributePaths = {"reservation"})
+    List<SessionEntity> findByReservation_ReservationIdIn(List<Long> reservationIds);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE SessionEntity s " +
+            "SET s.status = spring.fitlinkbe.domain.reservation.Session.Status.SESSION_CANCELLED, " +
+            "s.cancelReason = :cancelReason, " +
+            "s.updatedAt = :updatedAt " +
+            "WHERE s.sessionId IN :sessionIds " +
+            "AND s.status = spring.fitlinkbe.domain.reservation.Session.Status.SESSION_WAITING")
+    int cancelWaitingStatus(List<Long> sessionIds, String cancelReason, LocalDateTime updatedAt);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE SessionEntity s " +
+            "SET s.status = :status, " +
+            "s.cancelReason = :cancelReason, " +
+            "s.isCompleted = :isCompleted, " +
+            "s.updatedAt = :updatedAt " +
+            "WHERE s.sessionId = :sessionId")
+    int updateStatus(Long sessionId, Session.Status status, String cancelReason, boolean isCompleted,
+                     LocalDateTime updatedAt);
 }
@@ -4,6 +4,12 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import spring.fitlinkbe.domain.reservation.Session;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 public interface SessionRepositoryCustom {
     Page<SessionEntity> findSessions(Long memberId, Long trainerId, Session.Status status, Pageable pageRequest);
+
+    List<SessionEntity> findSessionsByCursor(Long memberId, Long trainerId, Session.Status status,
+                                             LocalDateTime cursorCreatedAt, Long cursorSessionId, int limit);
 }
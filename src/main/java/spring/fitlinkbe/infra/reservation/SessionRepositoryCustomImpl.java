@@ -8,6 +8,7 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import spring.fitlinkbe.domain.reservation.Session;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static spring.fitlinkbe.infra.reservation.QSessionEntity.sessionEntity;
@@ -47,12 +48,44 @@ public class SessionRepositoryCustomImpl implements SessionRepositoryCustom {
         return new PageImpl<>(entityList, pageRequest, totalCount);
     }
 
+    /**
+     * (created_at, session_id) 커서 이후의 세션을 limit 건 조회한다. (전체 건수는 세지 않는다.)
+     * <p>
+     * offset 없이 IDX_SESSION_MEMBER_CREATED_AT (member_id, created_at, session_id) 을 역순으로 읽다가
+     * limit 건을 채우면 멈춘다.
+     */
+    @Override
+    public List<SessionEntity> findSessionsByCursor(Long memberId, Long trainerId, Session.Status status,
+                                                    LocalDateTime cursorCreatedAt, Long cursorSessionId, int limit) {
+        return queryFactory.selectFrom(sessionEntity)
+                .join(sessionEntity.reservation).fetchJoin()
+                .where(
+                        eqMemberId(memberId),
+                        eqTrainingId(trainerId),
+                        eqStatus(status),
+                        beforeCursor(cursorCreatedAt, cursorSessionId)
+                )
+                .orderBy(sessionEntity.createdAt.desc(), sessionEntity.sessionId.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    private BooleanExpression beforeCursor(LocalDateTime cursorCreatedAt, Long cursorSessionId) {
+        if (cursorCreatedAt == null || cursorSessionId == null) {
+            return null;
+        }
+
+        return sessionEntity.createdAt.lt(cursorCreatedAt)
+                .or(sessionEntity.createdAt.eq(cursorCreatedAt)
+                        .and(sessionEntity.sessionId.lt(cursorSessionId)));
+    }
+
     private BooleanExpression eqTrainingId(Long trainerId) {
-        return trainerId != null ? sessionEntity.reservation.trainer.trainerId.eq(trainerId) : null;
+        return trainerId != null ? sessionEntity.trainerId.eq(trainerId) : null;
     }
 
     private BooleanExpression eqMemberId(Long memberId) {
-        return memberId != null ? sessionEntity.reservation.member.memberId.eq(memberId) : null;
+        return memberId != null ? sessionEntity.memberId.eq(memberId) : null;
     }
 
     private BooleanExpression eqStatus(Session.Status status) {
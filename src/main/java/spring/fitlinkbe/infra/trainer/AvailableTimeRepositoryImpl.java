@@ -4,6 +4,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 import spring.fitlinkbe.domain.trainer.AvailableTime;
 import spring.fitlinkbe.domain.trainer.AvailableTimeRepository;
+import spring.fitlinkbe.domain.trainer.OccupancyRepository;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -13,6 +14,7 @@ import java.util.List;
 public class AvailableTimeRepositoryImpl implements AvailableTimeRepository {
 
     private final AvailableTimeJpaRepository availableTimeJpaRepository;
+    private final OccupancyRepository occupancyRepository;
 
     @Override
     public LocalDate getCurrentAppliedDate(Long trainerId) {
@@ -34,5 +36,9 @@ public class AvailableTimeRepositoryImpl implements AvailableTimeRepository {
     public void deleteAll(List<AvailableTime> availableTimes) {
         availableTimeJpaRepository.deleteAllById(availableTimes.stream()
                 .map(AvailableTime::getAvailableTimeId).toList());
+        availableTimes.stream()
+                .map(availableTime -> availableTime.getTrainer().getTrainerId())
+                .distinct()
+                .forEach(occupancyRepository::evictAvailableTimes);
     }
 }
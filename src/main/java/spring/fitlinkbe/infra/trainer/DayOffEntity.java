@@ -13,7 +13,8 @@ import java.time.LocalDate;
 @Builder(toBuilder = true)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
-@Table(name = "day_off")
+@Table(name = "day_off", indexes = {
+        @Index(name = "IDX_DAY_OFF_TRAINER_DATE", columnList = "trainer_id, day_off_date")})
 public class DayOffEntity extends BaseTimeEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -18,4 +18,9 @@ public interface DayOffJpaRepository extends JpaRepository<DayOffEntity, Long> {
 
     @Query("SELECT d FROM DayOffEntity d WHERE d.trainer.trainerId = :trainerId AND d.dayOffDate >= CURRENT_DATE")
     List<DayOffEntity> findScheduledDayOff(Long trainerId);
+
+    @Query("SELECT d.dayOffDate FROM DayOffEntity d " +
+            "WHERE d.trainer.trainerId = :trainerId " +
+            "AND d.dayOffDate >= :startDate AND d.dayOffDate < :endDate")
+    List<LocalDate> findDayOffDatesInRange(Long trainerId, LocalDate startDate, LocalDate endDate);
 }
@@ -0,0 +1,124 @@
+package spring.fitlinkbe.infra.trainer;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import spring.fitlinkbe.domain.reservation.Reservation;
+import spring.fitlinkbe.domain.trainer.AvailableTime;
+import spring.fitlinkbe.domain.trainer.MonthlyOccupancy;
+import spring.fitlinkbe.domain.trainer.OccupancyRepository;
+import spring.fitlinkbe.infra.reservation.ReservationJpaRepository;
+import spring.fitlinkbe.support.config.CacheConfig;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * 트레이너 월별 점유 비트맵과 수업 가능 시간을 캐시에서 먼저 조회하고, 없으면 DB 에서 만들어 올린다.
+ * <p>
+ * 예약/휴무일 쓰기는 커밋 이후 캐시에 올라가 있는 비트맵만 제자리에서 갱신하고,
+ * 수업 가능 시간 쓰기는 커밋 이후 트레이너의 캐시를 비운다. (다음 조회 때 다시 로딩)
+ */
+@Repository
+@RequiredArgsConstructor
+public class OccupancyRepositoryImpl implements OccupancyRepository {
+
+    private static final List<Reservation.Status> OCCUPYING_STATUSES = Arrays.stream(Reservation.Status.values())
+            .filter(Reservation.Status::isOccupying)
+            .toList();
+
+    private final ReservationJpaRepository reservationJpaRepository;
+    private final DayOffJpaRepository dayOffJpaRepository;
+    private final AvailableTimeJpaRepository availableTimeJpaRepository;
+    private final CacheManager cacheManager;
+
+    @Override
+    public MonthlyOccupancy getMonthlyOccupancy(Long trainerId, YearMonth yearMonth) {
+        return getOccupancyCache().get(toKey(trainerId, yearMonth), () -> loadMonthlyOccupancy(trainerId, yearMonth));
+    }
+
+    @Override
+    public List<AvailableTime> getAvailableTimeVersions(Long trainerId) {
+        return getAvailableTimeCache().get(trainerId, () -> availableTimeJpaRepository
+                .findAllByTrainer_TrainerId(trainerId)
+                .stream()
+                .map(AvailableTimeEntity::toDomain)
+                .toList());
+    }
+
+    @Override
+    public void occupy(Long trainerId, LocalDateTime date) {
+        afterCommit(() -> updateIfCached(trainerId, YearMonth.from(date), occupancy -> occupancy.occupy(date)));
+    }
+
+    @Override
+    public void release(Long trainerId, LocalDateTime date) {
+        afterCommit(() -> updateIfCached(trainerId, YearMonth.from(date), occupancy -> occupancy.release(date)));
+    }
+
+    @Override
+    public void markDayOff(Long trainerId, LocalDate date) {
+        afterCommit(() -> updateIfCached(trainerId, YearMonth.from(date), occupancy -> occupancy.markDayOff(date)));
+    }
+
+    @Override
+    public void unmarkDayOff(Long trainerId, LocalDate date) {
+        afterCommit(() -> updateIfCached(trainerId, YearMonth.from(date), occupancy -> occupancy.unmarkDayOff(date)));
+    }
+
+    @Override
+    public void evictAvailableTimes(Long trainerId) {
+        afterCommit(() -> getAvailableTimeCache().evict(trainerId));
+    }
+
+    private MonthlyOccupancy loadMonthlyOccupancy(Long trainerId, YearMonth yearMonth) {
+        LocalDate startDate = yearMonth.atDay(1);
+        LocalDate endDate = yearMonth.plusMonths(1).atDay(1);
+
+        List<LocalDateTime> occupiedDates = reservationJpaRepository.findOccupiedDates(trainerId, OCCUPYING_STATUSES,
+                startDate.atStartOfDay(), endDate.atStartOfDay());
+        List<LocalDate> dayOffDates = dayOffJpaRepository.findDayOffDatesInRange(trainerId, startDate, endDate);
+
+        return MonthlyOccupancy.of(trainerId, yearMonth, occupiedDates, dayOffDates);
+    }
+
+    private void updateIfCached(Long trainerId, YearMonth yearMonth, Consumer<MonthlyOccupancy> update) {
+        MonthlyOccupancy occupancy = getOccupancyCache().get(toKey(trainerId, yearMonth), MonthlyOccupancy.class);
+        if (occupancy != null) {
+            update.accept(occupancy);
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+            return;
+        }
+        action.run();
+    }
+
+    private String toKey(Long trainerId, YearMonth yearMonth) {
+        return trainerId + ":" + yearMonth;
+    }
+
+    private Cache getOccupancyCache() {
+        return Objects.requireNonNull(cacheManager.getCache(CacheConfig.TRAINER_OCCUPANCY_CACHE));
+    }
+
+    private Cache getAvailableTimeCache() {
+        return Objects.requireNonNull(cacheManager.getCache(CacheConfig.AVAILABLE_TIME_CACHE));
+    }
+}
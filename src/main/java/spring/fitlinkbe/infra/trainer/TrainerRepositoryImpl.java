@@ -6,6 +6,7 @@ import spring.fitlinkbe.domain.common.exception.CustomException;
 import spring.fitlinkbe.domain.common.exception.ErrorCode;
 import spring.fitlinkbe.domain.trainer.AvailableTime;
 import spring.fitlinkbe.domain.trainer.DayOff;
+import spring.fitlinkbe.domain.trainer.OccupancyRepository;
 import spring.fitlinkbe.domain.trainer.Trainer;
 import spring.fitlinkbe.domain.trainer.TrainerRepository;
 
@@ -20,6 +21,7 @@ public class TrainerRepositoryImpl implements TrainerRepository {
     private final TrainerJpaRepository trainerJpaRepository;
     private final DayOffJpaRepository dayOffJpaRepository;
     private final AvailableTimeJpaRepository availableTimeJpaRepository;
+    private final OccupancyRepository occupancyRepository;
 
     @Override
     public Optional<Trainer> getTrainerInfo(Long trainerId) {
@@ -67,6 +69,7 @@ public class TrainerRepositoryImpl implements TrainerRepository {
     @Override
     public Optional<DayOff> saveDayOff(DayOff dayOff) {
         DayOffEntity savedEntity = dayOffJpaRepository.save(DayOffEntity.from(dayOff));
+        occupancyRepository.markDayOff(dayOff.getTrainer().getTrainerId(), dayOff.getDayOffDate());
 
         return Optional.of(savedEntity.toDomain());
     }
@@ -76,12 +79,17 @@ public class TrainerRepositoryImpl implements TrainerRepository {
         availableTimeJpaRepository.saveAll(availableTimes.stream()
                 .map(AvailableTimeEntity::from)
                 .toList());
+        availableTimes.stream()
+                .map(availableTime -> availableTime.getTrainer().getTrainerId())
+                .distinct()
+                .forEach(occupancyRepository::evictAvailableTimes);
     }
 
     @Override
     public AvailableTime saveAvailableTime(AvailableTime availableTime) {
         AvailableTimeEntity savedEntity =
                 availableTimeJpaRepository.save(AvailableTimeEntity.from(availableTime));
+        occupancyRepository.evictAvailableTimes(availableTime.getTrainer().getTrainerId());
 
         return savedEntity.toDomain();
     }
@@ -104,6 +112,8 @@ public class TrainerRepositoryImpl implements TrainerRepository {
                 .toList();
 
         List<DayOffEntity> savedEntities = dayOffJpaRepository.saveAll(entities);
+        dayOffs.forEach(dayOff -> occupancyRepository.markDayOff(dayOff.getTrainer().getTrainerId(),
+                dayOff.getDayOffDate()));
 
         return savedEntities.stream()
                 .map(DayOffEntity::toDomain)
@@ -118,7 +128,10 @@ public class TrainerRepositoryImpl implements TrainerRepository {
 
     @Override
     public void deleteDayOff(DayOff dayOff) {
-        dayOffJpaRepository.deleteById(dayOff.getDayOffId());
+        dayOffJpaRepository.findById(dayOff.getDayOffId()).ifPresent(entity -> {
+            dayOffJpaRepository.delete(entity);
+            occupancyRepository.unmarkDayOff(entity.getTrainer().getTrainerId(), entity.getDayOffDate());
+        });
     }
 
     @Override
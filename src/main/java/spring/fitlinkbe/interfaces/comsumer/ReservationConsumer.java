@@ -1,17 +1,23 @@
 package spring.fitlinkbe.interfaces.comsumer;
 
 import io.awspring.cloud.sqs.annotation.SqsListener;
+import io.awspring.cloud.sqs.listener.acknowledgement.BatchAcknowledgement;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.Message;
 import org.springframework.stereotype.Component;
 import spring.fitlinkbe.application.reservation.ReservationFacade;
 import spring.fitlinkbe.application.reservation.criteria.ReservationCriteria;
-import spring.fitlinkbe.domain.common.exception.CustomException;
-import spring.fitlinkbe.domain.common.exception.ErrorCode;
 import spring.fitlinkbe.domain.producer.EventTopic;
 import spring.fitlinkbe.domain.reservation.event.GenerateFixedReservationEvent;
 import spring.fitlinkbe.support.utils.JsonUtils;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 @Slf4j
 @RequiredArgsConstructor
 @Component
@@ -19,18 +25,65 @@ public class ReservationConsumer {
 
     private final ReservationFacade reservationFacade;
 
-    @SqsListener(queueNames = EventTopic.RESERVATION_QUEUE)
-    public void handleReservationMessage(String message) {
-        GenerateFixedReservationEvent payload = JsonUtils.toObject(message, GenerateFixedReservationEvent.class);
-        if (payload == null) {
-            throw new CustomException(ErrorCode.OUTBOX_PAYLOAD_INVALID);
+    /**
+     * 고정 예약 생성 이벤트를 배치로 받아 트레이너별로 묶어서 처리한다.
+     * 처리(생성/거절)한 메시지와 해석할 수 없는 메시지는 ack 하고,
+     * 일시적인 오류로 처리하지 못한 메시지만 visibility timeout 이후 재전달된다.
+     * <p>
+     * 동시 처리 수와 배치 크기는 DB 커넥션 풀 크기에 맞춰 app.sqs.reservation.* 로 조정한다.
+     */
+    @SqsListener(queueNames = EventTopic.RESERVATION_QUEUE,
+            maxConcurrentMessages = "${app.sqs.reservation.max-concurrent-messages:10}",
+            maxMessagesPerPoll = "${app.sqs.reservation.max-messages-per-poll:10}",
+            acknowledgementMode = "MANUAL")
+    public void handleReservationMessages(List<Message<String>> messages,
+                                          BatchAcknowledgement<String> acknowledgement) {
+        //1. payload 변환 후 트레이너별로 묶기
+        Map<String, Message<String>> messageMap = new HashMap<>();
+        Map<Long, List<ReservationCriteria.EventCreateFixed>> criteriaByTrainer = new LinkedHashMap<>();
+
+        for (Message<String> message : messages) {
+            GenerateFixedReservationEvent payload = JsonUtils.toObject(message.getPayload(),
+                    GenerateFixedReservationEvent.class);
+            if (payload == null || payload.messageId() == null) {
+                // 다시 받아도 해석할 수 없으므로 로그만 남기고 ack (재전달 반복 방지)
+                log.error("[SQS] :: INVALID PAYLOAD (acked) :: payload={}", message.getPayload());
+                acknowledgement.acknowledge(List.of(message));
+                continue;
+            }
+            if (messageMap.putIfAbsent(payload.messageId(), message) != null) {
+                // 같은 배치 안에서 중복 수신된 메시지는 바로 ack
+                acknowledgement.acknowledge(List.of(message));
+                continue;
+            }
+            criteriaByTrainer.computeIfAbsent(payload.trainerId(), k -> new ArrayList<>())
+                    .add(ReservationCriteria.EventCreateFixed.builder()
+                            .messageId(payload.messageId())
+                            .memberId(payload.memberId())
+                            .trainerId(payload.trainerId())
+                            .sessionInfoId(payload.sessionInfoId())
+                            .name(payload.name())
+                            .confirmDate(payload.confirmDate())
+                            .build());
         }
-        // 일주일 뒤 예약 진행
-        reservationFacade.executeCreateFixedReservation(ReservationCriteria.EventCreateFixed.builder()
-                .memberId(payload.memberId())
-                .trainerId(payload.trainerId())
-                .sessionInfoId(payload.sessionInfoId())
-                .confirmDate(payload.confirmDate())
-                .build());
+        //2. 트레이너 단위로 일주일 뒤 예약 진행, 처리한 메시지만 ack
+        criteriaByTrainer.forEach((trainerId, criteriaList) -> {
+            try {
+                List<Message<String>> succeeded = reservationFacade.executeCreateFixedReservations(trainerId,
+                                criteriaList)
+                        .stream()
+                        .distinct()
+                        .map(messageMap::get)
+                        .toList();
+                if (!succeeded.isEmpty()) {
+                    acknowledgement.acknowledge(succeeded);
+                }
+                log.info("[SQS] :: CONSUMED :: trainerId={}, received={}, acked={}", trainerId,
+                        criteriaList.size(), succeeded.size());
+            } catch (Exception ex) {
+                log.error("[SQS] :: CONSUME FAILED :: trainerId={}, size={}, error={}", trainerId,
+                        criteriaList.size(), ex.getMessage(), ex);
+            }
+        });
     }
 }
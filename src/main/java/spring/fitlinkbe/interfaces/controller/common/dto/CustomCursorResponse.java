@@ -0,0 +1,54 @@
+package spring.fitlinkbe.interfaces.controller.common.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.data.domain.Slice;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 기반 페이지 응답 (전체 건수 없이 다음 페이지 여부와 다음 커서만 내려준다.)
+ */
+@Getter
+public class CustomCursorResponse<T> {
+    private List<T> content;
+    private boolean hasNext;
+    private LocalDateTime nextCursorCreatedAt;
+    private Long nextCursorId;
+
+    @Builder
+    public CustomCursorResponse(List<T> content, boolean hasNext, LocalDateTime nextCursorCreatedAt, Long nextCursorId) {
+        this.content = content;
+        this.hasNext = hasNext;
+        this.nextCursorCreatedAt = nextCursorCreatedAt;
+        this.nextCursorId = nextCursorId;
+    }
+
+    public CustomCursorResponse() {
+    }
+
+    /**
+     * id 만으로 정렬되는 목록의 커서 응답 (nextCursorCreatedAt 은 비워둔다.)
+     */
+    public static <E, R> CustomCursorResponse<R> of(Slice<E> slice, Function<E, R> mapper,
+                                                    Function<E, Long> cursorId) {
+        return of(slice, mapper, e -> null, cursorId);
+    }
+
+    public static <E, R> CustomCursorResponse<R> of(Slice<E> slice, Function<E, R> mapper,
+                                                    Function<E, LocalDateTime> cursorCreatedAt,
+                                                    Function<E, Long> cursorId) {
+        E last = slice.hasNext() ? slice.getContent().get(slice.getNumberOfElements() - 1) : null;
+
+        return CustomCursorResponse.<R>builder()
+                .content(slice.getContent().stream()
+                        .map(mapper)
+                        .toList())
+                .hasNext(slice.hasNext())
+                .nextCursorCreatedAt(last != null ? cursorCreatedAt.apply(last) : null)
+                .nextCursorId(last != null ? cursorId.apply(last) : null)
+                .build();
+    }
+}
@@ -4,7 +4,9 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.WebDataBinder;
 import org.springframework.web.bind.annotation.*;
 import spring.fitlinkbe.application.member.MemberFacade;
@@ -17,6 +19,7 @@ import spring.fitlinkbe.domain.common.exception.CustomException;
 import spring.fitlinkbe.domain.common.exception.ErrorCode;
 import spring.fitlinkbe.domain.reservation.Session;
 import spring.fitlinkbe.interfaces.controller.common.dto.ApiResultResponse;
+import spring.fitlinkbe.interfaces.controller.common.dto.CustomCursorResponse;
 import spring.fitlinkbe.interfaces.controller.common.dto.CustomPageResponse;
 import spring.fitlinkbe.interfaces.controller.member.dto.*;
 import spring.fitlinkbe.support.aop.RoleCheck;
@@ -24,6 +27,7 @@ import spring.fitlinkbe.support.argumentresolver.Login;
 import spring.fitlinkbe.support.security.SecurityUser;
 import spring.fitlinkbe.support.validator.CollectionValidator;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -32,6 +36,8 @@ import java.util.List;
 @RoleCheck(allowedRoles = {UserRole.MEMBER})
 public class MemberController {
 
+    private static final int MAX_CURSOR_SIZE = 100;
+
     private final MemberFacade memberFacade;
     private final CollectionValidator validator;
 
@@ -107,6 +113,19 @@ public class MemberController {
                 .count() == workoutSchedule.size();
     }
 
+    /**
+     * 커서는 생성일과 세션 id 가 함께 있어야 하고, 한 번에 MAX_CURSOR_SIZE 건까지 조회할 수 있다.
+     */
+    private void checkCursor(LocalDateTime cursorCreatedAt, Long cursorId, int size) {
+        if ((cursorCreatedAt == null) != (cursorId == null)) {
+            throw new CustomException(ErrorCode.INVALID_PARAMETER, "커서 생성일과 커서 id 는 함께 전달해야 합니다.");
+        }
+        if (size < 1 || size > MAX_CURSOR_SIZE) {
+            throw new CustomException(ErrorCode.INVALID_PARAMETER,
+                    "조회 개수는 1 ~ %d 사이여야 합니다.".formatted(MAX_CURSOR_SIZE));
+        }
+    }
+
     @GetMapping("/me/sessions")
     public ApiResultResponse<CustomPageResponse<MemberSessionDto.SessionResponse>> getSessions(
             @Login SecurityUser user,
@@ -131,6 +150,44 @@ public class MemberController {
         return ApiResultResponse.ok(CustomPageResponse.of(result, MemberSessionDto.SessionResponse::from));
     }
 
+    /**
+     * 전체 건수 없이 (생성일, 세션 id) 커서로 다음 PT 내역을 조회한다.
+     * 첫 페이지는 커서 없이 요청하고, 이후에는 응답의 nextCursorCreatedAt, nextCursorId 를 넘긴다.
+     */
+    @GetMapping("/me/sessions/cursor")
+    public ApiResultResponse<CustomCursorResponse<MemberSessionDto.SessionResponse>> getSessionsByCursor(
+            @Login SecurityUser user,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorCreatedAt,
+            @RequestParam(required = false) Long cursorId,
+            @RequestParam(defaultValue = "5") int size,
+            @RequestParam(required = false) Session.Status status
+    ) {
+        checkCursor(cursorCreatedAt, cursorId, size);
+        Slice<MemberSessionResult.SessionResponse> result = memberFacade.getMySessionsByCursor(user.getMemberId(),
+                status, cursorCreatedAt, cursorId, size);
+
+        return ApiResultResponse.ok(CustomCursorResponse.of(result, MemberSessionDto.SessionResponse::from,
+                MemberSessionResult.SessionResponse::createdAt, MemberSessionResult.SessionResponse::sessionId));
+    }
+
+    @GetMapping("{memberId}/sessions/cursor")
+    @RoleCheck(allowedRoles = {UserRole.TRAINER})
+    public ApiResultResponse<CustomCursorResponse<MemberSessionDto.SessionResponse>> getSessionsByCursor(
+            @Login SecurityUser user,
+            @PathVariable Long memberId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorCreatedAt,
+            @RequestParam(required = false) Long cursorId,
+            @RequestParam(defaultValue = "5") int size,
+            @RequestParam(required = false) Session.Status status
+    ) {
+        checkCursor(cursorCreatedAt, cursorId, size);
+        Slice<MemberSessionResult.SessionResponse> result = memberFacade.getSessionsByCursor(user.getTrainerId(),
+                memberId, status, cursorCreatedAt, cursorId, size);
+
+        return ApiResultResponse.ok(CustomCursorResponse.of(result, MemberSessionDto.SessionResponse::from,
+                MemberSessionResult.SessionResponse::createdAt, MemberSessionResult.SessionResponse::sessionId));
+    }
+
     @PatchMapping("{memberId}/session-info/{sessionInfoId}")
     @RoleCheck(allowedRoles = {UserRole.TRAINER})
     public ApiResultResponse<SessionInfoDto.Response> updateSessionInfo(
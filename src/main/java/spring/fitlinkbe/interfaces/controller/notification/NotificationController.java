@@ -5,14 +5,18 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.web.bind.annotation.*;
 import spring.fitlinkbe.application.notification.NotificationFacade;
 import spring.fitlinkbe.application.notification.criteria.NotificationCriteria;
 import spring.fitlinkbe.application.notification.criteria.NotificationResult;
 import spring.fitlinkbe.domain.common.enums.UserRole;
+import spring.fitlinkbe.domain.common.exception.CustomException;
+import spring.fitlinkbe.domain.common.exception.ErrorCode;
 import spring.fitlinkbe.domain.notification.Notification;
 import spring.fitlinkbe.interfaces.controller.common.dto.ApiResultResponse;
+import spring.fitlinkbe.interfaces.controller.common.dto.CustomCursorResponse;
 import spring.fitlinkbe.interfaces.controller.common.dto.CustomPageResponse;
 import spring.fitlinkbe.interfaces.controller.notification.dto.NotificationRequestDto;
 import spring.fitlinkbe.interfaces.controller.notification.dto.NotificationResponseDto;
@@ -20,6 +24,8 @@ import spring.fitlinkbe.support.aop.RoleCheck;
 import spring.fitlinkbe.support.argumentresolver.Login;
 import spring.fitlinkbe.support.security.SecurityUser;
 
+import java.util.List;
+
 @RestController
 @RequiredArgsConstructor
 @RoleCheck(allowedRoles = {UserRole.TRAINER, UserRole.MEMBER})
@@ -27,6 +33,8 @@ import spring.fitlinkbe.support.security.SecurityUser;
 @Slf4j
 public class NotificationController {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final NotificationFacade notificationFacade;
 
     /**
@@ -51,6 +59,62 @@ public class NotificationController {
         return ApiResultResponse.ok(CustomPageResponse.of(result, NotificationResponseDto.Summary::of));
     }
 
+    /**
+     * 알림 커서 조회 (전체 건수 없이 최신순으로 조회)
+     *
+     * @param type     알림 조회 타입
+     * @param cursorId 이전 응답의 nextCursorId (첫 페이지는 생략)
+     * @param size     조회할 알림 개수
+     * @param user     인증된 유저 정보
+     * @return ApiResultResponse 알림 목록과 다음 페이지 여부, 다음 커서를 반환한다.
+     */
+    @GetMapping("/cursor")
+    public ApiResultResponse<CustomCursorResponse<NotificationResponseDto.Summary>> getNotificationsByCursor(
+            @RequestParam(required = false) Notification.ReferenceType type,
+            @RequestParam(required = false) Long cursorId,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) Long memberId,
+            @Login SecurityUser user) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new CustomException(ErrorCode.INVALID_PARAMETER,
+                    "조회 개수는 1 ~ %d 사이여야 합니다.".formatted(MAX_PAGE_SIZE));
+        }
+        Slice<Notification> result = notificationFacade.getNotificationsByCursor(
+                new NotificationCriteria.CursorCondition(type, q, memberId, cursorId, size),
+                user);
+
+        return ApiResultResponse.ok(CustomCursorResponse.of(result, NotificationResponseDto.Summary::of,
+                Notification::getNotificationId));
+    }
+
+    /**
+     * 알림 검색 (검색어와 많이 일치하는 순 -> 최신순)
+     *
+     * @param q    검색어 (공백 제외 2글자 이상)
+     * @param type 알림 조회 타입
+     * @param size 조회할 알림 개수
+     * @param user 인증된 유저 정보
+     * @return ApiResultResponse 관련도 순으로 정렬된 알림 목록을 반환한다.
+     */
+    @GetMapping("/search")
+    public ApiResultResponse<List<NotificationResponseDto.Summary>> searchNotifications(
+            @RequestParam String q,
+            @RequestParam(required = false) Notification.ReferenceType type,
+            @RequestParam(defaultValue = "20") int size,
+            @Login SecurityUser user) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new CustomException(ErrorCode.INVALID_PARAMETER,
+                    "조회 개수는 1 ~ %d 사이여야 합니다.".formatted(MAX_PAGE_SIZE));
+        }
+        List<Notification> result = notificationFacade.searchNotifications(
+                new NotificationCriteria.Search(type, q, size), user);
+
+        return ApiResultResponse.ok(result.stream()
+                .map(NotificationResponseDto.Summary::of)
+                .toList());
+    }
+
     /**
      * 알림 상세 조회
      *
@@ -68,6 +132,32 @@ public class NotificationController {
 
     }
 
+    /**
+     * 읽지 않은 알림 수 조회 (뱃지)
+     *
+     * @param user 인증된 유저 정보
+     * @return ApiResultResponse 읽지 않은(처리되지 않은) 알림 수를 반환한다.
+     */
+    @GetMapping("/unread-count")
+    public ApiResultResponse<NotificationResponseDto.UnreadCount> getUnreadCount(@Login SecurityUser user) {
+        int unreadCount = notificationFacade.getUnreadCount(user);
+
+        return ApiResultResponse.ok(NotificationResponseDto.UnreadCount.of(unreadCount));
+    }
+
+    /**
+     * 알림 모두 읽음 처리
+     *
+     * @param user 인증된 유저 정보
+     * @return ApiResultResponse 읽음 처리된 알림 수를 반환한다.
+     */
+    @PatchMapping("/read-all")
+    public ApiResultResponse<NotificationResponseDto.ReadAll> readAllNotifications(@Login SecurityUser user) {
+        int readCount = notificationFacade.readAllNotifications(user);
+
+        return ApiResultResponse.ok(NotificationResponseDto.ReadAll.of(readCount));
+    }
+
     /**
      * push token 등록
      *
@@ -77,4 +77,22 @@ public class NotificationResponseDto {
         }
     }
 
+    @Builder(toBuilder = true)
+    public record UnreadCount(int unreadCount) {
+        public static UnreadCount of(int unreadCount) {
+            return UnreadCount.builder()
+                    .unreadCount(unreadCount)
+                    .build();
+        }
+    }
+
+    @Builder(toBuilder = true)
+    public record ReadAll(int readCount) {
+        public static ReadAll of(int readCount) {
+            return ReadAll.builder()
+                    .readCount(readCount)
+                    .build();
+        }
+    }
+
 }
@@ -8,6 +8,7 @@ import spring.fitlinkbe.application.trainer.TrainerFacade;
 import spring.fitlinkbe.application.trainer.criteria.AvailableTimesResult;
 import spring.fitlinkbe.application.trainer.criteria.ConnectRequestDecisionResult;
 import spring.fitlinkbe.application.trainer.criteria.DayOffResult;
+import spring.fitlinkbe.application.trainer.criteria.FreeSlotResult;
 import spring.fitlinkbe.application.trainer.criteria.TrainerInfoResult;
 import spring.fitlinkbe.domain.common.enums.UserRole;
 import spring.fitlinkbe.interfaces.controller.common.dto.ApiResultResponse;
@@ -68,6 +69,32 @@ public class TrainerController {
                 AvailableTimesDto.CurrentAvailableTimesResponse.from(response));
     }
 
+    @GetMapping("/me/free-slots")
+    public ApiResultResponse<List<FreeSlotDto.Response>> getMyFreeSlots(
+            @Login SecurityUser user,
+            @RequestParam LocalDate startDate,
+            @RequestParam LocalDate endDate
+    ) {
+        List<FreeSlotResult.Response> result = trainerFacade.getMyFreeSlots(user.getTrainerId(), startDate, endDate);
+
+        return ApiResultResponse.of(HttpStatus.OK, true,
+                result.stream().map(FreeSlotDto.Response::from).toList());
+    }
+
+    @GetMapping("/{trainerId}/free-slots")
+    @RoleCheck(allowedRoles = {UserRole.MEMBER})
+    public ApiResultResponse<List<FreeSlotDto.Response>> getFreeSlots(
+            @Login SecurityUser user,
+            @PathVariable Long trainerId,
+            @RequestParam LocalDate startDate,
+            @RequestParam LocalDate endDate
+    ) {
+        List<FreeSlotResult.Response> result = trainerFacade.getFreeSlots(user.getMemberId(), trainerId, startDate, endDate);
+
+        return ApiResultResponse.of(HttpStatus.OK, true,
+                result.stream().map(FreeSlotDto.Response::from).toList());
+    }
+
     @PostMapping("/me/available-times")
     public ApiResultResponse<Object> saveAvailableTimes(
             @Login SecurityUser user,
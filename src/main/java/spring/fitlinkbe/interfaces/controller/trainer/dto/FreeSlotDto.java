@@ -0,0 +1,21 @@
+package spring.fitlinkbe.interfaces.controller.trainer.dto;
+
+import lombok.Builder;
+import spring.fitlinkbe.application.trainer.criteria.FreeSlotResult;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+public class FreeSlotDto {
+
+    @Builder
+    public record Response(LocalDate date, List<LocalTime> times) {
+        public static Response from(FreeSlotResult.Response response) {
+            return Response.builder()
+                    .date(response.date())
+                    .times(response.times())
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package spring.fitlinkbe.interfaces.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import spring.fitlinkbe.application.notification.NotificationFacade;
+
+/**
+ * dispatcher 가 처리하지 못한 알림 요청을 주기적으로 처리한다.
+ * 선점(SKIP LOCKED) 방식이라 모든 인스턴스에서 동시에 실행해도 알림이 중복 저장되지 않고,
+ * 처리에 실패한 요청은 한 건씩 시도 횟수를 남긴다. (최대 시도 횟수를 넘긴 요청은 더 이상 처리하지 않는다.)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "app.notification.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class NotificationIntentRelayScheduler {
+
+    private static final int RELAY_BATCH_SIZE = 100;
+
+    private final NotificationFacade notificationFacade;
+
+    @Scheduled(fixedDelayString = "${app.notification.relay.fixed-delay-ms:5000}")
+    public void relayNotificationIntents() {
+        try {
+            int relayed = notificationFacade.relayNotificationIntents(RELAY_BATCH_SIZE);
+            if (relayed > 0) {
+                log.info("[NOTIFICATION RELAY] :: relayed={}", relayed);
+            }
+        } catch (Exception ex) {
+            log.error("[NOTIFICATION RELAY] :: FAILED :: error={}", ex.getMessage(), ex);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package spring.fitlinkbe.interfaces.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import spring.fitlinkbe.application.outbox.OutboxFacade;
+
+/**
+ * 발행되지 못한 outbox 를 주기적으로 재발행한다.
+ * 선점(SKIP LOCKED) 방식이라 모든 인스턴스에서 동시에 실행해도 중복 발행되지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "app.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelayScheduler {
+
+    private static final int RELAY_BATCH_SIZE = 100;
+
+    private final OutboxFacade outboxFacade;
+
+    @Scheduled(fixedDelayString = "${app.outbox.relay.fixed-delay-ms:5000}")
+    public void relayOutboxes() {
+        try {
+            outboxFacade.relayOutboxes(RELAY_BATCH_SIZE);
+        } catch (Exception ex) {
+            log.error("[OUTBOX RELAY] :: FAILED :: error={}", ex.getMessage(), ex);
+        }
+    }
+}
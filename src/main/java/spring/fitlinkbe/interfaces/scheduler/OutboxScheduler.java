@@ -0,0 +1,55 @@
+package spring.fitlinkbe.interfaces.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import spring.fitlinkbe.application.outbox.OutboxFacade;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxScheduler {
+
+    private static final int PRUNE_CHUNK_SIZE = 1_000;
+
+    private final OutboxFacade outboxFacade;
+
+    @Value("${app.outbox.retention.days:7}")
+    private int outboxRetentionDays;
+
+    @Value("${app.outbox.retention.archive:false}")
+    private boolean outboxArchive;
+
+    /**
+     * 매일 새벽, 보관 기간이 지난 발행 완료 outbox 를 청크 단위로 삭제(또는 보관 테이블로 이동)한다.
+     * 청크마다 별도 트랜잭션이라 잠금을 오래 잡지 않는다.
+     */
+    @Scheduled(cron = "0 0 4 * * *") // 매일 04:00:00에 실행
+    public void pruneOutboxes() {
+        int totalDeleted = 0;
+        int deleted;
+        do {
+            deleted = outboxFacade.pruneOutboxes(outboxRetentionDays, outboxArchive, PRUNE_CHUNK_SIZE);
+            totalDeleted += deleted;
+        } while (deleted == PRUNE_CHUNK_SIZE);
+
+        log.info("[OUTBOX PRUNE] :: deleted={}, archive={}", totalDeleted, outboxArchive);
+    }
+
+    /**
+     * 매일 새벽, 보관 기간이 지난 메시지 처리 이력을 청크 단위로 삭제한다. (청크마다 별도 트랜잭션)
+     */
+    @Scheduled(cron = "0 30 3 * * *") // 매일 03:30:00에 실행
+    public void pruneProcessedMessages() {
+        int totalDeleted = 0;
+        int deleted;
+        do {
+            deleted = outboxFacade.pruneProcessedMessages(PRUNE_CHUNK_SIZE);
+            totalDeleted += deleted;
+        } while (deleted == PRUNE_CHUNK_SIZE);
+
+        log.info("[PROCESSED MESSAGE PRUNE] :: deleted={}", totalDeleted);
+    }
+}
@@ -6,11 +6,15 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import spring.fitlinkbe.application.reservation.ReservationFacade;
 
+import java.util.List;
+
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class ReservationScheduler { //
 
+    private static final int REMINDER_CHUNK_SIZE = 500;
+
     private final ReservationFacade reservationFacade;
 
     /**
@@ -24,10 +28,27 @@ public class ReservationScheduler { //
 
     /**
      * 매일 정각마다, 오늘 수업인 사람을 찾아서 알림을 보낸다.
+     * 대상 예약은 청크 단위로 나누어 처리한다. (청크마다 별도 트랜잭션)
      */
     @Scheduled(cron = "0 0 0 * * *") // 매일 00:00:00에 실행
     public void sessionReminder() {
-        reservationFacade.checkTodaySessionReminder();
+        List<Long> reservationIds = reservationFacade.getTodaySessionReservationIds();
+        int totalChunks = (reservationIds.size() + REMINDER_CHUNK_SIZE - 1) / REMINDER_CHUNK_SIZE;
+        log.info("[SESSION REMINDER] :: start. reservations={}, chunks={}", reservationIds.size(), totalChunks);
+
+        for (int i = 0; i < totalChunks; i++) {
+            List<Long> chunk = reservationIds.subList(i * REMINDER_CHUNK_SIZE,
+                    Math.min((i + 1) * REMINDER_CHUNK_SIZE, reservationIds.size()));
+            long startTime = System.currentTimeMillis();
+            try {
+                int sentCount = reservationFacade.sendTodaySessionReminders(chunk);
+                log.info("[SESSION REMINDER] :: chunk {}/{} size={}, sent={}, elapsed={}ms", i + 1, totalChunks,
+                        chunk.size(), sentCount, System.currentTimeMillis() - startTime);
+            } catch (Exception e) {
+                log.error("[SESSION REMINDER] :: chunk {}/{} failed. elapsed={}ms", i + 1, totalChunks,
+                        System.currentTimeMillis() - startTime, e);
+            }
+        }
     }
 
 }
\ No newline at end of file
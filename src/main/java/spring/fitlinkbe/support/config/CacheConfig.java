@@ -10,22 +10,83 @@ import org.springframework.context.annotation.Configuration;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 
+/**
+ * 로컬 캐시 설정
+ * <p>
+ * 모든 캐시는 통계를 기록하므로 hit/miss 가 actuator metrics(cache.gets, cache.evictions 등)로 노출된다.
+ */
 @Configuration
 public class CacheConfig {
 
     private static final int EXPIRE_MINUTES = 5;
     public static final String TOKEN_CACHE = "tokenCache";
+    public static final String PROCESSED_MESSAGE_CACHE = "processedMessageCache";
+    public static final String TRAINER_OCCUPANCY_CACHE = "trainerOccupancyCache";
+    public static final String AVAILABLE_TIME_CACHE = "availableTimeCache";
+    public static final String PERSONAL_DETAIL_CACHE = "personalDetailCache";
+    public static final String USER_TOKEN_CACHE = "userTokenCache";
+
+    private static final int PROCESSED_MESSAGE_MAX_SIZE = 100_000;
+    private static final int PROCESSED_MESSAGE_EXPIRE_HOURS = 24;
+
+    private static final int TRAINER_OCCUPANCY_MAX_SIZE = 10_000;
+
+    private static final int USER_MAX_SIZE = 10_000;
 
     @Bean
     public CacheManager cacheManager() {
         CaffeineCache tokenCache = new CaffeineCache(TOKEN_CACHE,
                 Caffeine.newBuilder()
                         .expireAfterWrite(EXPIRE_MINUTES, TimeUnit.MINUTES)
+                        .recordStats()
+                        .build()
+        );
+
+        // 최근 처리한 메시지 id (중복 메시지를 DB 조회 없이 걸러내기 위함)
+        CaffeineCache processedMessageCache = new CaffeineCache(PROCESSED_MESSAGE_CACHE,
+                Caffeine.newBuilder()
+                        .maximumSize(PROCESSED_MESSAGE_MAX_SIZE)
+                        .expireAfterWrite(PROCESSED_MESSAGE_EXPIRE_HOURS, TimeUnit.HOURS)
+                        .recordStats()
+                        .build()
+        );
+
+        // 트레이너 월별 점유 비트맵 / 수업 가능 시간 (쓰기 시점에 갱신, 다른 인스턴스의 쓰기는 만료로 반영)
+        CaffeineCache trainerOccupancyCache = new CaffeineCache(TRAINER_OCCUPANCY_CACHE,
+                Caffeine.newBuilder()
+                        .maximumSize(TRAINER_OCCUPANCY_MAX_SIZE)
+                        .expireAfterWrite(EXPIRE_MINUTES, TimeUnit.MINUTES)
+                        .recordStats()
+                        .build()
+        );
+        CaffeineCache availableTimeCache = new CaffeineCache(AVAILABLE_TIME_CACHE,
+                Caffeine.newBuilder()
+                        .maximumSize(TRAINER_OCCUPANCY_MAX_SIZE)
+                        .expireAfterWrite(EXPIRE_MINUTES, TimeUnit.MINUTES)
+                        .recordStats()
+                        .build()
+        );
+
+        // 알림마다 조회하는 유저 상세 정보(member/trainer id 기준) / 토큰(personalDetailId 기준)
+        // (쓰기 시점에 비우고, 다른 인스턴스의 쓰기는 만료로 반영)
+        CaffeineCache personalDetailCache = new CaffeineCache(PERSONAL_DETAIL_CACHE,
+                Caffeine.newBuilder()
+                        .maximumSize(USER_MAX_SIZE)
+                        .expireAfterWrite(EXPIRE_MINUTES, TimeUnit.MINUTES)
+                        .recordStats()
+                        .build()
+        );
+        CaffeineCache userTokenCache = new CaffeineCache(USER_TOKEN_CACHE,
+                Caffeine.newBuilder()
+                        .maximumSize(USER_MAX_SIZE)
+                        .expireAfterWrite(EXPIRE_MINUTES, TimeUnit.MINUTES)
+                        .recordStats()
                         .build()
         );
 
         SimpleCacheManager cacheManager = new SimpleCacheManager();
-        cacheManager.setCaches(List.of(tokenCache));
+        cacheManager.setCaches(List.of(tokenCache, processedMessageCache, trainerOccupancyCache,
+                availableTimeCache, personalDetailCache, userTokenCache));
         return cacheManager;
     }
 }
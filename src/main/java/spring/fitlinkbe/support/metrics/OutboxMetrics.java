@@ -0,0 +1,34 @@
+package spring.fitlinkbe.support.metrics;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import spring.fitlinkbe.domain.outbox.OutboxBacklog;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * outbox 발행 대기 현황 지표 (relay 가 실행될 때마다 갱신)
+ */
+@Component
+public class OutboxMetrics {
+
+    private final AtomicLong pendingCount = new AtomicLong();
+    private final AtomicLong oldestPendingAgeSeconds = new AtomicLong();
+
+    public OutboxMetrics(MeterRegistry meterRegistry) {
+        Gauge.builder("outbox.pending.count", pendingCount, AtomicLong::get)
+                .description("발행 대기(INIT) 중인 outbox 수")
+                .register(meterRegistry);
+        Gauge.builder("outbox.pending.oldest.age", oldestPendingAgeSeconds, AtomicLong::get)
+                .description("가장 오래된 발행 대기 outbox 의 대기 시간")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    public void record(OutboxBacklog backlog) {
+        pendingCount.set(backlog.pendingCount());
+        oldestPendingAgeSeconds.set(backlog.getOldestPendingAge(LocalDateTime.now()).toSeconds());
+    }
+}
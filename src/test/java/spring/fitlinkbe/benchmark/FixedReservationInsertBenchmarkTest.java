@@ -0,0 +1,134 @@
+package spring.fitlinkbe.benchmark;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import spring.fitlinkbe.domain.common.enums.UserRole;
+import spring.fitlinkbe.domain.member.Member;
+import spring.fitlinkbe.domain.reservation.Reservation;
+import spring.fitlinkbe.domain.reservation.ReservationRepository;
+import spring.fitlinkbe.domain.reservation.Session;
+import spring.fitlinkbe.domain.trainer.Trainer;
+import spring.fitlinkbe.integration.common.BaseIntegrationTest;
+import spring.fitlinkbe.integration.common.TestDataHandler;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static spring.fitlinkbe.domain.reservation.Reservation.Status.FIXED_RESERVATION;
+import static spring.fitlinkbe.domain.reservation.Session.Status.SESSION_WAITING;
+
+/**
+ * 고정 예약 생성 시 JPA saveAll(IDENTITY 단건 insert)과 JDBC batch insert 의 저장 시간을 비교하는 벤치마크
+ * <p>
+ * 한 번의 facade 트랜잭션처럼 예약 SESSION_COUNT 건과 세션 SESSION_COUNT 건을 한 트랜잭션에서 저장한다.
+ * 기본 test 태스크에서는 제외되며 ./gradlew benchmark 로 실행한다.
+ */
+@Tag("benchmark")
+public class FixedReservationInsertBenchmarkTest extends BaseIntegrationTest {
+
+    private static final Logger log = LoggerFactory.getLogger(FixedReservationInsertBenchmarkTest.class);
+
+    private static final int SESSION_COUNT = 100;
+    private static final int WARM_UP = 3;
+    private static final int ITERATIONS = 10;
+
+    @Autowired
+    TestDataHandler testDataHandler;
+
+    @Autowired
+    ReservationRepository reservationRepository;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("고정 예약과 세션은 JDBC batch insert 가 JPA saveAll 보다 빠르게 저장된다.")
+    void batchInsertThroughput() {
+        //given
+        Member member = testDataHandler.createMember();
+        LocalDateTime baseDate = LocalDateTime.now().plusDays(1).withMinute(0).withSecond(0).withNano(0);
+
+        //when
+        long jpaElapsed = measure(member, baseDate, reservations -> {
+            List<Reservation> saved = reservationRepository.saveReservations(reservations);
+            reservationRepository.saveSessions(toSessions(saved));
+        });
+        long jdbcElapsed = measure(member, baseDate, reservations -> {
+            List<Reservation> saved = reservationRepository.insertReservations(reservations);
+            reservationRepository.insertSessions(toSessions(saved));
+        });
+
+        log.info("[BENCHMARK] reservations={} sessions={} jpaSaveAll={}us jdbcBatch={}us",
+                SESSION_COUNT, SESSION_COUNT, jpaElapsed / 1_000, jdbcElapsed / 1_000);
+
+        //then
+        Trainer trainer = testDataHandler.createTrainer("BENCH_CHECK");
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            List<Reservation> saved = reservationRepository.insertReservations(
+                    createFixedReservations(member, trainer, baseDate));
+            reservationRepository.insertSessions(toSessions(saved));
+        });
+        List<Reservation> stored = reservationRepository.getReservations(UserRole.TRAINER, trainer.getTrainerId());
+        assertThat(stored).hasSize(SESSION_COUNT);
+        assertThat(stored).allSatisfy(r -> assertThat(r.getReservationDates()).containsExactly(r.getConfirmDate()));
+        assertThat(reservationRepository.getSessions(stored.stream()
+                .map(Reservation::getReservationId)
+                .toList())).hasSize(SESSION_COUNT);
+        assertThat(jdbcElapsed).isLessThan(jpaElapsed);
+    }
+
+    /**
+     * 트레이너 슬롯 unique key 에 걸리지 않도록 실행마다 새 트레이너로 저장하고, 중앙값을 반환한다.
+     */
+    private long measure(Member member, LocalDateTime baseDate, Consumer<List<Reservation>> save) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        long[] elapsed = new long[ITERATIONS];
+
+        for (int i = 0; i < WARM_UP + ITERATIONS; i++) {
+            Trainer trainer = testDataHandler.createTrainer("BENCH" + System.nanoTime());
+            List<Reservation> reservations = createFixedReservations(member, trainer, baseDate);
+
+            long start = System.nanoTime();
+            transactionTemplate.executeWithoutResult(status -> save.accept(reservations));
+            if (i >= WARM_UP) {
+                elapsed[i - WARM_UP] = System.nanoTime() - start;
+            }
+        }
+        Arrays.sort(elapsed);
+
+        return elapsed[ITERATIONS / 2];
+    }
+
+    private List<Reservation> createFixedReservations(Member member, Trainer trainer, LocalDateTime baseDate) {
+        Reservation baseReservation = Reservation.builder()
+                .member(member)
+                .trainer(trainer)
+                .name(member.getName())
+                .reservationDates(List.of(baseDate))
+                .confirmDate(baseDate)
+                .dayOfWeek(baseDate.getDayOfWeek())
+                .status(FIXED_RESERVATION)
+                .isDayOff(false)
+                .build();
+
+        return Reservation.createFixedReservations(List.of(baseReservation), SESSION_COUNT);
+    }
+
+    private List<Session> toSessions(List<Reservation> reservations) {
+        return reservations.stream()
+                .map(reservation -> Session.builder()
+                        .reservation(reservation)
+                        .status(SESSION_WAITING)
+                        .build())
+                .toList();
+    }
+}
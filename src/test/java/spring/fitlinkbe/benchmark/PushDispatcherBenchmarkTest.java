@@ -0,0 +1,84 @@
+package spring.fitlinkbe.benchmark;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import spring.fitlinkbe.domain.notification.PushDispatcher;
+import spring.fitlinkbe.domain.notification.event.PushEvent;
+import spring.fitlinkbe.infra.client.PushNotificationClientImpl;
+import spring.fitlinkbe.infra.notification.FakePushManager;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 가짜 PushManager(FCM 호출 1번당 LATENCY_MILLIS)로 push 파이프라인의 처리량을 측정하는 벤치마크
+ * <p>
+ * 메세지마다 한 번씩 전송하는 경우(batch-size 1)와 최대 500 건씩 일괄 전송하는 경우를 비교한다.
+ * 기본 test 태스크에서는 제외되며 ./gradlew benchmark 로 실행한다.
+ */
+@Tag("benchmark")
+public class PushDispatcherBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(PushDispatcherBenchmarkTest.class);
+
+    private static final int EVENT_COUNT = 2_000;
+    private static final int WORKERS = 2;
+    private static final long LATENCY_MILLIS = 5;
+    private static final long DEADLINE_MILLIS = 60_000;
+
+    @Test
+    @DisplayName("push 알림은 일괄 전송이 건별 전송보다 빠르게 처리된다.")
+    void batchSendThroughput() throws InterruptedException {
+        //given
+        List<PushEvent> events = IntStream.range(0, EVENT_COUNT)
+                .mapToObj(i -> PushEvent.builder()
+                        .pushTokens(List.of("token-" + i))
+                        .name("알림")
+                        .content("내용 " + i)
+                        .build())
+                .toList();
+
+        //when
+        long singleElapsed = measure(events, 1);
+        long batchElapsed = measure(events, 500);
+
+        log.info("[BENCHMARK] events={} workers={} latency={}ms single={}ms ({}/s) batch={}ms ({}/s)",
+                EVENT_COUNT, WORKERS, LATENCY_MILLIS,
+                singleElapsed, EVENT_COUNT * 1_000L / Math.max(singleElapsed, 1),
+                batchElapsed, EVENT_COUNT * 1_000L / Math.max(batchElapsed, 1));
+
+        //then
+        assertThat(batchElapsed).isLessThan(singleElapsed);
+    }
+
+    /**
+     * 모든 알림이 전송될 때까지 걸린 시간(ms)을 반환한다.
+     */
+    private long measure(List<PushEvent> events, int batchSize) throws InterruptedException {
+        FakePushManager pushManager = new FakePushManager(LATENCY_MILLIS, 0.0);
+        // FakePushManager 는 유효하지 않은 토큰을 돌려주지 않으므로 토큰 삭제(AuthService)는 쓰지 않는다.
+        PushDispatcher pushDispatcher = new PushDispatcher(new PushNotificationClientImpl(pushManager), null,
+                EVENT_COUNT, WORKERS, batchSize, 3, 10, 1_000, true);
+        try {
+            long start = System.nanoTime();
+            assertThat(pushDispatcher.dispatch(events)).isEqualTo(EVENT_COUNT);
+            long deadline = System.currentTimeMillis() + DEADLINE_MILLIS;
+            while (pushManager.getSentCount() < EVENT_COUNT && System.currentTimeMillis() < deadline) {
+                Thread.sleep(1);
+            }
+            long elapsed = (System.nanoTime() - start) / 1_000_000;
+
+            assertThat(pushManager.getSentCount()).isEqualTo(EVENT_COUNT);
+            log.info("[BENCHMARK] batchSize={} batches={}", batchSize, pushManager.getBatchCount());
+
+            return elapsed;
+        } finally {
+            pushDispatcher.shutdown();
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package spring.fitlinkbe.benchmark;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import spring.fitlinkbe.domain.common.enums.UserRole;
+import spring.fitlinkbe.domain.member.Member;
+import spring.fitlinkbe.domain.reservation.Reservation;
+import spring.fitlinkbe.domain.reservation.ReservationRepository;
+import spring.fitlinkbe.domain.trainer.Trainer;
+import spring.fitlinkbe.integration.common.BaseIntegrationTest;
+import spring.fitlinkbe.integration.common.TestDataHandler;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static spring.fitlinkbe.domain.reservation.Reservation.Status.RESERVATION_COMPLETED;
+import static spring.fitlinkbe.domain.reservation.Reservation.Status.RESERVATION_WAITING;
+
+/**
+ * 예약 이력이 늘어나도 기간 조회 latency 가 일정하게 유지되는지 확인하는 벤치마크
+ * <p>
+ * 기본 test 태스크에서는 제외되며 ./gradlew benchmark 로 실행한다.
+ */
+@Tag("benchmark")
+public class ReservationRangeQueryBenchmarkTest extends BaseIntegrationTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ReservationRangeQueryBenchmarkTest.class);
+
+    private static final int[] HISTORY_SIZES = {500, 2_000, 8_000};
+    private static final int IN_RANGE_COUNT = 20;
+    private static final int WARM_UP = 5;
+    private static final int ITERATIONS = 30;
+
+    @Autowired
+    TestDataHandler testDataHandler;
+
+    @Autowired
+    ReservationRepository reservationRepository;
+
+    @Test
+    @DisplayName("예약 이력이 늘어나도 기간 조회 latency 는 일정하게 유지된다.")
+    void rangeQueryLatencyStaysFlat() {
+        //given
+        Member member = testDataHandler.createMember();
+        Trainer trainer = testDataHandler.createTrainer("BENCH");
+        LocalDateTime startDate = LocalDateTime.of(2025, 6, 2, 0, 0);
+        LocalDateTime endDate = Reservation.getEndDate(startDate, UserRole.TRAINER);
+
+        List<Reservation> inRange = new ArrayList<>();
+        for (int i = 0; i < IN_RANGE_COUNT; i++) {
+            inRange.add(createReservation(member, trainer, startDate.plusHours(i * 12L + 1), RESERVATION_WAITING));
+        }
+        reservationRepository.saveReservations(inRange);
+
+        int seeded = 0;
+        List<Long> rangeMedians = new ArrayList<>();
+
+        for (int historySize : HISTORY_SIZES) {
+            // 조회 기간 이전의 과거 이력 누적
+            List<Reservation> history = new ArrayList<>();
+            for (int i = seeded; i < historySize; i++) {
+                history.add(createReservation(member, trainer, startDate.minusHours(i + 1L), RESERVATION_COMPLETED));
+            }
+            reservationRepository.saveReservations(history);
+            seeded = historySize;
+
+            //when
+            long rangeMedian = medianNanos(() -> reservationRepository
+                    .getReservations(UserRole.TRAINER, trainer.getTrainerId(), startDate, endDate));
+            long fullScanMedian = medianNanos(() -> reservationRepository
+                    .getReservations(UserRole.TRAINER, trainer.getTrainerId())
+                    .stream()
+                    .filter(r -> r.isReservationInRange(startDate, endDate))
+                    .toList());
+            rangeMedians.add(rangeMedian);
+
+            log.info("[BENCHMARK] history={} rangeQuery={}us fullLoadAndFilter={}us",
+                    historySize, rangeMedian / 1_000, fullScanMedian / 1_000);
+
+            //then
+            assertThat(reservationRepository
+                    .getReservations(UserRole.TRAINER, trainer.getTrainerId(), startDate, endDate))
+                    .hasSize(IN_RANGE_COUNT);
+        }
+
+        // 이력이 16배 늘어도 기간 조회 시간은 크게 늘지 않아야 한다.
+        assertThat(rangeMedians.get(rangeMedians.size() - 1))
+                .isLessThan(rangeMedians.get(0) * 4);
+    }
+
+    private Reservation createReservation(Member member, Trainer trainer, LocalDateTime date,
+                                          Reservation.Status status) {
+        return Reservation.builder()
+                .member(member)
+                .trainer(trainer)
+                .name(member.getName())
+                .reservationDates(List.of(date))
+                .confirmDate(status == RESERVATION_COMPLETED ? date : null)
+                .status(status)
+                .isDayOff(false)
+                .build();
+    }
+
+    private long medianNanos(Supplier<?> task) {
+        for (int i = 0; i < WARM_UP; i++) {
+            task.get();
+        }
+
+        long[] elapsed = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            task.get();
+            elapsed[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(elapsed);
+
+        return elapsed[ITERATIONS / 2];
+    }
+}
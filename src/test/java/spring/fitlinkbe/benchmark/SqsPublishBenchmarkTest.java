@@ -0,0 +1,132 @@
+package spring.fitlinkbe.benchmark;
+
+import io.awspring.cloud.sqs.operations.SqsTemplate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.model.GetQueueUrlRequest;
+import software.amazon.awssdk.services.sqs.model.GetQueueUrlResponse;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResponse;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResultEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageResponse;
+import spring.fitlinkbe.domain.producer.EventTopic;
+import spring.fitlinkbe.infra.producer.SqsProducer;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 고정 예약 이벤트를 SQS 로 발행할 때 단건 전송과 배치 전송(최대 10건)의 처리량을 비교하는 벤치마크
+ * <p>
+ * 실제 SQS 대신 호출마다 왕복 지연을 흉내내는 SqsAsyncClient stub 을 사용한다.
+ * 기본 test 태스크에서는 제외되며 ./gradlew benchmark 로 실행한다.
+ */
+@Tag("benchmark")
+public class SqsPublishBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(SqsPublishBenchmarkTest.class);
+
+    private static final int MESSAGE_COUNT = 300;
+    private static final long ROUND_TRIP_MILLIS = 3;
+
+    private final AtomicInteger sendCalls = new AtomicInteger();
+    private final AtomicInteger batchCalls = new AtomicInteger();
+    private final AtomicInteger sentMessages = new AtomicInteger();
+
+    private SqsProducer sqsProducer;
+
+    @BeforeEach
+    void setUp() {
+        sqsProducer = new SqsProducer(SqsTemplate.newTemplate(localSqsStandIn()));
+    }
+
+    @Test
+    @DisplayName("배치 전송은 단건 전송보다 SQS 호출 수가 1/10 로 줄고 처리량이 높다.")
+    void batchPublishThroughput() {
+        //given
+        Map<String, String> payloads = new LinkedHashMap<>();
+        IntStream.range(0, MESSAGE_COUNT)
+                .forEach(i -> payloads.put(UUID.randomUUID().toString(), "{\"reservationId\":" + i + "}"));
+
+        //when
+        long singleStart = System.nanoTime();
+        payloads.values().forEach(payload -> sqsProducer.publish(EventTopic.RESERVATION_QUEUE, payload));
+        long singleElapsed = System.nanoTime() - singleStart;
+        int singleSentMessages = sentMessages.getAndSet(0);
+
+        long batchStart = System.nanoTime();
+        Set<String> sentKeys = sqsProducer.publishBatch(EventTopic.RESERVATION_QUEUE, payloads);
+        long batchElapsed = System.nanoTime() - batchStart;
+
+        log.info("[BENCHMARK] messages={} single: calls={} {}msg/s, batch: calls={} {}msg/s",
+                MESSAGE_COUNT,
+                sendCalls.get(), throughput(singleElapsed),
+                batchCalls.get(), throughput(batchElapsed));
+
+        //then
+        assertThat(singleSentMessages).isEqualTo(MESSAGE_COUNT);
+        assertThat(sentMessages.get()).isEqualTo(MESSAGE_COUNT);
+        assertThat(sentKeys).containsExactlyInAnyOrderElementsOf(payloads.keySet());
+        assertThat(batchCalls.get()).isEqualTo(MESSAGE_COUNT / SqsProducer.MAX_BATCH_SIZE);
+        assertThat(batchElapsed).isLessThan(singleElapsed / 3);
+    }
+
+    private long throughput(long elapsedNanos) {
+        return MESSAGE_COUNT * TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+    }
+
+    /**
+     * 호출마다 ROUND_TRIP_MILLIS 만큼 지연 후 성공 응답을 돌려주는 SQS stand-in
+     */
+    private SqsAsyncClient localSqsStandIn() {
+        SqsAsyncClient client = mock(SqsAsyncClient.class);
+        Executor roundTrip = CompletableFuture.delayedExecutor(ROUND_TRIP_MILLIS, TimeUnit.MILLISECONDS);
+
+        when(client.getQueueUrl(any(GetQueueUrlRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(GetQueueUrlResponse.builder()
+                        .queueUrl("https://sqs/local-queue")
+                        .build()));
+
+        when(client.sendMessage(any(SendMessageRequest.class))).thenAnswer(invocation -> {
+            sendCalls.incrementAndGet();
+            sentMessages.incrementAndGet();
+            return CompletableFuture.supplyAsync(() -> SendMessageResponse.builder()
+                    .messageId(UUID.randomUUID().toString())
+                    .build(), roundTrip);
+        });
+
+        when(client.sendMessageBatch(any(SendMessageBatchRequest.class))).thenAnswer(invocation -> {
+            SendMessageBatchRequest request = invocation.getArgument(0);
+            batchCalls.incrementAndGet();
+            sentMessages.addAndGet(request.entries().size());
+            return CompletableFuture.supplyAsync(() -> SendMessageBatchResponse.builder()
+                    .successful(request.entries().stream()
+                            .map(entry -> SendMessageBatchResultEntry.builder()
+                                    .id(entry.id())
+                                    .messageId(UUID.randomUUID().toString())
+                                    .build())
+                            .toList())
+                    .build(), roundTrip);
+        });
+
+        return client;
+    }
+}
@@ -6,7 +6,11 @@ import org.springframework.context.annotation.Bean;
 import software.amazon.awssdk.services.sqs.SqsAsyncClient;
 import software.amazon.awssdk.services.sqs.model.GetQueueUrlRequest;
 import software.amazon.awssdk.services.sqs.model.GetQueueUrlResponse;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResponse;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResultEntry;
 
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 
 import static org.mockito.ArgumentMatchers.any;
@@ -28,6 +32,20 @@ public class TestSqsConfig {
         when(mockClient.getQueueUrl(any(GetQueueUrlRequest.class)))
                 .thenReturn(CompletableFuture.completedFuture(response));
 
+        // sendMessageBatch 호출은 모든 메시지 전송 성공으로 응답
+        when(mockClient.sendMessageBatch(any(SendMessageBatchRequest.class)))
+                .thenAnswer(invocation -> {
+                    SendMessageBatchRequest request = invocation.getArgument(0);
+                    return CompletableFuture.completedFuture(SendMessageBatchResponse.builder()
+                            .successful(request.entries().stream()
+                                    .map(entry -> SendMessageBatchResultEntry.builder()
+                                            .id(entry.id())
+                                            .messageId(UUID.randomUUID().toString())
+                                            .build())
+                                    .toList())
+                            .build());
+                });
+
         return mockClient;
     }
 
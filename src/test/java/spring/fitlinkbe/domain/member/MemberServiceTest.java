@@ -8,8 +8,10 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import spring.fitlinkbe.domain.common.PersonalDetailRepository;
+import spring.fitlinkbe.domain.common.SessionInfoRepository;
 import spring.fitlinkbe.domain.common.exception.CustomException;
 import spring.fitlinkbe.domain.common.model.PersonalDetail;
+import spring.fitlinkbe.domain.common.model.SessionInfo;
 
 import java.util.Optional;
 
@@ -17,12 +19,17 @@ import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 import static spring.fitlinkbe.domain.common.exception.ErrorCode.MEMBER_DETAIL_NOT_FOUND;
+import static spring.fitlinkbe.domain.common.exception.ErrorCode.SESSION_NOT_FOUND;
+import static spring.fitlinkbe.domain.common.exception.ErrorCode.SESSION_REMAINING_COUNT_NOT_VALID;
 
 class MemberServiceTest {
 
     @Mock
     private PersonalDetailRepository personalDetailRepository;
 
+    @Mock
+    private SessionInfoRepository sessionInfoRepository;
+
     @InjectMocks
     private MemberService memberService;
 
@@ -68,4 +75,69 @@ class MemberServiceTest {
                 .isEqualTo(MEMBER_DETAIL_NOT_FOUND);
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("세션을 차감하면 차감 후 남은 횟수를 반환한다.")
+    void deductSession() {
+        //given
+        when(sessionInfoRepository.deductRemainingCount(1L, 1L, 1))
+                .thenReturn(Optional.of(4));
+
+        //when
+        int result = memberService.deductSession(1L, 1L, 1);
+
+        //then
+        Assertions.assertThat(result).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("남은 세션 횟수가 부족해 차감되지 않으면 SESSION_REMAINING_COUNT_NOT_VALID 예외를 반환한다.")
+    void deductSessionWithNotEnough() {
+        //given
+        SessionInfo sessionInfo = SessionInfo.builder()
+                .totalCount(10)
+                .remainingCount(0)
+                .build();
+
+        when(sessionInfoRepository.deductRemainingCount(1L, 1L, 1))
+                .thenReturn(Optional.empty());
+        when(sessionInfoRepository.getSessionInfoWithNoLock(1L, 1L))
+                .thenReturn(Optional.of(sessionInfo));
+
+        //when & then
+        assertThatThrownBy(() -> memberService.deductSession(1L, 1L, 1))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(SESSION_REMAINING_COUNT_NOT_VALID);
+    }
+
+    @Test
+    @DisplayName("세션 정보가 없어 차감되지 않으면 SESSION_NOT_FOUND 예외를 반환한다.")
+    void deductSessionWithNotFound() {
+        //given
+        when(sessionInfoRepository.deductRemainingCount(1L, 1L, 1))
+                .thenReturn(Optional.empty());
+        when(sessionInfoRepository.getSessionInfoWithNoLock(1L, 1L))
+                .thenReturn(Optional.empty());
+
+        //when & then
+        assertThatThrownBy(() -> memberService.deductSession(1L, 1L, 1))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(SESSION_NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("세션을 복구하면 복구 후 남은 횟수를 반환한다.")
+    void restoreSession() {
+        //given
+        when(sessionInfoRepository.restoreRemainingCount(1L, 1L, 1))
+                .thenReturn(Optional.of(6));
+
+        //when
+        int result = memberService.restoreSession(1L, 1L, 1);
+
+        //then
+        Assertions.assertThat(result).isEqualTo(6);
+    }
+
+}
@@ -4,6 +4,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
@@ -12,18 +13,29 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import spring.fitlinkbe.domain.common.PersonalDetailRepository;
+import spring.fitlinkbe.domain.common.TokenRepository;
 import spring.fitlinkbe.domain.common.enums.UserRole;
+import spring.fitlinkbe.domain.common.exception.CustomException;
+import spring.fitlinkbe.domain.common.exception.ErrorCode;
 import spring.fitlinkbe.domain.common.model.PersonalDetail;
-import spring.fitlinkbe.domain.notification.client.PushNotificationClient;
+import spring.fitlinkbe.domain.common.model.Token;
 import spring.fitlinkbe.domain.notification.command.NotificationCommand;
+import spring.fitlinkbe.domain.notification.event.NotificationIntentEvent;
+import spring.fitlinkbe.domain.notification.event.PushBatchEvent;
 import spring.fitlinkbe.support.security.SecurityUser;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 public class NotificationServiceTest {
@@ -31,11 +43,17 @@ public class NotificationServiceTest {
     @Mock
     private NotificationRepository notificationRepository;
 
+    @Mock
+    private NotificationIntentRepository notificationIntentRepository;
+
     @Mock
     private NotificationStrategyHandler strategyHandler;
 
     @Mock
-    private PushNotificationClient pushNotificationClient;
+    private TokenRepository tokenRepository;
+
+    @Mock
+    private PersonalDetailRepository personalDetailRepository;
 
     @Mock
     private ApplicationEventPublisher applicationEventPublisher;
@@ -60,7 +78,7 @@ public class NotificationServiceTest {
             String memberName = "멤버1";
             PersonalDetail personalDetail = PersonalDetail.builder().build();
             NotificationCommand.Connect connectDto = NotificationCommand.Connect.of(personalDetail,
-                    1L, memberName, 1L, "pushToken");
+                    1L, memberName, 1L);
 
             Notification notification = Notification.builder()
                     .notificationId(1L)
@@ -76,16 +94,17 @@ public class NotificationServiceTest {
                     .build();
 
             when(strategyHandler.handle(connectDto)).thenReturn(notification);
-            when(notificationRepository.save(any(Notification.class))).thenReturn(notification);
-            doNothing().when(pushNotificationClient)
-                    .pushNotification("test-token", "테스트알림", "내용입니다");
 
             //when
             notificationService.sendNotification(connectDto);
 
             //then
             verify(strategyHandler).handle(connectDto);
-            verify(notificationRepository).save(any(Notification.class));
+            ArgumentCaptor<NotificationIntentEvent> captor = ArgumentCaptor.forClass(NotificationIntentEvent.class);
+            verify(applicationEventPublisher).publishEvent(captor.capture());
+            assertThat(captor.getValue().intents()).singleElement()
+                    .satisfies(intent -> assertThat(intent.getNotification()).isEqualTo(notification));
+            verifyNoInteractions(notificationRepository, notificationIntentRepository);
         }
 
         @Test
@@ -103,6 +122,203 @@ public class NotificationServiceTest {
             verify(strategyHandler).handle(connectDto);
             verifyNoInteractions(notificationRepository);
         }
+
+        @Test
+        @DisplayName("세션 리마인드 알림 일괄 전송 - 성공: 알림 요청 이벤트를 한 번만 발행하고 요청 중에는 저장하지 않는다.")
+        void sendNotifications() {
+            //given
+            PersonalDetail personalDetail = PersonalDetail.builder().personalDetailId(1L).build();
+            NotificationCommand.SessionTodayReminder reminder1 = NotificationCommand.SessionTodayReminder
+                    .of(personalDetail, 1L, 1L, LocalDateTime.now());
+            NotificationCommand.SessionTodayReminder reminder2 = NotificationCommand.SessionTodayReminder
+                    .of(personalDetail, 2L, 1L, LocalDateTime.now());
+
+            Notification notification = Notification.builder()
+                    .notificationType(Notification.NotificationType.SESSION_REMINDER)
+                    .personalDetail(personalDetail)
+                    .name(Notification.NotificationType.SESSION_REMINDER.getName())
+                    .content("오늘 세션이 있습니다.")
+                    .build();
+
+            when(strategyHandler.handle(any(NotificationCommand.SessionTodayReminder.class)))
+                    .thenReturn(notification);
+
+            //when
+            notificationService.sendNotifications(List.of(reminder1, reminder2));
+
+            //then
+            verify(strategyHandler, times(2)).handle(any(NotificationCommand.SessionTodayReminder.class));
+            ArgumentCaptor<NotificationIntentEvent> captor = ArgumentCaptor.forClass(NotificationIntentEvent.class);
+            verify(applicationEventPublisher, times(1)).publishEvent(captor.capture());
+            assertThat(captor.getValue().intents()).extracting(NotificationIntent::getNotification)
+                    .containsExactly(notification, notification);
+            verifyNoInteractions(notificationRepository, notificationIntentRepository);
+        }
+
+        @Test
+        @DisplayName("알림 요청 처리 - 성공: 알림을 한 번에 저장하고 유저가 등록한 모든 기기로 push 알림을 보낸다.")
+        void processIntentsToAllDevices() {
+            //given
+            PersonalDetail personalDetail = PersonalDetail.builder().personalDetailId(1L).build();
+            Notification notification = Notification.builder()
+                    .notificationType(Notification.NotificationType.SESSION_REMINDER)
+                    .personalDetail(personalDetail)
+                    .name(Notification.NotificationType.SESSION_REMINDER.getName())
+                    .content("오늘 세션이 있습니다.")
+                    .build();
+            NotificationIntent intent = NotificationIntent.of(notification).toBuilder()
+                    .intentId(10L)
+                    .build();
+
+            when(notificationIntentRepository.claimIntents(List.of(10L))).thenReturn(List.of(intent));
+            when(tokenRepository.getPushTokens(List.of(1L)))
+                    .thenReturn(Map.of(1L, List.of("phone-token", "tablet-token")));
+
+            //when
+            int processed = notificationService.processIntents(List.of(10L));
+
+            //then
+            assertThat(processed).isEqualTo(1);
+            verify(notificationRepository).saveAll(List.of(notification));
+            verify(notificationIntentRepository).deleteIntents(List.of(10L));
+            ArgumentCaptor<PushBatchEvent> captor = ArgumentCaptor.forClass(PushBatchEvent.class);
+            verify(applicationEventPublisher).publishEvent(captor.capture());
+            assertThat(captor.getValue().pushEvents()).singleElement()
+                    .satisfies(event -> assertThat(event.pushTokens()).containsExactly("phone-token", "tablet-token"));
+        }
+
+        @Test
+        @DisplayName("알림 요청 처리 - 성공: 같은 유저의 거절 알림은 아직 처리되지 않은 요청까지 묶어서 한 번만 저장/전송한다.")
+        void processIntentsWithDigest() {
+            //given
+            PersonalDetail memberDetail = PersonalDetail.builder().personalDetailId(1L).name("멤버1").build();
+            LocalDateTime date = LocalDateTime.now().plusDays(1);
+            NotificationIntent claimed = NotificationIntent.of(
+                    Notification.approveReservation(memberDetail, 1L, date, 1L, false)).toBuilder()
+                    .intentId(10L)
+                    .build();
+            NotificationIntent pending = NotificationIntent.of(
+                    Notification.approveReservation(memberDetail, 2L, date.plusDays(7), 1L, false))
+                    .toBuilder()
+                    .intentId(11L)
+                    .build();
+
+            when(notificationIntentRepository.claimIntents(List.of(10L))).thenReturn(List.of(claimed));
+            when(notificationIntentRepository.claimPendingIntents(eq(List.of(1L)), eq(List.of(1L)),
+                    eq(List.of(Notification.NotificationType.RESERVATION_REFUSE)), any(LocalDateTime.class)))
+                    .thenReturn(List.of(claimed, pending));
+            when(tokenRepository.getPushTokens(List.of(1L))).thenReturn(Map.of(1L, List.of("phone-token")));
+
+            //when
+            int processed = notificationService.processIntents(List.of(10L));
+
+            //then
+            assertThat(processed).isEqualTo(2);
+            ArgumentCaptor<List<Notification>> notificationCaptor = ArgumentCaptor.forClass(List.class);
+            verify(notificationRepository).saveAll(notificationCaptor.capture());
+            assertThat(notificationCaptor.getValue()).singleElement()
+                    .satisfies(notification -> assertThat(notification.getContent()).contains("(2건)"));
+            verify(notificationIntentRepository).deleteIntents(List.of(10L, 11L));
+            ArgumentCaptor<PushBatchEvent> pushCaptor = ArgumentCaptor.forClass(PushBatchEvent.class);
+            verify(applicationEventPublisher).publishEvent(pushCaptor.capture());
+            assertThat(pushCaptor.getValue().pushEvents()).hasSize(1);
+        }
+
+        @Test
+        @DisplayName("알림 요청 처리 - 성공: 수신자 id 만 남긴 요청은 유저 정보를 한 번에 조회하고, 기기가 없으면 로그인 토큰의 push 토큰으로 보낸다.")
+        void processIntentsWithRecipientReference() {
+            //given
+            Notification notification = Notification.sessionTodayReminder(PersonalDetail.ofMember(5L), 1L, 1L,
+                    LocalDateTime.now());
+            NotificationIntent intent = NotificationIntent.of(notification).toBuilder()
+                    .intentId(10L)
+                    .build();
+            PersonalDetail memberDetail = PersonalDetail.builder().personalDetailId(1L).memberId(5L).build();
+
+            when(notificationIntentRepository.claimIntents(List.of(10L))).thenReturn(List.of(intent));
+            when(personalDetailRepository.getMemberDetails(List.of(5L))).thenReturn(List.of(memberDetail));
+            when(tokenRepository.getPushTokens(List.of(1L))).thenReturn(Map.of());
+            when(tokenRepository.getByPersonalDetailIds(List.of(1L))).thenReturn(List.of(Token.builder()
+                    .personalDetailId(1L)
+                    .pushToken("legacy-token")
+                    .build()));
+
+            //when
+            int processed = notificationService.processIntents(List.of(10L));
+
+            //then
+            assertThat(processed).isEqualTo(1);
+            ArgumentCaptor<List<Notification>> notificationCaptor = ArgumentCaptor.forClass(List.class);
+            verify(notificationRepository).saveAll(notificationCaptor.capture());
+            assertThat(notificationCaptor.getValue()).singleElement()
+                    .satisfies(saved -> assertThat(saved.getPersonalDetail().getPersonalDetailId()).isEqualTo(1L));
+            verify(personalDetailRepository, never()).getMemberDetail(anyLong());
+            ArgumentCaptor<PushBatchEvent> pushCaptor = ArgumentCaptor.forClass(PushBatchEvent.class);
+            verify(applicationEventPublisher).publishEvent(pushCaptor.capture());
+            assertThat(pushCaptor.getValue().pushEvents()).singleElement()
+                    .satisfies(event -> assertThat(event.pushTokens()).containsExactly("legacy-token"));
+        }
+
+        @Test
+        @DisplayName("알림 요청 처리 - 수신자를 찾을 수 없는 요청은 알림 없이 삭제한다.")
+        void processIntentsWithUnknownRecipient() {
+            //given
+            NotificationIntent intent = NotificationIntent.of(Notification.sessionTodayReminder(
+                    PersonalDetail.ofMember(5L), 1L, 1L, LocalDateTime.now())).toBuilder()
+                    .intentId(10L)
+                    .build();
+
+            when(notificationIntentRepository.claimIntents(List.of(10L))).thenReturn(List.of(intent));
+            when(personalDetailRepository.getMemberDetails(List.of(5L))).thenReturn(List.of());
+
+            //when
+            int processed = notificationService.processIntents(List.of(10L));
+
+            //then
+            assertThat(processed).isEqualTo(1);
+            verify(notificationRepository).saveAll(List.of());
+            verify(notificationIntentRepository).deleteIntents(List.of(10L));
+        }
+
+        @Test
+        @DisplayName("알림 요청 relay 대상 조회 - 최대 시도 횟수를 넘긴 요청은 가져오지 않는다.")
+        void getRelayIntentIds() {
+            //given
+            when(notificationIntentRepository.getStaleIntentIds(any(LocalDateTime.class), anyInt(), anyInt()))
+                    .thenReturn(List.of(10L));
+
+            //when
+            List<Long> intentIds = notificationService.getRelayIntentIds(100);
+
+            //then
+            assertThat(intentIds).containsExactly(10L);
+            verify(notificationIntentRepository).getStaleIntentIds(any(LocalDateTime.class), eq(5), eq(100));
+        }
+
+        @Test
+        @DisplayName("알림 요청 처리 - 다른 곳에서 이미 처리한 요청이면 아무것도 하지 않는다.")
+        void processIntentsAlreadyClaimed() {
+            //given
+            when(notificationIntentRepository.claimIntents(List.of(10L))).thenReturn(List.of());
+
+            //when
+            int processed = notificationService.processIntents(List.of(10L));
+
+            //then
+            assertThat(processed).isZero();
+            verifyNoInteractions(notificationRepository, applicationEventPublisher);
+            verify(notificationIntentRepository, never()).deleteIntents(anyList());
+        }
+
+        @Test
+        @DisplayName("세션 리마인드 알림 일괄 전송 - 대상이 없으면 아무것도 하지 않는다.")
+        void sendNotificationsWithEmpty() {
+            //when
+            notificationService.sendNotifications(List.of());
+
+            //then
+            verifyNoInteractions(strategyHandler, notificationRepository, applicationEventPublisher);
+        }
     }
 
     @Nested
@@ -161,5 +377,56 @@ public class NotificationServiceTest {
                     .isInstanceOf(RuntimeException.class)
                     .hasMessage("DB 오류");
         }
+
+        @DisplayName("알림 검색 - 실패: 검색어가 공백 제외 2글자 미만")
+        @Test
+        void searchNotificationsWithShortKeyword() {
+            // given
+            NotificationCommand.Search command = NotificationCommand.Search.builder()
+                    .keyword(" 예 ")
+                    .size(20)
+                    .build();
+            SecurityUser user = mock(SecurityUser.class);
+
+            // when & then
+            assertThatThrownBy(() -> notificationService.searchNotifications(command, user))
+                    .isInstanceOf(CustomException.class)
+                    .extracting("errorCode")
+                    .isEqualTo(ErrorCode.NOTIFICATION_KEYWORD_TOO_SHORT);
+            verify(notificationRepository, never()).searchNotifications(any(), any(), any(), anyInt());
+        }
+    }
+
+    @Nested
+    @DisplayName("알림 처리 Service TEST")
+    class ProcessNotificationServiceTest {
+        @DisplayName("알림 처리 - 성공: 처리 전 알림이면 처리 완료로 바뀐다.")
+        @Test
+        void processNotification() {
+            // given
+            Notification notification = Notification.builder().notificationId(1L).isProcessed(false).build();
+            when(notificationRepository.processNotification(notification)).thenReturn(true);
+
+            // when
+            notificationService.processNotification(notification);
+
+            // then
+            assertThat(notification.isProcessed()).isTrue();
+            verify(notificationRepository, never()).save(any());
+        }
+
+        @DisplayName("알림 처리 - 이미 처리된 알림이면 아무것도 바뀌지 않는다.")
+        @Test
+        void processNotificationAlreadyProcessed() {
+            // given
+            Notification notification = Notification.builder().notificationId(1L).isProcessed(false).build();
+            when(notificationRepository.processNotification(notification)).thenReturn(false);
+
+            // when
+            notificationService.processNotification(notification);
+
+            // then
+            assertThat(notification.isProcessed()).isFalse();
+        }
     }
 }
@@ -4,6 +4,10 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import spring.fitlinkbe.domain.common.model.PersonalDetail;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 public class NotificationTest {
@@ -25,4 +29,93 @@ public class NotificationTest {
         assertThat(result.getContent()).isEqualTo("멤버1 님에게 연동 요청이 왔습니다.");
     }
 
+    @Test
+    @DisplayName("거절 알림 묶기 - 성공: 같은 유저의 거절 알림이 하나의 묶음 알림으로 합쳐진다.")
+    void coalesceRefusals() {
+        //given
+        PersonalDetail memberDetail = PersonalDetail.builder()
+                .personalDetailId(1L)
+                .name("멤버1")
+                .build();
+        PersonalDetail otherDetail = PersonalDetail.builder()
+                .personalDetailId(2L)
+                .name("멤버2")
+                .build();
+        LocalDateTime date = LocalDateTime.of(2025, 1, 6, 10, 0);
+        List<NotificationIntent> intents = List.of(
+                NotificationIntent.of(Notification.approveReservation(memberDetail, 1L, date, 1L, false)),
+                NotificationIntent.of(Notification.approveReservation(otherDetail, 2L, date, 1L, false)),
+                NotificationIntent.of(Notification.approveReservation(memberDetail, 3L, date.plusDays(7), 1L, false)),
+                NotificationIntent.of(Notification.approveReservation(memberDetail, 4L, date, 1L, true)));
+
+        //when
+        List<NotificationIntent> result = NotificationIntent.coalesce(intents);
+
+        //then
+        assertThat(result).hasSize(3);
+        Notification digest = result.get(0).getNotification();
+        assertThat(digest.getNotificationType()).isEqualTo(Notification.NotificationType.RESERVATION_REFUSE);
+        assertThat(digest.getRefId()).isEqualTo(1L);
+        assertThat(digest.getRefType()).isEqualTo(Notification.ReferenceType.RESERVATION_REQUEST);
+        assertThat(digest.getContent()).startsWith("예약이 거절되었습니다. (2건)");
+        assertThat(digest.getContent().lines().filter(line -> line.contains("날짜:"))).hasSize(2);
+        assertThat(result.get(0).getPersonalDetailId()).isEqualTo(1L);
+        assertThat(result.get(1).getNotification().getRefId()).isEqualTo(2L);
+        assertThat(result.get(2).getNotification().getNotificationType())
+                .isEqualTo(Notification.NotificationType.RESERVATION_APPROVE);
+    }
+
+    @Test
+    @DisplayName("거절 알림 묶기 - 성공: 같은 유저의 거절 알림이어도 거절한 트레이너가 다르면 합치지 않는다.")
+    void coalesceRefusalsFromDifferentTrainers() {
+        //given
+        PersonalDetail memberDetail = PersonalDetail.builder()
+                .personalDetailId(1L)
+                .name("멤버1")
+                .build();
+        LocalDateTime date = LocalDateTime.of(2025, 1, 6, 10, 0);
+        List<NotificationIntent> intents = List.of(
+                NotificationIntent.of(Notification.approveReservation(memberDetail, 1L, date, 1L, false)),
+                NotificationIntent.of(Notification.approveReservation(memberDetail, 2L, date, 2L, false)),
+                NotificationIntent.of(Notification.approveReservation(memberDetail, 3L, date.plusDays(7), 1L, false)));
+
+        //when
+        List<NotificationIntent> result = NotificationIntent.coalesce(intents);
+
+        //then
+        assertThat(result).hasSize(2);
+        assertThat(result.get(0).getNotification().getPartnerId()).isEqualTo(1L);
+        assertThat(result.get(0).getNotification().getContent()).startsWith("예약이 거절되었습니다. (2건)");
+        assertThat(result.get(1).getNotification().getPartnerId()).isEqualTo(2L);
+        assertThat(result.get(1).getNotification().getRefId()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("거절 알림 묶기 - 성공: 거절 알림이 많으면 내용이 255자를 넘지 않도록 들어가는 만큼만 보여주고 나머지는 건수로 줄인다.")
+    void coalesceManyRefusals() {
+        //given
+        PersonalDetail memberDetail = PersonalDetail.builder()
+                .personalDetailId(1L)
+                .name("멤버1")
+                .build();
+        LocalDateTime date = LocalDateTime.of(2025, 1, 6, 10, 0);
+        List<NotificationIntent> intents = IntStream.range(0, 30)
+                .mapToObj(i -> NotificationIntent.of(Notification.approveReservation(memberDetail, (long) i + 1,
+                        date.plusDays(i), 1L, false)))
+                .toList();
+
+        //when
+        List<NotificationIntent> result = NotificationIntent.coalesce(intents);
+
+        //then
+        assertThat(result).hasSize(1);
+        String content = result.get(0).getNotification().getContent();
+        List<String> lines = content.lines().toList();
+        long shown = lines.stream().filter(line -> line.contains("날짜:")).count();
+        assertThat(content.length()).isLessThanOrEqualTo(255);
+        assertThat(lines.get(0)).isEqualTo("예약이 거절되었습니다. (30건)");
+        assertThat(shown).isPositive();
+        assertThat(lines.get(lines.size() - 1)).isEqualTo(" 외 %d건".formatted(30 - shown));
+        assertThat(result.get(0).getNotification().getRefId()).isEqualTo(1L);
+    }
 }
@@ -0,0 +1,262 @@
+package spring.fitlinkbe.domain.notification;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import spring.fitlinkbe.domain.auth.AuthService;
+import spring.fitlinkbe.domain.notification.client.PushMessage;
+import spring.fitlinkbe.domain.notification.client.PushNotificationClient;
+import spring.fitlinkbe.domain.notification.client.PushResult;
+import spring.fitlinkbe.domain.notification.event.PushEvent;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class PushDispatcherTest {
+
+    @Mock
+    private PushNotificationClient pushNotificationClient;
+
+    @Mock
+    private AuthService authService;
+
+    private PushDispatcher pushDispatcher;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(pushNotificationClient.sendBatch(anyList())).thenReturn(PushResult.success());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (pushDispatcher != null) {
+            pushDispatcher.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("커밋된 push 알림은 별도 스레드에서 일괄 전송된다.")
+    void dispatch() {
+        //given
+        pushDispatcher = createDispatcher(100, 3, true);
+        List<PushEvent> events = createEvents(3);
+
+        //when
+        int accepted = pushDispatcher.dispatch(events);
+
+        //then
+        assertThat(accepted).isEqualTo(3);
+        verify(pushNotificationClient, timeout(1000).atLeastOnce()).sendBatch(anyList());
+        verify(pushNotificationClient, after(200).atMost(3)).sendBatch(anyList());
+        assertThat(pushDispatcher.getSentCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("한 번에 최대 MAX_BATCH_SIZE 건씩 나눠서 전송한다.")
+    void dispatchInBatches() {
+        //given
+        pushDispatcher = createDispatcher(1000, 3, false);
+        List<PushEvent> events = createEvents(PushNotificationClient.MAX_BATCH_SIZE + 1);
+
+        //when
+        pushDispatcher.dispatch(events);
+
+        //then
+        ArgumentCaptor<List<PushMessage>> captor = ArgumentCaptor.forClass(List.class);
+        verify(pushNotificationClient, times(2)).sendBatch(captor.capture());
+        assertThat(captor.getAllValues()).extracting(List::size)
+                .containsExactly(PushNotificationClient.MAX_BATCH_SIZE, 1);
+        assertThat(pushDispatcher.getSentCount()).isEqualTo(events.size());
+    }
+
+    @Test
+    @DisplayName("일시적인 오류로 실패한 메세지만 다시 전송한다.")
+    void retryTransientFailure() {
+        //given
+        pushDispatcher = createDispatcher(100, 3, false);
+        List<PushEvent> events = createEvents(3);
+        when(pushNotificationClient.sendBatch(anyList()))
+                .thenAnswer(invocation -> PushResult.retryAll(List.of(invocation.<List<PushMessage>>getArgument(0)
+                        .get(1))))
+                .thenReturn(PushResult.success());
+
+        //when
+        pushDispatcher.dispatch(events);
+
+        //then
+        ArgumentCaptor<List<PushMessage>> captor = ArgumentCaptor.forClass(List.class);
+        verify(pushNotificationClient, times(2)).sendBatch(captor.capture());
+        assertThat(captor.getAllValues().get(1)).extracting(PushMessage::pushToken)
+                .containsExactly("token-1");
+        assertThat(pushDispatcher.getSentCount()).isEqualTo(3);
+        assertThat(pushDispatcher.getRetriedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("전송 중 예외가 나면 backoff 후 다시 큐에 넣어 재시도한다.")
+    void retryAfterBackoff() {
+        //given
+        pushDispatcher = createDispatcher(100, 3, true);
+        when(pushNotificationClient.sendBatch(anyList()))
+                .thenThrow(new IllegalStateException("unavailable"))
+                .thenReturn(PushResult.success());
+
+        //when
+        pushDispatcher.dispatch(createEvents(1));
+
+        //then
+        verify(pushNotificationClient, timeout(1000).times(2)).sendBatch(anyList());
+        assertThat(pushDispatcher.getRetriedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수까지 실패한 메세지는 버린다.")
+    void dropAfterMaxAttempts() {
+        //given
+        pushDispatcher = createDispatcher(100, 3, false);
+        when(pushNotificationClient.sendBatch(anyList()))
+                .thenAnswer(invocation -> PushResult.retryAll(invocation.getArgument(0)));
+
+        //when
+        pushDispatcher.dispatch(createEvents(1));
+
+        //then
+        verify(pushNotificationClient, times(3)).sendBatch(anyList());
+        assertThat(pushDispatcher.getSentCount()).isZero();
+        assertThat(pushDispatcher.getDroppedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 기다렸다가, 그래도 자리가 없으면 넘치는 알림은 받지 않는다.")
+    void dispatchWhenQueueFull() throws InterruptedException {
+        //given
+        pushDispatcher = createDispatcher(1, 3, true);
+        CountDownLatch blocked = new CountDownLatch(1);
+        when(pushNotificationClient.sendBatch(anyList())).thenAnswer(invocation -> {
+            blocked.await();
+            return PushResult.success();
+        });
+        pushDispatcher.dispatch(createEvents(1));
+        verify(pushNotificationClient, timeout(1000).times(1)).sendBatch(anyList());
+
+        //when
+        int accepted = pushDispatcher.dispatch(createEvents(2));
+        blocked.countDown();
+
+        //then
+        assertThat(accepted).isEqualTo(1);
+        assertThat(pushDispatcher.getDroppedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 dispatch 호출 전체에서 offerTimeout 만큼만 기다리고 나머지는 버린다.")
+    void dispatchWithSingleDeadline() throws InterruptedException {
+        //given
+        pushDispatcher = createDispatcher(1, 3, true);
+        CountDownLatch blocked = new CountDownLatch(1);
+        when(pushNotificationClient.sendBatch(anyList())).thenAnswer(invocation -> {
+            blocked.await();
+            return PushResult.success();
+        });
+        pushDispatcher.dispatch(createEvents(1));
+        verify(pushNotificationClient, timeout(1000).times(1)).sendBatch(anyList());
+
+        //when
+        long startedAt = System.currentTimeMillis();
+        int accepted = pushDispatcher.dispatch(createEvents(5));
+        long elapsed = System.currentTimeMillis() - startedAt;
+        blocked.countDown();
+
+        //then : 메세지마다 기다렸다면 4 * 50ms 이상 걸린다.
+        assertThat(accepted).isEqualTo(1);
+        assertThat(pushDispatcher.getDroppedCount()).isEqualTo(4);
+        assertThat(elapsed).isLessThan(200);
+    }
+
+    @Test
+    @DisplayName("재시도해도 소용없는 오류로 실패한 메세지는 전송 건수가 아니라 실패 건수로 센다.")
+    void countNonTransientFailures() {
+        //given
+        pushDispatcher = createDispatcher(100, 3, false);
+        when(pushNotificationClient.sendBatch(anyList()))
+                .thenAnswer(invocation -> PushResult.failAll(invocation.getArgument(0)));
+
+        //when
+        pushDispatcher.dispatch(createEvents(2));
+
+        //then
+        verify(pushNotificationClient, times(1)).sendBatch(anyList());
+        assertThat(pushDispatcher.getSentCount()).isZero();
+        assertThat(pushDispatcher.getFailedCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("유저의 기기마다 메세지를 만들어 한 번에 전송한다.")
+    void dispatchToAllDevices() {
+        //given
+        pushDispatcher = createDispatcher(100, 3, false);
+        PushEvent event = PushEvent.builder()
+                .pushTokens(List.of("phone-token", "tablet-token"))
+                .name("알림")
+                .content("내용")
+                .build();
+
+        //when
+        int accepted = pushDispatcher.dispatch(List.of(event));
+
+        //then
+        ArgumentCaptor<List<PushMessage>> captor = ArgumentCaptor.forClass(List.class);
+        verify(pushNotificationClient, times(1)).sendBatch(captor.capture());
+        assertThat(accepted).isEqualTo(2);
+        assertThat(captor.getValue()).extracting(PushMessage::pushToken)
+                .containsExactly("phone-token", "tablet-token");
+    }
+
+    @Test
+    @DisplayName("FCM 이 유효하지 않다고 응답한 토큰은 재시도하지 않고 기기 목록에서 지운다.")
+    void pruneDeadTokens() {
+        //given
+        pushDispatcher = createDispatcher(100, 3, false);
+        when(pushNotificationClient.sendBatch(anyList()))
+                .thenReturn(new PushResult(List.of(), List.of("token-0")));
+        when(authService.removePushTokens(List.of("token-0"))).thenReturn(1);
+
+        //when
+        pushDispatcher.dispatch(createEvents(2));
+
+        //then
+        verify(pushNotificationClient, times(1)).sendBatch(anyList());
+        verify(authService).removePushTokens(List.of("token-0"));
+        assertThat(pushDispatcher.getSentCount()).isEqualTo(1);
+        assertThat(pushDispatcher.getPrunedCount()).isEqualTo(1);
+    }
+
+    private PushDispatcher createDispatcher(int queueCapacity, int maxAttempts, boolean async) {
+        return new PushDispatcher(pushNotificationClient, authService, queueCapacity, 1, PushNotificationClient.MAX_BATCH_SIZE,
+                maxAttempts, 10, 50, async);
+    }
+
+    private List<PushEvent> createEvents(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> PushEvent.builder()
+                        .pushTokens(List.of("token-" + i))
+                        .name("알림")
+                        .content("내용 " + i)
+                        .build())
+                .toList();
+    }
+}
@@ -0,0 +1,113 @@
+package spring.fitlinkbe.domain.outbox;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import spring.fitlinkbe.domain.producer.EventProducer;
+import spring.fitlinkbe.domain.producer.EventTopic;
+import spring.fitlinkbe.domain.reservation.event.GenerateFixedReservationEvent;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class OutboxDispatcherTest {
+
+    @Mock
+    private OutboxService outboxService;
+
+    @Mock
+    private EventProducer eventProducer;
+
+    private OutboxDispatcher outboxDispatcher;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        outboxDispatcher = new OutboxDispatcher(outboxService, eventProducer, 1000, true);
+        when(eventProducer.publishAll(eq(EventTopic.RESERVATION_QUEUE), anyMap()))
+                .thenAnswer(invocation -> new HashSet<>(invocation.<Map<String, String>>getArgument(1).keySet()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        outboxDispatcher.shutdown();
+    }
+
+    @Test
+    @DisplayName("커밋된 이벤트는 별도 스레드에서 배치 발행 후 한 번에 발행 완료 처리된다.")
+    void dispatch() {
+        //given
+        List<GenerateFixedReservationEvent> events = createEvents(3);
+
+        //when
+        outboxDispatcher.dispatch(events);
+
+        //then
+        ArgumentCaptor<List<String>> captor = ArgumentCaptor.forClass(List.class);
+        verify(outboxService, timeout(1000).times(1)).publishOutboxes(captor.capture());
+        assertThat(captor.getValue()).containsExactlyInAnyOrderElementsOf(events.stream()
+                .map(GenerateFixedReservationEvent::getMessageId)
+                .toList());
+    }
+
+    @Test
+    @DisplayName("한 번에 DISPATCH_BATCH_SIZE 건씩 나눠서 발행한다.")
+    void dispatchInBatches() {
+        //given
+        List<GenerateFixedReservationEvent> events = createEvents(OutboxDispatcher.DISPATCH_BATCH_SIZE + 1);
+
+        //when
+        outboxDispatcher.dispatch(events);
+
+        //then
+        verify(eventProducer, timeout(1000).times(2)).publishAll(eq(EventTopic.RESERVATION_QUEUE), anyMap());
+        verify(outboxService, timeout(1000).times(2)).publishOutboxes(anyList());
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 넘치는 이벤트는 발행하지 않고 relay 에 맡긴다.")
+    void dispatchWhenQueueFull() {
+        //given
+        OutboxDispatcher syncDispatcher = new OutboxDispatcher(outboxService, eventProducer, 1, false);
+        List<GenerateFixedReservationEvent> events = createEvents(2);
+
+        //when
+        syncDispatcher.dispatch(events);
+
+        //then
+        ArgumentCaptor<List<String>> captor = ArgumentCaptor.forClass(List.class);
+        verify(outboxService, times(1)).publishOutboxes(captor.capture());
+        assertThat(captor.getValue()).containsExactly(events.get(0).getMessageId());
+        verify(outboxService, never()).createOutboxes(anyList());
+    }
+
+    private List<GenerateFixedReservationEvent> createEvents(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> GenerateFixedReservationEvent.builder()
+                        .reservationId((long) i)
+                        .trainerId(1L)
+                        .memberId(1L)
+                        .sessionInfoId(1L)
+                        .topic(EventTopic.RESERVATION_QUEUE)
+                        .messageId(UUID.randomUUID().toString())
+                        .build())
+                .toList();
+    }
+}
@@ -0,0 +1,120 @@
+package spring.fitlinkbe.domain.outbox;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import spring.fitlinkbe.domain.outbox.listener.OutboxEventListener;
+import spring.fitlinkbe.domain.producer.EventTopic;
+import spring.fitlinkbe.domain.reservation.event.GenerateFixedReservationEvent;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class OutboxEventListenerTest {
+
+    @Mock
+    private OutboxService outboxService;
+
+    @Mock
+    private OutboxDispatcher outboxDispatcher;
+
+    private OutboxEventListener outboxEventListener;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        outboxEventListener = new OutboxEventListener(outboxService, outboxDispatcher);
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clear();
+    }
+
+    @Test
+    @DisplayName("REQUIRES_NEW 로 시작한 트랜잭션의 이벤트는 바깥 트랜잭션과 따로 저장되고 커밋 후 발행된다.")
+    void collectInRequiresNewTransaction() {
+        //given
+        GenerateFixedReservationEvent outerEvent = createEvent(1L);
+        GenerateFixedReservationEvent innerEvent = createEvent(2L);
+        outboxEventListener.collectOutbox(outerEvent);
+
+        //when
+        // 바깥 트랜잭션을 보류하고 새 트랜잭션에서 이벤트 발행 후 커밋
+        List<TransactionSynchronization> suspended = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        TransactionSynchronizationManager.initSynchronization();
+        outboxEventListener.collectOutbox(innerEvent);
+        commit();
+
+        //then
+        verify(outboxService, times(1)).createOutboxes(argThat(commands -> commands.size() == 1));
+        verify(outboxDispatcher, times(1)).dispatch(List.of(innerEvent));
+
+        //when
+        // 바깥 트랜잭션으로 돌아와서 커밋
+        TransactionSynchronizationManager.initSynchronization();
+        suspended.forEach(TransactionSynchronizationManager::registerSynchronization);
+        commit();
+
+        //then
+        verify(outboxService, times(2)).createOutboxes(argThat(commands -> commands.size() == 1));
+        verify(outboxDispatcher, times(1)).dispatch(List.of(outerEvent));
+    }
+
+    @Test
+    @DisplayName("일괄 저장 이후 커밋 전에 발행된 이벤트는 바로 저장하고, 커밋이 시작된 뒤에 발행된 이벤트는 예외를 던진다.")
+    void collectAfterFlush() {
+        //given
+        GenerateFixedReservationEvent event = createEvent(1L);
+        GenerateFixedReservationEvent lateEvent = createEvent(2L);
+        outboxEventListener.collectOutbox(event);
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(synchronization -> synchronization.beforeCommit(false));
+
+        //when
+        outboxEventListener.collectOutbox(lateEvent);
+        synchronizations.forEach(TransactionSynchronization::beforeCompletion);
+
+        //then
+        verify(outboxService, times(2)).createOutboxes(argThat(commands -> commands.size() == 1));
+        assertThatThrownBy(() -> outboxEventListener.collectOutbox(createEvent(3L)))
+                .isInstanceOf(IllegalStateException.class);
+
+        synchronizations.forEach(synchronization ->
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        verify(outboxDispatcher, times(1)).dispatch(List.of(event, lateEvent));
+    }
+
+    private void commit() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(synchronization -> synchronization.beforeCommit(false));
+        synchronizations.forEach(TransactionSynchronization::beforeCompletion);
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(synchronization ->
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+    }
+
+    private GenerateFixedReservationEvent createEvent(Long reservationId) {
+        return GenerateFixedReservationEvent.builder()
+                .reservationId(reservationId)
+                .trainerId(1L)
+                .memberId(1L)
+                .sessionInfoId(1L)
+                .topic(EventTopic.RESERVATION_QUEUE)
+                .messageId(UUID.randomUUID().toString())
+                .build();
+    }
+}
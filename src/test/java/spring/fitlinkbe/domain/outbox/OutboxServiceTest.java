@@ -4,17 +4,29 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import spring.fitlinkbe.domain.outbox.command.OutboxCommand;
 import spring.fitlinkbe.domain.producer.EventProducer;
+import spring.fitlinkbe.domain.producer.EventTopic;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class OutboxServiceTest {
@@ -105,4 +117,194 @@ public class OutboxServiceTest {
             assertThat(result.getEventStatus()).isEqualTo(Outbox.EventStatus.SEND_SUCCESS);
         }
     }
+
+    @Nested
+    @DisplayName("outbox 일괄 생성/발행 TEST")
+    class BatchOutboxServiceTest {
+        @Test
+        @DisplayName("outbox 일괄 생성 - 한 번의 저장으로 모두 생성한다.")
+        void createOutboxes() {
+            //given
+            List<OutboxCommand.Create> commands = List.of(createCommand(1L), createCommand(2L));
+
+            //when
+            outboxService.createOutboxes(commands);
+
+            //then
+            verify(outboxRepository, times(1)).saveOutboxes(any());
+            verify(outboxRepository, times(0)).saveOutbox(any(Outbox.class));
+        }
+
+        @Test
+        @DisplayName("outbox 일괄 발행 - 발행 완료 처리된 건수를 반환한다.")
+        void publishOutboxes() {
+            //given
+            List<String> messageIds = List.of(UUID.randomUUID().toString(), UUID.randomUUID().toString());
+
+            when(outboxRepository.publishOutboxes(messageIds)).thenReturn(2);
+
+            //when
+            int result = outboxService.publishOutboxes(messageIds);
+
+            //then
+            assertThat(result).isEqualTo(2);
+            verify(outboxRepository, times(0)).getOutbox(any());
+        }
+
+        private OutboxCommand.Create createCommand(Long aggregateId) {
+            return OutboxCommand.Create.builder()
+                    .aggregateId(aggregateId)
+                    .aggregateType(Outbox.AggregateType.RESERVATION)
+                    .eventStatus(Outbox.EventStatus.INIT)
+                    .eventType(Outbox.EventType.CREATE_FIXED_RESERVATION)
+                    .messageId(UUID.randomUUID().toString())
+                    .payload("good")
+                    .build();
+        }
+    }
+
+    @Nested
+    @DisplayName("outbox relay TEST")
+    class RelayOutboxServiceTest {
+        @Test
+        @DisplayName("outbox relay - 발행에 성공한 outbox 를 일괄 발행 완료 처리한다.")
+        void relayOutboxes() {
+            //given
+            Outbox first = createOutbox(0);
+            Outbox second = createOutbox(0);
+
+            when(outboxRepository.claimRelayOutboxes(any(LocalDateTime.class), eq(10)))
+                    .thenReturn(List.of(first, second));
+            when(eventProducer.publishAll(eq(EventTopic.RESERVATION_QUEUE), anyMap()))
+                    .thenReturn(Set.of(first.getMessageId(), second.getMessageId()));
+            when(outboxRepository.getBacklog()).thenReturn(new OutboxBacklog(0, null));
+
+            //when
+            OutboxBacklog result = outboxService.relayOutboxes(10);
+
+            //then
+            assertThat(result.pendingCount()).isZero();
+            verify(outboxRepository, times(1)).publishOutboxes(anyList());
+            verify(outboxRepository, never()).saveOutbox(any(Outbox.class));
+        }
+
+        @Test
+        @DisplayName("outbox relay - 발행에 실패하면 재시도 횟수를 늘리고 다음 시도 시간을 늦춘다.")
+        void relayOutboxesRetryLater() {
+            //given
+            Outbox outbox = createOutbox(0);
+
+            when(outboxRepository.claimRelayOutboxes(any(LocalDateTime.class), eq(10))).thenReturn(List.of(outbox));
+            when(eventProducer.publishAll(eq(EventTopic.RESERVATION_QUEUE), anyMap())).thenReturn(Set.of());
+            when(outboxRepository.getBacklog()).thenReturn(new OutboxBacklog(1, LocalDateTime.now()));
+
+            //when
+            outboxService.relayOutboxes(10);
+
+            //then
+            assertThat(outbox.getRetryCount()).isEqualTo(1);
+            assertThat(outbox.getEventStatus()).isEqualTo(Outbox.EventStatus.INIT);
+            assertThat(outbox.getNextAttemptAt()).isAfter(LocalDateTime.now());
+            verify(outboxRepository, times(1)).saveOutbox(outbox);
+            verify(outboxRepository, never()).publishOutboxes(anyList());
+        }
+
+        @Test
+        @DisplayName("outbox relay - 최대 재시도 횟수를 넘기면 실패 처리한다.")
+        void relayOutboxesFail() {
+            //given
+            Outbox outbox = createOutbox(Outbox.MAX_RETRY_COUNT - 1);
+
+            when(outboxRepository.claimRelayOutboxes(any(LocalDateTime.class), eq(10))).thenReturn(List.of(outbox));
+            when(eventProducer.publishAll(eq(EventTopic.RESERVATION_QUEUE), anyMap())).thenReturn(Set.of());
+            when(outboxRepository.getBacklog()).thenReturn(new OutboxBacklog(0, null));
+
+            //when
+            outboxService.relayOutboxes(10);
+
+            //then
+            assertThat(outbox.getEventStatus()).isEqualTo(Outbox.EventStatus.SEND_FAIL);
+            verify(outboxRepository, times(1)).saveOutbox(outbox);
+        }
+
+        @Test
+        @DisplayName("outbox relay - 선점한 outbox 가 없으면 발행하지 않는다.")
+        void relayOutboxesWhenEmpty() {
+            //given
+            when(outboxRepository.claimRelayOutboxes(any(LocalDateTime.class), eq(10))).thenReturn(List.of());
+            when(outboxRepository.getBacklog()).thenReturn(new OutboxBacklog(0, null));
+
+            //when
+            outboxService.relayOutboxes(10);
+
+            //then
+            verify(eventProducer, never()).publishAll(any(), anyMap());
+        }
+
+        private Outbox createOutbox(int retryCount) {
+            return Outbox.builder()
+                    .aggregateId(1L)
+                    .aggregateType(Outbox.AggregateType.RESERVATION)
+                    .eventStatus(Outbox.EventStatus.INIT)
+                    .eventType(Outbox.EventType.CREATE_FIXED_RESERVATION)
+                    .messageId(UUID.randomUUID().toString())
+                    .payload("good")
+                    .retryCount(retryCount)
+                    .nextAttemptAt(LocalDateTime.now().minusMinutes(1))
+                    .build();
+        }
+    }
+
+    @Nested
+    @DisplayName("outbox 보관 기간 정리 TEST")
+    class PruneOutboxServiceTest {
+        @Test
+        @DisplayName("보관 기간이 지난 발행 완료 outbox 를 삭제한다.")
+        void pruneOutboxes() {
+            //given
+            List<Long> outboxIds = List.of(1L, 2L);
+
+            when(outboxRepository.getSentOutboxIds(any(LocalDateTime.class), eq(1000))).thenReturn(outboxIds);
+            when(outboxRepository.deleteOutboxes(outboxIds)).thenReturn(2);
+
+            //when
+            int result = outboxService.pruneOutboxes(7, false, 1000);
+
+            //then
+            assertThat(result).isEqualTo(2);
+            verify(outboxRepository, never()).archiveOutboxes(anyList());
+        }
+
+        @Test
+        @DisplayName("archive 가 켜져 있으면 삭제 전에 보관 테이블로 옮긴다.")
+        void pruneOutboxesWithArchive() {
+            //given
+            List<Long> outboxIds = List.of(1L, 2L);
+
+            when(outboxRepository.getSentOutboxIds(any(LocalDateTime.class), eq(1000))).thenReturn(outboxIds);
+            when(outboxRepository.deleteOutboxes(outboxIds)).thenReturn(2);
+
+            //when
+            outboxService.pruneOutboxes(7, true, 1000);
+
+            //then
+            InOrder inOrder = inOrder(outboxRepository);
+            inOrder.verify(outboxRepository).archiveOutboxes(outboxIds);
+            inOrder.verify(outboxRepository).deleteOutboxes(outboxIds);
+        }
+
+        @Test
+        @DisplayName("정리할 outbox 가 없으면 삭제하지 않는다.")
+        void pruneOutboxesWhenEmpty() {
+            //given
+            when(outboxRepository.getSentOutboxIds(any(LocalDateTime.class), eq(1000))).thenReturn(List.of());
+
+            //when
+            int result = outboxService.pruneOutboxes(7, true, 1000);
+
+            //then
+            assertThat(result).isZero();
+            verify(outboxRepository, never()).deleteOutboxes(anyList());
+        }
+    }
 }
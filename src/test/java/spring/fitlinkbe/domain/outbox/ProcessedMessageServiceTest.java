@@ -0,0 +1,75 @@
+package spring.fitlinkbe.domain.outbox;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ProcessedMessageServiceTest {
+
+    @Mock
+    private ProcessedMessageRepository processedMessageRepository;
+
+    @InjectMocks
+    private ProcessedMessageService processedMessageService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Nested
+    @DisplayName("미처리 메시지 조회 TEST")
+    class GetUnprocessedMessageIdsTest {
+        @Test
+        @DisplayName("이미 처리된 메시지는 제외하고 순서를 유지해 반환한다.")
+        void getUnprocessedMessageIds() {
+            //given
+            List<String> messageIds = List.of("m-1", "m-2", "m-3");
+
+            when(processedMessageRepository.getProcessedMessageIds(messageIds)).thenReturn(List.of("m-2"));
+
+            //when
+            List<String> result = processedMessageService.getUnprocessedMessageIds(messageIds);
+
+            //then
+            assertThat(result).containsExactly("m-1", "m-3");
+        }
+
+        @Test
+        @DisplayName("조회할 메시지가 없으면 저장소를 조회하지 않는다.")
+        void getUnprocessedMessageIdsWhenEmpty() {
+            //when
+            List<String> result = processedMessageService.getUnprocessedMessageIds(List.of());
+
+            //then
+            assertThat(result).isEmpty();
+            verify(processedMessageRepository, never()).getProcessedMessageIds(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("처리 이력 저장 TEST")
+    class SaveProcessedMessageIdsTest {
+        @Test
+        @DisplayName("저장할 메시지가 없으면 저장하지 않는다.")
+        void saveProcessedMessageIdsWhenEmpty() {
+            //when
+            processedMessageService.saveProcessedMessageIds(List.of());
+
+            //then
+            verify(processedMessageRepository, never()).saveProcessedMessageIds(any());
+        }
+    }
+}
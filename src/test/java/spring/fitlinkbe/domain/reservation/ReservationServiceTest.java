@@ -4,13 +4,17 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
 import spring.fitlinkbe.domain.common.enums.UserRole;
 import spring.fitlinkbe.domain.common.exception.CustomException;
 import spring.fitlinkbe.domain.common.model.PersonalDetail;
+import spring.fitlinkbe.domain.common.model.SessionInfo;
 import spring.fitlinkbe.domain.member.Member;
+import spring.fitlinkbe.domain.outbox.OutboxBatchEvent;
 import spring.fitlinkbe.domain.reservation.command.ReservationCommand;
 import spring.fitlinkbe.domain.trainer.Trainer;
 import spring.fitlinkbe.support.security.SecurityUser;
@@ -23,6 +27,12 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static spring.fitlinkbe.domain.common.exception.ErrorCode.*;
 import static spring.fitlinkbe.domain.reservation.Reservation.Status.*;
@@ -32,6 +42,9 @@ class ReservationServiceTest {
     @Mock
     private ReservationRepository reservationRepository;
 
+    @Mock
+    private ApplicationEventPublisher publisher;
+
     @InjectMocks
     private ReservationService reservationService;
 
@@ -56,7 +69,8 @@ class ReservationServiceTest {
                     .reservationDates(List.of(reservationDate))
                     .build();
 
-            when(reservationRepository.getReservations(UserRole.TRAINER, 1L))
+            when(reservationRepository.getReservations(UserRole.TRAINER, 1L, startDdate.atStartOfDay(),
+                    startDdate.atStartOfDay().plusWeeks(2L).minusSeconds(1L)))
                     .thenReturn(List.of(reservation));
 
             //when
@@ -79,7 +93,8 @@ class ReservationServiceTest {
                     .reservationDates(List.of(reservationDate))
                     .build();
 
-            when(reservationRepository.getReservations(UserRole.MEMBER, 1L))
+            when(reservationRepository.getReservations(UserRole.MEMBER, 1L, startDdate.atStartOfDay(),
+                    startDdate.atStartOfDay().plusMonths(1L).minusSeconds(1L)))
                     .thenReturn(List.of(reservation));
 
             //when
@@ -97,7 +112,8 @@ class ReservationServiceTest {
             //given
             LocalDate startDdate = LocalDate.of(2024, 4, 20);
 
-            when(reservationRepository.getReservations(UserRole.TRAINER, 1L))
+            when(reservationRepository.getReservations(UserRole.TRAINER, 1L, startDdate.atStartOfDay(),
+                    startDdate.atStartOfDay().plusWeeks(2L).minusSeconds(1L)))
                     .thenReturn(List.of());
 
             //when
@@ -355,13 +371,13 @@ class ReservationServiceTest {
             when(reservationRepository.getSession(command.reservationId()))
                     .thenReturn(Optional.ofNullable(session));
 
-            when(reservationRepository.saveSession(session))
+            when(reservationRepository.updateSessionStatus(session))
                     .thenReturn(Optional.ofNullable(completedSession));
 
             when(reservationRepository.getReservation(command.reservationId()))
                     .thenReturn(Optional.ofNullable(reservation));
 
-            when(reservationRepository.saveReservation(reservation))
+            when(reservationRepository.updateReservationStatus(reservation))
                     .thenReturn(Optional.ofNullable(completedReservation));
 
             //when
@@ -472,7 +488,7 @@ class ReservationServiceTest {
             when(reservationRepository.getReservation(command.reservationId()))
                     .thenReturn(Optional.ofNullable(reservation));
 
-            when(reservationRepository.saveReservation(reservation))
+            when(reservationRepository.updateReservationStatus(reservation))
                     .thenReturn(Optional.ofNullable(compltedReservation));
 
             //when
@@ -592,7 +608,7 @@ class ReservationServiceTest {
             when(reservationRepository.getReservation(command.reservationId()))
                     .thenReturn(Optional.ofNullable(reservation));
 
-            when(reservationRepository.saveReservation(reservation))
+            when(reservationRepository.updateReservationStatus(reservation))
                     .thenReturn(Optional.ofNullable(compltedReservation));
 
             //when
@@ -697,7 +713,7 @@ class ReservationServiceTest {
             when(reservationRepository.getReservation(command.reservationId()))
                     .thenReturn(Optional.ofNullable(reservation));
 
-            when(reservationRepository.saveReservation(reservation))
+            when(reservationRepository.updateReservationStatus(reservation))
                     .thenReturn(Optional.ofNullable(cancelledReservation));
 
             //when
@@ -736,7 +752,7 @@ class ReservationServiceTest {
             when(reservationRepository.getReservation(command.reservationId()))
                     .thenReturn(Optional.ofNullable(reservation));
 
-            when(reservationRepository.saveReservation(reservation))
+            when(reservationRepository.updateReservationStatus(reservation))
                     .thenReturn(Optional.ofNullable(cancelledReservation));
 
             //when & then
@@ -773,7 +789,7 @@ class ReservationServiceTest {
             when(reservationRepository.getReservation(command.reservationId()))
                     .thenReturn(Optional.ofNullable(reservation));
 
-            when(reservationRepository.saveReservation(reservation))
+            when(reservationRepository.updateReservationStatus(reservation))
                     .thenReturn(Optional.ofNullable(cancelledReservation));
 
 
@@ -784,4 +800,328 @@ class ReservationServiceTest {
                     .isEqualTo(RESERVATION_APPROVE_NOT_ALLOWED);
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("대기 예약 일괄 거절 Service TEST")
+    class RefuseWaitingReservationsServiceTest {
+
+        @Test
+        @DisplayName("트레이너의 해당 시간대 대기 예약들을 한번에 거절한다.")
+        void refuseWaitingReservations() {
+            //given
+            LocalDateTime reservationDate = LocalDateTime.of(2025, 5, 1, 14, 0);
+
+            Reservation reservation1 = Reservation.builder()
+                    .reservationId(1L)
+                    .trainer(Trainer.builder().trainerId(1L).build())
+                    .member(Member.builder().memberId(1L).build())
+                    .reservationDates(List.of(reservationDate))
+                    .status(RESERVATION_WAITING)
+                    .build();
+
+            Reservation reservation2 = Reservation.builder()
+                    .reservationId(2L)
+                    .trainer(Trainer.builder().trainerId(1L).build())
+                    .member(Member.builder().memberId(2L).build())
+                    .reservationDates(List.of(reservationDate))
+                    .status(RESERVATION_WAITING)
+                    .build();
+
+            when(reservationRepository.getWaitingReservations(1L, List.of(reservationDate)))
+                    .thenReturn(List.of(reservation1, reservation2));
+
+            when(reservationRepository.refuseWaitingReservations(List.of(1L, 2L)))
+                    .thenReturn(List.of(1L, 2L));
+
+            //when
+            List<Reservation> result = reservationService.refuseWaitingReservations(1L, List.of(reservationDate));
+
+            //then
+            assertThat(result).hasSize(2);
+            assertThat(result).extracting(Reservation::getStatus)
+                    .containsOnly(RESERVATION_REFUSED);
+            verify(reservationRepository, times(1)).refuseWaitingReservations(List.of(1L, 2L));
+        }
+
+        @Test
+        @DisplayName("조회 후 다른 요청이 먼저 승인/취소한 예약은 거절 결과에서 빠진다.")
+        void refuseWaitingReservationsWithConcurrentChange() {
+            //given
+            LocalDateTime reservationDate = LocalDateTime.of(2025, 5, 1, 14, 0);
+
+            Reservation reservation1 = Reservation.builder()
+                    .reservationId(1L)
+                    .trainer(Trainer.builder().trainerId(1L).build())
+                    .member(Member.builder().memberId(1L).build())
+                    .reservationDates(List.of(reservationDate))
+                    .status(RESERVATION_WAITING)
+                    .build();
+
+            Reservation reservation2 = Reservation.builder()
+                    .reservationId(2L)
+                    .trainer(Trainer.builder().trainerId(1L).build())
+                    .member(Member.builder().memberId(2L).build())
+                    .reservationDates(List.of(reservationDate))
+                    .status(RESERVATION_WAITING)
+                    .build();
+
+            when(reservationRepository.getWaitingReservations(1L, List.of(reservationDate)))
+                    .thenReturn(List.of(reservation1, reservation2));
+            when(reservationRepository.refuseWaitingReservations(List.of(1L, 2L)))
+                    .thenReturn(List.of(2L));
+
+            //when
+            List<Reservation> result = reservationService.refuseWaitingReservations(1L, List.of(reservationDate));
+
+            //then
+            assertThat(result).extracting(Reservation::getReservationId).containsExactly(2L);
+            assertThat(result).extracting(Reservation::getStatus).containsOnly(RESERVATION_REFUSED);
+        }
+
+        @Test
+        @DisplayName("거절할 대기 예약이 없으면 업데이트 없이 빈 배열을 반환한다.")
+        void refuseWaitingReservationsWithEmpty() {
+            //given
+            LocalDateTime reservationDate = LocalDateTime.of(2025, 5, 1, 14, 0);
+
+            when(reservationRepository.getWaitingReservations(1L, List.of(reservationDate)))
+                    .thenReturn(List.of());
+
+            //when
+            List<Reservation> result = reservationService.refuseWaitingReservations(1L, List.of(reservationDate));
+
+            //then
+            assertThat(result).isEmpty();
+            verify(reservationRepository, never()).refuseWaitingReservations(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("고정 예약 이벤트 발행 Service TEST")
+    class PublishFixedReservationsServiceTest {
+
+        @Test
+        @DisplayName("오늘 날짜 고정 예약들을 하나의 묶음 이벤트로 발행한다.")
+        void publishFixedReservations() {
+            //given
+            LocalDateTime startDate = LocalDate.now().atStartOfDay();
+            LocalDateTime endDate = startDate.plusDays(1);
+
+            List<Reservation> fixedReservations = List.of(
+                    createFixedReservation(1L, startDate.plusHours(10)),
+                    createFixedReservation(2L, startDate.plusHours(11)));
+
+            when(reservationRepository.getFixedReservations(startDate, endDate))
+                    .thenReturn(fixedReservations);
+
+            //when
+            reservationService.publishFixedReservations();
+
+            //then
+            ArgumentCaptor<OutboxBatchEvent> captor = ArgumentCaptor.forClass(OutboxBatchEvent.class);
+            verify(publisher, times(1)).publishEvent(captor.capture());
+            assertThat(captor.getValue().events()).hasSize(2);
+            assertThat(captor.getValue().getMessageIds()).doesNotHaveDuplicates();
+        }
+
+        @Test
+        @DisplayName("오늘 날짜 고정 예약이 없으면 이벤트를 발행하지 않는다.")
+        void publishFixedReservationsWhenEmpty() {
+            //given
+            LocalDateTime startDate = LocalDate.now().atStartOfDay();
+
+            when(reservationRepository.getFixedReservations(startDate, startDate.plusDays(1)))
+                    .thenReturn(List.of());
+
+            //when
+            reservationService.publishFixedReservations();
+
+            //then
+            verify(publisher, never()).publishEvent(any());
+        }
+
+        private Reservation createFixedReservation(Long reservationId, LocalDateTime date) {
+            return Reservation.builder()
+                    .reservationId(reservationId)
+                    .trainer(Trainer.builder().trainerId(1L).build())
+                    .member(Member.builder().memberId(reservationId).build())
+                    .sessionInfo(SessionInfo.builder().SessionInfoId(reservationId).build())
+                    .reservationDates(List.of(date))
+                    .confirmDate(date)
+                    .status(FIXED_RESERVATION)
+                    .build();
+        }
+    }
+
+    @Nested
+    @DisplayName("예약 승인 Service TEST")
+    class ApproveReservationServiceTest {
+
+        private final LocalDateTime reservationDate = LocalDate.now().plusDays(1).atTime(10, 0);
+
+        @Test
+        @DisplayName("희망 날짜가 하나면 예약 상태만 update 한다.")
+        void approveReservationWithStatusUpdate() {
+            //given
+            Reservation reservation = createWaitingReservation(List.of(reservationDate));
+
+            when(reservationRepository.getReservation(1L)).thenReturn(Optional.of(reservation));
+            when(reservationRepository.updateReservationStatus(reservation)).thenReturn(Optional.of(reservation));
+
+            //when
+            Reservation result = reservationService.approveReservation(
+                    new ReservationCommand.Approve(1L, reservationDate));
+
+            //then
+            assertThat(result.getStatus()).isEqualTo(RESERVATION_APPROVED);
+            assertThat(result.getConfirmDate()).isEqualTo(reservationDate);
+            verify(reservationRepository, never()).saveReservation(any());
+        }
+
+        @Test
+        @DisplayName("희망 날짜가 여러 개면 승인한 날짜로 바뀐 희망 날짜까지 저장한다.")
+        void approveReservationWithDatesChanged() {
+            //given
+            Reservation reservation = createWaitingReservation(List.of(reservationDate, reservationDate.plusDays(1)));
+
+            when(reservationRepository.getReservation(1L)).thenReturn(Optional.of(reservation));
+            when(reservationRepository.saveReservation(reservation)).thenReturn(Optional.of(reservation));
+
+            //when
+            Reservation result = reservationService.approveReservation(
+                    new ReservationCommand.Approve(1L, reservationDate));
+
+            //then
+            assertThat(result.getReservationDates()).containsExactly(reservationDate);
+            verify(reservationRepository, never()).updateReservationStatus(any());
+        }
+
+        private Reservation createWaitingReservation(List<LocalDateTime> reservationDates) {
+            return Reservation.builder()
+                    .reservationId(1L)
+                    .trainer(Trainer.builder().trainerId(1L).build())
+                    .member(Member.builder().memberId(1L).build())
+                    .reservationDates(reservationDates)
+                    .status(RESERVATION_WAITING)
+                    .build();
+        }
+    }
+
+    @Nested
+    @DisplayName("고정 예약 해지 Service TEST")
+    class ReleaseFixedReservationServiceTest {
+
+        private final LocalDateTime baseDate = LocalDate.now().plusDays(1).atTime(10, 0);
+
+        @Test
+        @DisplayName("기준 예약 이후 같은 주기의 고정 예약과 세션을 일괄 취소하고 복구할 세션 횟수를 반환한다.")
+        void releaseFixedReservation() {
+            //given
+            Reservation baseReservation = createFixedReservation(1L, baseDate);
+            List<Reservation> fixedReservations = List.of(baseReservation,
+                    createFixedReservation(2L, baseDate.plusWeeks(1)),
+                    createFixedReservation(3L, baseDate.plusDays(1)));
+
+            when(reservationRepository.getReservation(1L)).thenReturn(Optional.of(baseReservation));
+            when(reservationRepository.getFixedReservations(1L)).thenReturn(fixedReservations);
+            when(reservationRepository.getSessions(List.of(1L, 2L)))
+                    .thenReturn(List.of(createSession(10L, 1L), createSession(20L, 2L)));
+            when(reservationRepository.cancelFixedReservations(any(), anyString())).thenReturn(2);
+            when(reservationRepository.cancelSessions(any(), anyString())).thenReturn(2);
+
+            //when
+            FixedReservationRelease result = reservationService.releaseFixedReservation(1L);
+
+            //then
+            assertThat(result.restoreCount()).isEqualTo(2);
+            assertThat(result.trainerId()).isEqualTo(1L);
+            assertThat(result.memberId()).isEqualTo(1L);
+            assertThat(result.reservations())
+                    .extracting(Reservation::getStatus)
+                    .containsOnly(RESERVATION_CANCELLED);
+            verify(reservationRepository, times(1)).cancelFixedReservations(any(), anyString());
+            verify(reservationRepository, times(1)).cancelSessions(any(), anyString());
+            verify(reservationRepository, never()).getSession(any());
+        }
+
+        @Test
+        @DisplayName("한 예약에 세션이 여러 개면 취소되지 않은 가장 최근 세션만 취소한다.")
+        void releaseFixedReservationWithDuplicateSessions() {
+            //given
+            Reservation baseReservation = createFixedReservation(1L, baseDate);
+            Session canceledSession = createSession(30L, 1L).toBuilder()
+                    .status(Session.Status.SESSION_CANCELLED)
+                    .build();
+
+            when(reservationRepository.getReservation(1L)).thenReturn(Optional.of(baseReservation));
+            when(reservationRepository.getFixedReservations(1L)).thenReturn(List.of(baseReservation));
+            when(reservationRepository.getSessions(List.of(1L)))
+                    .thenReturn(List.of(createSession(10L, 1L), createSession(20L, 1L), canceledSession));
+            when(reservationRepository.cancelFixedReservations(any(), anyString())).thenReturn(1);
+            when(reservationRepository.cancelSessions(any(), anyString())).thenReturn(1);
+
+            //when
+            FixedReservationRelease result = reservationService.releaseFixedReservation(1L);
+
+            //then
+            assertThat(result.restoreCount()).isEqualTo(1);
+            verify(reservationRepository, times(1)).cancelSessions(eq(List.of(20L)), anyString());
+        }
+
+        @Test
+        @DisplayName("해지할 예약의 세션이 없으면 SESSION_NOT_FOUND 예외를 반환한다.")
+        void releaseFixedReservationWithSessionNotFound() {
+            //given
+            Reservation baseReservation = createFixedReservation(1L, baseDate);
+
+            when(reservationRepository.getReservation(1L)).thenReturn(Optional.of(baseReservation));
+            when(reservationRepository.getFixedReservations(1L)).thenReturn(List.of(baseReservation));
+            when(reservationRepository.getSessions(List.of(1L))).thenReturn(List.of());
+
+            //when & then
+            assertThatThrownBy(() -> reservationService.releaseFixedReservation(1L))
+                    .isInstanceOf(CustomException.class)
+                    .extracting("errorCode")
+                    .isEqualTo(SESSION_NOT_FOUND);
+            verify(reservationRepository, never()).cancelFixedReservations(anyList(), anyString());
+        }
+
+        @Test
+        @DisplayName("일괄 취소 중 상태가 변경된 예약이 있으면 RESERVATION_RELEASE_NOT_ALLOWED 예외를 반환한다.")
+        void releaseFixedReservationWithChangedStatus() {
+            //given
+            Reservation baseReservation = createFixedReservation(1L, baseDate);
+
+            when(reservationRepository.getReservation(1L)).thenReturn(Optional.of(baseReservation));
+            when(reservationRepository.getFixedReservations(1L)).thenReturn(List.of(baseReservation));
+            when(reservationRepository.getSessions(List.of(1L))).thenReturn(List.of(createSession(10L, 1L)));
+            when(reservationRepository.cancelFixedReservations(any(), anyString())).thenReturn(0);
+            when(reservationRepository.cancelSessions(any(), anyString())).thenReturn(1);
+
+            //when & then
+            assertThatThrownBy(() -> reservationService.releaseFixedReservation(1L))
+                    .isInstanceOf(CustomException.class)
+                    .extracting("errorCode")
+                    .isEqualTo(RESERVATION_RELEASE_NOT_ALLOWED);
+        }
+
+        private Reservation createFixedReservation(Long reservationId, LocalDateTime date) {
+            return Reservation.builder()
+                    .reservationId(reservationId)
+                    .trainer(Trainer.builder().trainerId(1L).build())
+                    .member(Member.builder().memberId(1L).build())
+                    .reservationDates(List.of(date))
+                    .confirmDate(date)
+                    .status(FIXED_RESERVATION)
+                    .build();
+        }
+
+        private Session createSession(Long sessionId, Long reservationId) {
+            return Session.builder()
+                    .sessionId(sessionId)
+                    .reservation(Reservation.builder().reservationId(reservationId).build())
+                    .status(Session.Status.SESSION_WAITING)
+                    .build();
+        }
+    }
+}
@@ -3,6 +3,9 @@ package spring.fitlinkbe.domain.reservation;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import spring.fitlinkbe.domain.common.exception.CustomException;
+import spring.fitlinkbe.domain.trainer.Trainer;
+
+import java.time.LocalDateTime;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -78,5 +81,24 @@ class ReservationTest {
                 .isEqualTo(RESERVATION_IS_ALREADY_CANCEL);
     }
 
+    @Test
+    @DisplayName("점유 시간 - 취소해도 저장된 점유 시간은 그대로 남아서 점유 캐시에서 해제할 시간을 알 수 있다.")
+    void persistedOccupancyAfterCancel() {
+        //given
+        LocalDateTime confirmDate = LocalDateTime.of(2025, 1, 6, 10, 0);
+        Reservation reservation = builder()
+                .reservationId(1L)
+                .trainer(Trainer.builder().trainerId(1L).build())
+                .confirmDate(confirmDate)
+                .status(Status.FIXED_RESERVATION)
+                .build();
+        reservation.markPersisted();
+
+        //when
+        reservation.cancel("고정 예약 해지");
 
-}
\ No newline at end of file
+        //then
+        assertThat(reservation.getOccupancy()).isNull();
+        assertThat(reservation.getPersistedOccupancy()).isEqualTo(new Reservation.Occupancy(1L, confirmDate));
+    }
+}
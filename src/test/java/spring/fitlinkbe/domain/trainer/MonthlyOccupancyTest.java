@@ -0,0 +1,50 @@
+package spring.fitlinkbe.domain.trainer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MonthlyOccupancyTest {
+
+    @Test
+    @DisplayName("점유 해제 - 성공: 같은 시간을 점유한 예약이 남아있으면 계속 점유 상태로 본다.")
+    void releaseWithRemainingOccupant() {
+        //given
+        // 변경 요청 중인 예약(슬롯은 놓고 시간은 점유)과 같은 시간에 새로 확정된 예약이 있을 때
+        LocalDateTime date = LocalDateTime.of(2025, 1, 6, 10, 0);
+        MonthlyOccupancy occupancy = MonthlyOccupancy.of(1L, YearMonth.of(2025, 1),
+                List.of(date, date), List.of());
+
+        //when
+        occupancy.release(date);
+
+        //then
+        assertThat(occupancy.isOccupied(date)).isTrue();
+    }
+
+    @Test
+    @DisplayName("점유 해제 - 성공: 마지막 예약이 해제되면 빈 시간이 된다.")
+    void releaseLastOccupant() {
+        //given
+        LocalDateTime date = LocalDateTime.of(2025, 1, 6, 10, 0);
+        MonthlyOccupancy occupancy = MonthlyOccupancy.of(1L, YearMonth.of(2025, 1),
+                List.of(date, date), List.of());
+
+        //when
+        occupancy.release(date);
+        occupancy.release(date);
+        occupancy.release(date);
+
+        //then
+        assertThat(occupancy.isOccupied(date)).isFalse();
+        assertThat(occupancy.isOccupied(date.plusHours(1))).isFalse();
+
+        occupancy.occupy(date);
+        assertThat(occupancy.isOccupied(date)).isTrue();
+    }
+}
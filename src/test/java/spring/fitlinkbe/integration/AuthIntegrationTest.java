@@ -10,6 +10,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
 import spring.fitlinkbe.domain.attachment.AttachmentRepository;
 import spring.fitlinkbe.domain.attachment.model.Attachment;
 import spring.fitlinkbe.domain.common.PersonalDetailRepository;
@@ -63,6 +64,9 @@ public class AuthIntegrationTest extends BaseIntegrationTest {
     @Autowired
     TokenRepository tokenRepository;
 
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
 
     @Nested
     @DisplayName("Member Register API Integration Test")
@@ -790,6 +794,40 @@ public class AuthIntegrationTest extends BaseIntegrationTest {
             });
         }
 
+        @Test
+        @DisplayName("Access Token 재발급 성공 - 캐시에 이전 refresh token 이 남아 있어도 DB 에 저장된 토큰으로 검증한다.")
+        public void renewAccessTokenWithStaleCachedToken() throws Exception {
+            // given
+            // 이전 refresh token 이 캐시에 올라간 뒤 다른 인스턴스에서 새 refresh token 이 저장되었을 때
+            PersonalDetail personalDetail = testDataHandler.createPersonalDetail(PersonalDetail.Status.NORMAL);
+            String accessToken = authTokenProvider.createAccessToken(personalDetail.getStatus(), personalDetail.getPersonalDetailId(),
+                    personalDetail.getUserRole());
+            String refreshToken = authTokenProvider.createRefreshToken(personalDetail.getPersonalDetailId(), personalDetail.getUserRole());
+            testDataHandler.createToken(personalDetail, "stale_refresh_token");
+            tokenRepository.getByPersonalDetailId(personalDetail.getPersonalDetailId()).orElseThrow();
+            jdbcTemplate.update("UPDATE token SET refresh_token = ? WHERE personal_detail_id = ?",
+                    refreshToken, personalDetail.getPersonalDetailId());
+
+            AuthDto.AccessTokenRequest request = new AuthDto.AccessTokenRequest(refreshToken);
+            String requestBody = writeValueAsString(request);
+
+            // when
+            // Access Token 재발급 요청을 보낸다면
+            ExtractableResponse<Response> result = post(ACCESS_TOKEN_API, requestBody, accessToken);
+
+            // then
+            // 요청에 성공해야 한다
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(result.statusCode()).isEqualTo(200);
+                ApiResultResponse<AuthDto.AccessTokenResponse> response = readValue(result.body().jsonPath().prettify(), new TypeReference<>() {
+                });
+
+                softly.assertThat(response).isNotNull();
+                softly.assertThat(response.success()).isTrue();
+                softly.assertThat(response.data().accessToken()).isNotNull();
+            });
+        }
+
         @Test
         @DisplayName("Access Token 재발급 실패 - refresh token 이 유효하지 않은 경우")
         public void renewAccessTokenFailBecauseOfInvalidRefreshToken() throws Exception {
@@ -1,6 +1,7 @@
 package spring.fitlinkbe.integration;
 
 import com.fasterxml.jackson.core.type.TypeReference;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.restassured.response.ExtractableResponse;
 import io.restassured.response.Response;
 import org.assertj.core.api.SoftAssertions;
@@ -10,7 +11,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
 import spring.fitlinkbe.domain.common.ConnectingInfoRepository;
+import spring.fitlinkbe.domain.common.PersonalDetailRepository;
 import spring.fitlinkbe.domain.common.SessionInfoRepository;
 import spring.fitlinkbe.domain.common.model.ConnectingInfo;
 import spring.fitlinkbe.domain.common.model.PersonalDetail;
@@ -24,14 +27,18 @@ import spring.fitlinkbe.domain.trainer.Trainer;
 import spring.fitlinkbe.integration.common.BaseIntegrationTest;
 import spring.fitlinkbe.integration.common.TestDataHandler;
 import spring.fitlinkbe.interfaces.controller.common.dto.ApiResultResponse;
+import spring.fitlinkbe.interfaces.controller.common.dto.CustomCursorResponse;
 import spring.fitlinkbe.interfaces.controller.common.dto.CustomPageResponse;
 import spring.fitlinkbe.interfaces.controller.member.dto.*;
+import spring.fitlinkbe.support.config.CacheConfig;
 
 import java.time.DayOfWeek;
 import java.time.LocalTime;
 import java.util.List;
 import java.util.stream.Stream;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 public class MemberIntegrationTest extends BaseIntegrationTest {
 
     @Autowired
@@ -46,6 +53,15 @@ public class MemberIntegrationTest extends BaseIntegrationTest {
     @Autowired
     SessionInfoRepository sessionInfoRepository;
 
+    @Autowired
+    PersonalDetailRepository personalDetailRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
     @Nested
     @DisplayName("멤버 트레이너 연결 요청 테스트")
     public class MemberConnectTest {
@@ -367,6 +383,53 @@ public class MemberIntegrationTest extends BaseIntegrationTest {
             });
         }
 
+        @Test
+        @DisplayName("회원 정보 수정 성공 - 먼저 조회해서 캐시에 올라간 상세 정보도 수정된 값으로 조회된다.")
+        public void memberUpdateEvictsCachedDetail() throws Exception {
+            // given
+            // 회원 상세 정보가 캐시에 올라가 있을 때
+            Member member = testDataHandler.createMember();
+            String token = testDataHandler.createTokenFromMember(member);
+            personalDetailRepository.getMemberDetail(member.getMemberId()).orElseThrow();
+
+            // when
+            // 회원이 정보를 수정하면
+            String requestBody = writeValueAsString(new MemberInfoDto.MemberUpdateRequest("newName", null));
+            patch(MEMBER_UPDATE_API, requestBody, token);
+
+            // then
+            // 다시 조회했을 때 수정된 값을 받는다
+            PersonalDetail personalDetail = personalDetailRepository.getMemberDetail(member.getMemberId())
+                    .orElseThrow();
+            assertThat(personalDetail.getName()).isEqualTo("newName");
+        }
+
+        @Test
+        @DisplayName("회원 정보 수정 성공 - 캐시에 이전 값이 남아 있어도 DB 의 최신 값에 수정 내용을 반영한다.")
+        public void memberUpdateLoadsDetailFromDb() throws Exception {
+            // given
+            // 캐시에 올라간 뒤 다른 인스턴스에서 전화번호가 바뀌었을 때
+            Member member = testDataHandler.createMember();
+            String token = testDataHandler.createTokenFromMember(member);
+            personalDetailRepository.getMemberDetail(member.getMemberId()).orElseThrow();
+            jdbcTemplate.update("UPDATE personal_detail SET phone_number = ? WHERE member_id = ?",
+                    "01055556666", member.getMemberId());
+
+            // when
+            // 이름만 수정하면
+            String requestBody = writeValueAsString(new MemberInfoDto.MemberUpdateRequest("newName", null));
+            patch(MEMBER_UPDATE_API, requestBody, token);
+
+            // then
+            // 다른 인스턴스에서 바꾼 전화번호를 덮어쓰지 않는다
+            PersonalDetail personalDetail = personalDetailRepository.getMemberDetailUncached(member.getMemberId())
+                    .orElseThrow();
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(personalDetail.getName()).isEqualTo("newName");
+                softly.assertThat(personalDetail.getPhoneNumber()).isEqualTo("01055556666");
+            });
+        }
+
         @Test
         @DisplayName("회원 정보 수정 실패 - 이름, 전화번호 둘 다 입력하지 않았을 때")
         public void memberUpdateFailByEmptyNameAndPhoneNumber() throws Exception {
@@ -868,6 +931,122 @@ public class MemberIntegrationTest extends BaseIntegrationTest {
         }
     }
 
+    @Nested
+    @DisplayName("나의 PT 내역 커서 조회 API 테스트")
+    public class MemberSessionCursorTest {
+        private static final String MEMBER_SESSION_CURSOR_API = "/v1/members/me/sessions/cursor";
+
+        @Test
+        @DisplayName("회원 PT 내역 커서 조회 성공 - 다음 커서로 끝까지 조회하면 모든 세션을 중복 없이 최신순으로 받는다.")
+        public void memberSessionCursorSuccess() throws Exception {
+            // given
+            // 회원, 트레이너, 세션 정보가 있을 때
+            Member member = testDataHandler.createMember();
+            String token = testDataHandler.createTokenFromMember(member);
+            Trainer trainer = testDataHandler.createTrainer("AB1423");
+            testDataHandler.connectMemberAndTrainer(member, trainer);
+
+            // session 7개 생성
+            createSessions(member, trainer);
+
+            // when
+            // 회원이 PT 내역을 3개씩 커서로 조회할 때
+            CustomCursorResponse<MemberSessionDto.SessionResponse> first = getCursorPage(
+                    MEMBER_SESSION_CURSOR_API + "?size=3", token);
+            CustomCursorResponse<MemberSessionDto.SessionResponse> second = getCursorPage(
+                    nextPageUrl(first), token);
+            CustomCursorResponse<MemberSessionDto.SessionResponse> third = getCursorPage(
+                    nextPageUrl(second), token);
+
+            // then
+            // 3, 3, 1 개를 받고 마지막 페이지에는 다음 커서가 없다
+            List<Long> sessionIds = Stream.of(first, second, third)
+                    .flatMap(page -> page.getContent().stream())
+                    .map(MemberSessionDto.SessionResponse::sessionId)
+                    .toList();
+
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(first.getContent()).hasSize(3);
+                softly.assertThat(first.isHasNext()).isTrue();
+                softly.assertThat(second.getContent()).hasSize(3);
+                softly.assertThat(second.isHasNext()).isTrue();
+                softly.assertThat(third.getContent()).hasSize(1);
+                softly.assertThat(third.isHasNext()).isFalse();
+                softly.assertThat(third.getNextCursorCreatedAt()).isNull();
+                softly.assertThat(third.getNextCursorId()).isNull();
+                softly.assertThat(sessionIds).doesNotHaveDuplicates();
+                softly.assertThat(sessionIds).hasSize(7);
+            });
+        }
+
+        @Test
+        @DisplayName("회원 PT 내역 커서 조회 성공 - 상태별 조회")
+        public void memberSessionCursorSuccessByStatus() throws Exception {
+            // given
+            // 회원, 트레이너, 세션 정보가 있을 때
+            Member member = testDataHandler.createMember();
+            String token = testDataHandler.createTokenFromMember(member);
+            Trainer trainer = testDataHandler.createTrainer("AB1423");
+            testDataHandler.connectMemberAndTrainer(member, trainer);
+
+            // session 7개 생성
+            createSessions(member, trainer);
+
+            // when
+            // 회원이 PT 내역을 상태별로 커서 조회할 때
+            CustomCursorResponse<MemberSessionDto.SessionResponse> data = getCursorPage(
+                    MEMBER_SESSION_CURSOR_API + "?size=10&status=SESSION_WAITING", token);
+
+            // then
+            // 해당 상태의 PT 내역만 받는다
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(data.getContent()).hasSize(3);
+                softly.assertThat(data.getContent())
+                        .allMatch(session -> session.status() == Session.Status.SESSION_WAITING);
+                softly.assertThat(data.isHasNext()).isFalse();
+            });
+        }
+
+        @Test
+        @DisplayName("회원 PT 내역 커서 조회 실패 - 커서 생성일 없이 커서 id 만 전달하면 실패한다.")
+        public void memberSessionCursorFailWhenCursorIncomplete() throws Exception {
+            // given
+            // 회원이 있을 때
+            Member member = testDataHandler.createMember();
+            String token = testDataHandler.createTokenFromMember(member);
+
+            // when
+            // 커서 id 만 전달해서 조회할 때
+            ExtractableResponse<Response> result = get(MEMBER_SESSION_CURSOR_API + "?cursorId=1", token);
+
+            // then
+            // 400 에러를 받는다
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(result.statusCode()).isEqualTo(200);
+                ApiResultResponse<Object> response = readValue(result.body().jsonPath().prettify(), new TypeReference<>() {
+                });
+
+                softly.assertThat(response.success()).isFalse();
+                softly.assertThat(response.status()).isEqualTo(400);
+            });
+        }
+
+        private CustomCursorResponse<MemberSessionDto.SessionResponse> getCursorPage(String url, String token)
+                throws Exception {
+            ExtractableResponse<Response> result = get(url, token);
+            ApiResultResponse<CustomCursorResponse<MemberSessionDto.SessionResponse>> response =
+                    readValue(result.body().jsonPath().prettify(), new TypeReference<>() {
+                    });
+
+            return response.data();
+        }
+
+        private String nextPageUrl(CustomCursorResponse<MemberSessionDto.SessionResponse> page) {
+            return MEMBER_SESSION_CURSOR_API + "?size=3&cursorCreatedAt=" + page.getNextCursorCreatedAt()
+                    + "&cursorId=" + page.getNextCursorId();
+        }
+    }
+
     @Nested
     @DisplayName("특정 멤버 PT 내역 조회 테스트")
     public class MemberSessionDetailTest {
@@ -1378,5 +1557,58 @@ public class MemberIntegrationTest extends BaseIntegrationTest {
         testDataHandler.createSession(member, trainer, Session.Status.SESSION_NOT_ATTEND);
     }
 
+    @Nested
+    @DisplayName("회원 상세 정보 캐시 테스트")
+    public class MemberDetailCacheTest {
 
+        @Test
+        @DisplayName("상세 정보 조회 - 처음 조회는 miss, 다음 조회는 hit 으로 캐시 metrics 에 기록된다.")
+        public void memberDetailCacheMetrics() {
+            // given
+            Member member = testDataHandler.createMember();
+            double hitBefore = cacheGets("hit");
+            double missBefore = cacheGets("miss");
+
+            // when
+            personalDetailRepository.getMemberDetail(member.getMemberId()).orElseThrow();
+            personalDetailRepository.getMemberDetail(member.getMemberId()).orElseThrow();
+
+            // then
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(cacheGets("miss") - missBefore).isEqualTo(1);
+                softly.assertThat(cacheGets("hit") - hitBefore).isEqualTo(1);
+            });
+        }
+
+        @Test
+        @DisplayName("상세 정보 조회 - 수정 이후 첫 조회는 캐시를 비웠으므로 miss 로 기록된다.")
+        public void memberDetailCacheMissAfterSave() {
+            // given
+            Member member = testDataHandler.createMember();
+            PersonalDetail personalDetail = personalDetailRepository.getMemberDetail(member.getMemberId())
+                    .orElseThrow();
+            personalDetail.updateName("newName");
+            personalDetailRepository.savePersonalDetail(personalDetail);
+            double hitBefore = cacheGets("hit");
+            double missBefore = cacheGets("miss");
+
+            // when
+            PersonalDetail result = personalDetailRepository.getMemberDetail(member.getMemberId()).orElseThrow();
+
+            // then
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(result.getName()).isEqualTo("newName");
+                softly.assertThat(cacheGets("miss") - missBefore).isEqualTo(1);
+                softly.assertThat(cacheGets("hit") - hitBefore).isZero();
+            });
+        }
+
+        private double cacheGets(String result) {
+            return meterRegistry.get("cache.gets")
+                    .tag("cache", CacheConfig.PERSONAL_DETAIL_CACHE)
+                    .tag("result", result)
+                    .functionCounter()
+                    .count();
+        }
+    }
 }
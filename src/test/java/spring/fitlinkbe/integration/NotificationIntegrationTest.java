@@ -7,6 +7,9 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import spring.fitlinkbe.application.notification.NotificationFacade;
+import spring.fitlinkbe.domain.auth.AuthService;
 import spring.fitlinkbe.domain.common.PersonalDetailRepository;
 import spring.fitlinkbe.domain.common.TokenRepository;
 import spring.fitlinkbe.domain.common.enums.UserRole;
@@ -16,7 +19,9 @@ import spring.fitlinkbe.domain.common.model.Token;
 import spring.fitlinkbe.domain.member.Member;
 import spring.fitlinkbe.domain.member.MemberRepository;
 import spring.fitlinkbe.domain.notification.Notification;
+import spring.fitlinkbe.domain.notification.NotificationIntent;
 import spring.fitlinkbe.domain.notification.NotificationRepository;
+import spring.fitlinkbe.domain.notification.NotificationService;
 import spring.fitlinkbe.domain.trainer.Trainer;
 import spring.fitlinkbe.domain.trainer.TrainerRepository;
 import spring.fitlinkbe.integration.common.BaseIntegrationTest;
@@ -32,8 +37,10 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static spring.fitlinkbe.domain.common.exception.ErrorCode.NOTIFICATION_KEYWORD_TOO_SHORT;
 import static spring.fitlinkbe.domain.common.exception.ErrorCode.NOTIFICATION_NOT_FOUND;
 import static spring.fitlinkbe.domain.reservation.Reservation.Status.FIXED_RESERVATION;
 
@@ -59,6 +66,18 @@ public class NotificationIntegrationTest extends BaseIntegrationTest {
     @Autowired
     TokenRepository tokenRepository;
 
+    @Autowired
+    AuthService authService;
+
+    @Autowired
+    NotificationService notificationService;
+
+    @Autowired
+    NotificationFacade notificationFacade;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
     @Autowired
     TestDataHandler testDataHandler;
 
@@ -392,6 +411,262 @@ public class NotificationIntegrationTest extends BaseIntegrationTest {
 
     }
 
+    @Nested
+    @DisplayName("알림 커서 조회 Integration TEST")
+    class CursorConditionIntegrationTest {
+        @Test
+        @DisplayName("트레이너 알림 커서 조회 - 성공 : 최신순으로 조회하고 다음 커서로 이어서 조회")
+        void getNotificationsByCursor() {
+            // given
+            PersonalDetail personalDetail = personalDetailRepository.getTrainerDetail(1L)
+                    .orElseThrow();
+
+            String accessToken = tokenProvider.createAccessToken(PersonalDetail.Status.NORMAL,
+                    personalDetail.getPersonalDetailId(), personalDetail.getUserRole());
+
+            Member member = memberRepository.getMember(1L).orElseThrow();
+
+            // 알림 20개 저장
+            createNotifications(personalDetail, member.getMemberId(), UserRole.TRAINER);
+
+            Map<String, String> params = new HashMap<>();
+            params.put("size", "15");
+
+            // when
+            ExtractableResponse<Response> first = get(LOCAL_HOST + port + PATH + "/cursor", params, accessToken);
+            params.put("cursorId", String.valueOf(first.body().jsonPath().getLong("data.nextCursorId")));
+            ExtractableResponse<Response> second = get(LOCAL_HOST + port + PATH + "/cursor", params, accessToken);
+
+            // then
+            assertSoftly(softly -> {
+                softly.assertThat(first.statusCode()).isEqualTo(200);
+                List<NotificationResponseDto.Summary> firstContent = first.body().jsonPath()
+                        .getList("data.content", NotificationResponseDto.Summary.class);
+                softly.assertThat(firstContent.size()).isEqualTo(15);
+                softly.assertThat(firstContent.get(0).notificationId()).isEqualTo(20);
+                softly.assertThat(first.body().jsonPath().getBoolean("data.hasNext")).isTrue();
+                softly.assertThat(first.body().jsonPath().getLong("data.nextCursorId")).isEqualTo(6);
+
+                List<NotificationResponseDto.Summary> secondContent = second.body().jsonPath()
+                        .getList("data.content", NotificationResponseDto.Summary.class);
+                softly.assertThat(secondContent.size()).isEqualTo(5);
+                softly.assertThat(secondContent.get(0).notificationId()).isEqualTo(5);
+                softly.assertThat(second.body().jsonPath().getBoolean("data.hasNext")).isFalse();
+                softly.assertThat(second.body().jsonPath().getObject("data.nextCursorId", Long.class)).isNull();
+            });
+        }
+
+        @Test
+        @DisplayName("트레이너 알림 커서 조회 - 성공 : 타입별 조회")
+        void getNotificationsByCursorWithType() {
+            // given
+            PersonalDetail personalDetail = personalDetailRepository.getTrainerDetail(1L)
+                    .orElseThrow();
+
+            String accessToken = tokenProvider.createAccessToken(PersonalDetail.Status.NORMAL,
+                    personalDetail.getPersonalDetailId(), personalDetail.getUserRole());
+
+            Member member = memberRepository.getMember(1L).orElseThrow();
+
+            // 알림 20개 저장
+            createNotifications(personalDetail, member.getMemberId(), UserRole.TRAINER);
+
+            Map<String, String> params = new HashMap<>();
+            params.put("size", "10");
+            params.put("type", Notification.ReferenceType.RESERVATION_REQUEST.name());
+
+            // when
+            ExtractableResponse<Response> result = get(LOCAL_HOST + port + PATH + "/cursor", params, accessToken);
+
+            // then
+            assertSoftly(softly -> {
+                softly.assertThat(result.statusCode()).isEqualTo(200);
+                List<NotificationResponseDto.Summary> content = result.body().jsonPath()
+                        .getList("data.content", NotificationResponseDto.Summary.class);
+                softly.assertThat(content.size()).isEqualTo(5);
+                softly.assertThat(content.get(0).notificationId()).isEqualTo(5);
+                softly.assertThat(result.body().jsonPath().getBoolean("data.hasNext")).isFalse();
+            });
+        }
+
+        @Test
+        @DisplayName("알림 커서 조회 - 실패 : 조회 개수가 범위를 벗어날 때")
+        void getNotificationsByCursorWithInvalidSize() {
+            // given
+            PersonalDetail personalDetail = personalDetailRepository.getTrainerDetail(1L)
+                    .orElseThrow();
+
+            String accessToken = tokenProvider.createAccessToken(PersonalDetail.Status.NORMAL,
+                    personalDetail.getPersonalDetailId(), personalDetail.getUserRole());
+
+            Map<String, String> params = new HashMap<>();
+            params.put("size", "0");
+
+            // when
+            ExtractableResponse<Response> result = get(LOCAL_HOST + port + PATH + "/cursor", params, accessToken);
+
+            // then
+            assertSoftly(softly -> {
+                softly.assertThat(result.body().jsonPath().getObject("status", Integer.class)).isEqualTo(400);
+                softly.assertThat(result.body().jsonPath().getObject("success", Boolean.class)).isEqualTo(false);
+            });
+        }
+    }
+
+    @Nested
+    @DisplayName("알림 검색 Integration TEST")
+    class SearchNotificationIntegrationTest {
+        @Test
+        @DisplayName("알림 검색 - 성공 : 검색어와 일치하는 알림만 최신순으로 조회")
+        void searchNotifications() {
+            // given
+            PersonalDetail personalDetail = personalDetailRepository.getTrainerDetail(1L)
+                    .orElseThrow();
+
+            String accessToken = tokenProvider.createAccessToken(PersonalDetail.Status.NORMAL,
+                    personalDetail.getPersonalDetailId(), personalDetail.getUserRole());
+
+            Member member = memberRepository.getMember(1L).orElseThrow();
+
+            // 알림 20개 저장 (예약 알림 5개, 세션 알림 15개)
+            createNotifications(personalDetail, member.getMemberId(), UserRole.TRAINER);
+
+            Map<String, String> params = new HashMap<>();
+            params.put("q", "예약 내용");
+
+            // when
+            ExtractableResponse<Response> result = get(LOCAL_HOST + port + PATH + "/search", params, accessToken);
+
+            // then
+            assertSoftly(softly -> {
+                softly.assertThat(result.statusCode()).isEqualTo(200);
+                List<NotificationResponseDto.Summary> content = result.body().jsonPath()
+                        .getList("data", NotificationResponseDto.Summary.class);
+                softly.assertThat(content.size()).isEqualTo(5);
+                softly.assertThat(content.get(0).notificationId()).isEqualTo(5);
+                softly.assertThat(content).allMatch(summary -> summary.content().startsWith("예약 내용"));
+            });
+        }
+
+        @Test
+        @DisplayName("알림 검색 - 성공 : 검색어와 많이 일치하는 알림이 먼저 조회")
+        void searchNotificationsRanked() {
+            // given
+            PersonalDetail personalDetail = personalDetailRepository.getTrainerDetail(1L)
+                    .orElseThrow();
+
+            String accessToken = tokenProvider.createAccessToken(PersonalDetail.Status.NORMAL,
+                    personalDetail.getPersonalDetailId(), personalDetail.getUserRole());
+
+            Member member = memberRepository.getMember(1L).orElseThrow();
+
+            // 알림 20개 저장 (예약 알림 5개, 세션 알림 15개)
+            createNotifications(personalDetail, member.getMemberId(), UserRole.TRAINER);
+
+            Map<String, String> params = new HashMap<>();
+            params.put("q", "세션 내용 5");
+
+            // when
+            ExtractableResponse<Response> result = get(LOCAL_HOST + port + PATH + "/search", params, accessToken);
+
+            // then
+            assertSoftly(softly -> {
+                softly.assertThat(result.statusCode()).isEqualTo(200);
+                List<NotificationResponseDto.Summary> content = result.body().jsonPath()
+                        .getList("data", NotificationResponseDto.Summary.class);
+                softly.assertThat(content.size()).isEqualTo(15);
+                softly.assertThat(content.get(0).content()).isEqualTo("세션 내용 5");
+            });
+        }
+
+        @Test
+        @DisplayName("알림 검색 - 실패 : 검색어가 2글자 미만일 때")
+        void searchNotificationsWithShortKeyword() {
+            // given
+            PersonalDetail personalDetail = personalDetailRepository.getTrainerDetail(1L)
+                    .orElseThrow();
+
+            String accessToken = tokenProvider.createAccessToken(PersonalDetail.Status.NORMAL,
+                    personalDetail.getPersonalDetailId(), personalDetail.getUserRole());
+
+            Map<String, String> params = new HashMap<>();
+            params.put("q", "예 ");
+
+            // when
+            ExtractableResponse<Response> result = get(LOCAL_HOST + port + PATH + "/search", params, accessToken);
+
+            // then
+            assertSoftly(softly -> {
+                softly.assertThat(result.body().jsonPath().getObject("status", Integer.class)).isEqualTo(400);
+                softly.assertThat(result.body().jsonPath().getObject("success", Boolean.class)).isEqualTo(false);
+                softly.assertThat(result.body().jsonPath().getObject("msg", String.class))
+                        .isEqualTo(NOTIFICATION_KEYWORD_TOO_SHORT.getMsg());
+            });
+        }
+    }
+
+    @Nested
+    @DisplayName("읽지 않은 알림 수 Integration TEST")
+    class UnreadCountIntegrationTest {
+        @Test
+        @DisplayName("읽지 않은 알림 수 조회 - 성공 : 저장된 처리 전 알림 수를 조회")
+        void getUnreadCount() {
+            // given
+            PersonalDetail personalDetail = personalDetailRepository.getTrainerDetail(1L)
+                    .orElseThrow();
+
+            String accessToken = tokenProvider.createAccessToken(PersonalDetail.Status.NORMAL,
+                    personalDetail.getPersonalDetailId(), personalDetail.getUserRole());
+
+            Member member = memberRepository.getMember(1L).orElseThrow();
+
+            // 알림 20개 저장
+            createNotifications(personalDetail, member.getMemberId(), UserRole.TRAINER);
+
+            // when
+            ExtractableResponse<Response> result = get(LOCAL_HOST + port + PATH + "/unread-count", accessToken);
+
+            // then
+            assertSoftly(softly -> {
+                softly.assertThat(result.statusCode()).isEqualTo(200);
+                softly.assertThat(result.body().jsonPath().getInt("data.unreadCount")).isEqualTo(20);
+            });
+        }
+
+        @Test
+        @DisplayName("알림 모두 읽음 처리 - 성공 : 처리 전 알림이 모두 처리되고 읽지 않은 알림 수가 0이 된다.")
+        void readAllNotifications() {
+            // given
+            PersonalDetail personalDetail = personalDetailRepository.getTrainerDetail(1L)
+                    .orElseThrow();
+
+            String accessToken = tokenProvider.createAccessToken(PersonalDetail.Status.NORMAL,
+                    personalDetail.getPersonalDetailId(), personalDetail.getUserRole());
+
+            Member member = memberRepository.getMember(1L).orElseThrow();
+
+            // 알림 20개 저장
+            createNotifications(personalDetail, member.getMemberId(), UserRole.TRAINER);
+
+            // when
+            ExtractableResponse<Response> result = patch(LOCAL_HOST + port + PATH + "/read-all", accessToken);
+            ExtractableResponse<Response> again = patch(LOCAL_HOST + port + PATH + "/read-all", accessToken);
+            ExtractableResponse<Response> unreadCount = get(LOCAL_HOST + port + PATH + "/unread-count",
+                    accessToken);
+
+            // then
+            assertSoftly(softly -> {
+                softly.assertThat(result.statusCode()).isEqualTo(200);
+                softly.assertThat(result.body().jsonPath().getInt("data.readCount")).isEqualTo(20);
+                softly.assertThat(again.body().jsonPath().getInt("data.readCount")).isEqualTo(0);
+                softly.assertThat(unreadCount.body().jsonPath().getInt("data.unreadCount")).isEqualTo(0);
+                softly.assertThat(notificationRepository.getNotifications(null, UserRole.TRAINER, null,
+                                personalDetail.getPersonalDetailId(), null, null, 20).getContent())
+                        .allMatch(Notification::isProcessed);
+            });
+        }
+    }
+
     @Nested
     @DisplayName("알림 상세 조회 Integration TEST")
     class GetNotificationDetailIntegrationTest {
@@ -532,6 +807,120 @@ public class NotificationIntegrationTest extends BaseIntegrationTest {
             });
         }
 
+        @Test
+        @DisplayName("푸쉬 토큰 등록 - 성공: 먼저 조회해서 캐시에 올라간 토큰도 새 push 토큰으로 바뀐다.")
+        void registerPushTokenEvictsCachedToken() {
+            // given
+            PersonalDetail memberDetail = personalDetailRepository.getMemberDetail(1L)
+                    .orElseThrow();
+            String accessToken = tokenProvider.createAccessToken(PersonalDetail.Status.NORMAL,
+                    memberDetail.getPersonalDetailId(), memberDetail.getUserRole());
+            post(LOCAL_HOST + port + PATH + "/push-token/register", NotificationRequestDto.PushTokenRequest.builder()
+                    .pushToken("old-token")
+                    .build(), accessToken);
+            Token cached = tokenRepository.getByPersonalDetailId(memberDetail.getPersonalDetailId()).orElseThrow();
+            cached.updatePushToken("changed-by-caller");
+
+            // when
+            post(LOCAL_HOST + port + PATH + "/push-token/register", NotificationRequestDto.PushTokenRequest.builder()
+                    .pushToken("new-token")
+                    .build(), accessToken);
+
+            // then
+            Token token = tokenRepository.getByPersonalDetailId(memberDetail.getPersonalDetailId()).orElseThrow();
+            assertThat(token.getPushToken()).isEqualTo("new-token");
+        }
+
+        @Test
+        @DisplayName("푸쉬 토큰 등록 - 성공: 기기마다 등록한 토큰이 모두 유지된다.")
+        void registerPushTokenWithMultipleDevices() {
+            // given
+            PersonalDetail memberDetail = personalDetailRepository.getMemberDetail(1L)
+                    .orElseThrow();
+
+            String accessToken = tokenProvider.createAccessToken(PersonalDetail.Status.NORMAL,
+                    memberDetail.getPersonalDetailId(), memberDetail.getUserRole());
+
+            // when
+            for (String pushToken : List.of("phone-token", "tablet-token", "phone-token")) {
+                post(LOCAL_HOST + port + PATH + "/push-token/register", NotificationRequestDto.PushTokenRequest
+                        .builder()
+                        .pushToken(pushToken)
+                        .build(), accessToken);
+            }
+
+            // then
+            Map<Long, List<String>> pushTokens = tokenRepository.getPushTokens(
+                    List.of(memberDetail.getPersonalDetailId()));
+            assertThat(pushTokens.get(memberDetail.getPersonalDetailId()))
+                    .containsExactlyInAnyOrder("phone-token", "tablet-token");
+        }
+
+        @Test
+        @DisplayName("푸쉬 토큰 등록 - 성공: 다른 계정으로 옮겨진 기기 토큰은 이전 계정에서 지워진다.")
+        void registerPushTokenMovedToOtherAccount() {
+            // given
+            PersonalDetail memberDetail = personalDetailRepository.getMemberDetail(1L)
+                    .orElseThrow();
+            PersonalDetail trainerDetail = personalDetailRepository.getTrainerDetail(1L)
+                    .orElseThrow();
+            String memberAccessToken = tokenProvider.createAccessToken(PersonalDetail.Status.NORMAL,
+                    memberDetail.getPersonalDetailId(), memberDetail.getUserRole());
+            String trainerAccessToken = tokenProvider.createAccessToken(PersonalDetail.Status.NORMAL,
+                    trainerDetail.getPersonalDetailId(), trainerDetail.getUserRole());
+            NotificationRequestDto.PushTokenRequest request = NotificationRequestDto.PushTokenRequest.builder()
+                    .pushToken("shared-token")
+                    .build();
+            post(LOCAL_HOST + port + PATH + "/push-token/register", request, memberAccessToken);
+            // 이전 계정의 토큰을 캐시에 올려 둔다.
+            tokenRepository.getByPersonalDetailId(memberDetail.getPersonalDetailId()).orElseThrow();
+
+            // when
+            post(LOCAL_HOST + port + PATH + "/push-token/register", request, trainerAccessToken);
+
+            // then
+            Token memberToken = tokenRepository.getByPersonalDetailId(memberDetail.getPersonalDetailId())
+                    .orElseThrow();
+            Token trainerToken = tokenRepository.getByPersonalDetailId(trainerDetail.getPersonalDetailId())
+                    .orElseThrow();
+            Map<Long, List<String>> pushTokens = tokenRepository.getPushTokens(
+                    List.of(memberDetail.getPersonalDetailId(), trainerDetail.getPersonalDetailId()));
+            assertSoftly(softly -> {
+                softly.assertThat(memberToken.getPushToken()).isNull();
+                softly.assertThat(trainerToken.getPushToken()).isEqualTo("shared-token");
+                softly.assertThat(pushTokens.get(memberDetail.getPersonalDetailId())).isNull();
+                softly.assertThat(pushTokens.get(trainerDetail.getPersonalDetailId())).containsExactly("shared-token");
+            });
+        }
+
+        @Test
+        @DisplayName("유효하지 않은 푸쉬 토큰 삭제 - 성공: 해당 기기 토큰만 지워진다.")
+        void removePushTokens() {
+            // given
+            PersonalDetail memberDetail = personalDetailRepository.getMemberDetail(1L)
+                    .orElseThrow();
+
+            String accessToken = tokenProvider.createAccessToken(PersonalDetail.Status.NORMAL,
+                    memberDetail.getPersonalDetailId(), memberDetail.getUserRole());
+            for (String pushToken : List.of("phone-token", "tablet-token")) {
+                post(LOCAL_HOST + port + PATH + "/push-token/register", NotificationRequestDto.PushTokenRequest
+                        .builder()
+                        .pushToken(pushToken)
+                        .build(), accessToken);
+            }
+
+            // when
+            int removed = authService.removePushTokens(List.of("tablet-token", "unknown-token"));
+
+            // then
+            assertThat(removed).isEqualTo(1);
+            assertThat(tokenRepository.getPushTokens(List.of(memberDetail.getPersonalDetailId()))
+                    .get(memberDetail.getPersonalDetailId())).containsExactly("phone-token");
+            // 마지막으로 등록한 토큰이 지워지면 단일 push 토큰 컬럼도 비워진다.
+            Token token = tokenRepository.getByPersonalDetailId(memberDetail.getPersonalDetailId()).orElseThrow();
+            assertThat(token.getPushToken()).isNull();
+        }
+
         @Test
         @DisplayName("푸쉬 토큰 등록 - 실패: 토큰 없음")
         void registerPushTokenWithNoToken() {
@@ -561,6 +950,74 @@ public class NotificationIntegrationTest extends BaseIntegrationTest {
     }
 
 
+    @Nested
+    @DisplayName("알림 요청 처리 Integration TEST")
+    class ProcessNotificationIntentIntegrationTest {
+        @Test
+        @DisplayName("알림 요청 처리 - 성공: 알림으로 저장되고 처리한 요청은 지워진다.")
+        void processIntents() {
+            //given
+            Member member = testDataHandler.createMember();
+            PersonalDetail memberDetail = personalDetailRepository.getMemberDetail(member.getMemberId()).orElseThrow();
+            Notification notification = Notification.builder()
+                    .refId(1L)
+                    .refType(Notification.ReferenceType.RESERVATION_REQUEST)
+                    .target(UserRole.MEMBER)
+                    .notificationType(Notification.NotificationType.RESERVATION_APPROVE)
+                    .personalDetail(memberDetail)
+                    .partnerId(1L)
+                    .name(Notification.NotificationType.RESERVATION_APPROVE.getName())
+                    .content("예약이 확정되었습니다.")
+                    .sendDate(LocalDateTime.now())
+                    .build();
+            List<Long> intentIds = notificationService.saveIntents(List.of(NotificationIntent.of(notification)));
+
+            //when
+            int processed = notificationService.processIntents(intentIds);
+            int processedAgain = notificationService.processIntents(intentIds);
+
+            //then
+            assertThat(processed).isEqualTo(1);
+            assertThat(processedAgain).isZero();
+            assertThat(notificationRepository.getNotification(memberDetail.getPersonalDetailId()).getContent())
+                    .isEqualTo("예약이 확정되었습니다.");
+        }
+
+        @Test
+        @DisplayName("알림 요청 relay - 처리할 수 없는 요청만 시도 횟수가 올라가고 나머지는 수신자를 조회해서 알림으로 저장된다. " +
+                "최대 시도 횟수를 넘긴 요청은 더 이상 가져오지 않는다.")
+        void relayIntentsWithFailedIntent() {
+            //given
+            Member member = testDataHandler.createMember();
+            PersonalDetail memberDetail = personalDetailRepository.getMemberDetail(member.getMemberId()).orElseThrow();
+            PersonalDetail recipient = PersonalDetail.ofMember(member.getMemberId());
+            List<Long> intentIds = notificationService.saveIntents(List.of(
+                    NotificationIntent.of(Notification.sessionTodayReminder(recipient, 1L, 1L, LocalDateTime.now())),
+                    NotificationIntent.of(Notification.sessionTodayReminder(recipient, 2L, 1L, LocalDateTime.now()))));
+            Long failedIntentId = intentIds.get(1);
+            jdbcTemplate.update("UPDATE notification_intent SET created_at = ?", LocalDateTime.now().minusMinutes(1));
+            jdbcTemplate.update("UPDATE notification_intent SET notification_type = NULL WHERE intent_id = ?",
+                    failedIntentId);
+
+            //when
+            int relayed = notificationFacade.relayNotificationIntents(10);
+            for (int i = 0; i < 4; i++) {
+                notificationFacade.relayNotificationIntents(10);
+            }
+
+            //then
+            assertThat(relayed).isEqualTo(1);
+            assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM notification WHERE personal_detail_id = ?",
+                    Integer.class, memberDetail.getPersonalDetailId())).isEqualTo(1);
+            assertThat(jdbcTemplate.queryForObject("SELECT attempts FROM notification_intent WHERE intent_id = ?",
+                    Integer.class, failedIntentId)).isEqualTo(5);
+            assertThat(jdbcTemplate.queryForObject("SELECT last_error FROM notification_intent WHERE intent_id = ?",
+                    String.class, failedIntentId)).isNotBlank();
+            assertThat(notificationService.getRelayIntentIds(10)).isEmpty();
+        }
+    }
+
+
     private void createNotifications(PersonalDetail personalDetail, Long partnerId, UserRole userRole) {
         for (int i = 0; i < 20; i++) {
             Notification notification;
@@ -7,9 +7,14 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import spring.fitlinkbe.application.outbox.OutboxFacade;
+import spring.fitlinkbe.application.reservation.ReservationFacade;
+import spring.fitlinkbe.application.reservation.criteria.ReservationCriteria;
 import spring.fitlinkbe.domain.common.PersonalDetailRepository;
 import spring.fitlinkbe.domain.common.SessionInfoRepository;
 import spring.fitlinkbe.domain.common.enums.UserRole;
+import spring.fitlinkbe.domain.common.exception.CustomException;
+import spring.fitlinkbe.domain.common.exception.ErrorCode;
 import spring.fitlinkbe.domain.common.model.PersonalDetail;
 import spring.fitlinkbe.domain.common.model.SessionInfo;
 import spring.fitlinkbe.domain.member.Member;
@@ -17,10 +22,14 @@ import spring.fitlinkbe.domain.member.MemberRepository;
 import spring.fitlinkbe.domain.notification.Notification;
 import spring.fitlinkbe.domain.notification.NotificationRepository;
 import spring.fitlinkbe.domain.outbox.Outbox;
+import spring.fitlinkbe.domain.outbox.OutboxBacklog;
 import spring.fitlinkbe.domain.outbox.OutboxRepository;
+import spring.fitlinkbe.domain.outbox.ProcessedMessageService;
 import spring.fitlinkbe.domain.reservation.Reservation;
 import spring.fitlinkbe.domain.reservation.ReservationRepository;
+import spring.fitlinkbe.domain.reservation.ReservationService;
 import spring.fitlinkbe.domain.reservation.Session;
+import spring.fitlinkbe.domain.reservation.command.ReservationCommand;
 import spring.fitlinkbe.domain.trainer.DayOff;
 import spring.fitlinkbe.domain.trainer.Trainer;
 import spring.fitlinkbe.domain.trainer.TrainerRepository;
@@ -33,10 +42,18 @@ import spring.fitlinkbe.support.security.AuthTokenProvider;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.SoftAssertions.assertSoftly;
 import static spring.fitlinkbe.domain.notification.Notification.NotificationType.*;
@@ -75,12 +92,24 @@ public class ReservationIntegrationTest extends BaseIntegrationTest {
     @Autowired
     OutboxRepository outboxRepository;
 
+    @Autowired
+    ProcessedMessageService processedMessageService;
+
     @Autowired
     TestDataHandler testDataHandler;
 
     @Autowired
     ReservationScheduler reservationScheduler;
 
+    @Autowired
+    ReservationFacade reservationFacade;
+
+    @Autowired
+    ReservationService reservationService;
+
+    @Autowired
+    OutboxFacade outboxFacade;
+
 
     @BeforeEach
     void setUp() {
@@ -529,6 +558,65 @@ public class ReservationIntegrationTest extends BaseIntegrationTest {
             });
         }
 
+        @Test
+        @DisplayName("트레이너 예약 상세 대기 목록 조회 성공 - 희망 날짜 중 하나라도 같은 시간대면 조회된다.")
+        void getReservationWaitingMembersWithSecondReservationDate() {
+            // given
+            PersonalDetail personalDetail = personalDetailRepository.getTrainerDetail(1L)
+                    .orElseThrow();
+
+            String accessToken = tokenProvider.createAccessToken(PersonalDetail.Status.NORMAL,
+                    personalDetail.getPersonalDetailId(), personalDetail.getUserRole());
+
+            Trainer trainer = trainerRepository.getTrainerInfo(1L).orElseThrow();
+
+            Member member1 = memberRepository.getMember(1L).orElseThrow();
+
+            SessionInfo sessionInfo1 = sessionInfoRepository.getSessionInfo(1L).orElseThrow();
+
+            LocalDateTime reserveDate = LocalDate.now().plusDays(1).atTime(14, 0);
+
+            Reservation reservation1 = Reservation.builder()
+                    .reservationDates(List.of(reserveDate.minusDays(1), reserveDate.plusMinutes(30)))
+                    .trainer(trainer)
+                    .member(member1)
+                    .sessionInfo(sessionInfo1)
+                    .name(member1.getName())
+                    .dayOfWeek(reserveDate.getDayOfWeek())
+                    .status(RESERVATION_WAITING)
+                    .build();
+
+            Reservation savedReservation1 = reservationRepository.saveReservation(reservation1).orElseThrow();
+
+            Member member2 = testDataHandler.createMember();
+            SessionInfo sessionInfo2 = testDataHandler.createSessionInfo(member2, trainer);
+
+            Reservation reservation2 = Reservation.builder()
+                    .reservationDates(List.of(reserveDate.plusHours(1)))
+                    .trainer(trainer)
+                    .member(member2)
+                    .sessionInfo(sessionInfo2)
+                    .name(member2.getName())
+                    .dayOfWeek(reserveDate.getDayOfWeek())
+                    .status(RESERVATION_WAITING)
+                    .build();
+
+            reservationRepository.saveReservation(reservation2).orElseThrow();
+
+            // when
+            ExtractableResponse<Response> result = get(LOCAL_HOST + port + PATH + "/waiting-members/"
+                    + reserveDate, accessToken);
+
+            // then
+            assertSoftly(softly -> {
+                softly.assertThat(result.statusCode()).isEqualTo(200);
+                List<ReservationResponseDto.WaitingMember> content = result.body().jsonPath()
+                        .getList("data", ReservationResponseDto.WaitingMember.class);
+                softly.assertThat(content).hasSize(1);
+                softly.assertThat(content.get(0).reservationId()).isEqualTo(savedReservation1.getReservationId());
+            });
+        }
+
         @Test
         @DisplayName("트레이너 예약 상세 대기 목록 조회 실패 - reservationDate 정보 누락")
         void getReservationWithTrainerNoReservationDate() {
@@ -679,6 +767,64 @@ public class ReservationIntegrationTest extends BaseIntegrationTest {
             });
         }
 
+        @Test
+        @DisplayName("예약 불가 설정을 하면 같은 시간대의 다른 트레이너 대기 예약은 거절되지 않는다.")
+        void setDisabledReservationNotRefuseOtherTrainer() {
+            // given
+            PersonalDetail personalDetail = personalDetailRepository.getTrainerDetail(1L)
+                    .orElseThrow();
+
+            String accessToken = tokenProvider.createAccessToken(PersonalDetail.Status.NORMAL,
+                    personalDetail.getPersonalDetailId(), personalDetail.getUserRole());
+
+            Trainer trainer = trainerRepository.getTrainerInfo(1L).orElseThrow();
+            Trainer otherTrainer = testDataHandler.createTrainer("OTHER");
+
+            Member member = memberRepository.getMember(1L).orElseThrow();
+
+            LocalDateTime reservationDate = LocalDate.now().plusDays(1).atTime(14, 0);
+
+            Reservation reservation = Reservation.builder()
+                    .reservationDates(List.of(reservationDate))
+                    .trainer(trainer)
+                    .member(member)
+                    .name(member.getName())
+                    .dayOfWeek(reservationDate.getDayOfWeek())
+                    .status(RESERVATION_WAITING)
+                    .build();
+
+            Reservation otherReservation = Reservation.builder()
+                    .reservationDates(List.of(reservationDate))
+                    .trainer(otherTrainer)
+                    .member(member)
+                    .name(member.getName())
+                    .dayOfWeek(reservationDate.getDayOfWeek())
+                    .status(RESERVATION_WAITING)
+                    .build();
+
+            Reservation savedReservation = reservationRepository.saveReservation(reservation).orElseThrow();
+            Reservation savedOtherReservation = reservationRepository.saveReservation(otherReservation).orElseThrow();
+
+            ReservationRequestDto.SetDisabledTime request = ReservationRequestDto.SetDisabledTime
+                    .builder()
+                    .date(reservationDate)
+                    .build();
+
+            // when
+            ExtractableResponse<Response> result = post(LOCAL_HOST + port + PATH + "/availability/disable",
+                    request,
+                    accessToken);
+
+            // then
+            assertSoftly(softly -> {
+                softly.assertThat(result.statusCode()).isEqualTo(200);
+                softly.assertThat(reservationRepository.getReservation(savedReservation.getReservationId())
+                        .orElseThrow().getStatus()).isEqualTo(RESERVATION_REFUSED);
+                softly.assertThat(reservationRepository.getReservation(savedOtherReservation.getReservationId())
+                        .orElseThrow().getStatus()).isEqualTo(RESERVATION_WAITING);
+            });
+        }
+
         @Test
         @DisplayName("예약 불가 설정 - 성공 ")
         void setDisabledReservationWithCancelSession() {
@@ -1453,6 +1599,176 @@ public class ReservationIntegrationTest extends BaseIntegrationTest {
             });
         }
 
+        @Test
+        @DisplayName("스케줄 고정 세션 예약 : 오늘 날짜 고정 예약만 outbox 에 일괄 저장되고 발행 완료 처리된다.")
+        void scheduledCreateFixedReservationsInBatch() {
+            // given
+            LocalDateTime todayDate = LocalDate.now().atTime(12, 0);
+            LocalDateTime tomorrowDate = todayDate.plusDays(1);
+
+            List<Reservation> fixedReservations = new ArrayList<>();
+            for (int i = 0; i < 12; i++) {
+                fixedReservations.add(createFixedReservation(todayDate.plusMinutes(i)));
+            }
+            fixedReservations.add(createFixedReservation(tomorrowDate));
+            reservationRepository.saveReservations(fixedReservations);
+
+            // when
+            reservationScheduler.createFixedReservations();
+
+            // then
+            assertSoftly(softly -> {
+                List<Outbox> outboxes = outboxRepository.getOutboxes();
+                softly.assertThat(outboxes).hasSize(12);
+                softly.assertThat(outboxes).allMatch(outbox ->
+                        outbox.getEventStatus() == Outbox.EventStatus.SEND_SUCCESS);
+                softly.assertThat(outboxes).extracting(Outbox::getMessageId).doesNotHaveDuplicates();
+            });
+        }
+
+        @Test
+        @DisplayName("outbox relay : 발행 시도 시간이 지난 outbox 만 발행 완료 처리된다.")
+        void relayOutboxes() {
+            // given
+            LocalDateTime now = LocalDateTime.now();
+            String dueMessageId = UUID.randomUUID().toString();
+            String notDueMessageId = UUID.randomUUID().toString();
+
+            outboxRepository.saveOutboxes(List.of(
+                    createRelayOutbox(dueMessageId, now.minusMinutes(1)),
+                    createRelayOutbox(notDueMessageId, now.plusMinutes(1))));
+
+            // when
+            OutboxBacklog backlog = outboxFacade.relayOutboxes(10);
+
+            // then
+            assertSoftly(softly -> {
+                softly.assertThat(outboxRepository.getOutbox(dueMessageId).orElseThrow().getEventStatus())
+                        .isEqualTo(Outbox.EventStatus.SEND_SUCCESS);
+                softly.assertThat(outboxRepository.getOutbox(notDueMessageId).orElseThrow().getEventStatus())
+                        .isEqualTo(Outbox.EventStatus.INIT);
+                softly.assertThat(backlog.pendingCount()).isEqualTo(1);
+            });
+        }
+
+        private Outbox createRelayOutbox(String messageId, LocalDateTime nextAttemptAt) {
+            return Outbox.builder()
+                    .aggregateId(1L)
+                    .aggregateType(Outbox.AggregateType.RESERVATION)
+                    .eventStatus(Outbox.EventStatus.INIT)
+                    .eventType(Outbox.EventType.CREATE_FIXED_RESERVATION)
+                    .messageId(messageId)
+                    .payload("{}")
+                    .nextAttemptAt(nextAttemptAt)
+                    .build();
+        }
+
+        @Test
+        @DisplayName("고정 예약 이벤트 배치 처리 : 확정 예약과 겹치는 이벤트는 거절로 처리 완료되고 나머지는 생성된다.")
+        void executeCreateFixedReservationsPartially() {
+            // given
+            LocalDateTime baseDate = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).plusDays(1);
+            LocalDateTime conflictBaseDate = baseDate.plusHours(2);
+            LocalDateTime conflictDate = conflictBaseDate.plusDays(7);
+
+            reservationRepository.saveReservation(Reservation.builder()
+                    .reservationDates(List.of(conflictDate))
+                    .confirmDate(conflictDate)
+                    .trainer(Trainer.builder().trainerId(1L).build())
+                    .member(Member.builder().memberId(1L).build())
+                    .sessionInfo(SessionInfo.builder().SessionInfoId(1L).build())
+                    .status(RESERVATION_APPROVED)
+                    .build());
+
+            String messageId = UUID.randomUUID().toString();
+            String conflictMessageId = UUID.randomUUID().toString();
+            List<ReservationCriteria.EventCreateFixed> criteriaList = List.of(
+                    ReservationCriteria.EventCreateFixed.builder()
+                            .messageId(messageId)
+                            .trainerId(1L)
+                            .memberId(1L)
+                            .sessionInfoId(1L)
+                            .confirmDate(baseDate)
+                            .build(),
+                    ReservationCriteria.EventCreateFixed.builder()
+                            .messageId(conflictMessageId)
+                            .trainerId(1L)
+                            .memberId(1L)
+                            .sessionInfoId(1L)
+                            .confirmDate(conflictBaseDate)
+                            .build());
+
+            // when
+            List<String> result = reservationFacade.executeCreateFixedReservations(1L, criteriaList);
+
+            // then
+            assertSoftly(softly -> {
+                softly.assertThat(result).containsExactlyInAnyOrder(messageId, conflictMessageId);
+                softly.assertThat(reservationRepository.getFixedReservations(1L)).hasSize(1);
+                // 거절한 이벤트도 처리 완료 이력이 남아 다시 받으면 바로 걸러진다.
+                softly.assertThat(processedMessageService.getUnprocessedMessageIds(List.of(conflictMessageId)))
+                        .isEmpty();
+            });
+        }
+
+        @Test
+        @DisplayName("고정 예약 이벤트 배치 처리 : 그룹 안에서 같은 시간의 이벤트가 겹치면 하나만 생성하고 그룹 전체가 실패하지 않는다.")
+        void executeCreateFixedReservationsWithDuplicatedSlot() {
+            // given
+            LocalDateTime baseDate = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).plusDays(1);
+            String firstMessageId = UUID.randomUUID().toString();
+            String duplicatedSlotMessageId = UUID.randomUUID().toString();
+            List<ReservationCriteria.EventCreateFixed> criteriaList = List.of(
+                    ReservationCriteria.EventCreateFixed.builder()
+                            .messageId(firstMessageId)
+                            .trainerId(1L)
+                            .memberId(1L)
+                            .sessionInfoId(1L)
+                            .confirmDate(baseDate)
+                            .build(),
+                    ReservationCriteria.EventCreateFixed.builder()
+                            .messageId(duplicatedSlotMessageId)
+                            .trainerId(1L)
+                            .memberId(1L)
+                            .sessionInfoId(1L)
+                            .confirmDate(baseDate)
+                            .build());
+
+            // when
+            List<String> result = reservationFacade.executeCreateFixedReservations(1L, criteriaList);
+
+            // then
+            assertSoftly(softly -> {
+                softly.assertThat(result).containsExactlyInAnyOrder(firstMessageId, duplicatedSlotMessageId);
+                softly.assertThat(reservationRepository.getFixedReservations(1L)).hasSize(1);
+            });
+        }
+
+        @Test
+        @DisplayName("고정 예약 이벤트 배치 처리 : 이미 처리된 메시지가 다시 들어오면 예약을 만들지 않고 ack 대상으로 반환한다.")
+        void executeCreateFixedReservationsIdempotent() {
+            // given
+            LocalDateTime baseDate = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).plusDays(1);
+            ReservationCriteria.EventCreateFixed criteria = ReservationCriteria.EventCreateFixed.builder()
+                    .messageId(UUID.randomUUID().toString())
+                    .trainerId(1L)
+                    .memberId(1L)
+                    .sessionInfoId(1L)
+                    .confirmDate(baseDate)
+                    .build();
+
+            reservationFacade.executeCreateFixedReservations(1L, List.of(criteria));
+
+            // when
+            List<String> result = reservationFacade.executeCreateFixedReservations(1L, List.of(criteria));
+
+            // then
+            assertSoftly(softly -> {
+                softly.assertThat(result).containsExactly(criteria.messageId());
+                softly.assertThat(reservationRepository.getFixedReservations(1L)).hasSize(1);
+            });
+        }
+
         @Test
         @DisplayName("세션 리마인드 알림 전송 - 성공")
         void sessionReminder() {
@@ -1492,6 +1808,204 @@ public class ReservationIntegrationTest extends BaseIntegrationTest {
                         SESSION_REMINDER);
             });
         }
+
+        @Test
+        @DisplayName("세션 리마인드 알림 전송 - 한 예약에 세션이 여러 개여도 청크가 실패하지 않고 최근 세션으로 알린다.")
+        void sessionReminderWithDuplicateSessions() {
+            // given
+            LocalDateTime todayDate = LocalDateTime.now();
+            Reservation reservation = reservationRepository.saveReservation(Reservation.builder()
+                    .trainer(Trainer.builder().trainerId(1L).build())
+                    .member(Member.builder().memberId(1L).build())
+                    .reservationDates(List.of(todayDate))
+                    .confirmDate(todayDate)
+                    .status(RESERVATION_APPROVED)
+                    .build()).orElseThrow();
+
+            Session oldSession = reservationRepository.saveSession(Session.builder()
+                    .reservation(reservation)
+                    .status(SESSION_WAITING)
+                    .build()).orElseThrow();
+            Session latestSession = reservationRepository.saveSession(Session.builder()
+                    .reservation(reservation)
+                    .status(SESSION_WAITING)
+                    .build()).orElseThrow();
+
+            // when
+            reservationScheduler.sessionReminder();
+
+            // then
+            assertSoftly(softly -> {
+                softly.assertThat(notificationRepository.getNotification(latestSession.getSessionId(),
+                        Notification.ReferenceType.SESSION)).hasSize(1);
+                softly.assertThat(notificationRepository.getNotification(oldSession.getSessionId(),
+                        Notification.ReferenceType.SESSION)).isEmpty();
+            });
+        }
+
+        @Test
+        @DisplayName("세션 리마인드 알림 전송 - 오늘 확정된 예약만 알림을 보낸다.")
+        void sessionReminderOnlyToday() {
+            // given
+            LocalDateTime todayDate = LocalDateTime.now();
+            LocalDateTime tomorrowDate = LocalDate.now().plusDays(1).atTime(10, 0);
+
+            Reservation todayReservation = reservationRepository.saveReservation(Reservation.builder()
+                    .trainer(Trainer.builder().trainerId(1L).build())
+                    .member(Member.builder().memberId(1L).build())
+                    .reservationDates(List.of(todayDate))
+                    .confirmDate(todayDate)
+                    .status(RESERVATION_APPROVED)
+                    .build()).orElseThrow();
+
+            Reservation tomorrowReservation = reservationRepository.saveReservation(Reservation.builder()
+                    .trainer(Trainer.builder().trainerId(1L).build())
+                    .member(Member.builder().memberId(1L).build())
+                    .reservationDates(List.of(tomorrowDate))
+                    .confirmDate(tomorrowDate)
+                    .status(RESERVATION_APPROVED)
+                    .build()).orElseThrow();
+
+            Session todaySession = reservationRepository.saveSession(Session.builder()
+                    .reservation(todayReservation)
+                    .status(SESSION_WAITING)
+                    .build()).orElseThrow();
+
+            Session tomorrowSession = reservationRepository.saveSession(Session.builder()
+                    .reservation(tomorrowReservation)
+                    .status(SESSION_WAITING)
+                    .build()).orElseThrow();
+
+            // when
+            reservationScheduler.sessionReminder();
+
+            // then
+            assertSoftly(softly -> {
+                softly.assertThat(notificationRepository.getNotification(todaySession.getSessionId(),
+                        Notification.ReferenceType.SESSION)).hasSize(1);
+                softly.assertThat(notificationRepository.getNotification(tomorrowSession.getSessionId(),
+                        Notification.ReferenceType.SESSION)).isEmpty();
+            });
+        }
+
+        private Reservation createFixedReservation(LocalDateTime date) {
+            return Reservation.builder()
+                    .reservationDates(List.of(date))
+                    .confirmDate(date)
+                    .trainer(Trainer.builder().trainerId(1L).build())
+                    .member(Member.builder().memberId(1L).build())
+                    .sessionInfo(SessionInfo.builder().SessionInfoId(1L).build())
+                    .status(FIXED_RESERVATION)
+                    .build();
+        }
+    }
+
+    @Nested
+    @DisplayName("예약 동시성 Integration TEST")
+    class ReservationConcurrencyIntegrationTest {
+
+        private static final int THREAD_COUNT = 16;
+
+        @Test
+        @DisplayName("같은 트레이너, 같은 시간의 대기 예약을 동시에 승인하면 하나만 확정되고 나머지는 확정된 예약 존재로 실패한다.")
+        void approveReservationsConcurrently() throws InterruptedException {
+            // given
+            LocalDateTime requestDate = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).plusDays(3);
+            List<Reservation> waitingReservations = new ArrayList<>();
+            for (int i = 0; i < THREAD_COUNT; i++) {
+                waitingReservations.add(Reservation.builder()
+                        .reservationDates(List.of(requestDate))
+                        .trainer(Trainer.builder().trainerId(1L).build())
+                        .member(Member.builder().memberId(1L).build())
+                        .sessionInfo(SessionInfo.builder().SessionInfoId(1L).build())
+                        .status(RESERVATION_WAITING)
+                        .build());
+            }
+            List<Long> reservationIds = reservationRepository.saveReservations(waitingReservations).stream()
+                    .map(Reservation::getReservationId)
+                    .toList();
+
+            // when
+            List<Throwable> failures = runConcurrently(reservationIds.stream()
+                    .<Runnable>map(reservationId -> () -> reservationService.approveReservation(
+                            ReservationCommand.Approve.builder()
+                                    .reservationId(reservationId)
+                                    .reservationDate(requestDate)
+                                    .build()))
+                    .toList());
+
+            // then
+            assertSoftly(softly -> {
+                softly.assertThat(failures).hasSize(THREAD_COUNT - 1);
+                softly.assertThat(failures).allMatch(failure -> failure instanceof CustomException ex
+                        && ex.getErrorCode() == ErrorCode.CONFIRMED_RESERVATION_EXISTS);
+                softly.assertThat(reservationRepository.getReservations(reservationIds))
+                        .filteredOn(reservation -> reservation.getStatus() == RESERVATION_APPROVED)
+                        .hasSize(1);
+            });
+        }
+
+        @Test
+        @DisplayName("트레이너가 같은 시간에 동시에 예약을 만들어도 이중 예약은 생기지 않는다.")
+        void createReservationsConcurrently() throws InterruptedException {
+            // given
+            LocalDateTime confirmDate = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).plusDays(4);
+            List<Runnable> tasks = new ArrayList<>();
+            for (int i = 0; i < THREAD_COUNT; i++) {
+                tasks.add(() -> reservationService.createReservation(Reservation.builder()
+                        .reservationDates(List.of(confirmDate))
+                        .confirmDate(confirmDate)
+                        .trainer(Trainer.builder().trainerId(1L).build())
+                        .member(Member.builder().memberId(1L).build())
+                        .sessionInfo(SessionInfo.builder().SessionInfoId(1L).build())
+                        .status(RESERVATION_APPROVED)
+                        .build()));
+            }
+
+            // when
+            List<Throwable> failures = runConcurrently(tasks);
+
+            // then
+            assertSoftly(softly -> {
+                softly.assertThat(failures).hasSize(THREAD_COUNT - 1);
+                softly.assertThat(failures).allMatch(failure -> failure instanceof CustomException ex
+                        && ex.getErrorCode() == ErrorCode.CONFIRMED_RESERVATION_EXISTS);
+                softly.assertThat(reservationRepository.getReservations())
+                        .filteredOn(reservation -> confirmDate.equals(reservation.getConfirmDate()))
+                        .hasSize(1);
+            });
+        }
+
+        /**
+         * 모든 작업을 동시에 출발시키고, 실패한 작업의 예외를 모아서 돌려준다.
+         */
+        private List<Throwable> runConcurrently(List<Runnable> tasks) throws InterruptedException {
+            ExecutorService executor = Executors.newFixedThreadPool(tasks.size());
+            CountDownLatch ready = new CountDownLatch(tasks.size());
+            CountDownLatch start = new CountDownLatch(1);
+            CountDownLatch done = new CountDownLatch(tasks.size());
+            List<Throwable> failures = Collections.synchronizedList(new ArrayList<>());
+
+            for (Runnable task : tasks) {
+                executor.execute(() -> {
+                    ready.countDown();
+                    try {
+                        start.await();
+                        task.run();
+                    } catch (Throwable ex) {
+                        failures.add(ex);
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+            ready.await();
+            start.countDown();
+            done.await(30, TimeUnit.SECONDS);
+            executor.shutdown();
+
+            return failures;
+        }
     }
 
     @Nested
@@ -2414,6 +2928,61 @@ public class ReservationIntegrationTest extends BaseIntegrationTest {
             });
         }
 
+        @Test
+        @DisplayName("트레이너의 PT 처리 성공 - 남은 세션이 5회면 세션 충전 알림이 전송된다.")
+        void completeSessionWithFiveRemainingSessions() {
+            // given
+            PersonalDetail personalDetail = personalDetailRepository.getTrainerDetail(1L)
+                    .orElseThrow();
+
+            String accessToken = tokenProvider.createAccessToken(PersonalDetail.Status.NORMAL,
+                    personalDetail.getPersonalDetailId(), personalDetail.getUserRole());
+
+            ReservationRequestDto.Complete request = ReservationRequestDto.Complete.builder()
+                    .memberId(1L)
+                    .isJoin(true)
+                    .build();
+
+            // 예약 생성 (예약 시점에 세션이 차감되어 남은 횟수 5회)
+            Reservation reservation = Reservation.builder()
+                    .reservationDates(List.of(LocalDateTime.now().plusSeconds(2)))
+                    .trainer(Trainer.builder().trainerId(1L).build())
+                    .member(Member.builder().memberId(1L).build())
+                    .status(RESERVATION_APPROVED)
+                    .createdAt(LocalDateTime.now().plusSeconds(2))
+                    .build();
+
+            Reservation savedReservation = reservationRepository.saveReservation(reservation).orElseThrow();
+            SessionInfo sessionInfo = sessionInfoRepository.getSessionInfoWithNoLock(1L, 1L).orElseThrow();
+            sessionInfo.updateRemainingCount(5);
+            sessionInfoRepository.saveSessionInfo(sessionInfo);
+
+            // 세션 생성
+            Session session = Session.builder()
+                    .reservation(savedReservation)
+                    .status(SESSION_WAITING)
+                    .build();
+
+            reservationRepository.saveSession(session);
+
+            // when
+            ExtractableResponse<Response> result = post(LOCAL_HOST + port + PATH + "/%s/sessions/complete".formatted(1),
+                    request,
+                    accessToken);
+
+            // then
+            assertSoftly(softly -> {
+                softly.assertThat(result.statusCode()).isEqualTo(200);
+
+                // 세션 5회 남음 알림이 잘 생성됐는지 확인
+                PersonalDetail memberDetail = personalDetailRepository.getMemberDetail(1L).orElseThrow();
+                Notification notification = notificationRepository.getNotification(memberDetail.getPersonalDetailId(),
+                        SESSION_REMAIN_5);
+                softly.assertThat(notification).isNotNull();
+                softly.assertThat(notification.getNotificationType()).isEqualTo(SESSION_REMAIN_5);
+            });
+        }
+
         @Test
         @DisplayName("트레이너의 PT 처리 실패 - 세션 정보 없음")
         void completeSessionWithNoSessionInfo() {
@@ -22,6 +22,7 @@ import spring.fitlinkbe.domain.trainer.AvailableTime;
 import spring.fitlinkbe.domain.trainer.AvailableTimeRepository;
 import spring.fitlinkbe.domain.trainer.DayOff;
 import spring.fitlinkbe.domain.trainer.Trainer;
+import spring.fitlinkbe.domain.trainer.TrainerService;
 import spring.fitlinkbe.integration.common.BaseIntegrationTest;
 import spring.fitlinkbe.integration.common.TestDataHandler;
 import spring.fitlinkbe.interfaces.controller.common.dto.ApiResultResponse;
@@ -1235,6 +1236,118 @@ public class TrainerIntegrationTest extends BaseIntegrationTest {
         }
     }
 
+    @Nested
+    @DisplayName("트레이너 예약 가능 시간 조회 테스트")
+    class GetFreeSlotsTest {
+        private static final String URL = "/v1/trainers/me/free-slots";
+
+        @Test
+        @DisplayName("예약 가능 시간 조회 성공 - 확정된 예약 시간과 휴무일은 제외된다.")
+        void getFreeSlotsSuccess() throws Exception {
+            // given
+            // 매일 10시~12시 수업이 가능한 트레이너에게 내일 10시 확정 예약과 모레 휴무일이 있을 때
+            Trainer trainer = testDataHandler.createTrainer("AB1423");
+            Member member = testDataHandler.createMember();
+            String token = testDataHandler.createTokenFromTrainer(trainer);
+            createAllDayAvailableTimes(trainer, LocalDate.now().minusDays(1));
+
+            LocalDate tomorrow = LocalDate.now().plusDays(1);
+            testDataHandler.createConfirmReservation(member, trainer, tomorrow.atTime(10, 0));
+            testDataHandler.createDayOff(trainer, tomorrow.plusDays(1));
+
+            // when
+            // 트레이너가 내일부터 사흘간 예약 가능 시간을 조회하면
+            Map<String, String> parameter = Map.of(
+                    "startDate", tomorrow.toString(),
+                    "endDate", tomorrow.plusDays(2).toString());
+            ExtractableResponse<Response> result = get(URL, parameter, token);
+
+            // then
+            // 확정된 시간과 휴무일을 뺀 시간만 조회된다
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(result.statusCode()).isEqualTo(200);
+                ApiResultResponse<List<FreeSlotDto.Response>> response = readValue(result.body().jsonPath().prettify(), new TypeReference<>() {
+                });
+                softly.assertThat(response).isNotNull();
+
+                List<FreeSlotDto.Response> freeSlots = response.data();
+                softly.assertThat(freeSlots).hasSize(3);
+                softly.assertThat(freeSlots.get(0).times()).containsExactly(LocalTime.of(11, 0));
+                softly.assertThat(freeSlots.get(1).times()).isEmpty();
+                softly.assertThat(freeSlots.get(2).times()).containsExactly(LocalTime.of(10, 0), LocalTime.of(11, 0));
+            });
+        }
+
+        @Test
+        @DisplayName("예약 가능 시간 조회 성공 - 캐시된 이후 확정된 예약도 바로 반영된다.")
+        void getFreeSlotsSuccessAfterReservationSaved() throws Exception {
+            // given
+            // 예약 가능 시간을 한 번 조회해서 캐시된 상태에서 내일 11시 예약이 확정되면
+            Trainer trainer = testDataHandler.createTrainer("AB1423");
+            Member member = testDataHandler.createMember();
+            String token = testDataHandler.createTokenFromTrainer(trainer);
+            createAllDayAvailableTimes(trainer, LocalDate.now().minusDays(1));
+
+            LocalDate tomorrow = LocalDate.now().plusDays(1);
+            Map<String, String> parameter = Map.of(
+                    "startDate", tomorrow.toString(),
+                    "endDate", tomorrow.toString());
+            get(URL, parameter, token);
+
+            testDataHandler.createConfirmReservation(member, trainer, tomorrow.atTime(11, 0));
+
+            // when
+            // 다시 예약 가능 시간을 조회하면
+            ExtractableResponse<Response> result = get(URL, parameter, token);
+
+            // then
+            // 새로 확정된 시간은 제외된다
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(result.statusCode()).isEqualTo(200);
+                ApiResultResponse<List<FreeSlotDto.Response>> response = readValue(result.body().jsonPath().prettify(), new TypeReference<>() {
+                });
+                softly.assertThat(response).isNotNull();
+                softly.assertThat(response.data()).hasSize(1);
+                softly.assertThat(response.data().get(0).times()).containsExactly(LocalTime.of(10, 0));
+            });
+        }
+
+        @Test
+        @DisplayName("예약 가능 시간 조회 실패 - 조회 기간이 최대 일수를 넘을 때")
+        void getFreeSlotsFailWithTooLongRange() throws Exception {
+            // given
+            // 트레이너 정보가 있을 때
+            Trainer trainer = testDataHandler.createTrainer("AB1423");
+            String token = testDataHandler.createTokenFromTrainer(trainer);
+
+            // when
+            // 최대 일수를 넘는 기간을 조회하면
+            LocalDate startDate = LocalDate.now();
+            Map<String, String> parameter = Map.of(
+                    "startDate", startDate.toString(),
+                    "endDate", startDate.plusDays(TrainerService.MAX_FREE_SLOT_DAYS).toString());
+            ExtractableResponse<Response> result = get(URL, parameter, token);
+
+            // then
+            // 예약 가능 시간 조회가 실패한다
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(result.statusCode()).isEqualTo(200);
+                ApiResultResponse<Object> response = readValue(result.body().jsonPath().prettify(), new TypeReference<>() {
+                });
+
+                softly.assertThat(response).isNotNull();
+                softly.assertThat(response.success()).isFalse();
+                softly.assertThat(response.status()).isEqualTo(400);
+            });
+        }
+
+        private void createAllDayAvailableTimes(Trainer trainer, LocalDate applyAt) {
+            for (DayOfWeek dayOfWeek : DayOfWeek.values()) {
+                testDataHandler.createAvailableTime(trainer, dayOfWeek, applyAt);
+            }
+        }
+    }
+
     private void createAvailableTimes(Trainer trainer, LocalDate date) {
         // 수업 가능 시간 생성
         testDataHandler.createAvailableTime(trainer, DayOfWeek.MONDAY, date);
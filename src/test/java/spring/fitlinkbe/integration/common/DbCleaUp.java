@@ -3,6 +3,8 @@ package spring.fitlinkbe.integration.common;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import jakarta.persistence.Table;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Component;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
@@ -14,9 +16,15 @@ import java.util.stream.Collectors;
 @ActiveProfiles("test")
 public class DbCleaUp {
 
+    // 엔티티가 아닌 컬렉션 테이블 (@ElementCollection)
+    private static final List<String> COLLECTION_TABLE_NAMES = List.of("reservation_slot");
+
     @PersistenceContext
     private EntityManager entityManager;
 
+    @Autowired
+    private CacheManager cacheManager;
+
 
     @Transactional
     public void execute() {
@@ -36,10 +44,13 @@ public class DbCleaUp {
         }
 
         entityManager.createNativeQuery("SET REFERENTIAL_INTEGRITY TRUE").executeUpdate();
+
+        // 지워진 데이터를 들고 있는 캐시도 비운다.
+        cacheManager.getCacheNames().forEach(cacheName -> cacheManager.getCache(cacheName).clear());
     }
 
     private List<String> getTableNames() {
-        return entityManager.getMetamodel().getEntities().stream()
+        List<String> tableNames = entityManager.getMetamodel().getEntities().stream()
                 .map(entityType -> {
                     Class<?> javaType = entityType.getJavaType();
                     Table table = javaType.getAnnotation(Table.class);
@@ -50,6 +61,9 @@ public class DbCleaUp {
                     }
                 })
                 .collect(Collectors.toList());
+        tableNames.addAll(COLLECTION_TABLE_NAMES);
+
+        return tableNames;
     }
 
     private String convertToSnakeCase(String entityName) {